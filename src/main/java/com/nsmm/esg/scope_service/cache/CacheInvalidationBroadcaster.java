@@ -0,0 +1,16 @@
+package com.nsmm.esg.scope_service.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * 캐시 무효화 메시지 전파 SPI (인스턴스 간 L1 캐시 동기화)
+ *
+ * 구현체 예: 루프백(단일 JVM), Redis Pub/Sub, 메시지 브로커 등
+ * - 발행한 인스턴스 자신에게도 전달될 수 있으며, 수신 측에서 발행 인스턴스 ID로 걸러냄
+ */
+public interface CacheInvalidationBroadcaster {
+
+    void publish(CacheInvalidationMessage message);
+
+    void subscribe(Consumer<CacheInvalidationMessage> listener);
+}
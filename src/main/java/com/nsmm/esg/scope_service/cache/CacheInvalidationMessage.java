@@ -0,0 +1,28 @@
+package com.nsmm.esg.scope_service.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+import java.io.Serializable;
+
+/**
+ * 캐시 무효화 메시지
+ *
+ * key가 null이면 캐시 전체 비우기
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage implements Serializable {
+
+    private String originId;   // 발행 인스턴스 ID
+    private String cacheName;  // 캐시 이름
+    private Object key;        // 캐시 키 (null: 전체)
+
+    public boolean isClear() {
+        return key == null;
+    }
+}
@@ -0,0 +1,94 @@
+package com.nsmm.esg.scope_service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 인메모리 공유 캐시 저장소 (단일 JVM 테스트/개발용 L2)
+ *
+ * 같은 인스턴스를 여러 TwoTierCacheManager에 주입하면 한 JVM에서 다중 인스턴스 동작 재현 가능
+ * - 항목별 TTL 적용, 캐시 이름별 최대 항목 수 제한
+ * - 인스턴스 간 공유가 되지 않으므로 운영 환경에서는 외부 저장소 구현체 사용
+ */
+public class InMemorySharedCacheStore implements SharedCacheStore {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 10_000;
+
+    private final long maximumSize;
+    private final Ticker ticker;
+    private final Map<String, com.github.benmanes.caffeine.cache.Cache<Object, Entry>> caches = new ConcurrentHashMap<>();
+
+    public InMemorySharedCacheStore() {
+        this(DEFAULT_MAXIMUM_SIZE, Ticker.systemTicker());
+    }
+
+    public InMemorySharedCacheStore(long maximumSize, Ticker ticker) {
+        this.maximumSize = maximumSize;
+        this.ticker = ticker;
+    }
+
+    @Override
+    public Cache.ValueWrapper get(String cacheName, Object key) {
+        Entry entry = cacheOf(cacheName).getIfPresent(key);
+        if (entry == null) {
+            return null;
+        }
+        return new SimpleValueWrapper(entry.value() == NullValue.INSTANCE ? null : entry.value());
+    }
+
+    @Override
+    public void put(String cacheName, Object key, Object value, Duration ttl) {
+        cacheOf(cacheName).put(key, new Entry(value != null ? value : NullValue.INSTANCE, ttl));
+    }
+
+    @Override
+    public void evict(String cacheName, Object key) {
+        cacheOf(cacheName).invalidate(key);
+    }
+
+    @Override
+    public void clear(String cacheName) {
+        cacheOf(cacheName).invalidateAll();
+    }
+
+    private com.github.benmanes.caffeine.cache.Cache<Object, Entry> cacheOf(String cacheName) {
+        return caches.computeIfAbsent(cacheName, name -> Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .ticker(ticker)
+                .executor(Runnable::run)   // 용량 초과 항목을 기록한 스레드에서 즉시 제거
+                .expireAfter(new EntryExpiry())
+                .build());
+    }
+
+    private record Entry(Object value, Duration ttl) {
+    }
+
+    /**
+     * 저장 시점부터 항목별 TTL 경과 후 만료 (조회는 만료 시점을 연장하지 않음)
+     */
+    private static class EntryExpiry implements Expiry<Object, Entry> {
+
+        @Override
+        public long expireAfterCreate(Object key, Entry entry, long currentTime) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Object key, Entry entry, long currentTime, long currentDuration) {
+            return entry.ttl().toNanos();
+        }
+
+        @Override
+        public long expireAfterRead(Object key, Entry entry, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
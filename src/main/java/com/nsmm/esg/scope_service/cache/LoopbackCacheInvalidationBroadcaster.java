@@ -0,0 +1,34 @@
+package com.nsmm.esg.scope_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * 루프백 무효화 전파 (단일 JVM 테스트/개발용)
+ *
+ * 발행 즉시 같은 JVM의 모든 구독자에게 동기 전달
+ */
+@Slf4j
+public class LoopbackCacheInvalidationBroadcaster implements CacheInvalidationBroadcaster {
+
+    private final List<Consumer<CacheInvalidationMessage>> listeners = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(CacheInvalidationMessage message) {
+        for (Consumer<CacheInvalidationMessage> listener : listeners) {
+            try {
+                listener.accept(message);
+            } catch (RuntimeException e) {
+                log.warn("캐시 무효화 메시지 처리 실패 - {}", message, e);
+            }
+        }
+    }
+
+    @Override
+    public void subscribe(Consumer<CacheInvalidationMessage> listener) {
+        listeners.add(listener);
+    }
+}
@@ -0,0 +1,29 @@
+package com.nsmm.esg.scope_service.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+
+/**
+ * 인스턴스 간 공유 캐시 저장소 SPI (2단계 캐시의 L2)
+ *
+ * 구현체 예: 인메모리(단일 JVM 테스트/개발용), Redis 등 외부 저장소
+ * - 값이 null인 항목도 저장 가능해야 함 (조회 시 값이 null인 ValueWrapper 반환)
+ * - 항목은 저장 시 전달된 TTL이 지나면 만료되어야 하며, 저장소 용량은 구현체가 제한
+ */
+public interface SharedCacheStore {
+
+    /**
+     * 항목 조회 (없으면 null)
+     */
+    Cache.ValueWrapper get(String cacheName, Object key);
+
+    /**
+     * 항목 저장 (ttl 경과 후 만료)
+     */
+    void put(String cacheName, Object key, Object value, Duration ttl);
+
+    void evict(String cacheName, Object key);
+
+    void clear(String cacheName);
+}
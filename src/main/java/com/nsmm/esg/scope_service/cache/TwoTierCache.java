@@ -0,0 +1,128 @@
+package com.nsmm.esg.scope_service.cache;
+
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * 2단계 캐시 (L1: 인스턴스 로컬 Caffeine, L2: 공유 저장소)
+ *
+ * 조회: L1 → L2 (L2 적중 시 L1에 적재) → 원본 계산 후 L1/L2 저장
+ * 저장: L1/L2에 기록 (L2 항목은 캐시 설정의 만료 시간 적용), 무효화 메시지는 전파하지 않음
+ * - 저장되는 값은 원본 데이터로 계산한 결과이므로 다른 인스턴스의 L1 값을 낡게 만들지 않음
+ * 제거: L1/L2 반영 후 다른 인스턴스에 무효화 메시지 전파 (수신 인스턴스는 L1만 제거)
+ */
+public class TwoTierCache implements Cache {
+
+    private final Cache localCache;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final String instanceId;
+    private final Duration sharedTtl;
+
+    public TwoTierCache(Cache localCache, SharedCacheStore sharedCacheStore,
+                        CacheInvalidationBroadcaster broadcaster, String instanceId, Duration sharedTtl) {
+        this.localCache = localCache;
+        this.sharedCacheStore = sharedCacheStore;
+        this.broadcaster = broadcaster;
+        this.instanceId = instanceId;
+        this.sharedTtl = sharedTtl;
+    }
+
+    @Override
+    public String getName() {
+        return localCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache.getNativeCache();
+    }
+
+    /**
+     * L1 캐시 (지표 등록용)
+     */
+    public Cache getLocalCache() {
+        return localCache;
+    }
+
+    // ========================================================================
+    // 조회 메서드
+    // ========================================================================
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper local = localCache.get(key);
+        if (local != null) {
+            return local;
+        }
+        ValueWrapper shared = sharedCacheStore.get(getName(), key);
+        if (shared != null) {
+            localCache.put(key, shared.get());
+        }
+        return shared;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값 타입이 일치하지 않습니다: " + type.getName() + " (" + value.getClass().getName() + ")");
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        // L1 키 단위 잠금 안에서 L2 확인 후 원본 계산 (같은 인스턴스의 동시 계산 방지)
+        return localCache.get(key, () -> {
+            ValueWrapper shared = sharedCacheStore.get(getName(), key);
+            if (shared != null) {
+                return (T) shared.get();
+            }
+            T value = valueLoader.call();
+            sharedCacheStore.put(getName(), key, value, sharedTtl);
+            return value;
+        });
+    }
+
+    // ========================================================================
+    // 저장/제거 메서드
+    // ========================================================================
+
+    @Override
+    public void put(Object key, Object value) {
+        localCache.put(key, value);
+        sharedCacheStore.put(getName(), key, value, sharedTtl);
+    }
+
+    @Override
+    public void evict(Object key) {
+        localCache.evict(key);
+        sharedCacheStore.evict(getName(), key);
+        broadcaster.publish(new CacheInvalidationMessage(instanceId, getName(), key));
+    }
+
+    @Override
+    public void clear() {
+        localCache.clear();
+        sharedCacheStore.clear(getName());
+        broadcaster.publish(new CacheInvalidationMessage(instanceId, getName(), null));
+    }
+
+    /**
+     * 다른 인스턴스의 무효화 메시지 반영 (L1만 제거, L2는 발행 인스턴스가 이미 반영)
+     */
+    void onInvalidation(CacheInvalidationMessage message) {
+        if (message.isClear()) {
+            localCache.clear();
+        } else {
+            localCache.evict(message.getKey());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.nsmm.esg.scope_service.cache;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * 2단계 캐시 매니저
+ *
+ * 로컬 CacheManager(L1)의 캐시마다 공유 저장소(L2)와 무효화 전파를 결합한 TwoTierCache 제공
+ * - 인스턴스마다 고유 ID를 가지며, 자신이 발행한 무효화 메시지는 무시
+ * - L2 항목 만료 시간은 캐시 이름별로 결정 (L1 캐시 설정의 만료 시간과 동일하게 사용)
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    private final CacheManager localCacheManager;
+    private final SharedCacheStore sharedCacheStore;
+    private final CacheInvalidationBroadcaster broadcaster;
+    private final Function<String, Duration> sharedTtlResolver;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager localCacheManager, SharedCacheStore sharedCacheStore,
+                               CacheInvalidationBroadcaster broadcaster,
+                               Function<String, Duration> sharedTtlResolver) {
+        this.localCacheManager = localCacheManager;
+        this.sharedCacheStore = sharedCacheStore;
+        this.broadcaster = broadcaster;
+        this.sharedTtlResolver = sharedTtlResolver;
+        broadcaster.subscribe(this::onInvalidation);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache localCache = localCacheManager.getCache(name);
+        if (localCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+                cacheName -> new TwoTierCache(localCache, sharedCacheStore, broadcaster, instanceId,
+                        sharedTtlResolver.apply(cacheName)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return localCacheManager.getCacheNames();
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    private void onInvalidation(CacheInvalidationMessage message) {
+        if (instanceId.equals(message.getOriginId())) {
+            return;
+        }
+        Cache cache = getCache(message.getCacheName());
+        if (cache instanceof TwoTierCache twoTierCache) {
+            twoTierCache.onInvalidation(message);
+            log.debug("다른 인스턴스 캐시 무효화 반영 - 캐시: {}, 키: {}", message.getCacheName(), message.getKey());
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.nsmm.esg.scope_service.cache;
+
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.boot.actuate.metrics.cache.CacheMeterBinderProvider;
+
+/**
+ * 2단계 캐시 지표 등록 - L1(Caffeine) 통계를 cache.* 지표로 노출
+ */
+public class TwoTierCacheMeterBinderProvider implements CacheMeterBinderProvider<TwoTierCache> {
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public MeterBinder getMeterBinder(TwoTierCache cache, Iterable<Tag> tags) {
+        Object nativeCache = cache.getNativeCache();
+        if (nativeCache instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> caffeineCache) {
+            return new CaffeineCacheMetrics<>((com.github.benmanes.caffeine.cache.Cache<Object, Object>) caffeineCache,
+                    cache.getName(), tags);
+        }
+        return null;
+    }
+}
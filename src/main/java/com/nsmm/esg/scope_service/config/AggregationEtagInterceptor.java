@@ -0,0 +1,139 @@
+package com.nsmm.esg.scope_service.config;
+
+import com.nsmm.esg.scope_service.service.EmissionDataVersionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * 집계 API 조건부 GET 처리 (데이터 버전 기반 강한 ETag)
+ *
+ * 컨트롤러 실행 전에 (본사, 연도) 데이터 버전으로 ETag를 계산하여 If-None-Match가 일치하면 304 응답
+ * - 서비스 집계 조회와 응답 직렬화 모두 생략 (버전 행 조회 1회)
+ * - 일치하지 않으면 ETag를 요청 속성에 보관, 2xx 응답에만 헤더 추가 (AggregationEtagResponseAdvice)
+ * - ETag = MD5(요청 경로 + 쿼리 + 사용자 헤더 + 데이터 버전 태그) - 같은 버전이면 같은 요청은 같은 응답
+ * - 버전은 조회 시작 전에 읽으므로 조회 중 쓰기가 있어도 이전 버전 태그가 붙어 다음 요청에서 다시 조회됨
+ * - 연도: 경로 변수 year, 쿼리 fromYear / toYear (없으면 본사 전체 버전)
+ * - 추이(fromYear ~ toYear)는 시작 연도 전년 대비 증감을 포함하므로 fromYear - 1 ~ toYear 버전 사용
+ * - 본사 ID가 없거나 숫자가 아니면 검사하지 않음 (컨트롤러가 오류 응답)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AggregationEtagInterceptor implements HandlerInterceptor {
+
+    public static final String ETAG_ATTRIBUTE = AggregationEtagInterceptor.class.getName() + ".etag";
+
+    private static final String HEADQUARTERS_ID_HEADER = "X-HEADQUARTERS-ID";
+    private static final String[] USER_HEADERS = {"X-USER-TYPE", "X-PARTNER-ID", "X-TREE-PATH", "X-LEVEL"};
+    private static final int MAX_YEAR_RANGE = 10;
+    static final String CACHE_CONTROL = "private, no-cache";
+
+    private final EmissionDataVersionService emissionDataVersionService;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!HttpMethod.GET.matches(request.getMethod()) && !HttpMethod.HEAD.matches(request.getMethod())) {
+            return true;
+        }
+        String versionTag = findVersionTag(request);
+        if (versionTag == null) {
+            return true;
+        }
+
+        String etag = buildEtag(request, versionTag);
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL);
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            log.debug("집계 API 304 응답 - {} (ETag: {})", request.getRequestURI(), etag);
+            return false;
+        }
+        request.setAttribute(ETAG_ATTRIBUTE, etag);
+        return true;
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * 요청 대상 데이터 버전 태그 (검사 불가 요청은 null)
+     */
+    @SuppressWarnings("unchecked")
+    private String findVersionTag(HttpServletRequest request) {
+        try {
+            String headquartersId = request.getHeader(HEADQUARTERS_ID_HEADER);
+            if (headquartersId == null) {
+                return null;
+            }
+            Long headquarters = Long.parseLong(headquartersId);
+
+            Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(
+                    HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            String year = pathVariables != null ? pathVariables.get("year") : null;
+            if (year != null) {
+                int value = Integer.parseInt(year);
+                return emissionDataVersionService.versionTag(headquarters, value, value);
+            }
+
+            String fromYear = request.getParameter("fromYear");
+            String toYear = request.getParameter("toYear");
+            if (fromYear != null || toYear != null) {
+                if (fromYear == null || toYear == null) {
+                    return null;
+                }
+                int from = Integer.parseInt(fromYear);
+                int to = Integer.parseInt(toYear);
+                if (from > to || to - from + 1 > MAX_YEAR_RANGE) {
+                    return null; // 범위 오류는 컨트롤러가 응답
+                }
+                // 시작 연도 증감률 계산에 전년 데이터 사용
+                return emissionDataVersionService.versionTag(headquarters, from - 1, to);
+            }
+            return emissionDataVersionService.versionTag(headquarters);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private String buildEtag(HttpServletRequest request, String versionTag) {
+        StringBuilder source = new StringBuilder(request.getRequestURI())
+                .append('?').append(request.getQueryString() != null ? request.getQueryString() : "")
+                .append('|').append(request.getHeader(HEADQUARTERS_ID_HEADER));
+        for (String header : USER_HEADERS) {
+            source.append('|').append(request.getHeader(header));
+        }
+        source.append('|').append(versionTag);
+        return "\"" + DigestUtils.md5DigestAsHex(source.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * If-None-Match 비교 (여러 태그, *, 약한 태그 W/ 접두사 허용)
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if ("*".equals(tag) || etag.equals(tag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
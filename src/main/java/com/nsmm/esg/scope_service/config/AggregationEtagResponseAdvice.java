@@ -0,0 +1,52 @@
+package com.nsmm.esg.scope_service.config;
+
+import com.nsmm.esg.scope_service.dto.ApiResponse;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * 집계 API ETag 응답 헤더 추가
+ *
+ * AggregationEtagInterceptor가 요청 속성에 보관한 ETag를 성공 응답에만 추가
+ * - 2xx가 아니거나 실패 ApiResponse(success=false)이면 추가하지 않음 (오류 응답이 304로 고정되는 것 방지)
+ */
+@ControllerAdvice
+public class AggregationEtagResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)
+                || !(response instanceof ServletServerHttpResponse servletResponse)) {
+            return body;
+        }
+        Object etag = servletRequest.getServletRequest().getAttribute(AggregationEtagInterceptor.ETAG_ATTRIBUTE);
+        if (etag == null || !isSuccessful(servletResponse.getServletResponse().getStatus(), body)) {
+            return body;
+        }
+        response.getHeaders().set(HttpHeaders.ETAG, etag.toString());
+        response.getHeaders().set(HttpHeaders.CACHE_CONTROL, AggregationEtagInterceptor.CACHE_CONTROL);
+        return body;
+    }
+
+    private static boolean isSuccessful(int status, Object body) {
+        if (status < 200 || status >= 300) {
+            return false;
+        }
+        return !(body instanceof ApiResponse<?> apiResponse) || apiResponse.isSuccess();
+    }
+}
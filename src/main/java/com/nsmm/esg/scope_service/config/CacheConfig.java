@@ -1,36 +1,122 @@
 package com.nsmm.esg.scope_service.config;
 
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nsmm.esg.scope_service.cache.CacheInvalidationBroadcaster;
+import com.nsmm.esg.scope_service.cache.SharedCacheStore;
+import com.nsmm.esg.scope_service.cache.TwoTierCacheManager;
+import com.nsmm.esg.scope_service.cache.TwoTierCacheMeterBinderProvider;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
 /**
  * 캐시 설정 클래스
  * 
- * 특수 집계 배출량 조회 성능 최적화를 위한 캐시 설정
- * - 월별 확정 데이터: 장기 캐시 (1시간)
- * - 실시간 데이터: 단기 캐시 (5분)
+ * 특수 집계 배출량 조회 성능 최적화를 위한 캐시 설정 (Caffeine)
+ * - 캐시별 최대 가중치 / 만료는 scope.cache.specs 설정 (ScopeCacheProperties)
+ * - 마감 확정 데이터(closedYearCategoryCache): 장기 캐시 (1시간)
+ * - 실시간 데이터: 단기 캐시 (5분, 쓰기 시 EmissionCacheInvalidator가 즉시 무효화)
+ * - 적중/미적중/제거/적재 시간 통계 기록 → Micrometer(Prometheus) cache.* 지표로 노출
+ * - scope.cache.two-tier.enabled=true: 로컬 Caffeine(L1) + 공유 저장소(L2) 2단계 캐시, 인스턴스 간 무효화 전파
  */
+@Slf4j
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties(ScopeCacheProperties.class)
 public class CacheConfig {
 
+    // 사전 등록 캐시 이름
+    private static final List<String> CACHE_NAMES = List.of(
+        EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE,   // 특수 집계 결과 캐시
+        EmissionCacheKeys.CATEGORY_WISE_CACHE,         // 카테고리별 집계 캐시
+        EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE,     // Scope3 카테고리 집계 캐시
+        EmissionCacheKeys.CATEGORY_YEARLY_CACHE,       // 카테고리별 연간 배출량 캐시
+        EmissionCacheKeys.MONTHLY_SUMMARY_CACHE,       // 월별 배출량 캐시
+        "partnerEmissionCache",                        // 협력사별 배출량 캐시
+        EmissionCacheKeys.CLOSED_YEAR_CATEGORY_CACHE   // 마감 연도 카테고리별 연간 배출량 캐시 (다년 추이)
+    );
+
     // CacheManager 빈 등록
     @Bean
-    public CacheManager cacheManager() {
-        ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager();
-        
-        // 캐시 이름들 사전 등록
-        cacheManager.setCacheNames(java.util.Arrays.asList(
-            "specialAggregationCache",      // 특수 집계 결과 캐시
-            "categoryWiseCache",           // 카테고리별 집계 캐시  
-            "scope3CategoriesCache",       // Scope3 카테고리 집계 캐시
-            "monthlyEmissionCache",        // 월별 배출량 캐시
-            "partnerEmissionCache"         // 협력사별 배출량 캐시
-        ));
-        
+    public CacheManager cacheManager(ScopeCacheProperties cacheProperties,
+                                     ObjectProvider<SharedCacheStore> sharedCacheStore,
+                                     ObjectProvider<CacheInvalidationBroadcaster> invalidationBroadcaster) {
+        CaffeineCacheManager localCacheManager = localCacheManager(cacheProperties);
+        if (!cacheProperties.getTwoTier().isEnabled()) {
+            return localCacheManager;
+        }
+
+        // 2단계 캐시: 인스턴스 간 공유 저장소/전파 구현체 빈이 없으면 기동 실패 (로컬 대체 시 공유 효과 없음)
+        SharedCacheStore store = sharedCacheStore.getIfAvailable();
+        CacheInvalidationBroadcaster broadcaster = invalidationBroadcaster.getIfAvailable();
+        if (store == null || broadcaster == null) {
+            throw new IllegalStateException(
+                    "scope.cache.two-tier.enabled=true 설정에는 SharedCacheStore / CacheInvalidationBroadcaster 빈이 필요합니다");
+        }
+        log.info("2단계 캐시 사용 - L1: Caffeine, L2: {}, 무효화 전파: {}",
+                store.getClass().getSimpleName(), broadcaster.getClass().getSimpleName());
+        return new TwoTierCacheManager(localCacheManager, store, broadcaster,
+                cacheName -> cacheProperties.specOf(cacheName).getExpireAfterWrite());
+    }
+
+    // 2단계 캐시 L1 통계 지표 등록
+    @Bean
+    public TwoTierCacheMeterBinderProvider twoTierCacheMeterBinderProvider() {
+        return new TwoTierCacheMeterBinderProvider();
+    }
+
+    /**
+     * 인스턴스 로컬 Caffeine 캐시 매니저 (단독 사용 또는 2단계 캐시의 L1)
+     */
+    public static CaffeineCacheManager localCacheManager(ScopeCacheProperties cacheProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+
+        // 사전 등록되지 않은 캐시 이름은 기본 설정 적용
+        cacheManager.setCaffeine(caffeineOf(cacheProperties.getDefaults()));
+
+        // 캐시 이름들 사전 등록 (캐시별 설정)
+        for (String cacheName : CACHE_NAMES) {
+            ScopeCacheProperties.Spec spec = cacheProperties.specOf(cacheName);
+            cacheManager.registerCustomCache(cacheName, caffeineOf(spec).build());
+            log.info("캐시 등록 - {}: 최대 가중치 {}, 만료 {}", cacheName,
+                    spec.getMaximumWeight(), spec.getExpireAfterWrite());
+        }
+
         return cacheManager;
     }
-}
\ No newline at end of file
+
+    private static Caffeine<Object, Object> caffeineOf(ScopeCacheProperties.Spec spec) {
+        return Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumWeight())
+                .weigher(CacheConfig::weigh)
+                .expireAfterWrite(spec.getExpireAfterWrite())
+                .recordStats();
+    }
+
+    /**
+     * 캐시 항목 가중치 - 목록은 원소 수, 맵은 값 목록의 원소 수 합계, 그 외 1
+     */
+    static int weigh(Object key, Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        if (value instanceof Map<?, ?> map) {
+            int weight = 0;
+            for (Object entry : map.values()) {
+                weight += entry instanceof Collection<?> collection ? collection.size() : 1;
+            }
+            return Math.max(1, weight);
+        }
+        return 1;
+    }
+}
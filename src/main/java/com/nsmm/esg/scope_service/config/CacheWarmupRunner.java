@@ -0,0 +1,39 @@
+package com.nsmm.esg.scope_service.config;
+
+import com.nsmm.esg.scope_service.service.CacheWarmupService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * 집계 캐시 워밍업 실행기
+ *
+ * 기동 시 주요 본사의 당해 / 전년도 집계 결과를 캐시에 적재
+ * - ApplicationRunner 완료 후 readiness가 ACCEPTING_TRAFFIC으로 전환되므로 워밍업 중에는 트래픽 미수신
+ * - 보고 기간 백필 이후 실행 (백필 전 값이 캐시되는 것 방지)
+ * - 제한 시간(scope.cache.warmup.startup-timeout) 초과 시 남은 작업을 취소하고 기동 진행
+ */
+@Slf4j
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class CacheWarmupRunner implements ApplicationRunner {
+
+    private final CacheWarmupService cacheWarmupService;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!cacheWarmupService.isEnabled()) {
+            return;
+        }
+        try {
+            cacheWarmupService.warmUpMostActiveHeadquarters();
+        } catch (Exception e) {
+            log.warn("집계 캐시 워밍업 생략 - 대상 본사 조회 실패: {}", e.getMessage());
+        }
+    }
+}
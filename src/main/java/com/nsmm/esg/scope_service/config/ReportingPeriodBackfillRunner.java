@@ -0,0 +1,46 @@
+package com.nsmm.esg.scope_service.config;
+
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 보고 기간(reporting_period) 백필 실행기
+ *
+ * 컬럼 추가 이전에 저장된 배출량 행(reporting_period IS NULL)의 yyyymm 값을 1회 보정
+ * - 신규/수정 행은 엔티티 저장 시점에 자동 계산되므로 마이그레이션 이후에는 대상 0건
+ * - 대상 조건이 인덱스를 사용할 수 없어 전체 테이블을 읽으므로
+ *   마이그레이션 배포에서만 scope.reporting-period.backfill.enabled=true로 실행
+ * - 준비(readiness) 상태 전환 전에 실행되어 범위 조회가 누락 없이 동작
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ReportingPeriodBackfillRunner implements ApplicationRunner {
+
+    private final ScopeEmissionRepository scopeEmissionRepository;
+
+    @Value("${scope.reporting-period.backfill.enabled:false}")
+    private boolean enabled;
+
+    @Override
+    @Transactional
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        long startTime = System.currentTimeMillis();
+        int updated = scopeEmissionRepository.backfillReportingPeriod();
+        if (updated > 0) {
+            log.info("보고 기간(yyyymm) 백필 완료 - {}건 ({}ms)", updated, System.currentTimeMillis() - startTime);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.nsmm.esg.scope_service.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 캐시별 Caffeine 설정 (scope.cache.*)
+ *
+ * - specs: 캐시 이름별 최대 가중치 / 만료
+ * - defaults: specs에 없는 캐시 이름에 적용되는 기본값
+ * - two-tier: 로컬(L1) + 공유(L2) 2단계 캐시 사용 여부
+ * - warmup: 기동 / 마감 후 주요 본사 집계 캐시 워밍업
+ * 가중치는 캐시 값의 집계 결과 행 수 기준 (CacheConfig.weigh 참고)
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "scope.cache")
+public class ScopeCacheProperties {
+
+    private Spec defaults = new Spec();
+    private Map<String, Spec> specs = new LinkedHashMap<>();
+    private TwoTier twoTier = new TwoTier();
+    private Warmup warmup = new Warmup();
+
+    /**
+     * 캐시 이름별 설정 (없으면 기본값)
+     */
+    public Spec specOf(String cacheName) {
+        return specs.getOrDefault(cacheName, defaults);
+    }
+
+    @Getter
+    @Setter
+    public static class Spec {
+
+        // 최대 가중치 (집계 결과 행 수 합계)
+        private long maximumWeight = 10_000;
+
+        // 기록 후 만료 시간
+        private Duration expireAfterWrite = Duration.ofMinutes(5);
+    }
+
+    @Getter
+    @Setter
+    public static class TwoTier {
+
+        // 2단계 캐시 사용 여부 (SharedCacheStore / CacheInvalidationBroadcaster 빈이 없으면 기동 실패)
+        private boolean enabled = false;
+    }
+
+    @Getter
+    @Setter
+    public static class Warmup {
+
+        // 워밍업 사용 여부
+        private boolean enabled = false;
+
+        // 워밍업 대상 본사 수 (최근 2개 연도 배출량 데이터 건수 상위)
+        private int headquartersLimit = 20;
+
+        // 본사별 워밍업 대상 직속 협력사 수
+        private int partnersPerHeadquarters = 10;
+
+        // 동시 실행 작업 수 (DB 커넥션 풀 크기보다 작게 유지)
+        private int concurrency = 4;
+
+        // 기동 시 워밍업 최대 대기 시간 (초과 시 남은 작업을 취소하고 기동 진행)
+        private Duration startupTimeout = Duration.ofMinutes(2);
+    }
+}
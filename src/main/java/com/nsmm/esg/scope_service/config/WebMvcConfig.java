@@ -0,0 +1,30 @@
+package com.nsmm.esg.scope_service.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Spring MVC 설정
+ *
+ * - 집계 API 조건부 GET(ETag / If-None-Match) 인터셉터 등록
+ */
+@Configuration
+@RequiredArgsConstructor
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final AggregationEtagInterceptor aggregationEtagInterceptor;
+
+    @Value("${scope.aggregation.etag.enabled:true}")
+    private boolean etagEnabled;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (etagEnabled) {
+            registry.addInterceptor(aggregationEtagInterceptor)
+                    .addPathPatterns("/api/v1/scope/aggregation/**");
+        }
+    }
+}
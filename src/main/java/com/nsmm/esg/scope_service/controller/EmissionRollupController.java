@@ -0,0 +1,64 @@
+package com.nsmm.esg.scope_service.controller;
+
+import com.nsmm.esg.scope_service.dto.ApiResponse;
+import com.nsmm.esg.scope_service.enums.ErrorCode;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 배출량 집계 읽기 모델(emission_rollup) 관리 API 컨트롤러
+ *
+ * 주요 기능:
+ * - 본사 단위 집계 재구성 (기존 배출량 데이터 백필)
+ *
+ * 모든 본사의 재구성이 끝난 뒤 scope.aggregation.rollup.read-enabled=true로 전환
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/scope/rollup")
+@RequiredArgsConstructor
+@Tag(name = "집계 읽기 모델 API", description = "배출량 집계 읽기 모델 재구성 기능을 제공합니다")
+public class EmissionRollupController {
+
+  private final EmissionRollupService emissionRollupService;
+
+  /**
+   * 본사 단위 집계 재구성 (본사 전용)
+   */
+  @Operation(summary = "집계 읽기 모델 재구성", description = "본사의 배출량 원본 데이터로 emission_rollup 집계를 다시 생성합니다.")
+  @PostMapping("/rebuild")
+  public ResponseEntity<ApiResponse<Integer>> rebuild(
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType) {
+
+    try {
+      log.info("집계 읽기 모델 재구성 요청 - 본사ID: {}", headquartersId);
+
+      if (!"HEADQUARTERS".equals(userType)) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error("집계 읽기 모델 재구성은 본사만 가능합니다", ErrorCode.ACCESS_DENIED.getCode()));
+      }
+
+      int rollupCount = emissionRollupService.rebuildForHeadquarters(Long.parseLong(headquartersId));
+
+      return ResponseEntity.ok(ApiResponse.success(rollupCount,
+          String.format("집계 읽기 모델이 재구성되었습니다 (%d건)", rollupCount)));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}", headquartersId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (Exception e) {
+      log.error("집계 읽기 모델 재구성 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("집계 읽기 모델 재구성 중 오류가 발생했습니다", "ROLLUP_REBUILD_ERROR"));
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.nsmm.esg.scope_service.controller;
+
+import com.nsmm.esg.scope_service.dto.ApiResponse;
+import com.nsmm.esg.scope_service.enums.ErrorCode;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.OrganizationTreeIndex;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 조직 계층(organization_node / organization_closure) 관리 API 컨트롤러
+ *
+ * 주요 기능:
+ * - 본사 단위 조직 계층 재구성 (기존 배출량 데이터의 treePath 백필)
+ *
+ * 모든 본사의 재구성이 끝난 뒤 scope.organization.closure.read-enabled=true로 전환
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/scope/organization")
+@RequiredArgsConstructor
+@Tag(name = "조직 계층 API", description = "조직 계층(노드/클로저) 재구성 기능을 제공합니다")
+public class OrganizationHierarchyController {
+
+  private final OrganizationHierarchyService organizationHierarchyService;
+  private final OrganizationTreeIndex organizationTreeIndex;
+
+  /**
+   * 본사 단위 조직 계층 재구성 (본사 전용)
+   */
+  @Operation(summary = "조직 계층 재구성", description = "본사의 배출량 데이터 treePath로 organization_node / organization_closure를 다시 생성합니다.")
+  @PostMapping("/rebuild")
+  public ResponseEntity<ApiResponse<Integer>> rebuild(
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType) {
+
+    try {
+      log.info("조직 계층 재구성 요청 - 본사ID: {}", headquartersId);
+
+      if (!"HEADQUARTERS".equals(userType)) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error("조직 계층 재구성은 본사만 가능합니다", ErrorCode.ACCESS_DENIED.getCode()));
+      }
+
+      Long parsedHeadquartersId = Long.parseLong(headquartersId);
+      int closureCount = organizationHierarchyService.rebuildForHeadquarters(parsedHeadquartersId);
+      organizationTreeIndex.evict(parsedHeadquartersId);
+
+      return ResponseEntity.ok(ApiResponse.success(closureCount,
+          String.format("조직 계층이 재구성되었습니다 (클로저 %d행)", closureCount)));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}", headquartersId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (Exception e) {
+      log.error("조직 계층 재구성 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("조직 계층 재구성 중 오류가 발생했습니다", "ORGANIZATION_REBUILD_ERROR"));
+    }
+  }
+}
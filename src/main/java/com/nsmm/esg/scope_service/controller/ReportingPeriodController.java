@@ -0,0 +1,114 @@
+package com.nsmm.esg.scope_service.controller;
+
+import com.nsmm.esg.scope_service.dto.ApiResponse;
+import com.nsmm.esg.scope_service.dto.response.ReportingPeriodCloseResponse;
+import com.nsmm.esg.scope_service.enums.ErrorCode;
+import com.nsmm.esg.scope_service.service.ReportingPeriodCloseService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 보고 기간 마감 API 컨트롤러
+ *
+ * 주요 기능:
+ * - 본사 단위 연/월 마감 (마감 시점 집계 스냅샷 생성)
+ * - 연도별 마감 이력 조회
+ *
+ * 마감된 기간은 집계 조회 시 스냅샷을 반환하며 배출량 생성/수정/삭제가 거부됨
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/scope/periods")
+@RequiredArgsConstructor
+@Tag(name = "보고 기간 마감 API", description = "보고 기간 마감 및 마감 이력 조회 기능을 제공합니다")
+public class ReportingPeriodController {
+
+  private final ReportingPeriodCloseService reportingPeriodCloseService;
+
+  /**
+   * 보고 기간 마감 (본사 전용)
+   */
+  @Operation(summary = "보고 기간 마감", description = "지정된 연/월을 마감하고 본사 및 전체 협력사의 집계 결과를 스냅샷으로 저장합니다. " +
+      "마감 이후 해당 기간의 배출량은 변경할 수 없습니다.")
+  @PostMapping("/{year}/{month}/close")
+  public ResponseEntity<ApiResponse<ReportingPeriodCloseResponse>> closePeriod(
+      @Parameter(description = "보고 연도", example = "2024") @PathVariable Integer year,
+      @Parameter(description = "보고 월", example = "12") @PathVariable Integer month,
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType,
+      @Parameter(description = "계정 번호", example = "HQ001") @RequestHeader(value = "X-ACCOUNT-NUMBER", required = false) String accountNumber) {
+
+    try {
+      log.info("보고 기간 마감 요청 - 본사ID: {}, 연도: {}, 월: {}, 요청자: {}", headquartersId, year, month, accountNumber);
+
+      if (!"HEADQUARTERS".equals(userType)) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error("보고 기간 마감은 본사만 가능합니다", ErrorCode.ACCESS_DENIED.getCode()));
+      }
+
+      ReportingPeriodCloseResponse response = reportingPeriodCloseService
+          .closePeriod(Long.parseLong(headquartersId), year, month, accountNumber);
+
+      return ResponseEntity.status(HttpStatus.CREATED)
+          .body(ApiResponse.success(response, String.format("보고 기간이 마감되었습니다 (%d년 %d월)", year, month)));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}", headquartersId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (IllegalStateException e) {
+      log.warn("이미 마감된 보고 기간: {}", e.getMessage());
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(ApiResponse.error(e.getMessage(), ErrorCode.REPORTING_PERIOD_CLOSED.getCode()));
+    } catch (DataIntegrityViolationException e) {
+      log.warn("동시 마감 요청 충돌 - 본사ID: {}, {}년 {}월", headquartersId, year, month);
+      return ResponseEntity.status(HttpStatus.CONFLICT)
+          .body(ApiResponse.error(String.format("이미 마감된 보고 기간입니다 (%d년 %d월)", year, month),
+              ErrorCode.REPORTING_PERIOD_CLOSED.getCode()));
+    } catch (IllegalArgumentException e) {
+      log.warn("보고 기간 마감 실패: {}", e.getMessage());
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error(e.getMessage(), ErrorCode.INVALID_REPORTING_PERIOD.getCode()));
+    } catch (Exception e) {
+      log.error("보고 기간 마감 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("보고 기간 마감 처리 중 오류가 발생했습니다", "PERIOD_CLOSE_ERROR"));
+    }
+  }
+
+  /**
+   * 연도별 마감 이력 조회
+   */
+  @Operation(summary = "보고 기간 마감 이력 조회", description = "지정된 연도의 마감된 월 목록을 조회합니다.")
+  @GetMapping("/{year}")
+  public ResponseEntity<ApiResponse<List<ReportingPeriodCloseResponse>>> getClosedPeriods(
+      @Parameter(description = "보고 연도", example = "2024") @PathVariable Integer year,
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId) {
+
+    try {
+      List<ReportingPeriodCloseResponse> response = reportingPeriodCloseService
+          .getClosedPeriods(Long.parseLong(headquartersId), year);
+
+      return ResponseEntity.ok(ApiResponse.success(response,
+          String.format("%d년 마감 이력이 성공적으로 조회되었습니다 (%d건)", year, response.size())));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}", headquartersId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (Exception e) {
+      log.error("보고 기간 마감 이력 조회 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("보고 기간 마감 이력 조회 중 오류가 발생했습니다", "PERIOD_CLOSE_QUERY_ERROR"));
+    }
+  }
+}
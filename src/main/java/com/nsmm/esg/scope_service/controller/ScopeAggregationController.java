@@ -2,6 +2,7 @@ package com.nsmm.esg.scope_service.controller;
 
 import java.util.List;
 
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -9,10 +10,16 @@ import com.nsmm.esg.scope_service.dto.ApiResponse;
 import com.nsmm.esg.scope_service.dto.response.MonthlyEmissionSummary;
 import com.nsmm.esg.scope_service.dto.response.CategoryYearlyEmission;
 import com.nsmm.esg.scope_service.dto.response.CategoryMonthlyEmission;
+import com.nsmm.esg.scope_service.dto.response.DashboardAggregationResponse;
+import com.nsmm.esg.scope_service.dto.response.EmissionTrendResponse;
 import com.nsmm.esg.scope_service.dto.response.Scope3CombinedEmissionResponse;
 import com.nsmm.esg.scope_service.dto.response.MappedMaterialCodeResponse;
 import com.nsmm.esg.scope_service.dto.response.MappedMaterialMonthlyTotalResponse;
+import com.nsmm.esg.scope_service.dto.response.PartnerMonthlySummaryBatchResponse;
+import com.nsmm.esg.scope_service.enums.ErrorCode;
 import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.service.AggregationRequestCoalescer;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
 import com.nsmm.esg.scope_service.service.ScopeAggregationService;
 import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
 import com.nsmm.esg.scope_service.dto.response.Scope3SpecialAggregationResponse;
@@ -41,6 +48,7 @@ public class ScopeAggregationController {
 
   private final ScopeAggregationService scopeAggregationService;
   private final Scope3SpecialAggregationService scope3SpecialAggregationService;
+  private final AggregationRequestCoalescer aggregationRequestCoalescer;
 
 
   /**
@@ -90,6 +98,63 @@ public class ScopeAggregationController {
   }
   //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
 
+  /**
+   * 협력사 일괄 월별 배출량 조회
+   * 요청자의 직속 하위 협력사(또는 지정한 협력사 목록) 전체의 월별 Scope 1,2,3 배출량 총계를 한 번에 조회
+   * 협력사 개요 화면의 협력사별 monthly-summary 반복 호출 대체
+   */
+  @Operation(summary = "협력사 일괄 월별 배출량 집계", description = "직속 하위 협력사 전체(또는 partnerIds로 지정한 협력사)의 연도별 각 월(1월~현재월) " +
+      "Scope 1,2,3 배출량 총계를 한 번에 조회합니다. 협력사 목록은 page / size 단위로 나누어 조회합니다.")
+  @GetMapping("/partners/year/{year}/monthly-summary")
+  public ResponseEntity<ApiResponse<PartnerMonthlySummaryBatchResponse>> getPartnerMonthlyEmissionSummaries(
+      @Parameter(description = "보고 연도", example = "2024") @PathVariable Integer year,
+      @Parameter(description = "조회할 협력사 ID 목록 (없으면 직속 하위 협력사 전체)", example = "2,3,4") @RequestParam(required = false) List<Long> partnerIds,
+      @Parameter(description = "페이지 번호 (0부터 시작)", example = "0") @RequestParam(defaultValue = "0") int page,
+      @Parameter(description = "페이지 크기 (최대 200)", example = "50") @RequestParam(defaultValue = "50") int size,
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType,
+      @Parameter(description = "요청자 협력사 ID (협력사인 경우)", example = "2") @RequestHeader(value = "X-PARTNER-ID", required = false) String requestPartnerId,
+      @Parameter(description = "트리 경로", example = "/1/L1-001/") @RequestHeader(value = "X-TREE-PATH", required = false) String treePath) {
+
+    try {
+      log.info("협력사 일괄 월별 집계 요청 - 본사ID: {}, 사용자타입: {}, 요청자협력사ID: {}, 연도: {}, 페이지: {}/{}",
+          headquartersId, userType, requestPartnerId, year, page, size);
+
+      PartnerMonthlySummaryBatchResponse response = scopeAggregationService
+          .getPartnerMonthlyEmissionSummaries(
+              year,
+              Long.parseLong(headquartersId),
+              userType,
+              requestPartnerId != null ? Long.parseLong(requestPartnerId) : null,
+              treePath,
+              partnerIds,
+              page,
+              size);
+
+      log.info("협력사 일괄 월별 집계 완료 - 협력사 수: {}/{}", response.getPartners().size(), response.getTotalPartners());
+
+      return ResponseEntity.ok(ApiResponse.success(response, "협력사 일괄 월별 집계 결과가 성공적으로 조회되었습니다"));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}, 요청자협력사ID: {}", headquartersId, requestPartnerId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 협력사 일괄 조회 요청 - 본사ID: {}, 요청자협력사ID: {}: {}", headquartersId, requestPartnerId, e.getMessage());
+      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
+      }
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error(e.getMessage(), ErrorCode.VALIDATION_ERROR.getCode()));
+    } catch (Exception e) {
+      log.error("협력사 일괄 월별 집계 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("협력사 일괄 월별 집계 처리 중 오류가 발생했습니다", "PARTNER_MONTHLY_BATCH_AGGREGATION_ERROR"));
+    }
+  }
+  //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
+
   /**
    * SCOPE 1 2 연간 배출량 집계
    * 지정된 Scope 타입의 카테고리별 연간 총 배출량을 로그인된 사용자 기준으로 조회
@@ -267,15 +332,14 @@ public class ScopeAggregationController {
             .body(ApiResponse.error("월은 1-12 범위여야 합니다", "INVALID_MONTH_RANGE"));
       }
 
-      Scope3CombinedEmissionResponse response = scopeAggregationService
-          .getScope3CombinedMonthlyEmission(
-              year,
-              month,
-              Long.parseLong(headquartersId),
-              userType,
-              partnerId != null ? Long.parseLong(partnerId) : null,
-              treePath,
-              level != null ? Integer.parseInt(level) : null);
+      // 같은 조직/기간의 동시 요청은 진행 중인 집계 1건의 결과를 공유
+      Long headquartersIdValue = Long.parseLong(headquartersId);
+      Long partnerIdValue = partnerId != null ? Long.parseLong(partnerId) : null;
+      Integer levelValue = level != null ? Integer.parseInt(level) : null;
+      Scope3CombinedEmissionResponse response = aggregationRequestCoalescer.execute(
+          combinedRequestKey(headquartersIdValue, userType, partnerIdValue, treePath, year, month),
+          () -> scopeAggregationService.getScope3CombinedMonthlyEmission(
+              year, month, headquartersIdValue, userType, partnerIdValue, treePath, levelValue));
 
       log.info("Scope 3 월별 통합 집계 완료 - 연도: {}, 월: {}, 총 배출량: {}", 
           year, month, response.getTotalScope3Emission());
@@ -314,14 +378,14 @@ public class ScopeAggregationController {
       log.info("Scope 3 연별 통합 집계 요청 - 연도: {}, 본사ID: {}, 사용자타입: {}, 협력사ID: {}", 
           year, headquartersId, userType, partnerId);
 
-      Scope3CombinedEmissionResponse response = scopeAggregationService
-          .getScope3CombinedYearlyEmission(
-              year,
-              Long.parseLong(headquartersId),
-              userType,
-              partnerId != null ? Long.parseLong(partnerId) : null,
-              treePath,
-              level != null ? Integer.parseInt(level) : null);
+      // 같은 조직/연도의 동시 요청은 진행 중인 집계 1건의 결과를 공유
+      Long headquartersIdValue = Long.parseLong(headquartersId);
+      Long partnerIdValue = partnerId != null ? Long.parseLong(partnerId) : null;
+      Integer levelValue = level != null ? Integer.parseInt(level) : null;
+      Scope3CombinedEmissionResponse response = aggregationRequestCoalescer.execute(
+          combinedRequestKey(headquartersIdValue, userType, partnerIdValue, treePath, year, null),
+          () -> scopeAggregationService.getScope3CombinedYearlyEmission(
+              year, headquartersIdValue, userType, partnerIdValue, treePath, levelValue));
 
       log.info("Scope 3 연별 통합 집계 완료 - 연도: {}, 총 배출량: {}", 
           year, response.getTotalScope3Emission());
@@ -341,6 +405,113 @@ public class ScopeAggregationController {
   }
   //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
 
+  /**
+   * 홈 대시보드 통합 집계
+   * 월별 요약, Scope 1,2,3 카테고리별 연간 집계, Scope 3 연별 통합, 맵핑 자재 월별 총합을 한 번에 반환
+   * 연간 그룹 집계 결과 1회 조회로 모든 뷰를 계산 (개별 대시보드 API 다중 호출 대체)
+   */
+  @Operation(summary = "홈 대시보드 통합 집계", description = "홈 대시보드에 필요한 월별 요약, Scope별 카테고리 연간 배출량, " +
+      "Scope 3 연별 통합 배출량, 맵핑된 자재코드 월별 총합을 하나의 응답으로 조회합니다. " +
+      "로그인된 사용자의 권한 범위 내에서만 데이터를 집계합니다.")
+  @GetMapping("/dashboard/{year}")
+  public ResponseEntity<ApiResponse<DashboardAggregationResponse>> getDashboardAggregation(
+      @Parameter(description = "보고 연도", example = "2024") @PathVariable Integer year,
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType,
+      @Parameter(description = "협력사 ID (협력사인 경우)", example = "2") @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerId,
+      @Parameter(description = "트리 경로", example = "/1/L1-001/") @RequestHeader(value = "X-TREE-PATH", required = false) String treePath,
+      @Parameter(description = "계층 레벨", example = "1") @RequestHeader(value = "X-LEVEL", required = false) String level) {
+
+    try {
+      log.info("홈 대시보드 통합 집계 요청 - 연도: {}, 본사ID: {}, 사용자타입: {}, 협력사ID: {}, 레벨: {}",
+          year, headquartersId, userType, partnerId, level);
+
+      // 레벨 정보 파싱
+      Integer userLevel = null;
+      if (level != null) {
+        userLevel = Integer.parseInt(level);
+      } else if ("HEADQUARTERS".equals(userType)) {
+        userLevel = 0; // 본사는 레벨 0
+      }
+
+      DashboardAggregationResponse response = scopeAggregationService
+          .getDashboardAggregation(
+              year,
+              Long.parseLong(headquartersId),
+              userType,
+              partnerId != null ? Long.parseLong(partnerId) : null,
+              treePath,
+              userLevel);
+
+      log.info("홈 대시보드 통합 집계 완료 - 연도: {}, 월별 데이터 수: {}", year, response.getMonthlySummaries().size());
+
+      return ResponseEntity.ok(ApiResponse.success(response,
+          String.format("홈 대시보드 통합 집계가 성공적으로 조회되었습니다 (%d년)", year)));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}, 협력사ID: {}, 레벨: {}", headquartersId, partnerId, level);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID 또는 레벨은 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 홈 대시보드 통합 집계 요청 - 연도: {}: {}", year, e.getMessage());
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error(e.getMessage(), ErrorCode.VALIDATION_ERROR.getCode()));
+    } catch (Exception e) {
+      log.error("홈 대시보드 통합 집계 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("홈 대시보드 통합 집계 처리 중 오류가 발생했습니다", "DASHBOARD_AGGREGATION_ERROR"));
+    }
+  }
+  //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
+
+  /**
+   * 다년 배출량 추이 및 전년 대비 증감 조회
+   * 연도 범위의 Scope별 / 카테고리별 연간 배출량과 전년 대비(YoY) 증감을 반환
+   */
+  @Operation(summary = "다년 배출량 추이 조회", description = "연도 범위(최대 10년)의 Scope 1,2,3 연간 합계와 카테고리별 연간 배출량을 " +
+      "전년 대비 증감/증감률과 함께 조회합니다. 로그인된 사용자의 권한 범위 내에서만 데이터를 집계합니다.")
+  @GetMapping("/trend")
+  public ResponseEntity<ApiResponse<EmissionTrendResponse>> getEmissionTrend(
+      @Parameter(description = "시작 연도", example = "2020") @RequestParam Integer fromYear,
+      @Parameter(description = "종료 연도", example = "2024") @RequestParam Integer toYear,
+      @Parameter(description = "본사 ID", example = "1") @RequestHeader("X-HEADQUARTERS-ID") String headquartersId,
+      @Parameter(description = "사용자 타입", example = "HEADQUARTERS") @RequestHeader("X-USER-TYPE") String userType,
+      @Parameter(description = "협력사 ID (협력사인 경우)", example = "2") @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerId) {
+
+    try {
+      log.info("다년 배출량 추이 조회 요청 - {}년~{}년, 본사ID: {}, 사용자타입: {}, 협력사ID: {}",
+          fromYear, toYear, headquartersId, userType, partnerId);
+
+      EmissionTrendResponse response = scopeAggregationService
+          .getEmissionTrend(
+              fromYear,
+              toYear,
+              Long.parseLong(headquartersId),
+              userType,
+              partnerId != null ? Long.parseLong(partnerId) : null);
+
+      log.info("다년 배출량 추이 조회 완료 - {}년~{}년, 카테고리 행 수: {}",
+          fromYear, toYear, response.getCategoryYearlyEmissions().size());
+
+      return ResponseEntity.ok(ApiResponse.success(response,
+          String.format("다년 배출량 추이가 성공적으로 조회되었습니다 (%d년~%d년)", fromYear, toYear)));
+
+    } catch (NumberFormatException e) {
+      log.warn("잘못된 숫자 형식 - 본사ID: {}, 협력사ID: {}", headquartersId, partnerId);
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error("ID는 숫자여야 합니다", "INVALID_NUMERIC_FORMAT"));
+    } catch (IllegalArgumentException e) {
+      log.warn("잘못된 추이 조회 요청 - {}년~{}년: {}", fromYear, toYear, e.getMessage());
+      return ResponseEntity.badRequest()
+          .body(ApiResponse.error(e.getMessage(), "INVALID_YEAR_RANGE"));
+    } catch (Exception e) {
+      log.error("다년 배출량 추이 조회 중 오류 발생: {}", e.getMessage(), e);
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("다년 배출량 추이 조회 중 오류가 발생했습니다", "EMISSION_TREND_ERROR"));
+    }
+  }
+  //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
+
   /**
    * 맵핑된 자재코드 대시보드 조회 (직속 하위 레벨 기반)
    * 각 조직은 직속 하위 레벨이 맵핑한 자재코드만 조회
@@ -448,4 +619,18 @@ public class ScopeAggregationController {
     }
   }
   //--------------------------------------------------------------------------------------------------------------------------------------------------------------------
-}
\ No newline at end of file
+
+  /**
+   * Scope3 통합 집계 요청 병합 키 - 본사 요청은 본사 단위, 협력사 요청은 협력사 + 계층 경로 단위
+   * 협력사 ID 없는 협력사 요청은 사용자 타입별로 분리 (본사 결과와 공유하지 않음)
+   */
+  private static String combinedRequestKey(Long headquartersId, String userType, Long partnerId,
+      String treePath, Integer year, Integer month) {
+    if ("HEADQUARTERS".equals(userType)) {
+      return EmissionCacheKeys.scope3Combined(headquartersId, null, null, year, month);
+    }
+    return partnerId != null
+        ? EmissionCacheKeys.scope3Combined(headquartersId, partnerId, treePath, year, month)
+        : userType + ":" + EmissionCacheKeys.scope3Combined(headquartersId, null, null, year, month);
+  }
+}
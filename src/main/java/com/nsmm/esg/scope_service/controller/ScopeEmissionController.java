@@ -2,17 +2,23 @@ package com.nsmm.esg.scope_service.controller;
 
 import com.nsmm.esg.scope_service.dto.request.ScopeEmissionRequest;
 import com.nsmm.esg.scope_service.dto.request.ScopeEmissionUpdateRequest;
+import com.nsmm.esg.scope_service.dto.response.ScopeEmissionPageResponse;
 import com.nsmm.esg.scope_service.dto.response.ScopeEmissionResponse;
 import com.nsmm.esg.scope_service.dto.ApiResponse;
 import com.nsmm.esg.scope_service.enums.ScopeType;
 import com.nsmm.esg.scope_service.enums.ErrorCode;
+import com.nsmm.esg.scope_service.enums.ExportFormat;
+import com.nsmm.esg.scope_service.service.EmissionExportService;
 import com.nsmm.esg.scope_service.service.ScopeEmissionService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import java.util.List;
@@ -44,6 +50,7 @@ import java.util.List;
 public class ScopeEmissionController {
 
   private final ScopeEmissionService scopeEmissionService;
+  private final EmissionExportService emissionExportService;
 
 
   // ========================================================================
@@ -81,7 +88,10 @@ public class ScopeEmissionController {
     } catch (IllegalArgumentException e) {
       log.error("Scope {} 배출량 생성 실패: {}", request.getScopeType(), e.getMessage());
       // 주요 예외 메시지별로 ErrorCode 매핑
-      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+      if (e.getMessage() != null && e.getMessage().contains("마감된 보고 기간")) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.REPORTING_PERIOD_CLOSED.getCode()));
+      } else if (e.getMessage() != null && e.getMessage().contains("권한")) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
             .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
       } else if (e.getMessage() != null && e.getMessage().contains("필수")) {
@@ -151,6 +161,89 @@ public class ScopeEmissionController {
     }
   }
 
+  // Scope 타입별 배출량 데이터 키셋 페이지 조회
+  @Operation(summary = "Scope 타입별 배출량 페이지 조회",
+      description = "특정 Scope 타입의 배출량 데이터를 보고 연/월 최신순으로 페이지 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+  @GetMapping("/emissions/scope/{scopeType}/page")
+  public ResponseEntity<ApiResponse<ScopeEmissionPageResponse>> getEmissionsByScopePage(
+      @PathVariable ScopeType scopeType,
+      @RequestParam(required = false) Integer year,
+      @RequestParam(required = false) Integer month,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(required = false) Integer size,
+      @RequestHeader("X-ACCOUNT-NUMBER") String accountNumber,
+      @RequestHeader(value = "X-USER-TYPE", required = false) String userType,
+      @RequestHeader(value = "X-HEADQUARTERS-ID", required = false) String headquartersId,
+      @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerId,
+      @RequestHeader(value = "X-TREE-PATH", required = false) String treePath) {
+
+    log.info("Scope {} 배출량 페이지 조회 요청: accountNumber={}, userType={}, year={}, month={}, cursor={}",
+        scopeType, accountNumber, userType, year, month, cursor);
+
+    try {
+      ScopeEmissionPageResponse response = scopeEmissionService.getEmissionsByScopePage(
+          scopeType, accountNumber, userType, headquartersId, partnerId, treePath, year, month, cursor, size);
+      return ResponseEntity.ok(ApiResponse.success(response,
+          String.format("%s 배출량 데이터를 조회했습니다.", scopeType.getDescription())));
+    } catch (IllegalArgumentException e) {
+      log.error("Scope {} 배출량 페이지 조회 실패: {}", scopeType, e.getMessage());
+      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
+      } else {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.VALIDATION_ERROR.getCode()));
+      }
+    } catch (Exception e) {
+      log.error("Scope {} 배출량 페이지 조회 중 서버 오류: {}", scopeType, e.getMessage());
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("서버 내부 오류가 발생했습니다.", ErrorCode.INTERNAL_SERVER_ERROR.getCode()));
+    }
+  }
+
+  // Scope 타입별 배출량 대량 내보내기 (스트리밍)
+  @Operation(summary = "Scope 타입별 배출량 내보내기",
+      description = "특정 Scope 타입의 연간(또는 월) 배출량 원본을 NDJSON 또는 CSV 파일로 스트리밍 다운로드합니다. 행 수와 무관하게 서버 메모리를 일정하게 사용합니다.")
+  @GetMapping("/emissions/scope/{scopeType}/export")
+  public ResponseEntity<?> exportEmissionsByScope(
+      @PathVariable ScopeType scopeType,
+      @RequestParam Integer year,
+      @RequestParam(required = false) Integer month,
+      @RequestParam(required = false) String format,
+      @RequestHeader("X-ACCOUNT-NUMBER") String accountNumber,
+      @RequestHeader(value = "X-USER-TYPE", required = false) String userType,
+      @RequestHeader(value = "X-HEADQUARTERS-ID", required = false) String headquartersId,
+      @RequestHeader(value = "X-PARTNER-ID", required = false) String partnerId,
+      @RequestHeader(value = "X-TREE-PATH", required = false) String treePath) {
+
+    log.info("Scope {} 배출량 내보내기 요청: accountNumber={}, userType={}, year={}, month={}, format={}",
+        scopeType, accountNumber, userType, year, month, format);
+
+    try {
+      ExportFormat exportFormat = ExportFormat.from(format);
+      StreamingResponseBody body = emissionExportService.export(
+          scopeType, exportFormat, userType, headquartersId, partnerId, treePath, year, month);
+      String fileName = emissionExportService.fileName(scopeType, exportFormat, year, month);
+      return ResponseEntity.ok()
+          .contentType(MediaType.parseMediaType(exportFormat.getContentType() + ";charset=UTF-8"))
+          .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+          .body(body);
+    } catch (IllegalArgumentException e) {
+      log.error("Scope {} 배출량 내보내기 실패: {}", scopeType, e.getMessage());
+      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
+      } else {
+        return ResponseEntity.badRequest()
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.VALIDATION_ERROR.getCode()));
+      }
+    } catch (Exception e) {
+      log.error("Scope {} 배출량 내보내기 중 서버 오류: {}", scopeType, e.getMessage());
+      return ResponseEntity.internalServerError()
+          .body(ApiResponse.error("서버 내부 오류가 발생했습니다.", ErrorCode.INTERNAL_SERVER_ERROR.getCode()));
+    }
+  }
+
   // ========================================================================
   // 업데이트 API (Update APIs)
   // ========================================================================
@@ -182,7 +275,10 @@ public class ScopeEmissionController {
 
     } catch (IllegalArgumentException e) {
       log.error("Scope 배출량 업데이트 실패: {}", e.getMessage());
-      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+      if (e.getMessage() != null && e.getMessage().contains("마감된 보고 기간")) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.REPORTING_PERIOD_CLOSED.getCode()));
+      } else if (e.getMessage() != null && e.getMessage().contains("권한")) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
             .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
       } else if (e.getMessage() != null && e.getMessage().contains("동일한 조건의 배출량 데이터가 이미 존재합니다")) {
@@ -223,7 +319,10 @@ public class ScopeEmissionController {
       return ResponseEntity.ok(ApiResponse.success("삭제 완료", "Scope 배출량 데이터를 삭제했습니다."));
     } catch (IllegalArgumentException e) {
       log.error("Scope 배출량 삭제 실패: {}", e.getMessage());
-      if (e.getMessage() != null && e.getMessage().contains("권한")) {
+      if (e.getMessage() != null && e.getMessage().contains("마감된 보고 기간")) {
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+            .body(ApiResponse.error(e.getMessage(), ErrorCode.REPORTING_PERIOD_CLOSED.getCode()));
+      } else if (e.getMessage() != null && e.getMessage().contains("권한")) {
         return ResponseEntity.status(HttpStatus.FORBIDDEN)
             .body(ApiResponse.error(e.getMessage(), ErrorCode.ACCESS_DENIED.getCode()));
       } else if (e.getMessage() != null && e.getMessage().contains("찾을 수 없습니다")) {
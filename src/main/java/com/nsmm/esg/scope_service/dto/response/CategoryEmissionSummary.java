@@ -0,0 +1,43 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 배출량 통합 집계 DTO
+ *
+ * Scope/카테고리/월 단위 합계를 JPQL 생성자 표현식으로 직접 생성
+ * - 카테고리별 통합 조회 / Scope3 전체 카테고리 조회 캐시 값
+ * - 마감 스냅샷 payload (필드명은 기존 Map 키와 동일)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "카테고리별 배출량 통합 집계")
+public class CategoryEmissionSummary {
+
+    @Schema(description = "Scope 타입", example = "SCOPE3")
+    private ScopeType scopeType;
+
+    @Schema(description = "카테고리 번호", example = "1")
+    private Integer categoryNumber;
+
+    @Schema(description = "카테고리명", example = "구매한 상품 및 서비스")
+    private String categoryName;
+
+    @Schema(description = "보고 월", example = "6")
+    private Integer reportingMonth;
+
+    @Schema(description = "총 배출량", example = "1234.56")
+    private BigDecimal totalEmission;
+
+    @Schema(description = "데이터 건수", example = "15")
+    private Long recordCount;
+}
@@ -13,9 +13,10 @@ import lombok.NoArgsConstructor;
  * 
  * 특정 Scope 타입의 카테고리별 연간 총 배출량 정보를 담는 DTO
  * 로그인된 사용자의 컨텍스트에 맞는 카테고리별 연간 데이터 제공
+ * 다년 추이 조회에서는 전년 대비(YoY) 증감 항목을 함께 제공 (전년 데이터가 없으면 null)
  */
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 @Schema(description = "카테고리별 연간 배출량 집계 응답")
@@ -41,4 +42,13 @@ public class CategoryYearlyEmission {
 
     @Schema(description = "모든 카테고리의 연간 총 배출량 합계", example = "125678.90")
     private BigDecimal totalSumAllCategories;
+
+    @Schema(description = "전년도 연간 총 배출량 (다년 추이 조회 시)", example = "14320.50")
+    private BigDecimal previousYearEmission;
+
+    @Schema(description = "전년 대비 배출량 증감 (다년 추이 조회 시)", example = "1358.40")
+    private BigDecimal yearOverYearChange;
+
+    @Schema(description = "전년 대비 배출량 증감률 % (다년 추이 조회 시, 전년 배출량이 0이면 null)", example = "9.49")
+    private BigDecimal yearOverYearChangeRate;
 }
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 홈 대시보드 통합 집계 응답 DTO
+ *
+ * 대시보드가 개별 호출하던 집계 결과를 한 번에 제공:
+ * - 월별 Scope 1,2,3 요약 (monthly-summary)
+ * - Scope 1/2/3 카테고리별 연간 배출량 (category/{scopeType}/year/{year})
+ * - Scope 3 연별 통합 배출량 (scope3-combined/{year})
+ * - 맵핑된 자재코드 월별 총합 (mapped-materials/dashboard/{year})
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "홈 대시보드 통합 집계 응답")
+public class DashboardAggregationResponse {
+
+    @Schema(description = "보고 연도", example = "2024")
+    private Integer reportingYear;
+
+    @Schema(description = "사용자 타입", example = "HEADQUARTERS")
+    private String userType;
+
+    @Schema(description = "본사ID 또는 협력사ID", example = "1")
+    private Long organizationId;
+
+    @Schema(description = "월별 Scope 1,2,3 배출량 요약 (1월~현재월/12월)")
+    private List<MonthlyEmissionSummary> monthlySummaries;
+
+    @Schema(description = "Scope 1 카테고리별 연간 배출량")
+    private List<CategoryYearlyEmission> scope1Categories;
+
+    @Schema(description = "Scope 2 카테고리별 연간 배출량")
+    private List<CategoryYearlyEmission> scope2Categories;
+
+    @Schema(description = "Scope 3 카테고리별 연간 배출량")
+    private List<CategoryYearlyEmission> scope3Categories;
+
+    @Schema(description = "Scope 3 연별 통합 배출량 (특수집계 + 일반 카테고리)")
+    private Scope3CombinedEmissionResponse scope3Combined;
+
+    @Schema(description = "맵핑된 자재코드 월별 총합")
+    private MappedMaterialMonthlyTotalResponse mappedMaterials;
+}
@@ -0,0 +1,47 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 다년 배출량 추이 응답 DTO
+ *
+ * 연도 범위의 Scope별 연간 합계와 카테고리별 연간 배출량을 전년 대비(YoY) 증감과 함께 제공
+ * - 각 행은 CategoryYearlyEmission 형태 (Scope 합계 행은 categoryNumber가 null)
+ * - 정렬: 연도 → Scope → 카테고리 번호
+ * - 전년에만 있는 카테고리도 당해 배출량 0 행으로 포함 (증감률 -100%)
+ * - 진행 중인 당해 연도는 전년 동일 월까지의 합계와 비교 (partialYearMonths)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "다년 배출량 추이 응답")
+public class EmissionTrendResponse {
+
+    @Schema(description = "시작 연도", example = "2020")
+    private Integer fromYear;
+
+    @Schema(description = "종료 연도", example = "2024")
+    private Integer toYear;
+
+    @Schema(description = "사용자 타입", example = "HEADQUARTERS")
+    private String userType;
+
+    @Schema(description = "본사ID 또는 협력사ID", example = "1")
+    private Long organizationId;
+
+    @Schema(description = "진행 중인 당해 연도의 비교 월 수 (당해 연도 행의 전년 대비는 전년 1월~해당 월 합계 기준, 범위에 당해 연도가 없으면 null)", example = "9")
+    private Integer partialYearMonths;
+
+    @Schema(description = "연도별 Scope 1,2,3 연간 합계 (categoryNumber 없음)")
+    private List<CategoryYearlyEmission> scopeYearlyTotals;
+
+    @Schema(description = "연도별 Scope 카테고리별 연간 배출량")
+    private List<CategoryYearlyEmission> categoryYearlyEmissions;
+}
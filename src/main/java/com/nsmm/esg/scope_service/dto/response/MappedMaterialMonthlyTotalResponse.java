@@ -14,6 +14,7 @@ import java.util.List;
  * 기능:
  * - 지정된 연도의 월별 Scope 1 + Scope 2 총합 제공
  * - 자재별 상세 정보 포함 (자재명, 내부자재코드, 상위자재코드, Scope별 배출량)
+ * - 자재별 월별 배출량 매트릭스 제공 (자재 × 월)
  * - 현재년도는 현재월까지, 다른 년도는 12월까지 표시
  * - 차트 및 테이블 데이터 표시용
  */
@@ -33,6 +34,9 @@ public class MappedMaterialMonthlyTotalResponse {
     
     // 자재별 상세 정보 리스트
     private List<MaterialDetail> materialDetails;
+
+    // 자재별 월별 배출량 매트릭스 (자재 순서는 materialDetails와 동일)
+    private List<MaterialMonthlyEmission> materialMonthlyEmissions;
     
     /**
      * 개별 월별 총합 항목
@@ -94,6 +98,21 @@ public class MappedMaterialMonthlyTotalResponse {
         }
     }
     
+    /**
+     * 자재별 월별 배출량 항목 (매트릭스 1행)
+     */
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class MaterialMonthlyEmission {
+
+        private String materialName; // 자재명
+        private String internalMaterialCode; // 내부 자재코드
+        private String upstreamMaterialCode; // 상위 자재코드
+        private List<BigDecimal> monthlyEmissions; // 월별 Scope 1 + Scope 2 배출량 (1월부터 monthlyTotals와 같은 개수, 데이터 없는 월은 0)
+    }
+
     /**
      * 본사용 월별 총합 응답 생성
      */
@@ -101,7 +120,8 @@ public class MappedMaterialMonthlyTotalResponse {
             Long headquartersId,
             Integer year,
             List<MonthlyTotal> monthlyTotals,
-            List<MaterialDetail> materialDetails) {
+            List<MaterialDetail> materialDetails,
+            List<MaterialMonthlyEmission> materialMonthlyEmissions) {
         
         return MappedMaterialMonthlyTotalResponse.builder()
                 .userType("HEADQUARTERS")
@@ -109,6 +129,7 @@ public class MappedMaterialMonthlyTotalResponse {
                 .reportingYear(year)
                 .monthlyTotals(monthlyTotals)
                 .materialDetails(materialDetails)
+                .materialMonthlyEmissions(materialMonthlyEmissions)
                 .build();
     }
     
@@ -119,7 +140,8 @@ public class MappedMaterialMonthlyTotalResponse {
             Long partnerId,
             Integer year,
             List<MonthlyTotal> monthlyTotals,
-            List<MaterialDetail> materialDetails) {
+            List<MaterialDetail> materialDetails,
+            List<MaterialMonthlyEmission> materialMonthlyEmissions) {
         
         return MappedMaterialMonthlyTotalResponse.builder()
                 .userType("PARTNER")
@@ -127,6 +149,7 @@ public class MappedMaterialMonthlyTotalResponse {
                 .reportingYear(year)
                 .monthlyTotals(monthlyTotals)
                 .materialDetails(materialDetails)
+                .materialMonthlyEmissions(materialMonthlyEmissions)
                 .build();
     }
     
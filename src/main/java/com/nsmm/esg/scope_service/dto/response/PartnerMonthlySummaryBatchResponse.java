@@ -0,0 +1,58 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 협력사 일괄 월별 배출량 요약 응답 DTO
+ *
+ * 직속 하위 협력사(또는 지정한 협력사 목록)의 월별 Scope 1,2,3 배출량 총계를 한 번에 제공
+ * 협력사 목록은 page / size 단위로 나누어 조회 (협력사 순서는 조직 트리 순서 또는 요청 순서)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "협력사 일괄 월별 배출량 요약 응답")
+public class PartnerMonthlySummaryBatchResponse {
+
+    @Schema(description = "보고 연도", example = "2024")
+    private Integer year;
+
+    @Schema(description = "페이지 번호 (0부터 시작)", example = "0")
+    private Integer page;
+
+    @Schema(description = "페이지 크기 (협력사 수)", example = "50")
+    private Integer size;
+
+    @Schema(description = "전체 대상 협력사 수", example = "200")
+    private Integer totalPartners;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private Boolean hasNext;
+
+    @Schema(description = "협력사별 월별 배출량 요약")
+    private List<PartnerMonthlySummary> partners;
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "협력사 월별 배출량 요약")
+    public static class PartnerMonthlySummary {
+
+        @Schema(description = "협력사 ID", example = "2")
+        private Long partnerId;
+
+        @Schema(description = "트리 경로", example = "/1/L1-001/")
+        private String treePath;
+
+        @Schema(description = "월별 Scope 1,2,3 배출량 요약 (1월~현재월/12월)")
+        private List<MonthlyEmissionSummary> monthlySummaries;
+    }
+}
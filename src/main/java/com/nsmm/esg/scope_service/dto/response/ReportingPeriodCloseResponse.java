@@ -0,0 +1,50 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import com.nsmm.esg.scope_service.entity.ReportingPeriodClose;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보고 기간 마감 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "보고 기간 마감 응답")
+public class ReportingPeriodCloseResponse {
+
+    @Schema(description = "본사 ID", example = "1")
+    private Long headquartersId;
+
+    @Schema(description = "보고 연도", example = "2024")
+    private Integer reportingYear;
+
+    @Schema(description = "보고 월", example = "12")
+    private Integer reportingMonth;
+
+    @Schema(description = "마감 요청자", example = "HQ-0001")
+    private String closedBy;
+
+    @Schema(description = "마감 일시")
+    private LocalDateTime closedAt;
+
+    @Schema(description = "생성된 스냅샷 수 (마감 요청 응답에서만 제공)", example = "48")
+    private Integer snapshotCount;
+
+    public static ReportingPeriodCloseResponse from(ReportingPeriodClose close, Integer snapshotCount) {
+        return ReportingPeriodCloseResponse.builder()
+                .headquartersId(close.getHeadquartersId())
+                .reportingYear(close.getReportingYear())
+                .reportingMonth(close.getReportingMonth())
+                .closedBy(close.getClosedBy())
+                .closedAt(close.getClosedAt())
+                .snapshotCount(snapshotCount)
+                .build();
+    }
+}
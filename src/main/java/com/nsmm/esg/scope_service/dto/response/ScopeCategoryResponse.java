@@ -3,6 +3,7 @@ package com.nsmm.esg.scope_service.dto.response;
 import com.nsmm.esg.scope_service.enums.Scope1Category;
 import com.nsmm.esg.scope_service.enums.Scope2Category;
 import com.nsmm.esg.scope_service.enums.Scope3Category;
+import com.nsmm.esg.scope_service.enums.ScopeCategoryRegistry;
 import com.nsmm.esg.scope_service.enums.ScopeType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -69,7 +70,7 @@ public class ScopeCategoryResponse {
         .scopeType(ScopeType.SCOPE2)
         .categoryNumber(category.getCategoryNumber())
         .categoryName(category.getCategoryName())
-        .categoryGroup("에너지")
+        .categoryGroup(ScopeCategoryRegistry.SCOPE2_GROUP_NAME)
         .build();
   }
 
@@ -81,7 +82,7 @@ public class ScopeCategoryResponse {
         .scopeType(ScopeType.SCOPE3)
         .categoryNumber(category.getCategoryNumber())
         .categoryName(category.getCategoryName())
-        .categoryGroup(category.isUpstream() ? "업스트림" : "다운스트림")
+        .categoryGroup(ScopeCategoryRegistry.find(ScopeType.SCOPE3, category.getCategoryNumber()).getGroupName())
         .description(category.getCategoryName())
         .build();
   }
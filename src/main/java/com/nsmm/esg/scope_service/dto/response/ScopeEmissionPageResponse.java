@@ -0,0 +1,35 @@
+package com.nsmm.esg.scope_service.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 배출량 목록 키셋 페이지 응답 DTO
+ *
+ * 보고 연/월 최신순, 같은 월은 ID 역순 정렬
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달하여 조회 (마지막 페이지면 null)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "배출량 목록 키셋 페이지 응답")
+public class ScopeEmissionPageResponse {
+
+  @Schema(description = "배출량 목록")
+  private List<ScopeEmissionResponse> content;
+
+  @Schema(description = "페이지 크기", example = "50")
+  private Integer size;
+
+  @Schema(description = "다음 페이지 존재 여부", example = "true")
+  private Boolean hasNext;
+
+  @Schema(description = "다음 페이지 커서 (보고연도:보고월:ID)", example = "2024:6:1532")
+  private String nextCursor;
+}
@@ -3,6 +3,7 @@ package com.nsmm.esg.scope_service.dto.response;
 import com.nsmm.esg.scope_service.enums.InputType;
 import com.nsmm.esg.scope_service.enums.ScopeType;
 import com.nsmm.esg.scope_service.entity.ScopeEmission;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -177,4 +178,41 @@ public class ScopeEmissionResponse {
         .build();
   }
 
+  /**
+   * 목록 조회 프로젝션에서 응답 생성 (자재코드 매핑 필드는 조회 시 조인된 값 사용)
+   */
+  public static ScopeEmissionResponse from(ScopeEmissionListProjection emission) {
+    return ScopeEmissionResponse.builder()
+        .id(emission.getId())
+        .scopeType(emission.getScopeType())
+        .scope1CategoryNumber(emission.getScope1CategoryNumber())
+        .scope1CategoryName(emission.getScope1CategoryName())
+        .scope1CategoryGroup(emission.getScope1CategoryGroup())
+        .scope2CategoryNumber(emission.getScope2CategoryNumber())
+        .scope2CategoryName(emission.getScope2CategoryName())
+        .scope3CategoryNumber(emission.getScope3CategoryNumber())
+        .scope3CategoryName(emission.getScope3CategoryName())
+        .materialAssignmentId(emission.getMaterialAssignmentId())
+        .materialMappingId(emission.getMaterialMappingId())
+        .upstreamMaterialCode(emission.getUpstreamMaterialCode())
+        .internalMaterialCode(emission.getInternalMaterialCode())
+        .materialName(emission.getMaterialName())
+        .upstreamPartnerId(emission.getUpstreamPartnerId())
+        .majorCategory(emission.getMajorCategory())
+        .subcategory(emission.getSubcategory())
+        .rawMaterial(emission.getRawMaterial())
+        .activityAmount(emission.getActivityAmount())
+        .unit(emission.getUnit())
+        .emissionFactor(emission.getEmissionFactor())
+        .totalEmission(emission.getTotalEmission())
+        .inputType(emission.getInputType())
+        .hasMaterialMapping(emission.getHasMaterialMapping())
+        .factoryEnabled(emission.getFactoryEnabled())
+        .reportingYear(emission.getReportingYear())
+        .reportingMonth(emission.getReportingMonth())
+        .createdAt(emission.getCreatedAt())
+        .updatedAt(emission.getUpdatedAt())
+        .build();
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,65 @@
+package com.nsmm.esg.scope_service.entity;
+
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 마감 기간 집계 스냅샷 엔티티 (불변)
+ *
+ * 보고 기간 마감 시점의 집계 API 응답을 JSON으로 보관
+ * - 마감된 기간 조회는 원본 데이터 재집계 없이 스냅샷 반환
+ * - 생성 후 수정되지 않음 (재시작 후에도 동일 결과 보장)
+ *
+ * 스냅샷 키: (본사, 연도, 월, 유형, 조직)
+ */
+@Entity
+@Immutable
+@Table(name = "aggregation_snapshot", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_aggregation_snapshot_key", columnNames = {
+                "headquarters_id", "reporting_year", "reporting_month", "snapshot_type", "subject_key"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AggregationSnapshot {
+
+    /**
+     * 본사 조직의 subject_key 값 (협력사는 협력사 ID 문자열)
+     */
+    public static final String HEADQUARTERS_SUBJECT = "HQ";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "reporting_year", nullable = false)
+    private Integer reportingYear; // 보고 연도
+
+    @Column(name = "reporting_month", nullable = false)
+    private Integer reportingMonth; // 보고 월
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "snapshot_type", nullable = false, length = 30)
+    private SnapshotType snapshotType; // 스냅샷 유형
+
+    @Column(name = "subject_key", nullable = false, length = 30)
+    private String subjectKey; // 조직 키 (본사: HQ, 협력사: 협력사 ID)
+
+    @Lob
+    @Column(name = "payload", nullable = false, columnDefinition = "LONGTEXT")
+    private String payload; // 집계 결과 JSON
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt; // 생성 일시
+}
@@ -0,0 +1,39 @@
+package com.nsmm.esg.scope_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 배출량 데이터 버전 엔티티
+ *
+ * 본사/보고 연도 단위 단조 증가 버전 (집계 API ETag 계산용)
+ * - 배출량 / 자재코드 할당 쓰기 트랜잭션 안에서 증가하여 데이터와 함께 커밋
+ * - 모든 인스턴스가 같은 행을 읽으므로 인스턴스와 관계없이 같은 데이터에 같은 버전
+ * - reporting_year = 0: 본사 전체 연도 버전 (자재코드 할당 등 연도 구분 없는 쓰기)
+ */
+@Entity
+@Table(name = "emission_data_version", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_data_version", columnNames = {"headquarters_id", "reporting_year"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionDataVersion {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false, updatable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "reporting_year", nullable = false, updatable = false)
+    private Integer reportingYear; // 보고 연도 (0: 전체 연도)
+
+    @Column(name = "version", nullable = false)
+    private Long version; // 데이터 버전 (쓰기마다 1 증가)
+}
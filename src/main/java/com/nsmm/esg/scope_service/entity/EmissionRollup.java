@@ -0,0 +1,95 @@
+package com.nsmm.esg.scope_service.entity;
+
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 배출량 집계 읽기 모델 엔티티
+ *
+ * scope_emission 원본 데이터를 집계 키 단위로 미리 합산하여 보관
+ * - 배출량 생성/수정/삭제와 같은 트랜잭션에서 증분 갱신
+ * - 대시보드 집계 조회 비용이 입력 건수가 아닌 카테고리 수에 비례
+ *
+ * 집계 키: (본사, 협력사, 연도, 월, Scope, 카테고리, 공장설비 여부, 자재코드 매핑 여부)
+ */
+@Entity
+@Table(name = "emission_rollup", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_emission_rollup_key", columnNames = {
+                "headquarters_id", "partner_key", "reporting_year", "reporting_month",
+                "scope_type", "category_number", "factory_enabled", "has_material_mapping"})
+}, indexes = {
+        @Index(name = "idx_rollup_headquarters_period", columnList = "headquarters_id, reporting_year, reporting_month"),
+        @Index(name = "idx_rollup_partner_period", columnList = "headquarters_id, partner_id, reporting_year, reporting_month")
+})
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmissionRollup {
+
+    /**
+     * 본사 직접 입력 데이터의 partner_key 값 (유니크 키에 NULL을 사용할 수 없어 0으로 대체)
+     */
+    public static final long HEADQUARTERS_PARTNER_KEY = 0L;
+
+    /**
+     * 카테고리 번호가 없는 데이터의 category_number 값
+     */
+    public static final int NO_CATEGORY = 0;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ========================================================================
+    // 집계 키 (Rollup Key)
+    // ========================================================================
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "partner_id")
+    private Long partnerId; // 협력사 ID (본사 직접 입력인 경우 null)
+
+    @Column(name = "partner_key", nullable = false)
+    private Long partnerKey; // 유니크 키용 협력사 ID (본사 직접 입력인 경우 0)
+
+    @Column(name = "reporting_year", nullable = false)
+    private Integer reportingYear; // 보고 연도
+
+    @Column(name = "reporting_month", nullable = false)
+    private Integer reportingMonth; // 보고 월
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "scope_type", nullable = false)
+    private ScopeType scopeType; // SCOPE1, SCOPE2, SCOPE3
+
+    @Column(name = "category_number", nullable = false)
+    private Integer categoryNumber; // Scope별 카테고리 번호 (없으면 0)
+
+    @Column(name = "factory_enabled", nullable = false)
+    private Boolean factoryEnabled; // 공장 설비 여부
+
+    @Column(name = "has_material_mapping", nullable = false)
+    private Boolean hasMaterialMapping; // 자재코드 매핑 여부
+
+    // ========================================================================
+    // 집계 값 (Rollup Values)
+    // ========================================================================
+
+    @Column(name = "total_emission", nullable = false, precision = 20, scale = 6)
+    private BigDecimal totalEmission; // 배출량 합계
+
+    @Column(name = "record_count", nullable = false)
+    private Long recordCount; // 원본 데이터 건수
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,49 @@
+package com.nsmm.esg.scope_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조직 계층 클로저 테이블 엔티티
+ *
+ * 모든 (조상, 자손) 쌍과 거리를 저장하여 하위 조직 조회를 인덱스 조회로 처리
+ * - ancestor_id = 0: 본사 루트
+ * - depth = 0: 자기 자신, depth = 1: 직속 하위 조직
+ */
+@Entity
+@Table(name = "organization_closure", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_organization_closure", columnNames = {"headquarters_id", "ancestor_id", "descendant_id"})
+}, indexes = {
+        @Index(name = "idx_closure_ancestor_depth", columnList = "headquarters_id, ancestor_id, depth"),
+        @Index(name = "idx_closure_descendant", columnList = "headquarters_id, descendant_id")
+})
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationClosure {
+
+    /**
+     * 본사 루트 노드 ID
+     */
+    public static final long ROOT_ID = 0L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "ancestor_id", nullable = false)
+    private Long ancestorId; // 조상 협력사 ID (본사 루트는 0)
+
+    @Column(name = "descendant_id", nullable = false)
+    private Long descendantId; // 자손 협력사 ID
+
+    @Column(name = "depth", nullable = false)
+    private Integer depth; // 조상-자손 간 거리
+}
@@ -0,0 +1,43 @@
+package com.nsmm.esg.scope_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조직 계층 노드 엔티티
+ *
+ * 배출량 쓰기 시 전달된 treePath로부터 등록되는 협력사 노드
+ * - organization_closure 생성 시 조상/자손 탐색 기준
+ * - 본사는 노드로 저장하지 않고 루트(partner_id = 0)로 취급
+ */
+@Entity
+@Table(name = "organization_node", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_organization_node_partner", columnNames = {"headquarters_id", "partner_id"})
+}, indexes = {
+        @Index(name = "idx_organization_node_tree_path", columnList = "headquarters_id, tree_path")
+})
+@Getter
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrganizationNode {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "partner_id", nullable = false)
+    private Long partnerId; // 협력사 ID
+
+    @Column(name = "tree_path", nullable = false, length = 500)
+    private String treePath; // 계층 경로 (/1/L1-001/L2-003/)
+
+    @Column(name = "level", nullable = false)
+    private Integer level; // 계층 레벨 (1차사: 1, 2차사: 2...)
+}
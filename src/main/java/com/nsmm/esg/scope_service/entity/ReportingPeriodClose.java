@@ -0,0 +1,46 @@
+package com.nsmm.esg.scope_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보고 기간 마감 엔티티
+ *
+ * 본사 단위 연/월 마감 이력
+ * - 마감된 기간의 배출량 생성/수정/삭제 거부
+ * - 마감 시점 집계 결과는 aggregation_snapshot에 불변 보관
+ */
+@Entity
+@Table(name = "reporting_period_close", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_period_close", columnNames = {"headquarters_id", "reporting_year", "reporting_month"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportingPeriodClose {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false, updatable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "reporting_year", nullable = false, updatable = false)
+    private Integer reportingYear; // 보고 연도
+
+    @Column(name = "reporting_month", nullable = false, updatable = false)
+    private Integer reportingMonth; // 보고 월
+
+    @Column(name = "closed_by", length = 100, updatable = false)
+    private String closedBy; // 마감 요청자 (계정 번호)
+
+    @Column(name = "closed_at", nullable = false, updatable = false)
+    private LocalDateTime closedAt; // 마감 일시
+}
@@ -0,0 +1,40 @@
+package com.nsmm.esg.scope_service.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 보고 기간 잠금 엔티티
+ *
+ * 본사/보고 기간(yyyymm) 단위 잠금 행
+ * - 배출량 생성/수정/삭제와 보고 기간 마감이 같은 행을 배타 잠금하여 직렬화
+ * - 마감 검증을 통과한 쓰기가 스냅샷 저장 이후에 커밋되는 경합 방지
+ */
+@Entity
+@Table(name = "reporting_period_lock", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_period_lock", columnNames = {"headquarters_id", "reporting_period"})
+})
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportingPeriodLock {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "headquarters_id", nullable = false, updatable = false)
+    private Long headquartersId; // 본사 ID
+
+    @Column(name = "reporting_period", nullable = false, updatable = false)
+    private Integer reportingPeriod; // 보고 기간 (yyyymm)
+
+    @Column(name = "locked_at", nullable = false)
+    private LocalDateTime lockedAt; // 마지막 잠금 일시
+}
@@ -1,6 +1,7 @@
 package com.nsmm.esg.scope_service.entity;
 
 import com.nsmm.esg.scope_service.enums.*;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -36,7 +37,10 @@ import java.time.LocalDateTime;
         @Index(name = "idx_special_aggregation", columnList = "headquarters_id, scope_type, reporting_year, reporting_month, scope1_category_number, scope2_category_number, scope3_category_number"),
         @Index(name = "idx_factory_emission", columnList = "headquarters_id, scope_type, factory_enabled, reporting_year, reporting_month"),
         @Index(name = "idx_partner_aggregation", columnList = "headquarters_id, partner_id, scope_type, reporting_year, reporting_month"),
-        @Index(name = "idx_material_mapping_query", columnList = "headquarters_id, has_material_mapping, scope_type, reporting_year, reporting_month")
+        @Index(name = "idx_material_mapping_query", columnList = "headquarters_id, has_material_mapping, scope_type, reporting_year, reporting_month"),
+        // 보고 기간(yyyymm) 범위 조회용 인덱스
+        @Index(name = "idx_scope_period", columnList = "headquarters_id, scope_type, reporting_period"),
+        @Index(name = "idx_partner_period", columnList = "headquarters_id, partner_id, scope_type, reporting_period")
 })
 @Getter
 @Builder(toBuilder = true)
@@ -71,6 +75,9 @@ public class ScopeEmission {
     @Column(name = "reporting_month", nullable = false)
     private Integer reportingMonth; // 보고 월
 
+    @Column(name = "reporting_period")
+    private Integer reportingPeriod; // 보고 기간 (yyyymm, 연/월에서 자동 계산 - 월 구간 범위 조회용, 컬럼 추가 이전 행은 백필 전까지 NULL)
+
     // ========================================================================
     // Scope 분류 및 카테고리 정보 (Scope Classification & Category)
     // ========================================================================
@@ -197,11 +204,16 @@ public class ScopeEmission {
 
 
     /**
-     * 프론트엔드 입력 데이터 검증
+     * 프론트엔드 입력 데이터 검증 및 보고 기간(yyyymm) 동기화
      */
     @PrePersist
     @PreUpdate
     private void validateInputData() {
+        // 보고 기간은 항상 연/월 기준으로 재계산 (연/월 수정 시에도 일치 보장)
+        if (reportingYear != null && reportingMonth != null) {
+            reportingPeriod = ReportingPeriodUtil.of(reportingYear, reportingMonth);
+        }
+
         // 배출량 계산 검증 (소수점 정밀도 오차 허용)
         if (activityAmount != null && emissionFactor != null && totalEmission != null) {
             BigDecimal calculated = activityAmount.multiply(emissionFactor);
@@ -217,7 +229,7 @@ public class ScopeEmission {
 
         // 카테고리 일치성 검증
         if (scopeType == ScopeType.SCOPE1 && scope1CategoryNumber != null) {
-            Scope1Category category = Scope1Category.fromCategoryNumber(scope1CategoryNumber);
+            Scope1Category category = ScopeCategoryRegistry.scope1(scope1CategoryNumber);
             if (!category.getCategoryName().equals(scope1CategoryName)) {
                 throw new IllegalStateException("Scope 1 카테고리 정보가 일치하지 않습니다");
             }
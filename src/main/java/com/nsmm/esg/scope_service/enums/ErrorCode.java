@@ -33,6 +33,7 @@ public enum ErrorCode {
   CALCULATION_ERROR("CALCULATION_ERROR", "배출량 계산 중 오류가 발생했습니다"),
   INVALID_COMPANY_TYPE("INVALID_COMPANY_TYPE", "유효하지 않은 회사 유형입니다"),
   TREE_PATH_MISMATCH("TREE_PATH_MISMATCH", "조직 계층 경로가 일치하지 않습니다"),
+  REPORTING_PERIOD_CLOSED("REPORTING_PERIOD_CLOSED", "마감된 보고 기간입니다"),
 
   // ================================================================
   // 권한 관련 에러 (Authorization Errors)
@@ -0,0 +1,43 @@
+package com.nsmm.esg.scope_service.enums;
+
+public enum ExportFormat {
+    NDJSON("줄 단위 JSON", "application/x-ndjson", "ndjson"),
+    CSV("CSV", "text/csv", "csv");
+
+    private final String description;
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String description, String contentType, String extension) {
+        this.description = description;
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    /**
+     * 요청 파라미터로 내보내기 형식 조회 (미지정 시 NDJSON)
+     */
+    public static ExportFormat from(String format) {
+        if (format == null || format.isBlank()) {
+            return NDJSON;
+        }
+        for (ExportFormat exportFormat : values()) {
+            if (exportFormat.extension.equalsIgnoreCase(format.trim())) {
+                return exportFormat;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + format);
+    }
+}
@@ -48,13 +48,11 @@ public enum Scope1Category {
         return groupName;
     }
 
+    /**
+     * 카테고리 번호로 조회 (ScopeCategoryRegistry 배열 인덱스 조회)
+     */
     public static Scope1Category fromCategoryNumber(int categoryNumber) {
-        for (Scope1Category category : values()) {
-            if (category.getCategoryNumber() == categoryNumber) {
-                return category;
-            }
-        }
-        throw new IllegalArgumentException("유효하지 않은 Scope 1 카테고리 번호: " + categoryNumber);
+        return ScopeCategoryRegistry.scope1(categoryNumber);
     }
 
     /**
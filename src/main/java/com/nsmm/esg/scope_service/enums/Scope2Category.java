@@ -23,13 +23,11 @@ public enum Scope2Category {
         return categoryName;
     }
 
+    /**
+     * 카테고리 번호로 조회 (ScopeCategoryRegistry 배열 인덱스 조회)
+     */
     public static Scope2Category fromCategoryNumber(int categoryNumber) {
-        for (Scope2Category category : values()) {
-            if (category.getCategoryNumber() == categoryNumber) {
-                return category;
-            }
-        }
-        throw new IllegalArgumentException("유효하지 않은 Scope 2 카테고리 번호: " + categoryNumber);
+        return ScopeCategoryRegistry.scope2(categoryNumber);
     }
 
     /**
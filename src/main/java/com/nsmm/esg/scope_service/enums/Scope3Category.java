@@ -43,13 +43,11 @@ public enum Scope3Category {
     return categoryName;
   }
 
+  /**
+   * 카테고리 번호로 조회 (ScopeCategoryRegistry 배열 인덱스 조회)
+   */
   public static Scope3Category fromCategoryNumber(int categoryNumber) {
-    for (Scope3Category category : values()) {
-      if (category.getCategoryNumber() == categoryNumber) {
-        return category;
-      }
-    }
-    throw new IllegalArgumentException("유효하지 않은 Scope 3 카테고리 번호: " + categoryNumber);
+    return ScopeCategoryRegistry.scope3(categoryNumber);
   }
 
   /**
@@ -0,0 +1,170 @@
+package com.nsmm.esg.scope_service.enums;
+
+/**
+ * Scope 카테고리 메타데이터 레지스트리 (불변, 클래스 로딩 시 1회 생성)
+ *
+ * (Scope 타입, 카테고리 번호) → 카테고리 정보를 배열 인덱스로 바로 조회
+ * - 카테고리 열거형 fromCategoryNumber, 엔티티 검증, 집계 결과 카테고리명 변환에서 공용 사용
+ * - 카테고리명/그룹명은 열거형 상수 문자열을 그대로 공유 (행마다 문자열/목록 생성 없음)
+ */
+public final class ScopeCategoryRegistry {
+
+    public static final String SCOPE2_GROUP_NAME = "에너지";
+    public static final String SCOPE3_UPSTREAM_GROUP_NAME = "업스트림";
+    public static final String SCOPE3_DOWNSTREAM_GROUP_NAME = "다운스트림";
+
+    private static final Scope1Category[] SCOPE1_BY_NUMBER = indexScope1();
+    private static final Scope2Category[] SCOPE2_BY_NUMBER = indexScope2();
+    private static final Scope3Category[] SCOPE3_BY_NUMBER = indexScope3();
+
+    // [ScopeType.ordinal()][카테고리 번호] → 카테고리 정보 (없는 번호는 null)
+    private static final CategoryMetadata[][] METADATA_BY_SCOPE = indexMetadata();
+
+    private ScopeCategoryRegistry() {
+    }
+
+    // ========================================================================
+    // 카테고리 조회 메서드
+    // ========================================================================
+
+    /**
+     * 카테고리 정보 조회 (없으면 null)
+     */
+    public static CategoryMetadata find(ScopeType scopeType, Integer categoryNumber) {
+        if (scopeType == null || categoryNumber == null) {
+            return null;
+        }
+        CategoryMetadata[] byNumber = METADATA_BY_SCOPE[scopeType.ordinal()];
+        return categoryNumber > 0 && categoryNumber < byNumber.length ? byNumber[categoryNumber] : null;
+    }
+
+    /**
+     * 카테고리명 조회 (없으면 null)
+     */
+    public static String findCategoryName(ScopeType scopeType, Integer categoryNumber) {
+        CategoryMetadata metadata = find(scopeType, categoryNumber);
+        return metadata != null ? metadata.getCategoryName() : null;
+    }
+
+    public static Scope1Category scope1(int categoryNumber) {
+        if (categoryNumber > 0 && categoryNumber < SCOPE1_BY_NUMBER.length && SCOPE1_BY_NUMBER[categoryNumber] != null) {
+            return SCOPE1_BY_NUMBER[categoryNumber];
+        }
+        throw new IllegalArgumentException("유효하지 않은 Scope 1 카테고리 번호: " + categoryNumber);
+    }
+
+    public static Scope2Category scope2(int categoryNumber) {
+        if (categoryNumber > 0 && categoryNumber < SCOPE2_BY_NUMBER.length && SCOPE2_BY_NUMBER[categoryNumber] != null) {
+            return SCOPE2_BY_NUMBER[categoryNumber];
+        }
+        throw new IllegalArgumentException("유효하지 않은 Scope 2 카테고리 번호: " + categoryNumber);
+    }
+
+    public static Scope3Category scope3(int categoryNumber) {
+        if (categoryNumber > 0 && categoryNumber < SCOPE3_BY_NUMBER.length && SCOPE3_BY_NUMBER[categoryNumber] != null) {
+            return SCOPE3_BY_NUMBER[categoryNumber];
+        }
+        throw new IllegalArgumentException("유효하지 않은 Scope 3 카테고리 번호: " + categoryNumber);
+    }
+
+    // ========================================================================
+    // 인덱스 생성 메서드
+    // ========================================================================
+
+    private static Scope1Category[] indexScope1() {
+        int max = 0;
+        for (Scope1Category category : Scope1Category.values()) {
+            max = Math.max(max, category.getCategoryNumber());
+        }
+        Scope1Category[] byNumber = new Scope1Category[max + 1];
+        for (Scope1Category category : Scope1Category.values()) {
+            byNumber[category.getCategoryNumber()] = category;
+        }
+        return byNumber;
+    }
+
+    private static Scope2Category[] indexScope2() {
+        int max = 0;
+        for (Scope2Category category : Scope2Category.values()) {
+            max = Math.max(max, category.getCategoryNumber());
+        }
+        Scope2Category[] byNumber = new Scope2Category[max + 1];
+        for (Scope2Category category : Scope2Category.values()) {
+            byNumber[category.getCategoryNumber()] = category;
+        }
+        return byNumber;
+    }
+
+    private static Scope3Category[] indexScope3() {
+        int max = 0;
+        for (Scope3Category category : Scope3Category.values()) {
+            max = Math.max(max, category.getCategoryNumber());
+        }
+        Scope3Category[] byNumber = new Scope3Category[max + 1];
+        for (Scope3Category category : Scope3Category.values()) {
+            byNumber[category.getCategoryNumber()] = category;
+        }
+        return byNumber;
+    }
+
+    private static CategoryMetadata[][] indexMetadata() {
+        CategoryMetadata[][] byScope = new CategoryMetadata[ScopeType.values().length][];
+
+        CategoryMetadata[] scope1 = new CategoryMetadata[SCOPE1_BY_NUMBER.length];
+        for (Scope1Category category : Scope1Category.values()) {
+            scope1[category.getCategoryNumber()] = new CategoryMetadata(ScopeType.SCOPE1,
+                    category.getCategoryNumber(), category.getCategoryName(), category.getGroupName());
+        }
+        byScope[ScopeType.SCOPE1.ordinal()] = scope1;
+
+        CategoryMetadata[] scope2 = new CategoryMetadata[SCOPE2_BY_NUMBER.length];
+        for (Scope2Category category : Scope2Category.values()) {
+            scope2[category.getCategoryNumber()] = new CategoryMetadata(ScopeType.SCOPE2,
+                    category.getCategoryNumber(), category.getCategoryName(), SCOPE2_GROUP_NAME);
+        }
+        byScope[ScopeType.SCOPE2.ordinal()] = scope2;
+
+        CategoryMetadata[] scope3 = new CategoryMetadata[SCOPE3_BY_NUMBER.length];
+        for (Scope3Category category : Scope3Category.values()) {
+            scope3[category.getCategoryNumber()] = new CategoryMetadata(ScopeType.SCOPE3,
+                    category.getCategoryNumber(), category.getCategoryName(),
+                    category.isUpstream() ? SCOPE3_UPSTREAM_GROUP_NAME : SCOPE3_DOWNSTREAM_GROUP_NAME);
+        }
+        byScope[ScopeType.SCOPE3.ordinal()] = scope3;
+
+        return byScope;
+    }
+
+    /**
+     * 카테고리 정보 (불변)
+     */
+    public static final class CategoryMetadata {
+        private final ScopeType scopeType;
+        private final int categoryNumber;
+        private final String categoryName;
+        private final String groupName;
+
+        private CategoryMetadata(ScopeType scopeType, int categoryNumber, String categoryName, String groupName) {
+            this.scopeType = scopeType;
+            this.categoryNumber = categoryNumber;
+            this.categoryName = categoryName;
+            this.groupName = groupName;
+        }
+
+        public ScopeType getScopeType() {
+            return scopeType;
+        }
+
+        public int getCategoryNumber() {
+            return categoryNumber;
+        }
+
+        public String getCategoryName() {
+            return categoryName;
+        }
+
+        public String getGroupName() {
+            return groupName;
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.nsmm.esg.scope_service.enums;
+
+public enum SnapshotType {
+    SPECIAL_AGGREGATION("Scope 3 특수 집계"),
+    CATEGORY_WISE("카테고리별 배출량"),
+    SCOPE3_CATEGORIES("Scope 3 전체 카테고리 배출량"),
+    MONTHLY_SUMMARY("월별 배출량 요약");
+
+    private final String description;
+
+    SnapshotType(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,22 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.AggregationSnapshot;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * AggregationSnapshot 엔티티의 데이터베이스 접근 레포지토리
+ */
+@Repository
+public interface AggregationSnapshotRepository extends JpaRepository<AggregationSnapshot, Long> {
+
+    /**
+     * 스냅샷 키 단건 조회
+     */
+    Optional<AggregationSnapshot> findByHeadquartersIdAndReportingYearAndReportingMonthAndSnapshotTypeAndSubjectKey(
+            Long headquartersId, Integer reportingYear, Integer reportingMonth,
+            SnapshotType snapshotType, String subjectKey);
+}
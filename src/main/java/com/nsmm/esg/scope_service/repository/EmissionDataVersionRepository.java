@@ -0,0 +1,44 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.EmissionDataVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+
+/**
+ * EmissionDataVersion 엔티티의 데이터베이스 접근 레포지토리
+ */
+@Repository
+public interface EmissionDataVersionRepository extends JpaRepository<EmissionDataVersion, Long> {
+
+    /**
+     * 데이터 버전 1 증가 (없으면 1로 생성) - 호출한 쓰기 트랜잭션 종료까지 행 배타 잠금 유지
+     */
+    @Modifying
+    @Query(value = "INSERT INTO emission_data_version (headquarters_id, reporting_year, version) " +
+                   "VALUES (:headquartersId, :reportingYear, 1) " +
+                   "ON DUPLICATE KEY UPDATE version = version + 1",
+           nativeQuery = true)
+    int increment(
+            @Param("headquartersId") Long headquartersId,
+            @Param("reportingYear") Integer reportingYear);
+
+    /**
+     * 지정 연도 버전 합계 (각 버전이 단조 증가하므로 합계도 쓰기마다 증가)
+     */
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM EmissionDataVersion v " +
+           "WHERE v.headquartersId = :headquartersId AND v.reportingYear IN :reportingYears")
+    Long sumVersions(
+            @Param("headquartersId") Long headquartersId,
+            @Param("reportingYears") Collection<Integer> reportingYears);
+
+    /**
+     * 본사 전체 버전 합계 (연도 구분 없는 조회용)
+     */
+    @Query("SELECT COALESCE(SUM(v.version), 0) FROM EmissionDataVersion v WHERE v.headquartersId = :headquartersId")
+    Long sumAllVersions(@Param("headquartersId") Long headquartersId);
+}
@@ -0,0 +1,205 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.EmissionRollup;
+import com.nsmm.esg.scope_service.repository.projection.MonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.PartnerMonthlyScopeEmissionProjection;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * EmissionRollup 읽기 모델 레포지토리
+ *
+ * 주요 기능:
+ * - 배출량 쓰기 시 집계 키 단위 증분 갱신 (upsert)
+ * - 본사 단위 집계 재구성 (원본 데이터 기준 백필)
+ * - 특수 집계/월별 요약용 집계 조회
+ */
+@Repository
+public interface EmissionRollupRepository extends JpaRepository<EmissionRollup, Long> {
+
+        // Scope 타입에 해당하는 카테고리 번호 (없으면 0) - EmissionRollupService.resolveCategoryNumber와 동일 규칙
+        String ROLLUP_CATEGORY_NUMBER = "CASE s.scope_type " +
+               "WHEN 'SCOPE1' THEN COALESCE(s.scope1_category_number, 0) " +
+               "WHEN 'SCOPE2' THEN COALESCE(s.scope2_category_number, 0) " +
+               "ELSE COALESCE(s.scope3_category_number, 0) END";
+
+        // 특수 집계 버킷 SELECT 항목 (Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5)
+        String SPECIAL_AGGREGATION_BUCKETS =
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE1' THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE1' AND r.categoryNumber IN (4, 5, 6) THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE1' AND r.factoryEnabled = true THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE1' AND r.categoryNumber = 8 THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE2' THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE2' AND r.factoryEnabled = true THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE3' AND r.categoryNumber = 1 THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE3' AND r.categoryNumber = 2 THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE3' AND r.categoryNumber = 4 THEN r.totalEmission ELSE 0 END), 0), " +
+               "COALESCE(SUM(CASE WHEN r.scopeType = 'SCOPE3' AND r.categoryNumber = 5 THEN r.totalEmission ELSE 0 END), 0) ";
+
+        // 협력사 본인 + 하위 협력사 조건 - 읽기 모델에는 경로가 없으므로 조직 노드(organization_node)의 treePath로 판단
+        String PARTNER_SUBTREE_CONDITION =
+               "AND (r.partnerKey = :partnerId OR r.partnerKey IN (" +
+               "SELECT n.partnerId FROM OrganizationNode n " +
+               "WHERE n.headquartersId = :headquartersId " +
+               "AND n.treePath LIKE CONCAT(:treePath, '%') " +
+               "AND n.treePath <> :treePath)) ";
+
+        // ========================================================================
+        // 증분 갱신 쿼리 (Incremental Maintenance)
+        // ========================================================================
+
+        // 집계 키 단위 배출량/건수 증분 반영 (키가 없으면 생성)
+        @Modifying
+        @Query(value = "INSERT INTO emission_rollup " +
+               "(headquarters_id, partner_id, partner_key, reporting_year, reporting_month, scope_type, " +
+               "category_number, factory_enabled, has_material_mapping, total_emission, record_count, updated_at) " +
+               "VALUES (:headquartersId, :partnerId, :partnerKey, :year, :month, :scopeType, " +
+               ":categoryNumber, :factoryEnabled, :hasMaterialMapping, :emissionDelta, :countDelta, NOW()) AS delta " +
+               "ON DUPLICATE KEY UPDATE " +
+               "total_emission = emission_rollup.total_emission + delta.total_emission, " +
+               "record_count = emission_rollup.record_count + delta.record_count, " +
+               "updated_at = NOW()",
+               nativeQuery = true)
+        int upsertDelta(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("partnerKey") Long partnerKey,
+                @Param("year") Integer year,
+                @Param("month") Integer month,
+                @Param("scopeType") String scopeType,
+                @Param("categoryNumber") Integer categoryNumber,
+                @Param("factoryEnabled") Boolean factoryEnabled,
+                @Param("hasMaterialMapping") Boolean hasMaterialMapping,
+                @Param("emissionDelta") BigDecimal emissionDelta,
+                @Param("countDelta") Long countDelta);
+
+        // 원본 데이터가 모두 삭제된 집계 키 정리
+        @Modifying
+        @Query(value = "DELETE FROM emission_rollup " +
+               "WHERE headquarters_id = :headquartersId " +
+               "AND partner_key = :partnerKey " +
+               "AND reporting_year = :year " +
+               "AND reporting_month = :month " +
+               "AND record_count <= 0",
+               nativeQuery = true)
+        int deleteEmptyRollups(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerKey") Long partnerKey,
+                @Param("year") Integer year,
+                @Param("month") Integer month);
+
+        // ========================================================================
+        // 재구성 쿼리 (Rebuild)
+        // ========================================================================
+
+        // 본사 단위 집계 삭제
+        @Modifying
+        @Query(value = "DELETE FROM emission_rollup WHERE headquarters_id = :headquartersId", nativeQuery = true)
+        int deleteByHeadquartersId(@Param("headquartersId") Long headquartersId);
+
+        // 본사 단위 집계를 원본 데이터로부터 재생성
+        // 카테고리 번호는 증분 갱신과 같은 규칙 (Scope 타입에 해당하는 카테고리 컬럼, 없으면 0)
+        @Modifying
+        @Query(value = "INSERT INTO emission_rollup " +
+               "(headquarters_id, partner_id, partner_key, reporting_year, reporting_month, scope_type, " +
+               "category_number, factory_enabled, has_material_mapping, total_emission, record_count, updated_at) " +
+               "SELECT s.headquarters_id, s.partner_id, COALESCE(s.partner_id, 0), s.reporting_year, s.reporting_month, s.scope_type, " +
+               ROLLUP_CATEGORY_NUMBER + ", " +
+               "COALESCE(s.factory_enabled, false), COALESCE(s.has_material_mapping, false), SUM(s.total_emission), COUNT(*), NOW() " +
+               "FROM scope_emission s " +
+               "WHERE s.headquarters_id = :headquartersId " +
+               "GROUP BY s.headquarters_id, s.partner_id, s.reporting_year, s.reporting_month, s.scope_type, " +
+               ROLLUP_CATEGORY_NUMBER + ", " +
+               "COALESCE(s.factory_enabled, false), COALESCE(s.has_material_mapping, false)",
+               nativeQuery = true)
+        int insertFromScopeEmission(@Param("headquartersId") Long headquartersId);
+
+        // ========================================================================
+        // 집계 조회 쿼리 (Rollup Read)
+        // ========================================================================
+
+        // 특정 월의 특수 집계 버킷을 조직(협력사, 본사는 NULL) 단위로 조회 (본사 - 본사 직접 입력 + 전체 협력사)
+        // 반환: partnerId, Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5
+        @Query("SELECT r.partnerId, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.reportingYear = :year " +
+               "AND r.reportingMonth = :month " +
+               "GROUP BY r.partnerId")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerForMonth(
+                @Param("headquartersId") Long headquartersId,
+                @Param("year") Integer year,
+                @Param("month") Integer month);
+
+        // 특정 월의 특수 집계 버킷을 조직 단위로 조회 (협력사 - 본인 + 조직 노드 기준 하위 협력사)
+        @Query("SELECT r.partnerId, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.reportingYear = :year " +
+               "AND r.reportingMonth = :month " +
+               PARTNER_SUBTREE_CONDITION +
+               "GROUP BY r.partnerId")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerForMonthForSubtree(
+                @Param("headquartersId") Long headquartersId,
+                @Param("year") Integer year,
+                @Param("month") Integer month,
+                @Param("partnerId") Long partnerId,
+                @Param("treePath") String treePath);
+
+        // 연간 특수 집계 버킷을 조직(협력사, 본사는 NULL) × 월 단위로 조회 (본사 - 본사 직접 입력 + 전체 협력사)
+        // 반환: partnerId, reportingMonth, Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5
+        @Query("SELECT r.partnerId, r.reportingMonth, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.reportingYear = :year " +
+               "GROUP BY r.partnerId, r.reportingMonth")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerAndMonth(
+                @Param("headquartersId") Long headquartersId,
+                @Param("year") Integer year);
+
+        // 연간 특수 집계 버킷을 조직 × 월 단위로 조회 (협력사 - 본인 + 조직 노드 기준 하위 협력사)
+        @Query("SELECT r.partnerId, r.reportingMonth, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.reportingYear = :year " +
+               PARTNER_SUBTREE_CONDITION +
+               "GROUP BY r.partnerId, r.reportingMonth")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerAndMonthForSubtree(
+                @Param("headquartersId") Long headquartersId,
+                @Param("year") Integer year,
+                @Param("partnerId") Long partnerId,
+                @Param("treePath") String treePath);
+
+        // 조직(협력사, 본사는 NULL)의 월별 Scope 타입별 배출량 합계/건수 조회
+        @Query("SELECT r.reportingMonth AS reportingMonth, r.scopeType AS scopeType, " +
+               "COALESCE(SUM(r.totalEmission), 0) AS totalEmission, COALESCE(SUM(r.recordCount), 0) AS recordCount " +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.partnerKey = :partnerKey " +
+               "AND r.reportingYear = :year " +
+               "GROUP BY r.reportingMonth, r.scopeType")
+        List<MonthlyScopeEmissionProjection> sumMonthlyScopeTotalsByPartnerKey(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerKey") Long partnerKey,
+                @Param("year") Integer year);
+
+        // 여러 협력사의 협력사 × 월 × Scope 타입별 배출량 합계/건수 조회
+        @Query("SELECT r.partnerKey AS partnerId, r.reportingMonth AS reportingMonth, r.scopeType AS scopeType, " +
+               "COALESCE(SUM(r.totalEmission), 0) AS totalEmission, COALESCE(SUM(r.recordCount), 0) AS recordCount " +
+               "FROM EmissionRollup r " +
+               "WHERE r.headquartersId = :headquartersId " +
+               "AND r.partnerKey IN :partnerKeys " +
+               "AND r.reportingYear = :year " +
+               "GROUP BY r.partnerKey, r.reportingMonth, r.scopeType")
+        List<PartnerMonthlyScopeEmissionProjection> sumMonthlyScopeTotalsByPartnerKeys(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerKeys") Collection<Long> partnerKeys,
+                @Param("year") Integer year);
+}
@@ -0,0 +1,65 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.OrganizationClosure;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * OrganizationClosure 엔티티의 데이터베이스 접근 레포지토리
+ *
+ * 주요 기능:
+ * - 상위 조직 조회 (인덱스 조회)
+ * - 클로저 행 등록/정리
+ */
+@Repository
+public interface OrganizationClosureRepository extends JpaRepository<OrganizationClosure, Long> {
+
+    /**
+     * 상위 협력사 ID 조회 (가까운 상위부터, 자기 자신과 본사 루트 제외)
+     */
+    @Query("SELECT c.ancestorId FROM OrganizationClosure c " +
+           "WHERE c.headquartersId = :headquartersId " +
+           "AND c.descendantId = :descendantId " +
+           "AND c.depth > 0 " +
+           "AND c.ancestorId <> " + OrganizationClosure.ROOT_ID + " " +
+           "ORDER BY c.depth")
+    List<Long> findAncestorIds(
+            @Param("headquartersId") Long headquartersId,
+            @Param("descendantId") Long descendantId);
+
+    /**
+     * 클로저 행 등록 (동시 등록 시 중복 무시)
+     */
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO organization_closure (headquarters_id, ancestor_id, descendant_id, depth) " +
+                   "VALUES (:headquartersId, :ancestorId, :descendantId, :depth)",
+           nativeQuery = true)
+    int insertIgnore(
+            @Param("headquartersId") Long headquartersId,
+            @Param("ancestorId") Long ancestorId,
+            @Param("descendantId") Long descendantId,
+            @Param("depth") Integer depth);
+
+    /**
+     * 특정 협력사가 조상 또는 자손으로 포함된 클로저 행 삭제 (경로 변경 시)
+     */
+    @Modifying
+    @Query("DELETE FROM OrganizationClosure c " +
+           "WHERE c.headquartersId = :headquartersId " +
+           "AND (c.ancestorId = :partnerId OR c.descendantId = :partnerId)")
+    int deleteByPartner(
+            @Param("headquartersId") Long headquartersId,
+            @Param("partnerId") Long partnerId);
+
+    /**
+     * 본사 단위 클로저 삭제 (재구성용)
+     */
+    @Modifying
+    @Query("DELETE FROM OrganizationClosure c WHERE c.headquartersId = :headquartersId")
+    int deleteByHeadquartersId(@Param("headquartersId") Long headquartersId);
+}
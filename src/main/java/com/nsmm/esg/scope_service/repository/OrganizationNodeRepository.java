@@ -0,0 +1,88 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.OrganizationNode;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * OrganizationNode 엔티티의 데이터베이스 접근 레포지토리
+ */
+@Repository
+public interface OrganizationNodeRepository extends JpaRepository<OrganizationNode, Long> {
+
+    /**
+     * 협력사 노드 조회
+     */
+    Optional<OrganizationNode> findByHeadquartersIdAndPartnerId(Long headquartersId, Long partnerId);
+
+    /**
+     * 본사의 전체 협력사 노드 조회 (경로 순서)
+     */
+    List<OrganizationNode> findByHeadquartersIdOrderByTreePathAscPartnerIdAsc(Long headquartersId);
+
+    /**
+     * 지정 협력사 노드 조회
+     */
+    List<OrganizationNode> findByHeadquartersIdAndPartnerIdIn(Long headquartersId, Collection<Long> partnerIds);
+
+    /**
+     * 경로 목록에 해당하는 노드 조회 (조상 노드 탐색용)
+     */
+    List<OrganizationNode> findByHeadquartersIdAndTreePathIn(Long headquartersId, Collection<String> treePaths);
+
+    /**
+     * 경로 하위 노드 조회 (자손 노드 탐색용 - 노드 테이블 대상이므로 배출량 테이블 스캔 없음)
+     */
+    @Query("SELECT n FROM OrganizationNode n " +
+           "WHERE n.headquartersId = :headquartersId " +
+           "AND n.treePath LIKE CONCAT(:treePath, '%') " +
+           "AND n.treePath <> :treePath")
+    List<OrganizationNode> findDescendantNodes(
+            @Param("headquartersId") Long headquartersId,
+            @Param("treePath") String treePath);
+
+    /**
+     * 경로 직속 하위 노드 조회 (경로 순서)
+     * 레벨로 직속 여부를 판단하므로 중간 경로의 노드가 없어도 손자 노드가 직속으로 올라오지 않음
+     *
+     * @param treePath 상위 경로 (본사 루트는 '/')
+     * @param level    직속 하위 레벨 (상위 레벨 + 1)
+     */
+    @Query("SELECT n FROM OrganizationNode n " +
+           "WHERE n.headquartersId = :headquartersId " +
+           "AND n.treePath LIKE CONCAT(:treePath, '%') " +
+           "AND n.level = :level " +
+           "ORDER BY n.treePath, n.partnerId")
+    List<OrganizationNode> findChildNodes(
+            @Param("headquartersId") Long headquartersId,
+            @Param("treePath") String treePath,
+            @Param("level") Integer level);
+
+    /**
+     * 협력사 노드 등록/경로 갱신 (동시 등록 시 중복 키는 갱신)
+     */
+    @Modifying
+    @Query(value = "INSERT INTO organization_node (headquarters_id, partner_id, tree_path, level) " +
+                   "VALUES (:headquartersId, :partnerId, :treePath, :level) AS node " +
+                   "ON DUPLICATE KEY UPDATE tree_path = node.tree_path, level = node.level",
+           nativeQuery = true)
+    int upsertNode(
+            @Param("headquartersId") Long headquartersId,
+            @Param("partnerId") Long partnerId,
+            @Param("treePath") String treePath,
+            @Param("level") Integer level);
+
+    /**
+     * 본사 단위 노드 삭제 (재구성용)
+     */
+    @Modifying
+    @Query("DELETE FROM OrganizationNode n WHERE n.headquartersId = :headquartersId")
+    int deleteByHeadquartersId(@Param("headquartersId") Long headquartersId);
+}
@@ -0,0 +1,43 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.ReportingPeriodClose;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * ReportingPeriodClose 엔티티의 데이터베이스 접근 레포지토리
+ */
+@Repository
+public interface ReportingPeriodCloseRepository extends JpaRepository<ReportingPeriodClose, Long> {
+
+    /**
+     * 기간 마감 기록 잠금 조회 (배출량 쓰기/마감 검증용, 보고 기간 잠금 보유 중 최신 커밋 상태 확인)
+     * 일관된 읽기(스냅샷)는 잠금 획득 전에 시작된 시점을 볼 수 있어 잠금 읽기로 조회
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    Optional<ReportingPeriodClose> findLockedByHeadquartersIdAndReportingYearAndReportingMonth(
+            Long headquartersId, Integer reportingYear, Integer reportingMonth);
+
+    /**
+     * 연도별 마감 이력 조회
+     */
+    List<ReportingPeriodClose> findByHeadquartersIdAndReportingYearOrderByReportingMonthAsc(
+            Long headquartersId, Integer reportingYear);
+
+    /**
+     * 연도별 마감된 월 목록 조회
+     */
+    @Query("SELECT c.reportingMonth FROM ReportingPeriodClose c " +
+           "WHERE c.headquartersId = :headquartersId " +
+           "AND c.reportingYear = :year")
+    List<Integer> findClosedMonths(
+            @Param("headquartersId") Long headquartersId,
+            @Param("year") Integer year);
+}
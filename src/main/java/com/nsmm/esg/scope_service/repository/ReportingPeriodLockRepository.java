@@ -0,0 +1,29 @@
+package com.nsmm.esg.scope_service.repository;
+
+import com.nsmm.esg.scope_service.entity.ReportingPeriodLock;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+/**
+ * ReportingPeriodLock 엔티티의 데이터베이스 접근 레포지토리
+ */
+@Repository
+public interface ReportingPeriodLockRepository extends JpaRepository<ReportingPeriodLock, Long> {
+
+    /**
+     * 보고 기간 잠금 행 배타 잠금 (없으면 생성)
+     * INSERT ... ON DUPLICATE KEY UPDATE는 중복 키에 처음부터 배타 잠금을 걸어
+     * SELECT 후 잠금 상향(S -> X)으로 인한 교착 없이 트랜잭션 종료까지 잠금 유지
+     */
+    @Modifying
+    @Query(value = "INSERT INTO reporting_period_lock (headquarters_id, reporting_period, locked_at) " +
+                   "VALUES (:headquartersId, :reportingPeriod, NOW()) AS l " +
+                   "ON DUPLICATE KEY UPDATE locked_at = l.locked_at",
+           nativeQuery = true)
+    int acquire(
+            @Param("headquartersId") Long headquartersId,
+            @Param("reportingPeriod") Integer reportingPeriod);
+}
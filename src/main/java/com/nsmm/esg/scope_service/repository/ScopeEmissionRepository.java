@@ -1,14 +1,32 @@
 package com.nsmm.esg.scope_service.repository;
 
+import com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary;
 import com.nsmm.esg.scope_service.entity.ScopeEmission;
 import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.projection.CategoryEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.CategoryMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.MappedMaterialMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.MonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.PartnerMonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryYearlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
+import com.nsmm.esg.scope_service.repository.projection.SpecialAggregationSummaryProjection;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * ScopeEmission 엔티티의 데이터베이스 접근 레포지토리
@@ -23,241 +41,376 @@ import java.util.List;
 @Repository
 public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Long> {
 
-        // 본사 본인 데이터만 조회 (협력사 데이터 제외)
+        /**
+         * 배출량 목록 프로젝션(ScopeEmissionListProjection) 공통 SELECT 절 (자재코드 매핑 LEFT JOIN 포함)
+         * 키셋 페이지 조회 / 내보내기 스트리밍 쿼리가 WHERE 절만 달리하여 공유
+         */
+        String EMISSION_LIST_SELECT =
+                "SELECT s.id AS id, s.scopeType AS scopeType, " +
+                "s.scope1CategoryNumber AS scope1CategoryNumber, s.scope1CategoryName AS scope1CategoryName, " +
+                "s.scope1CategoryGroup AS scope1CategoryGroup, " +
+                "s.scope2CategoryNumber AS scope2CategoryNumber, s.scope2CategoryName AS scope2CategoryName, " +
+                "s.scope3CategoryNumber AS scope3CategoryNumber, s.scope3CategoryName AS scope3CategoryName, " +
+                "s.materialAssignment.id AS materialAssignmentId, m.id AS materialMappingId, " +
+                "m.upstreamMaterialCode AS upstreamMaterialCode, m.internalMaterialCode AS internalMaterialCode, " +
+                "m.materialName AS materialName, m.upstreamPartnerId AS upstreamPartnerId, " +
+                "s.majorCategory AS majorCategory, s.subcategory AS subcategory, s.rawMaterial AS rawMaterial, " +
+                "s.activityAmount AS activityAmount, s.unit AS unit, s.emissionFactor AS emissionFactor, " +
+                "s.totalEmission AS totalEmission, s.inputType AS inputType, " +
+                "s.hasMaterialMapping AS hasMaterialMapping, s.factoryEnabled AS factoryEnabled, " +
+                "s.reportingYear AS reportingYear, s.reportingMonth AS reportingMonth, s.reportingPeriod AS reportingPeriod, " +
+                "s.createdAt AS createdAt, s.updatedAt AS updatedAt " +
+                "FROM ScopeEmission s LEFT JOIN s.materialMapping m ";
+
+        /**
+         * 특수 집계 버킷 SELECT 항목 (Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5)
+         */
+        String SPECIAL_AGGREGATION_BUCKETS =
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber IN (4, 5, 6) THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber = 8 THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 1 THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 2 THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 4 THEN s.totalEmission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 5 THEN s.totalEmission ELSE 0 END), 0) ";
+
+        /**
+         * 협력사 본인 + treePath 하위 협력사 행 조건 (treePath가 NULL이면 본인 행만)
+         */
+        String PARTNER_SUBTREE_CONDITION =
+                "AND (s.partnerId = :partnerId " +
+                "OR (s.partnerId IS NOT NULL AND s.treePath LIKE CONCAT(:treePath, '%') AND s.treePath <> :treePath)) ";
+
+        // 본사 본인 데이터만 조회 (협력사 데이터 제외) - 자재코드 매핑 함께 로딩
+        @EntityGraph(attributePaths = {"materialMapping"})
         List<ScopeEmission> findByHeadquartersIdAndPartnerIdIsNullAndScopeType(Long headquartersId, ScopeType scopeType);
         
-        // 특정 협력사 데이터만 조회
+        // 특정 협력사 데이터만 조회 - 자재코드 매핑 함께 로딩
+        @EntityGraph(attributePaths = {"materialMapping"})
         List<ScopeEmission> findByPartnerIdAndScopeType(Long partnerId, ScopeType scopeType);
 
-        // 본사 직접 입력 데이터만 ScopeType/연/월별 총 배출량 합계
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-                        "WHERE s.headquartersId = :headquartersId " +
-                        "AND s.partnerId IS NULL " +
-                        "AND s.scopeType = :scopeType " +
-                        "AND s.reportingYear = :year " +
-                        "AND s.reportingMonth = :month")
-        BigDecimal sumTotalEmissionByScopeTypeAndYearAndMonthForHeadquartersOnly(
-                        @Param("headquartersId") Long headquartersId,
-                        @Param("scopeType") ScopeType scopeType,
-                        @Param("year") Integer year,
-                        @Param("month") Integer month);
-
-
-        // Scope1 카테고리별 연간 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope1CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // ========================================================================
+        // 배출량 목록 키셋 페이지 조회 쿼리 (Keyset Pagination)
+        // ========================================================================
+        // 정렬: 보고 기간(yyyymm = 연/월) 내림차순, ID 내림차순
+        // 커서: 직전 페이지 마지막 행의 (보고 기간, ID) - OFFSET 없이 (본사, 협력사, Scope, 기간) 인덱스 범위 이어 읽기
+
+        // 본사 직접 입력 데이터 페이지 조회
+        @Query(EMISSION_LIST_SELECT +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NULL " +
+               "AND s.scopeType = :scopeType " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "AND (s.reportingPeriod < :cursorPeriod OR (s.reportingPeriod = :cursorPeriod AND s.id < :cursorId)) " +
+               "ORDER BY s.reportingPeriod DESC, s.id DESC")
+        List<ScopeEmissionListProjection> findEmissionPageForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("scopeType") ScopeType scopeType,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod,
+                @Param("cursorPeriod") Integer cursorPeriod,
+                @Param("cursorId") Long cursorId,
+                Pageable pageable);
+
+        // 특정 협력사 데이터 페이지 조회
+        @Query(EMISSION_LIST_SELECT +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.scopeType = :scopeType " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "AND (s.reportingPeriod < :cursorPeriod OR (s.reportingPeriod = :cursorPeriod AND s.id < :cursorId)) " +
+               "ORDER BY s.reportingPeriod DESC, s.id DESC")
+        List<ScopeEmissionListProjection> findEmissionPageForSpecificPartner(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("scopeType") ScopeType scopeType,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod,
+                @Param("cursorPeriod") Integer cursorPeriod,
+                @Param("cursorId") Long cursorId,
+                Pageable pageable);
+
+        // ========================================================================
+        // 배출량 대량 내보내기 스트리밍 쿼리 (Export Streaming)
+        // ========================================================================
+        // 정렬: 보고 기간(yyyymm) 오름차순, ID 오름차순
+        // - 프로젝션 조회이므로 영속성 컨텍스트에 엔티티가 쌓이지 않음
+        // - fetchSize = Integer.MIN_VALUE: MySQL Connector/J 행 단위 스트리밍 (결과 전체를 힙에 적재하지 않음)
+        // - 반환 Stream은 트랜잭션 안에서 소비 후 반드시 close
+
+        // 본사 직접 입력 데이터 내보내기
+        @QueryHints({
+                @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+                @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+                @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+        })
+        @Query(EMISSION_LIST_SELECT +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NULL " +
+               "AND s.scopeType = :scopeType " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "ORDER BY s.reportingPeriod, s.id")
+        Stream<ScopeEmissionListProjection> streamEmissionsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("scopeType") ScopeType scopeType,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 특정 협력사 데이터 내보내기
+        @QueryHints({
+                @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+                @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+                @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false")
+        })
+        @Query(EMISSION_LIST_SELECT +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.scopeType = :scopeType " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "ORDER BY s.reportingPeriod, s.id")
+        Stream<ScopeEmissionListProjection> streamEmissionsForSpecificPartner(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("scopeType") ScopeType scopeType,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // Scope1 카테고리별 기간(yyyymm 범위) 배출량 집계 - 본사 직접 입력 데이터만
+        @Query("SELECT s.scope1CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope1CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope1CategoryNumber " +
                "ORDER BY s.scope1CategoryNumber")
-        List<Object[]> sumScope1EmissionByYearAndCategoryForHeadquartersOnly(
+        List<CategoryEmissionProjection> sumScope1EmissionByPeriodRangeAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
-        // Scope1 카테고리별 연간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope1CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope1 카테고리별 기간(yyyymm 범위) 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope1CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope1CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope1CategoryNumber " +
                "ORDER BY s.scope1CategoryNumber")
-        List<Object[]> sumScope1EmissionByYearAndCategoryForSpecificPartner(
+        List<CategoryEmissionProjection> sumScope1EmissionByPeriodRangeAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope2 카테고리별 연간 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope2CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope2 카테고리별 기간(yyyymm 범위) 배출량 집계 - 본사 직접 입력 데이터만
+        @Query("SELECT s.scope2CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope2CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope2CategoryNumber " +
                "ORDER BY s.scope2CategoryNumber")
-        List<Object[]> sumScope2EmissionByYearAndCategoryForHeadquartersOnly(
+        List<CategoryEmissionProjection> sumScope2EmissionByPeriodRangeAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope2 카테고리별 연간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope2CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope2 카테고리별 기간(yyyymm 범위) 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope2CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope2CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope2CategoryNumber " +
                "ORDER BY s.scope2CategoryNumber")
-        List<Object[]> sumScope2EmissionByYearAndCategoryForSpecificPartner(
+        List<CategoryEmissionProjection> sumScope2EmissionByPeriodRangeAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope3 카테고리별 연간 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope3 카테고리별 기간(yyyymm 범위) 배출량 집계 - 본사 직접 입력 데이터만
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE3' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope3CategoryNumber " +
                "ORDER BY s.scope3CategoryNumber")
-        List<Object[]> sumScope3EmissionByYearAndCategoryForHeadquartersOnly(
+        List<CategoryEmissionProjection> sumScope3EmissionByPeriodRangeAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope3 카테고리별 연간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope3 카테고리별 기간(yyyymm 범위) 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE3' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
                "GROUP BY s.scope3CategoryNumber " +
                "ORDER BY s.scope3CategoryNumber")
-        List<Object[]> sumScope3EmissionByYearAndCategoryForSpecificPartner(
+        List<CategoryEmissionProjection> sumScope3EmissionByPeriodRangeAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
 
-        // Scope1 카테고리별 월간 배출량 집계 (본사 기준 - 본사 직접 입력 데이터만) - 연도의 모든 월
-        @Query("SELECT s.scope1CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope1 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 (본사 기준 - 본사 직접 입력 데이터만)
+        @Query("SELECT s.scope1CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope1CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope1CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope1CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope1EmissionByYearAndMonthAndCategoryForHeadquartersOnly(
+               "GROUP BY s.scope1CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope1CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope1EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope1 카테고리별 월간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope1CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope1 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope1CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope1CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope1CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope1CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope1EmissionByYearAndMonthAndCategoryForSpecificPartner(
+               "GROUP BY s.scope1CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope1CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope1EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
 
-        // Scope2 카테고리별 월간 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope2CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope2 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 - 본사 직접 입력 데이터만
+        @Query("SELECT s.scope2CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope2CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope2CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope2CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope2EmissionByYearAndMonthAndCategoryForHeadquartersOnly(
+               "GROUP BY s.scope2CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope2CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope2EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope2 카테고리별 월간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope2CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope2 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope2CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope2CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope2CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope2CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope2EmissionByYearAndMonthAndCategoryForSpecificPartner(
+               "GROUP BY s.scope2CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope2CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope2EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope3 카테고리별 월간 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope3 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 - 본사 직접 입력 데이터만
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE3' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope3CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope3CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope3EmissionByYearAndMonthAndCategoryForHeadquartersOnly(
+               "GROUP BY s.scope3CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope3CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope3EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
-        // Scope3 카테고리별 월간 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // Scope3 카테고리별 기간(yyyymm 범위) 월별 배출량 집계 - 특정 협력사 데이터만
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
                "AND s.scopeType = 'SCOPE3' " +
-               "AND s.reportingYear = :year " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope3CategoryNumber, s.reportingMonth " +
-               "ORDER BY s.scope3CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope3EmissionByYearAndMonthAndCategoryForSpecificPartner(
+               "GROUP BY s.scope3CategoryNumber, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope3CategoryNumber, s.reportingPeriod")
+        List<CategoryMonthlyEmissionProjection> sumScope3EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
 
 
@@ -265,52 +418,108 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
         // 협력사별 월별 집계 쿼리 (Partner Monthly Aggregation)
         // ========================================================================
 
-        // 협력사별 ScopeType/연/월별 총 배출량 합계
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-                        "WHERE s.headquartersId = :headquartersId " +
-                        "AND s.partnerId = :partnerId " +
-                        "AND s.scopeType = :scopeType " +
-                        "AND s.reportingYear = :year " +
-                        "AND s.reportingMonth = :month")
-        BigDecimal sumTotalEmissionByScopeTypeAndPartnerAndYearAndMonth(
-                        @Param("headquartersId") Long headquartersId,
-                        @Param("partnerId") Long partnerId,
-                        @Param("scopeType") ScopeType scopeType,
-                        @Param("year") Integer year,
-                        @Param("month") Integer month);
-
-        // 협력사별 연/월별 배출량 데이터 건수
-        @Query("SELECT COUNT(s) FROM ScopeEmission s " +
-                        "WHERE s.headquartersId = :headquartersId " +
-                        "AND s.partnerId = :partnerId " +
-                        "AND s.reportingYear = :year " +
-                        "AND s.reportingMonth = :month")
-        Long countEmissionsByPartnerAndYearAndMonth(
-                        @Param("headquartersId") Long headquartersId,
-                        @Param("partnerId") Long partnerId,
-                        @Param("year") Integer year,
-                        @Param("month") Integer month);
-
-        // 본사 연/월별 배출량 데이터 건수
-        @Query("SELECT COUNT(s) FROM ScopeEmission s " +
-                        "WHERE s.headquartersId = :headquartersId " +
-                        "AND s.reportingYear = :year " +
-                        "AND s.reportingMonth = :month")
-        Long countEmissionsByHeadquartersAndYearAndMonth(
-                        @Param("headquartersId") Long headquartersId,
-                        @Param("year") Integer year,
-                        @Param("month") Integer month);
-
-        // 본사 직접 입력 데이터만 연/월별 배출량 데이터 건수
-        @Query("SELECT COUNT(s) FROM ScopeEmission s " +
-                        "WHERE s.headquartersId = :headquartersId " +
-                        "AND s.partnerId IS NULL " +
-                        "AND s.reportingYear = :year " +
-                        "AND s.reportingMonth = :month")
-        Long countEmissionsByHeadquartersOnlyAndYearAndMonth(
-                        @Param("headquartersId") Long headquartersId,
-                        @Param("year") Integer year,
-                        @Param("month") Integer month);
+        // 본사 직접 입력 데이터 기간(yyyymm 범위) 월별 Scope 타입별 배출량 합계/건수 (연간 월별 요약 단일 조회)
+        @Query("SELECT s.reportingMonth AS reportingMonth, s.scopeType AS scopeType, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NULL " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingMonth, s.scopeType")
+        List<MonthlyScopeEmissionProjection> sumMonthlyScopeTotalsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 특정 협력사 기간(yyyymm 범위) 월별 Scope 타입별 배출량 합계/건수 (연간 월별 요약 단일 조회)
+        @Query("SELECT s.reportingMonth AS reportingMonth, s.scopeType AS scopeType, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingMonth, s.scopeType")
+        List<MonthlyScopeEmissionProjection> sumMonthlyScopeTotalsForSpecificPartner(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 여러 협력사 기간(yyyymm 범위) 협력사 × 월 × Scope 타입별 배출량 합계/건수 (협력사 일괄 월별 요약)
+        @Query("SELECT s.partnerId AS partnerId, s.reportingMonth AS reportingMonth, s.scopeType AS scopeType, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IN :partnerIds " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.partnerId, s.reportingMonth, s.scopeType")
+        List<PartnerMonthlyScopeEmissionProjection> sumMonthlyScopeTotalsForPartners(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerIds") Collection<Long> partnerIds,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 본사 직접 입력 데이터 기간(yyyymm 범위) 월 × Scope × 카테고리별 배출량 합계/건수 (대시보드 단일 조회)
+        @Query("SELECT s.reportingMonth AS reportingMonth, s.scopeType AS scopeType, " +
+               "s.scope1CategoryNumber AS scope1CategoryNumber, s.scope2CategoryNumber AS scope2CategoryNumber, " +
+               "s.scope3CategoryNumber AS scope3CategoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NULL " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingMonth, s.scopeType, s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber")
+        List<ScopeCategoryMonthlyEmissionProjection> sumMonthlyScopeCategoryTotalsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 특정 협력사 기간(yyyymm 범위) 월 × Scope × 카테고리별 배출량 합계/건수 (대시보드 단일 조회)
+        @Query("SELECT s.reportingMonth AS reportingMonth, s.scopeType AS scopeType, " +
+               "s.scope1CategoryNumber AS scope1CategoryNumber, s.scope2CategoryNumber AS scope2CategoryNumber, " +
+               "s.scope3CategoryNumber AS scope3CategoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingMonth, s.scopeType, s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber")
+        List<ScopeCategoryMonthlyEmissionProjection> sumMonthlyScopeCategoryTotalsForSpecificPartner(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 본사 직접 입력 데이터 기간(yyyymm 범위) 연도 × Scope × 카테고리별 배출량 합계/건수 (다년 추이 단일 조회)
+        @Query("SELECT s.reportingYear AS reportingYear, s.scopeType AS scopeType, " +
+               "s.scope1CategoryNumber AS scope1CategoryNumber, s.scope2CategoryNumber AS scope2CategoryNumber, " +
+               "s.scope3CategoryNumber AS scope3CategoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NULL " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingYear, s.scopeType, s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber")
+        List<ScopeCategoryYearlyEmissionProjection> sumYearlyScopeCategoryTotalsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 특정 협력사 기간(yyyymm 범위) 연도 × Scope × 카테고리별 배출량 합계/건수 (다년 추이 단일 조회)
+        @Query("SELECT s.reportingYear AS reportingYear, s.scopeType AS scopeType, " +
+               "s.scope1CategoryNumber AS scope1CategoryNumber, s.scope2CategoryNumber AS scope2CategoryNumber, " +
+               "s.scope3CategoryNumber AS scope3CategoryNumber, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, COUNT(s) AS recordCount " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingYear, s.scopeType, s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber")
+        List<ScopeCategoryYearlyEmissionProjection> sumYearlyScopeCategoryTotalsForSpecificPartner(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerId") Long partnerId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
         // ========================================================================
         // Scope 3 특수 집계용 그룹별/공장설비별 월별 집계 쿼리
@@ -329,20 +538,6 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope1 이동연소 그룹 월별 집계 (특정 협력사 - 카테고리 4,5,6번)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.scope1CategoryNumber IN (4, 5, 6) " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope1MobileCombustionEmissionsByYearAndMonthForPartner(
-                @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
-
         // Scope1 폐수처리 월별 집계 (본사 - 카테고리 8번)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
@@ -356,20 +551,6 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope1 폐수처리 월별 집계 (특정 협력사 - 카테고리 8번)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.scope1CategoryNumber = 8 " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForPartner(
-                @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
-
         // Scope1 공장설비 월별 집계 (본사 - factoryEnabled = true)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
@@ -383,20 +564,6 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope1 공장설비 월별 집계 (특정 협력사 - factoryEnabled = true)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.factoryEnabled = true " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope1FactoryEmissionsByYearAndMonthForPartner(
-                @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
-
         // Scope2 공장설비 월별 집계 (본사 - factoryEnabled = true)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
@@ -410,20 +577,6 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope2 공장설비 월별 집계 (특정 협력사 - factoryEnabled = true)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE2' " +
-               "AND s.factoryEnabled = true " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope2FactoryEmissionsByYearAndMonthForPartner(
-                @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
-
         // Scope3 특정 카테고리 월별 집계 (본사)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
@@ -438,81 +591,115 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope3 특정 카테고리 월별 집계 (특정 협력사)
+        // Scope1 전체 월별 집계 (본사)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE3' " +
-               "AND s.scope3CategoryNumber = :categoryNumber " +
+               "AND s.partnerId IS NULL " +
+               "AND s.scopeType = 'SCOPE1' " +
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month")
-        BigDecimal sumScope3CategoryEmissionsByYearAndMonthForPartner(
+        BigDecimal sumScope1TotalEmissionsByYearAndMonthForHeadquarters(
                 @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("categoryNumber") Integer categoryNumber,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope1 전체 월별 집계 (본사)
+        // Scope2 전체 월별 집계 (본사)
         @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE1' " +
+               "AND s.scopeType = 'SCOPE2' " +
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month")
-        BigDecimal sumScope1TotalEmissionsByYearAndMonthForHeadquarters(
+        BigDecimal sumScope2TotalEmissionsByYearAndMonthForHeadquarters(
                 @Param("headquartersId") Long headquartersId,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // Scope1 전체 월별 집계 (특정 협력사)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
+        // 본사 하위 협력사별 계층 경로 목록 조회 (조직 계층 재구성 / 클로저 미사용 시 조직 조회용)
+        @Query("SELECT DISTINCT s.partnerId, s.treePath FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NOT NULL")
+        List<Object[]> findDistinctPartnerTreePaths(
+                @Param("headquartersId") Long headquartersId);
+
+        // 경로 하위 협력사별 계층 경로 목록 조회 (클로저 미사용 시 직속 하위 조직 조회용, 경로 자신 제외)
+        @Query("SELECT DISTINCT s.partnerId, s.treePath FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NOT NULL " +
+               "AND s.treePath LIKE CONCAT(:parentTreePath, '%') " +
+               "AND s.treePath <> :parentTreePath")
+        List<Object[]> findDistinctPartnerTreePathsUnder(
+                @Param("headquartersId") Long headquartersId,
+                @Param("parentTreePath") String parentTreePath);
+
+        // 지정 협력사별 계층 경로 조회 (클로저 미사용 시 협력사 일괄 조회 접근 검증용)
+        @Query("SELECT DISTINCT s.partnerId, s.treePath FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IN :partnerIds")
+        List<Object[]> findDistinctPartnerTreePathsByPartnerIds(
+                @Param("headquartersId") Long headquartersId,
+                @Param("partnerIds") Collection<Long> partnerIds);
+
+        // 경로 목록에 해당하는 협력사 ID 조회 (클로저 미사용 시 상위 조직 조회용)
+        @Query("SELECT DISTINCT s.partnerId FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId IS NOT NULL " +
+               "AND s.treePath IN :treePaths")
+        List<Long> findDistinctPartnerIdsByTreePaths(
+                @Param("headquartersId") Long headquartersId,
+                @Param("treePaths") Collection<String> treePaths);
+
+        // 연간 특수 집계 버킷을 조직(협력사, 본사는 NULL) × 월 단위로 한 번에 조회 (본사 - 본사 직접 입력 + 전체 협력사)
+        // 반환: partnerId, reportingMonth, Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5
+        @Query("SELECT s.partnerId, s.reportingMonth, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
                "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope1TotalEmissionsByYearAndMonthForPartner(
+               "GROUP BY s.partnerId, s.reportingMonth")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerAndMonth(
                 @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
+                @Param("year") Integer year);
 
-        // Scope2 전체 월별 집계 (본사)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
+        // 연간 특수 집계 버킷을 조직 × 월 단위로 조회 (협력사 - 본인 + treePath 하위 협력사 행만)
+        @Query("SELECT s.partnerId, s.reportingMonth, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE2' " +
                "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope2TotalEmissionsByYearAndMonthForHeadquarters(
+               PARTNER_SUBTREE_CONDITION +
+               "GROUP BY s.partnerId, s.reportingMonth")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerAndMonthForSubtree(
                 @Param("headquartersId") Long headquartersId,
                 @Param("year") Integer year,
-                @Param("month") Integer month);
+                @Param("partnerId") Long partnerId,
+                @Param("treePath") String treePath);
 
-        // Scope2 전체 월별 집계 (특정 협력사)
-        @Query("SELECT COALESCE(SUM(s.totalEmission), 0) FROM ScopeEmission s " +
+        // 특정 월의 특수 집계 버킷을 조직(협력사, 본사는 NULL) 단위로 한 번에 조회 (본사 - 본사 직접 입력 + 전체 협력사)
+        // 반환: partnerId, Scope1 전체, 이동연소, 공장설비, 폐수처리, Scope2 전체, Scope2 공장설비, Scope3 Cat.1, Cat.2, Cat.4, Cat.5
+        @Query("SELECT s.partnerId, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE2' " +
                "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month")
-        BigDecimal sumScope2TotalEmissionsByYearAndMonthForPartner(
+               "AND s.reportingMonth = :month " +
+               "GROUP BY s.partnerId")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerForMonth(
                 @Param("headquartersId") Long headquartersId,
-                @Param("partnerId") Long partnerId,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-
-        // 전체 하위 조직들 파트너 ID 목록 조회 (모든 하위 레벨 포함)
-        @Query("SELECT DISTINCT s.partnerId FROM ScopeEmission s " +
+        // 특정 월의 특수 집계 버킷을 조직 단위로 조회 (협력사 - 본인 + treePath 하위 협력사 행만)
+        @Query("SELECT s.partnerId, " + SPECIAL_AGGREGATION_BUCKETS +
+               "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NOT NULL " +
-               "AND s.treePath LIKE CONCAT(:parentTreePath, '%') " +
-               "AND s.treePath != :parentTreePath")
-        List<Long> findAllChildPartnerIds(
+               "AND s.reportingYear = :year " +
+               "AND s.reportingMonth = :month " +
+               PARTNER_SUBTREE_CONDITION +
+               "GROUP BY s.partnerId")
+        List<Object[]> sumSpecialAggregationBucketsByPartnerForMonthForSubtree(
                 @Param("headquartersId") Long headquartersId,
-                @Param("parentTreePath") String parentTreePath);
+                @Param("year") Integer year,
+                @Param("month") Integer month,
+                @Param("partnerId") Long partnerId,
+                @Param("treePath") String treePath);
 
 
         // ========================================================================
@@ -520,10 +707,11 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
         // ========================================================================
 
         // Scope3 카테고리별 특정 월 배출량 집계 - 본사 직접 입력 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
@@ -531,18 +719,19 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope3CategoryNumber, s.reportingMonth " +
+               "GROUP BY s.scope3CategoryNumber, s.reportingPeriod, s.reportingMonth " +
                "ORDER BY s.scope3CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope3EmissionByYearAndSpecificMonthAndCategoryForHeadquartersOnly(
+        List<CategoryMonthlyEmissionProjection> sumScope3EmissionByYearAndSpecificMonthAndCategoryForHeadquartersOnly(
                 @Param("headquartersId") Long headquartersId,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
         // Scope3 카테고리별 특정 월 배출량 집계 - 특정 협력사 데이터만
-        @Query("SELECT s.scope3CategoryNumber, " +
-               "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        @Query("SELECT s.scope3CategoryNumber AS categoryNumber, " +
+               "s.reportingPeriod AS reportingPeriod, " +
+               "s.reportingMonth AS reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
@@ -550,9 +739,9 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month " +
                "AND s.scope3CategoryNumber IS NOT NULL " +
-               "GROUP BY s.scope3CategoryNumber, s.reportingMonth " +
+               "GROUP BY s.scope3CategoryNumber, s.reportingPeriod, s.reportingMonth " +
                "ORDER BY s.scope3CategoryNumber, s.reportingMonth")
-        List<Object[]> sumScope3EmissionByYearAndSpecificMonthAndCategoryForSpecificPartner(
+        List<CategoryMonthlyEmissionProjection> sumScope3EmissionByYearAndSpecificMonthAndCategoryForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
                 @Param("year") Integer year,
@@ -562,223 +751,224 @@ public interface ScopeEmissionRepository extends JpaRepository<ScopeEmission, Lo
         // 레벨별 맵핑된 자재코드 조회 쿼리 (Level-based Mapped Material Aggregation)
         // ========================================================================
 
-        // 특정 레벨의 맵핑된 자재코드별 Scope 1+2 통합 배출량 집계
-        @Query("SELECT mm.internalMaterialCode, " +
-               "mm.materialName, " +
-               "mm.upstreamMaterialCode, " +
-               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' THEN s.totalEmission ELSE 0 END), 0), " +
-               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' THEN s.totalEmission ELSE 0 END), 0), " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+        // 특정 레벨의 맵핑된 자재코드별 월별 Scope 1+2 통합 배출량 집계 (기간(yyyymm 범위) 단일 조회)
+        @Query("SELECT s.reportingMonth AS reportingMonth, " +
+               "mm.internalMaterialCode AS internalMaterialCode, " +
+               "mm.materialName AS materialName, " +
+               "mm.upstreamMaterialCode AS upstreamMaterialCode, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' THEN s.totalEmission ELSE 0 END), 0) AS scope1Emission, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' THEN s.totalEmission ELSE 0 END), 0) AS scope2Emission, " +
+               "COALESCE(SUM(s.totalEmission), 0) AS totalEmission, " +
+               "COUNT(s) AS recordCount " +
                "FROM ScopeEmission s " +
                "JOIN s.materialMapping mm " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND mm.partnerLevel = :targetLevel " +
                "AND s.hasMaterialMapping = true " +
-               "AND s.materialMapping IS NOT NULL " +
                "AND s.scopeType IN ('SCOPE1', 'SCOPE2') " +
-               "AND s.reportingYear = :year " +
-               "AND (:month IS NULL OR s.reportingMonth = :month) " +
-               "GROUP BY mm.internalMaterialCode, mm.materialName, mm.upstreamMaterialCode " +
-               "ORDER BY mm.internalMaterialCode")
-        List<Object[]> findMappedMaterialEmissionsByLevel(
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.reportingMonth, mm.internalMaterialCode, mm.materialName, mm.upstreamMaterialCode " +
+               "ORDER BY mm.internalMaterialCode, s.reportingMonth")
+        List<MappedMaterialMonthlyEmissionProjection> sumMappedMaterialEmissionsByLevelAndMonth(
                 @Param("headquartersId") Long headquartersId,
                 @Param("targetLevel") Integer targetLevel,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
         // ========================================================================
         // 통합 특수 집계 쿼리 (성능 최적화용)
         // ========================================================================
 
         // 모든 특수 집계를 한 번에 조회하는 통합 쿼리 - 본사용
+        // (연도, 월) 범위를 한 번만 스캔하여 모든 버킷을 조건부 집계 - 집계 함수만 사용하므로 항상 1행 반환
         @Query("SELECT " +
-               "'SCOPE1_MOBILE' as aggregationType, " +
-               "COALESCE(SUM(CASE WHEN s.scope1CategoryNumber IN (4, 5, 6) THEN s.totalEmission ELSE 0 END), 0) as totalEmission, " +
-               "COUNT(CASE WHEN s.scope1CategoryNumber IN (4, 5, 6) THEN 1 ELSE NULL END) as recordCount " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_WASTEWATER', " +
-               "COALESCE(SUM(CASE WHEN s.scope1CategoryNumber = 8 THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.scope1CategoryNumber = 8 THEN 1 ELSE NULL END) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_FACTORY', " +
-               "COALESCE(SUM(CASE WHEN s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.factoryEnabled = true THEN 1 ELSE NULL END) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE2_FACTORY', " +
-               "COALESCE(SUM(CASE WHEN s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.factoryEnabled = true THEN 1 ELSE NULL END) " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' THEN s.totalEmission ELSE 0 END), 0) AS scope1Total, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' THEN 1 ELSE NULL END) AS scope1TotalCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber IN (4, 5, 6) THEN s.totalEmission ELSE 0 END), 0) AS scope1MobileCombustion, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber IN (4, 5, 6) THEN 1 ELSE NULL END) AS scope1MobileCombustionCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber = 8 THEN s.totalEmission ELSE 0 END), 0) AS scope1WasteWater, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber = 8 THEN 1 ELSE NULL END) AS scope1WasteWaterCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0) AS scope1Factory, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.factoryEnabled = true THEN 1 ELSE NULL END) AS scope1FactoryCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' THEN s.totalEmission ELSE 0 END), 0) AS scope2Total, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE2' THEN 1 ELSE NULL END) AS scope2TotalCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0) AS scope2Factory, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE2' AND s.factoryEnabled = true THEN 1 ELSE NULL END) AS scope2FactoryCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 1 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category1, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 1 THEN 1 ELSE NULL END) AS scope3Category1Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 2 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category2, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 2 THEN 1 ELSE NULL END) AS scope3Category2Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 4 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category4, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 4 THEN 1 ELSE NULL END) AS scope3Category4Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 5 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category5, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 5 THEN 1 ELSE NULL END) AS scope3Category5Count " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_TOTAL', " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE2_TOTAL', " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId IS NULL " +
-               "AND s.scopeType = 'SCOPE2' " +
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month")
-        List<Object[]> getSpecialAggregationSummaryForHeadquarters(
+        SpecialAggregationSummaryProjection getSpecialAggregationSummaryForHeadquarters(
                 @Param("headquartersId") Long headquartersId,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
         // 모든 특수 집계를 한 번에 조회하는 통합 쿼리 - 협력사용
+        // (연도, 월) 범위를 한 번만 스캔하여 모든 버킷을 조건부 집계 - 집계 함수만 사용하므로 항상 1행 반환
         @Query("SELECT " +
-               "'SCOPE1_MOBILE' as aggregationType, " +
-               "COALESCE(SUM(CASE WHEN s.scope1CategoryNumber IN (4, 5, 6) THEN s.totalEmission ELSE 0 END), 0) as totalEmission, " +
-               "COUNT(CASE WHEN s.scope1CategoryNumber IN (4, 5, 6) THEN 1 ELSE NULL END) as recordCount " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_WASTEWATER', " +
-               "COALESCE(SUM(CASE WHEN s.scope1CategoryNumber = 8 THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.scope1CategoryNumber = 8 THEN 1 ELSE NULL END) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_FACTORY', " +
-               "COALESCE(SUM(CASE WHEN s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.factoryEnabled = true THEN 1 ELSE NULL END) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE2_FACTORY', " +
-               "COALESCE(SUM(CASE WHEN s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0), " +
-               "COUNT(CASE WHEN s.factoryEnabled = true THEN 1 ELSE NULL END) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE2' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE1_TOTAL', " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' THEN s.totalEmission ELSE 0 END), 0) AS scope1Total, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' THEN 1 ELSE NULL END) AS scope1TotalCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber IN (4, 5, 6) THEN s.totalEmission ELSE 0 END), 0) AS scope1MobileCombustion, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber IN (4, 5, 6) THEN 1 ELSE NULL END) AS scope1MobileCombustionCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber = 8 THEN s.totalEmission ELSE 0 END), 0) AS scope1WasteWater, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.scope1CategoryNumber = 8 THEN 1 ELSE NULL END) AS scope1WasteWaterCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE1' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0) AS scope1Factory, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE1' AND s.factoryEnabled = true THEN 1 ELSE NULL END) AS scope1FactoryCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' THEN s.totalEmission ELSE 0 END), 0) AS scope2Total, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE2' THEN 1 ELSE NULL END) AS scope2TotalCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE2' AND s.factoryEnabled = true THEN s.totalEmission ELSE 0 END), 0) AS scope2Factory, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE2' AND s.factoryEnabled = true THEN 1 ELSE NULL END) AS scope2FactoryCount, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 1 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category1, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 1 THEN 1 ELSE NULL END) AS scope3Category1Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 2 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category2, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 2 THEN 1 ELSE NULL END) AS scope3Category2Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 4 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category4, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 4 THEN 1 ELSE NULL END) AS scope3Category4Count, " +
+               "COALESCE(SUM(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 5 THEN s.totalEmission ELSE 0 END), 0) AS scope3Category5, " +
+               "COUNT(CASE WHEN s.scopeType = 'SCOPE3' AND s.scope3CategoryNumber = 5 THEN 1 ELSE NULL END) AS scope3Category5Count " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
                "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE1' " +
-               "AND s.reportingYear = :year " +
-               "AND s.reportingMonth = :month " +
-               "UNION ALL " +
-               "SELECT " +
-               "'SCOPE2_TOTAL', " +
-               "COALESCE(SUM(s.totalEmission), 0), " +
-               "COUNT(s) " +
-               "FROM ScopeEmission s " +
-               "WHERE s.headquartersId = :headquartersId " +
-               "AND s.partnerId = :partnerId " +
-               "AND s.scopeType = 'SCOPE2' " +
                "AND s.reportingYear = :year " +
                "AND s.reportingMonth = :month")
-        List<Object[]> getSpecialAggregationSummaryForPartner(
+        SpecialAggregationSummaryProjection getSpecialAggregationSummaryForPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
                 @Param("year") Integer year,
                 @Param("month") Integer month);
 
-        // 모든 카테고리별 집계를 통합 조회 - Scope1,2,3 전체
-        @Query("SELECT " +
+        // ========================================================================
+        // 카테고리별 통합 조회 쿼리 (Category-wise Aggregation)
+        // ========================================================================
+        // 본사/협력사, 단일 월/연도 전체 조합마다 인덱스를 탈 수 있는 조건만 사용
+        // - 협력사 조건: IS NULL(본사) 또는 = :partnerId (OR 결합 조건 제거)
+        // - 기간 조건: reporting_period 범위 (단일 월은 from = to)
+        // - Scope 조건: IN 목록으로 (본사, 협력사, Scope, 기간) 인덱스 범위 스캔 유도
+
+        // 모든 카테고리별 집계를 통합 조회 - Scope1,2,3 전체 (본사 직접 입력 데이터만)
+        @Query("SELECT new com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary(" +
                "s.scopeType, " +
-               "COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber) as categoryNumber, " +
-               "COALESCE(s.scope1CategoryName, s.scope2CategoryName, s.scope3CategoryName) as categoryName, " +
+               "COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), " +
+               "COALESCE(s.scope1CategoryName, s.scope2CategoryName, s.scope3CategoryName), " +
                "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0) as totalEmission, " +
-               "COUNT(s) as recordCount " +
+               "COALESCE(SUM(s.totalEmission), 0), " +
+               "COUNT(s)) " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND (:partnerId IS NULL AND s.partnerId IS NULL OR s.partnerId = :partnerId) " +
-               "AND s.reportingYear = :year " +
-               "AND (:month IS NULL OR s.reportingMonth = :month) " +
+               "AND s.partnerId IS NULL " +
+               "AND s.scopeType IN ('SCOPE1', 'SCOPE2', 'SCOPE3') " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "AND (s.scope1CategoryNumber IS NOT NULL OR s.scope2CategoryNumber IS NOT NULL OR s.scope3CategoryNumber IS NOT NULL) " +
+               "GROUP BY s.scopeType, " +
+               "COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), " +
+               "COALESCE(s.scope1CategoryName, s.scope2CategoryName, s.scope3CategoryName), " +
+               "s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scopeType, COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), s.reportingPeriod")
+        List<CategoryEmissionSummary> getCategoryWiseEmissionsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // 모든 카테고리별 집계를 통합 조회 - Scope1,2,3 전체 (특정 협력사 데이터만)
+        @Query("SELECT new com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary(" +
+               "s.scopeType, " +
+               "COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), " +
+               "COALESCE(s.scope1CategoryName, s.scope2CategoryName, s.scope3CategoryName), " +
+               "s.reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0), " +
+               "COUNT(s)) " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.scopeType IN ('SCOPE1', 'SCOPE2', 'SCOPE3') " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND (s.scope1CategoryNumber IS NOT NULL OR s.scope2CategoryNumber IS NOT NULL OR s.scope3CategoryNumber IS NOT NULL) " +
                "GROUP BY s.scopeType, " +
                "COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), " +
                "COALESCE(s.scope1CategoryName, s.scope2CategoryName, s.scope3CategoryName), " +
-               "s.reportingMonth " +
-               "ORDER BY s.scopeType, categoryNumber, s.reportingMonth")
-        List<Object[]> getCategoryWiseEmissions(
+               "s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scopeType, COALESCE(s.scope1CategoryNumber, s.scope2CategoryNumber, s.scope3CategoryNumber), s.reportingPeriod")
+        List<CategoryEmissionSummary> getCategoryWiseEmissionsForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
 
-        // Scope3 특정 카테고리들 통합 조회 (1~15번 모든 카테고리)
-        @Query("SELECT " +
+        // Scope3 전체 카테고리 통합 조회 (1~15번 모든 카테고리, 본사 직접 입력 데이터만)
+        @Query("SELECT new com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary(" +
+               "s.scopeType, " +
                "s.scope3CategoryNumber, " +
                "s.scope3CategoryName, " +
                "s.reportingMonth, " +
-               "COALESCE(SUM(s.totalEmission), 0) as totalEmission, " +
-               "COUNT(s) as recordCount " +
+               "COALESCE(SUM(s.totalEmission), 0), " +
+               "COUNT(s)) " +
                "FROM ScopeEmission s " +
                "WHERE s.headquartersId = :headquartersId " +
-               "AND (:partnerId IS NULL AND s.partnerId IS NULL OR s.partnerId = :partnerId) " +
+               "AND s.partnerId IS NULL " +
                "AND s.scopeType = 'SCOPE3' " +
-               "AND s.reportingYear = :year " +
-               "AND (:month IS NULL OR s.reportingMonth = :month) " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
                "AND s.scope3CategoryNumber BETWEEN 1 AND 15 " +
-               "GROUP BY s.scope3CategoryNumber, s.scope3CategoryName, s.reportingMonth " +
-               "ORDER BY s.scope3CategoryNumber, s.reportingMonth")
-        List<Object[]> getScope3AllCategoriesEmissions(
+               "GROUP BY s.scopeType, s.scope3CategoryNumber, s.scope3CategoryName, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope3CategoryNumber, s.reportingPeriod")
+        List<CategoryEmissionSummary> getScope3AllCategoriesEmissionsForHeadquartersOnly(
+                @Param("headquartersId") Long headquartersId,
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // Scope3 전체 카테고리 통합 조회 (1~15번 모든 카테고리, 특정 협력사 데이터만)
+        @Query("SELECT new com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary(" +
+               "s.scopeType, " +
+               "s.scope3CategoryNumber, " +
+               "s.scope3CategoryName, " +
+               "s.reportingMonth, " +
+               "COALESCE(SUM(s.totalEmission), 0), " +
+               "COUNT(s)) " +
+               "FROM ScopeEmission s " +
+               "WHERE s.headquartersId = :headquartersId " +
+               "AND s.partnerId = :partnerId " +
+               "AND s.scopeType = 'SCOPE3' " +
+               "AND s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "AND s.scope3CategoryNumber BETWEEN 1 AND 15 " +
+               "GROUP BY s.scopeType, s.scope3CategoryNumber, s.scope3CategoryName, s.reportingPeriod, s.reportingMonth " +
+               "ORDER BY s.scope3CategoryNumber, s.reportingPeriod")
+        List<CategoryEmissionSummary> getScope3AllCategoriesEmissionsForSpecificPartner(
                 @Param("headquartersId") Long headquartersId,
                 @Param("partnerId") Long partnerId,
-                @Param("year") Integer year,
-                @Param("month") Integer month);
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod);
+
+        // ========================================================================
+        // 캐시 워밍업 대상 조회 쿼리 (Cache Warm-up)
+        // ========================================================================
+
+        // 기간 내 배출량 데이터 건수가 많은 본사 순서로 조회 (조회 건수는 pageable로 제한)
+        @Query("SELECT s.headquartersId FROM ScopeEmission s " +
+               "WHERE s.reportingPeriod BETWEEN :fromPeriod AND :toPeriod " +
+               "GROUP BY s.headquartersId " +
+               "ORDER BY COUNT(s) DESC")
+        List<Long> findMostActiveHeadquartersIds(
+                @Param("fromPeriod") Integer fromPeriod,
+                @Param("toPeriod") Integer toPeriod,
+                Pageable pageable);
+
+        // ========================================================================
+        // 보고 기간(yyyymm) 백필 쿼리 (Reporting Period Backfill)
+        // ========================================================================
+
+        // 보고 기간 컬럼이 비어 있는 행 보정 (컬럼 추가 이전 데이터 1회 마이그레이션)
+        @Modifying
+        @Query("UPDATE ScopeEmission s " +
+               "SET s.reportingPeriod = s.reportingYear * 100 + s.reportingMonth " +
+               "WHERE s.reportingPeriod IS NULL")
+        int backfillReportingPeriod();
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,17 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 카테고리별 배출량 합계 프로젝션 (연간 집계 1행)
+ *
+ * 쿼리 별칭: categoryNumber, totalEmission, recordCount
+ */
+public interface CategoryEmissionProjection {
+
+    Integer getCategoryNumber();
+
+    BigDecimal getTotalEmission();
+
+    Long getRecordCount();
+}
@@ -0,0 +1,14 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+/**
+ * 카테고리별 월간 배출량 합계 프로젝션 (카테고리, 월 단위 1행)
+ *
+ * 쿼리 별칭: categoryNumber, reportingPeriod, reportingMonth, totalEmission, recordCount
+ * - reportingPeriod(yyyymm)는 연도를 넘는 구간 조회 시 월 구분용
+ */
+public interface CategoryMonthlyEmissionProjection extends CategoryEmissionProjection {
+
+    Integer getReportingPeriod();
+
+    Integer getReportingMonth();
+}
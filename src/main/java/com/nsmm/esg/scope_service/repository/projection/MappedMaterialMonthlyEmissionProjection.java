@@ -0,0 +1,29 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 맵핑된 자재코드 월별 Scope 1+2 배출량 프로젝션 (월, 자재 단위 1행)
+ *
+ * 쿼리 별칭: reportingMonth, internalMaterialCode, materialName, upstreamMaterialCode,
+ * scope1Emission, scope2Emission, totalEmission, recordCount
+ * - 월별 총합 / 자재별 연간 상세 / 자재 × 월 매트릭스를 한 번의 조회 결과로 계산
+ */
+public interface MappedMaterialMonthlyEmissionProjection {
+
+    Integer getReportingMonth();
+
+    String getInternalMaterialCode();
+
+    String getMaterialName();
+
+    String getUpstreamMaterialCode();
+
+    BigDecimal getScope1Emission();
+
+    BigDecimal getScope2Emission();
+
+    BigDecimal getTotalEmission();
+
+    Long getRecordCount();
+}
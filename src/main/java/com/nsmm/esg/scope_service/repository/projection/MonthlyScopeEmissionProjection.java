@@ -0,0 +1,22 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import com.nsmm.esg.scope_service.enums.ScopeType;
+
+import java.math.BigDecimal;
+
+/**
+ * 월별 Scope 타입별 배출량 합계 프로젝션 (월, Scope 단위 1행)
+ *
+ * 쿼리 별칭: reportingMonth, scopeType, totalEmission, recordCount
+ * - 원본(scope_emission)과 읽기 모델(emission_rollup) 월별 요약 쿼리 공용
+ */
+public interface MonthlyScopeEmissionProjection {
+
+    Integer getReportingMonth();
+
+    ScopeType getScopeType();
+
+    BigDecimal getTotalEmission();
+
+    Long getRecordCount();
+}
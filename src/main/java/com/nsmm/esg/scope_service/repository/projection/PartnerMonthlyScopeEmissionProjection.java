@@ -0,0 +1,12 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+/**
+ * 협력사 × 월 × Scope 배출량 합계 프로젝션 (협력사 일괄 월별 요약 원천 데이터)
+ *
+ * 쿼리 별칭: partnerId, reportingMonth, scopeType, totalEmission, recordCount
+ * - 원본(scope_emission)은 partnerId, 읽기 모델(emission_rollup)은 partnerKey를 partnerId 별칭으로 사용
+ */
+public interface PartnerMonthlyScopeEmissionProjection extends MonthlyScopeEmissionProjection {
+
+    Long getPartnerId();
+}
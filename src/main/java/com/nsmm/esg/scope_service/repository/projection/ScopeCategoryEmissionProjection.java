@@ -0,0 +1,27 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import com.nsmm.esg.scope_service.enums.ScopeType;
+
+import java.math.BigDecimal;
+
+/**
+ * Scope × 카테고리 배출량 합계 프로젝션 공통 항목
+ *
+ * 쿼리 별칭: scopeType, scope1CategoryNumber, scope2CategoryNumber, scope3CategoryNumber, totalEmission, recordCount
+ * - 카테고리 번호는 행의 Scope 타입에 해당하는 컬럼만 값이 있음 (카테고리 미지정 행은 모두 NULL)
+ * - 월 단위 / 연 단위 그룹 집계 결과를 동일한 카테고리 연간 집계 변환에 사용
+ */
+public interface ScopeCategoryEmissionProjection {
+
+    ScopeType getScopeType();
+
+    Integer getScope1CategoryNumber();
+
+    Integer getScope2CategoryNumber();
+
+    Integer getScope3CategoryNumber();
+
+    BigDecimal getTotalEmission();
+
+    Long getRecordCount();
+}
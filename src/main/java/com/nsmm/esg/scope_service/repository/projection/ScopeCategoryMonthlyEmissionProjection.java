@@ -0,0 +1,13 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+/**
+ * 월 × Scope × 카테고리 배출량 합계 프로젝션 (대시보드 연간 집계 원천 데이터)
+ *
+ * 쿼리 별칭: reportingMonth, scopeType, scope1CategoryNumber, scope2CategoryNumber, scope3CategoryNumber,
+ * totalEmission, recordCount
+ * - 카테고리 번호는 행의 Scope 타입에 해당하는 컬럼만 값이 있음 (카테고리 미지정 행은 모두 NULL)
+ * - 월별 요약 / Scope별 카테고리 연간 집계를 한 번의 조회 결과로 계산
+ */
+public interface ScopeCategoryMonthlyEmissionProjection
+        extends MonthlyScopeEmissionProjection, ScopeCategoryEmissionProjection {
+}
@@ -0,0 +1,13 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+/**
+ * 연도 × Scope × 카테고리 배출량 합계 프로젝션 (다년 추이 집계 원천 데이터)
+ *
+ * 쿼리 별칭: reportingYear, scopeType, scope1CategoryNumber, scope2CategoryNumber, scope3CategoryNumber,
+ * totalEmission, recordCount
+ * - 연도 범위 전체를 한 번의 그룹 집계로 조회하여 연도별 / 카테고리별 추이 계산
+ */
+public interface ScopeCategoryYearlyEmissionProjection extends ScopeCategoryEmissionProjection {
+
+    Integer getReportingYear();
+}
@@ -0,0 +1,75 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import com.nsmm.esg.scope_service.enums.InputType;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 배출량 목록 조회 프로젝션 (배출량 + 자재코드 매핑 필드 단일 SELECT)
+ *
+ * 엔티티 로딩 없이 목록 응답에 필요한 컬럼만 조회하여 행마다 자재코드 매핑을 지연 로딩하는 N+1 방지
+ */
+public interface ScopeEmissionListProjection {
+
+    Long getId();
+
+    ScopeType getScopeType();
+
+    Integer getScope1CategoryNumber();
+
+    String getScope1CategoryName();
+
+    String getScope1CategoryGroup();
+
+    Integer getScope2CategoryNumber();
+
+    String getScope2CategoryName();
+
+    Integer getScope3CategoryNumber();
+
+    String getScope3CategoryName();
+
+    Long getMaterialAssignmentId();
+
+    Long getMaterialMappingId();
+
+    String getUpstreamMaterialCode();
+
+    String getInternalMaterialCode();
+
+    String getMaterialName();
+
+    Long getUpstreamPartnerId();
+
+    String getMajorCategory();
+
+    String getSubcategory();
+
+    String getRawMaterial();
+
+    BigDecimal getActivityAmount();
+
+    String getUnit();
+
+    BigDecimal getEmissionFactor();
+
+    BigDecimal getTotalEmission();
+
+    InputType getInputType();
+
+    Boolean getHasMaterialMapping();
+
+    Boolean getFactoryEnabled();
+
+    Integer getReportingYear();
+
+    Integer getReportingMonth();
+
+    Integer getReportingPeriod();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,54 @@
+package com.nsmm.esg.scope_service.repository.projection;
+
+import java.math.BigDecimal;
+
+/**
+ * 특수 집계 요약 프로젝션 (조건부 집계 단일 스캔 결과 1행)
+ *
+ * 본사/협력사의 (연도, 월) 범위를 한 번만 읽어 SUM(CASE ...) 컬럼으로 모든 버킷 계산
+ * - Scope1: 전체, 이동연소(카테고리 4,5,6), 폐수처리(카테고리 8), 공장설비
+ * - Scope2: 전체, 공장설비
+ * - Scope3: 카테고리 1, 2, 4, 5 (특수 집계 대상)
+ */
+public interface SpecialAggregationSummaryProjection {
+
+    BigDecimal getScope1Total();
+
+    Long getScope1TotalCount();
+
+    BigDecimal getScope1MobileCombustion();
+
+    Long getScope1MobileCombustionCount();
+
+    BigDecimal getScope1WasteWater();
+
+    Long getScope1WasteWaterCount();
+
+    BigDecimal getScope1Factory();
+
+    Long getScope1FactoryCount();
+
+    BigDecimal getScope2Total();
+
+    Long getScope2TotalCount();
+
+    BigDecimal getScope2Factory();
+
+    Long getScope2FactoryCount();
+
+    BigDecimal getScope3Category1();
+
+    Long getScope3Category1Count();
+
+    BigDecimal getScope3Category2();
+
+    Long getScope3Category2Count();
+
+    BigDecimal getScope3Category4();
+
+    Long getScope3Category4Count();
+
+    BigDecimal getScope3Category5();
+
+    Long getScope3Category5Count();
+}
@@ -0,0 +1,121 @@
+package com.nsmm.esg.scope_service.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * 동일 집계 요청 단일 실행(single-flight) 병합기
+ *
+ * 같은 키로 동시에 들어온 요청은 먼저 도착한 요청(리더)의 CompletableFuture 하나를 공유
+ * - 리더만 실제 계산, 나머지는 결과(또는 예외)를 그대로 받음
+ * - 계산이 끝나면 진행 중 목록에서 제거 (이후 요청은 캐시 또는 새 계산 사용)
+ * - 키는 EmissionCacheKeys 규칙 사용 (@Cacheable 메서드는 sync = true로 캐시 키 단위 단일 계산)
+ * 인스턴스 로컬 병합이며, 인스턴스 간 중복 계산은 2단계 캐시(L2)로 완화
+ */
+@Slf4j
+@Component
+public class AggregationRequestCoalescer {
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    /**
+     * 키 단위 단일 실행 - 진행 중인 같은 키 요청이 있으면 그 결과를 공유
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String key, Supplier<T> loader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, created);
+        if (existing != null) {
+            log.debug("진행 중인 집계 요청 결과 공유 - 키: {}", key);
+            return (T) join(existing);
+        }
+
+        try {
+            T value = loader.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    /**
+     * 캐시 연동 단일 실행 - 캐시 적중 시 바로 반환, 미적중 시 리더만 계산 후 캐시에 저장
+     */
+    public <T> T execute(Cache cache, String key, Supplier<T> loader) {
+        return execute(cache, key, loader, value -> true);
+    }
+
+    /**
+     * 캐시 연동 단일 실행 - 캐시 값이 유효 조건을 만족하지 않으면 미적중으로 보고 다시 계산
+     * (예: 당해 연도 월별 요약은 현재 월까지의 행 수가 맞을 때만 재사용)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Cache cache, String key, Supplier<T> loader, Predicate<T> isValid) {
+        if (cache == null) {
+            return execute(key, loader);
+        }
+        Cache.ValueWrapper cached = cache.get(key);
+        if (cached != null && isValid.test((T) cached.get())) {
+            return (T) cached.get();
+        }
+        return execute(cache.getName() + ":" + key, () -> {
+            // 직전 리더가 계산을 마치고 저장한 경우 재사용
+            Cache.ValueWrapper stored = cache.get(key);
+            if (stored != null && isValid.test((T) stored.get())) {
+                return (T) stored.get();
+            }
+            T value = loader.get();
+            cache.put(key, value);
+            return value;
+        });
+    }
+
+    /**
+     * 진행 중인 요청 수 (모니터링용)
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    /**
+     * 진행 중인 요청의 결과를 기다리는 후속 요청 수 (모니터링용)
+     */
+    public int waitingCount() {
+        return waiting.get();
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    private Object join(CompletableFuture<Object> future) {
+        waiting.incrementAndGet();
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new RuntimeException("집계 요청 처리 중 오류가 발생했습니다", cause);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scope_service.entity.AggregationSnapshot;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.repository.AggregationSnapshotRepository;
+import com.nsmm.esg.scope_service.repository.ReportingPeriodCloseRepository;
+import com.nsmm.esg.scope_service.repository.ReportingPeriodLockRepository;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 마감 기간 집계 스냅샷 서비스
+ *
+ * 주요 기능:
+ * - 보고 기간 마감 여부 확인 (배출량 쓰기 거부 검증)
+ * - 마감된 기간의 집계 결과를 스냅샷에서 조회 (원본 재집계 생략)
+ * - 마감 처리 중 스냅샷 저장
+ *
+ * 마감 월 목록은 본사/연도 단위로 메모리에 보관 (마감은 취소되지 않으므로 목록은 늘어나기만 함)
+ * - 다른 인스턴스에서 마감된 월은 최대 5분 후 반영되며, 그 전까지는 원본 재집계로 동일 결과 반환
+ * - 쓰기 거부 검증은 항상 데이터베이스 기준
+ *
+ * 배출량 쓰기와 마감은 본사/보고 기간 잠금 행(reporting_period_lock)을 먼저 배타 잠금하여 직렬화
+ * - 마감 검증을 통과한 쓰기는 마감보다 먼저 커밋되어 스냅샷에 포함되고, 이후 쓰기는 거부됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AggregationSnapshotService {
+
+    private static final long CLOSED_MONTHS_REFRESH_MILLIS = 5 * 60 * 1000L; // 5분
+
+    private final ReportingPeriodCloseRepository reportingPeriodCloseRepository;
+    private final ReportingPeriodLockRepository reportingPeriodLockRepository;
+    private final AggregationSnapshotRepository aggregationSnapshotRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, ClosedMonths> closedMonthsByYear = new ConcurrentHashMap<>();
+
+    // ========================================================================
+    // 마감 여부 확인 메서드
+    // ========================================================================
+
+    /**
+     * 보고 기간 잠금 후 마감 여부 확인 - 쓰기/마감 트랜잭션 내에서 호출
+     * 잠금은 트랜잭션 종료까지 유지되므로 확인 결과가 커밋 시점까지 유효
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean lockAndCheckClosed(Long headquartersId, Integer year, Integer month) {
+        reportingPeriodLockRepository.acquire(headquartersId, ReportingPeriodUtil.of(year, month));
+        return reportingPeriodCloseRepository
+                .findLockedByHeadquartersIdAndReportingYearAndReportingMonth(headquartersId, year, month)
+                .isPresent();
+    }
+
+    /**
+     * 마감된 보고 기간 쓰기 거부 - 배출량 쓰기 트랜잭션 내에서 호출 (기간 잠금 유지)
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void validatePeriodOpen(Long headquartersId, Integer year, Integer month) {
+        if (headquartersId == null || year == null || month == null) {
+            return;
+        }
+        if (lockAndCheckClosed(headquartersId, year, month)) {
+            throw new IllegalArgumentException(
+                    String.format("마감된 보고 기간의 배출량은 변경할 수 없습니다 (%d년 %d월)", year, month));
+        }
+    }
+
+    /**
+     * 두 보고 기간 쓰기 거부 (수정 시 기존/변경 기간) - 교착 방지를 위해 이른 기간부터 잠금
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void validatePeriodsOpen(Long headquartersId, Integer year, Integer month,
+                                    Integer otherYear, Integer otherMonth) {
+        if (headquartersId == null || year == null || month == null
+                || otherYear == null || otherMonth == null) {
+            validatePeriodOpen(headquartersId, year, month);
+            validatePeriodOpen(headquartersId, otherYear, otherMonth);
+            return;
+        }
+        int period = ReportingPeriodUtil.of(year, month);
+        int otherPeriod = ReportingPeriodUtil.of(otherYear, otherMonth);
+        if (period == otherPeriod) {
+            validatePeriodOpen(headquartersId, year, month);
+        } else if (period < otherPeriod) {
+            validatePeriodOpen(headquartersId, year, month);
+            validatePeriodOpen(headquartersId, otherYear, otherMonth);
+        } else {
+            validatePeriodOpen(headquartersId, otherYear, otherMonth);
+            validatePeriodOpen(headquartersId, year, month);
+        }
+    }
+
+    /**
+     * 연도별 마감된 월 목록 (메모리 보관, 5분 주기 재조회)
+     */
+    public Set<Integer> getClosedMonths(Long headquartersId, Integer year) {
+        String key = headquartersId + ":" + year;
+        long now = System.currentTimeMillis();
+        ClosedMonths cached = closedMonthsByYear.get(key);
+        if (cached != null && now - cached.getLoadedAt() < CLOSED_MONTHS_REFRESH_MILLIS) {
+            return cached.getMonths();
+        }
+        Set<Integer> months = Set.copyOf(reportingPeriodCloseRepository.findClosedMonths(headquartersId, year));
+        closedMonthsByYear.put(key, new ClosedMonths(months, now));
+        return months;
+    }
+
+    /**
+     * 마감 완료 후 마감 월 목록 재조회 유도
+     */
+    public void evictClosedMonths(Long headquartersId, Integer year) {
+        closedMonthsByYear.remove(headquartersId + ":" + year);
+    }
+
+    // ========================================================================
+    // 스냅샷 조회/저장 메서드
+    // ========================================================================
+
+    /**
+     * 마감된 기간의 스냅샷 조회 (마감되지 않았거나 스냅샷이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findSnapshot(Long headquartersId, Integer year, Integer month,
+                                        SnapshotType snapshotType, String subjectKey, Class<T> payloadType) {
+        return findSnapshot(headquartersId, year, month, snapshotType, subjectKey,
+                objectMapper.getTypeFactory().constructType(payloadType));
+    }
+
+    /**
+     * 마감된 기간의 스냅샷 조회 - 제네릭 타입 (List 등)
+     */
+    @Transactional(readOnly = true)
+    public <T> Optional<T> findSnapshot(Long headquartersId, Integer year, Integer month,
+                                        SnapshotType snapshotType, String subjectKey, TypeReference<T> payloadType) {
+        return findSnapshot(headquartersId, year, month, snapshotType, subjectKey,
+                objectMapper.getTypeFactory().constructType(payloadType));
+    }
+
+    /**
+     * 스냅샷 저장 - 마감 트랜잭션 내에서 호출
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void saveSnapshot(Long headquartersId, Integer year, Integer month,
+                             SnapshotType snapshotType, String subjectKey, Object payload) {
+        try {
+            aggregationSnapshotRepository.save(AggregationSnapshot.builder()
+                    .headquartersId(headquartersId)
+                    .reportingYear(year)
+                    .reportingMonth(month)
+                    .snapshotType(snapshotType)
+                    .subjectKey(subjectKey)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .createdAt(LocalDateTime.now())
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("집계 스냅샷 직렬화 중 오류가 발생했습니다: " + snapshotType, e);
+        }
+    }
+
+    /**
+     * 조직 스냅샷 키 (본사: HQ, 협력사: 협력사 ID)
+     */
+    public static String subjectKey(Long partnerId) {
+        return partnerId != null ? String.valueOf(partnerId) : AggregationSnapshot.HEADQUARTERS_SUBJECT;
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    private <T> Optional<T> findSnapshot(Long headquartersId, Integer year, Integer month,
+                                         SnapshotType snapshotType, String subjectKey, JavaType payloadType) {
+        if (headquartersId == null || year == null || month == null
+                || !getClosedMonths(headquartersId, year).contains(month)) {
+            return Optional.empty();
+        }
+
+        Optional<AggregationSnapshot> snapshot = aggregationSnapshotRepository
+                .findByHeadquartersIdAndReportingYearAndReportingMonthAndSnapshotTypeAndSubjectKey(
+                        headquartersId, year, month, snapshotType, subjectKey);
+        if (snapshot.isEmpty()) {
+            return Optional.empty();
+        }
+
+        try {
+            T payload = objectMapper.readerFor(payloadType)
+                    .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)
+                    .readValue(snapshot.get().getPayload());
+            log.debug("마감 스냅샷 조회 - 본사: {}, {}년 {}월, 유형: {}, 조직: {}",
+                    headquartersId, year, month, snapshotType, subjectKey);
+            return Optional.of(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("마감 스냅샷 역직렬화 실패 - 원본 재집계로 대체: 본사: {}, {}년 {}월, 유형: {}, 조직: {}",
+                    headquartersId, year, month, snapshotType, subjectKey, e);
+            return Optional.empty();
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class ClosedMonths {
+        private final Set<Integer> months;
+        private final long loadedAt;
+    }
+}
@@ -0,0 +1,186 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.config.ScopeCacheProperties;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 집계 캐시 워밍업 서비스
+ *
+ * 배포 직후 첫 대시보드 조회가 연간 Scope3 특수 집계 / 카테고리 연간 / 월별 요약을 동시에 재계산하지 않도록
+ * 주요 본사의 당해 / 전년도 결과를 미리 캐시에 적재
+ * - 대시보드(/dashboard), Scope3 연별 통합(/scope3-combined/{year}), 카테고리 연간 / 월별 요약 API가 읽는 캐시만 대상
+ * - 대상: 최근 2개 연도 배출량 데이터 건수 상위 본사 + 본사별 직속 협력사 일부
+ * - 작업 단위: (본사, 협력사|본사 직접 입력, 연도) - 고정 크기 스레드 풀로 동시 실행 수 제한
+ * - 각 조회는 서비스 프록시를 거치므로 @Cacheable / 수동 캐시 키 규칙(EmissionCacheKeys)을 그대로 사용
+ * - 개별 작업 실패는 경고 로그만 남기고 나머지 작업 계속 진행 (워밍업 실패가 기동을 막지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheWarmupService {
+
+    private static final long HEADQUARTERS_ONLY_PARTNER_ID = -1L; // 월별 요약의 본사 직접 입력 구분값
+
+    private final ScopeEmissionRepository scopeEmissionRepository;
+    private final ScopeAggregationService scopeAggregationService;
+    private final Scope3SpecialAggregationService scope3SpecialAggregationService;
+    private final OrganizationTreeIndex organizationTreeIndex;
+    private final ScopeCacheProperties cacheProperties;
+
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void startExecutor() {
+        int concurrency = Math.max(1, cacheProperties.getWarmup().getConcurrency());
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = Executors.newFixedThreadPool(concurrency, runnable -> {
+            Thread thread = new Thread(runnable, "cache-warmup-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stopExecutor() {
+        executor.shutdownNow();
+    }
+
+    public boolean isEnabled() {
+        return cacheProperties.getWarmup().isEnabled();
+    }
+
+    /**
+     * 주요 본사 당해 / 전년도 캐시 워밍업 (완료 또는 제한 시간까지 대기)
+     *
+     * @return 완료된 작업 수
+     */
+    public int warmUpMostActiveHeadquarters() {
+        long startTime = System.currentTimeMillis();
+        ScopeCacheProperties.Warmup warmup = cacheProperties.getWarmup();
+        int currentYear = LocalDate.now().getYear();
+
+        List<Long> headquartersIds = scopeEmissionRepository.findMostActiveHeadquartersIds(
+                ReportingPeriodUtil.startOfYear(currentYear - 1), ReportingPeriodUtil.endOfYear(currentYear),
+                PageRequest.of(0, Math.max(1, warmup.getHeadquartersLimit())));
+
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        for (Long headquartersId : headquartersIds) {
+            for (int year = currentYear - 1; year <= currentYear; year++) {
+                tasks.addAll(submitHeadquartersYear(headquartersId, year));
+            }
+        }
+
+        int completed = awaitTasks(tasks, warmup.getStartupTimeout());
+        log.info("집계 캐시 워밍업 완료 - 본사: {}개, 작업: {}/{}건 ({}ms)",
+                headquartersIds.size(), completed, tasks.size(), System.currentTimeMillis() - startTime);
+        return completed;
+    }
+
+    /**
+     * 본사 단일 연도 캐시 워밍업 (비동기, 보고 기간 마감 커밋 후 호출)
+     */
+    public void warmUpAsync(Long headquartersId, Integer year) {
+        if (!isEnabled()) {
+            return;
+        }
+        List<CompletableFuture<Boolean>> tasks = submitHeadquartersYear(headquartersId, year);
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                .thenRun(() -> log.info("마감 후 집계 캐시 워밍업 완료 - 본사: {}, {}년, 작업: {}건",
+                        headquartersId, year, tasks.size()));
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * 본사 직접 입력 + 직속 협력사(설정 개수까지) 작업 제출
+     */
+    private List<CompletableFuture<Boolean>> submitHeadquartersYear(Long headquartersId, Integer year) {
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        tasks.add(submit(headquartersId, null, null, year));
+
+        OrganizationTree tree = organizationTreeIndex.getTree(headquartersId);
+        List<Long> partnerIds = tree.directChildrenOf(null);
+        int limit = Math.min(partnerIds.size(), Math.max(0, cacheProperties.getWarmup().getPartnersPerHeadquarters()));
+        for (Long partnerId : partnerIds.subList(0, limit)) {
+            tasks.add(submit(headquartersId, partnerId, tree.treePathAt(tree.indexOf(partnerId)), year));
+        }
+        return tasks;
+    }
+
+    private CompletableFuture<Boolean> submit(Long headquartersId, Long partnerId, String treePath, Integer year) {
+        return CompletableFuture.supplyAsync(() -> warmUp(headquartersId, partnerId, treePath, year), executor);
+    }
+
+    /**
+     * 조직 단위 워밍업 - 연간 Scope3 특수 집계, Scope별 카테고리 연간, 월별 요약
+     *
+     * @param partnerId 협력사 ID (본사 직접 입력은 null)
+     */
+    private boolean warmUp(Long headquartersId, Long partnerId, String treePath, Integer year) {
+        try {
+            boolean isHeadquarters = partnerId == null;
+            String userType = isHeadquarters ? "HEADQUARTERS" : "PARTNER";
+
+            scope3SpecialAggregationService.getYearlySpecialAggregation(year, headquartersId, userType, partnerId, treePath);
+
+            for (ScopeType scopeType : ScopeType.values()) {
+                scopeAggregationService.getCategoryYearlyEmissions(scopeType, year, headquartersId,
+                        userType, partnerId, treePath, OrganizationTree.parseLevel(treePath));
+            }
+
+            scopeAggregationService.getPartnerMonthlyEmissionSummary(
+                    isHeadquarters ? HEADQUARTERS_ONLY_PARTNER_ID : partnerId, year, headquartersId,
+                    "HEADQUARTERS", null, null);
+            return true;
+        } catch (Exception e) {
+            log.warn("집계 캐시 워밍업 실패 - 본사: {}, 협력사: {}, {}년: {}", headquartersId, partnerId, year, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 작업 완료 대기 - 제한 시간 초과 시 시작되지 않은 작업 취소
+     *
+     * @return 성공한 작업 수
+     */
+    private int awaitTasks(List<CompletableFuture<Boolean>> tasks, Duration timeout) {
+        try {
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture[0]))
+                    .get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("집계 캐시 워밍업 제한 시간 초과 ({}) - 남은 작업 취소", timeout);
+            tasks.forEach(task -> task.cancel(false));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            tasks.forEach(task -> task.cancel(false));
+        } catch (ExecutionException e) {
+            // 개별 작업은 예외를 삼키므로 발생하지 않음
+            log.warn("집계 캐시 워밍업 중 오류: {}", e.getMessage());
+        }
+        return (int) tasks.stream()
+                .filter(task -> task.isDone() && !task.isCancelled() && Boolean.TRUE.equals(task.getNow(false)))
+                .count();
+    }
+}
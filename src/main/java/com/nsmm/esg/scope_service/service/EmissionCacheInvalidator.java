@@ -0,0 +1,112 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.entity.ScopeEmission;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 배출량 쓰기 시 집계 캐시 키 단위 무효화
+ *
+ * 변경된 (본사, 협력사, 연도, 월)과 상위 조직(상위 협력사, 본사)의 키만 제거
+ * - 상위 협력사는 쓰기 트랜잭션 안에서 조직 계층(OrganizationHierarchyService)으로 조회
+ * - 월 단위 키와 해당 연도 전체(ALL) 키를 함께 제거
+ * - 카테고리별 연간 / 월별 요약은 조직 자신의 데이터만 집계하므로 변경된 조직의 키만 제거
+ * - 다른 본사 / 다른 기간 / 관계없는 협력사의 캐시는 유지
+ * - 트랜잭션 안에서는 커밋 후 제거 (커밋 전 조회가 이전 값을 다시 캐시하는 것 방지)
+ * - (본사, 연도) 데이터 버전도 함께 증가 (EmissionDataVersionService, 쓰기 트랜잭션 안에서 데이터와 함께 커밋)
+ * 마감 연도 캐시(closedYearCategoryCache)는 마감 기간 쓰기가 거부되므로 대상 아님
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmissionCacheInvalidator {
+
+    private final CacheManager cacheManager;
+    private final OrganizationHierarchyService organizationHierarchyService;
+    private final EmissionDataVersionService emissionDataVersionService;
+
+    /**
+     * 배출량 데이터 기준 무효화 (생성/삭제, 수정 전후 각각 호출)
+     */
+    public void evict(ScopeEmission emission) {
+        evict(emission.getHeadquartersId(), emission.getPartnerId(), emission.getTreePath(),
+                emission.getReportingYear(), emission.getReportingMonth());
+    }
+
+    /**
+     * (본사, 협력사, 연도, 월) 및 상위 조직 키 무효화
+     *
+     * @param partnerId 협력사 ID (본사 직접 입력은 null)
+     * @param treePath  협력사 계층 경로 (상위 조직 탐색용)
+     */
+    public void evict(Long headquartersId, Long partnerId, String treePath, Integer year, Integer month) {
+        if (headquartersId == null || year == null || month == null) {
+            return;
+        }
+        // 집계 API ETag용 데이터 버전 증가 (커밋 직전, 같은 트랜잭션)
+        emissionDataVersionService.bump(headquartersId, year);
+
+        // 본인 → 상위 협력사 → 본사(null) 순서
+        List<Long> subjects = new ArrayList<>();
+        if (partnerId != null) {
+            subjects.add(partnerId);
+            subjects.addAll(organizationHierarchyService.findAncestorPartnerIds(headquartersId, partnerId, treePath));
+        }
+        subjects.add(null);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictNow(headquartersId, partnerId, subjects, year, month);
+                }
+            });
+        } else {
+            evictNow(headquartersId, partnerId, subjects, year, month);
+        }
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    private void evictNow(Long headquartersId, Long partnerId, List<Long> subjects, Integer year, Integer month) {
+        Cache specialAggregationCache = cacheManager.getCache(EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE);
+        Cache categoryWiseCache = cacheManager.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        Cache scope3CategoriesCache = cacheManager.getCache(EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE);
+
+        for (Long subject : subjects) {
+            evictKey(specialAggregationCache, EmissionCacheKeys.specialAggregation(headquartersId, subject, year, month));
+            evictKey(specialAggregationCache, EmissionCacheKeys.specialAggregationYearly(headquartersId, subject, year));
+            evictKey(categoryWiseCache, EmissionCacheKeys.categoryWise(headquartersId, subject, year, month));
+            evictKey(categoryWiseCache, EmissionCacheKeys.categoryWise(headquartersId, subject, year, null));
+            evictKey(scope3CategoriesCache, EmissionCacheKeys.scope3Categories(headquartersId, subject, year, month));
+            evictKey(scope3CategoriesCache, EmissionCacheKeys.scope3Categories(headquartersId, subject, year, null));
+        }
+
+        Cache categoryYearlyCache = cacheManager.getCache(EmissionCacheKeys.CATEGORY_YEARLY_CACHE);
+        for (ScopeType scopeType : ScopeType.values()) {
+            evictKey(categoryYearlyCache, EmissionCacheKeys.categoryYearly(headquartersId, partnerId, scopeType, year));
+        }
+        evictKey(cacheManager.getCache(EmissionCacheKeys.MONTHLY_SUMMARY_CACHE),
+                EmissionCacheKeys.monthlySummary(headquartersId, partnerId, year));
+
+        log.debug("배출량 캐시 키 무효화 - 본사: {}, 협력사: {}, {}년 {}월, 대상 조직 수: {}",
+                headquartersId, partnerId, year, month, subjects.size());
+    }
+
+    private void evictKey(Cache cache, String key) {
+        if (cache != null) {
+            cache.evict(key);
+        }
+    }
+}
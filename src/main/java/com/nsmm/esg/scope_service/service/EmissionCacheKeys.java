@@ -0,0 +1,86 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.enums.ScopeType;
+
+/**
+ * 배출량 집계 캐시 이름 / 키 규칙
+ *
+ * @Cacheable 키(SpEL)와 쓰기 시 키 단위 무효화(EmissionCacheInvalidator)가 같은 규칙을 사용
+ * - 본사 직접 입력 데이터는 협력사 자리에 HQ, 연도 전체 조회는 월 자리에 ALL
+ * - 월별 요약의 본사 직접 입력 구분값(-1)도 HQ로 변환
+ */
+public final class EmissionCacheKeys {
+
+    public static final String SPECIAL_AGGREGATION_CACHE = "specialAggregationCache";
+    public static final String CATEGORY_WISE_CACHE = "categoryWiseCache";
+    public static final String SCOPE3_CATEGORIES_CACHE = "scope3CategoriesCache";
+    public static final String CATEGORY_YEARLY_CACHE = "categoryYearlyCache";
+    public static final String MONTHLY_SUMMARY_CACHE = "monthlyEmissionCache";
+    public static final String CLOSED_YEAR_CATEGORY_CACHE = "closedYearCategoryCache";
+
+    private static final String HEADQUARTERS = "HQ";
+    private static final String ALL_MONTHS = "ALL";
+
+    private EmissionCacheKeys() {
+    }
+
+    /**
+     * 특수 집계 키 (본사: headquarters:본사:연:월, 협력사: partner:본사:협력사:연:월)
+     */
+    public static String specialAggregation(Long headquartersId, Long partnerId, Integer year, Integer month) {
+        return partnerId == null
+                ? "headquarters:" + headquartersId + ":" + year + ":" + month
+                : "partner:" + headquartersId + ":" + partnerId + ":" + year + ":" + month;
+    }
+
+    /**
+     * 연간 Scope3 특수 집계 키 (yearly-special:본사:협력사|HQ:연:ALL)
+     * 본사/협력사 결과 모두 하위 조직 데이터를 포함하므로 상위 조직 키와 함께 무효화
+     */
+    public static String specialAggregationYearly(Long headquartersId, Long partnerId, Integer year) {
+        return "yearly-special:" + subject(headquartersId, partnerId, year, null);
+    }
+
+    /**
+     * 카테고리별 배출량 키 (category:본사:협력사|HQ:연:월|ALL)
+     */
+    public static String categoryWise(Long headquartersId, Long partnerId, Integer year, Integer month) {
+        return "category:" + subject(headquartersId, partnerId, year, month);
+    }
+
+    /**
+     * Scope3 카테고리 배출량 키 (scope3:본사:협력사|HQ:연:월|ALL)
+     */
+    public static String scope3Categories(Long headquartersId, Long partnerId, Integer year, Integer month) {
+        return "scope3:" + subject(headquartersId, partnerId, year, month);
+    }
+
+    /**
+     * 카테고리별 연간 배출량 키 (yearly:Scope:본사:협력사|HQ:연:ALL)
+     */
+    public static String categoryYearly(Long headquartersId, Long partnerId, ScopeType scopeType, Integer year) {
+        return "yearly:" + scopeType + ":" + subject(headquartersId, partnerId, year, null);
+    }
+
+    /**
+     * 월별 배출량 요약 키 (monthly:본사:협력사|HQ:연:ALL)
+     */
+    public static String monthlySummary(Long headquartersId, Long partnerId, Integer year) {
+        Long subjectPartnerId = partnerId != null && partnerId == -1L ? null : partnerId;
+        return "monthly:" + subject(headquartersId, subjectPartnerId, year, null);
+    }
+
+    /**
+     * Scope3 통합 배출량 요청 병합 키 (combined:본사:협력사|HQ:연:월|ALL[:계층 경로])
+     * 협력사 결과는 하위 조직 범위(treePath)에 따라 달라지므로 경로 포함
+     */
+    public static String scope3Combined(Long headquartersId, Long partnerId, String treePath, Integer year, Integer month) {
+        String key = "combined:" + subject(headquartersId, partnerId, year, month);
+        return partnerId != null ? key + ":" + treePath : key;
+    }
+
+    private static String subject(Long headquartersId, Long partnerId, Integer year, Integer month) {
+        return headquartersId + ":" + (partnerId != null ? partnerId : HEADQUARTERS) + ":" + year + ":"
+                + (month != null ? month : ALL_MONTHS);
+    }
+}
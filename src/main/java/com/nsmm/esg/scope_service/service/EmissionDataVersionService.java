@@ -0,0 +1,114 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.repository.EmissionDataVersionRepository;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 배출량 데이터 버전 서비스 (본사, 연도 단위 단조 증가 버전 - emission_data_version)
+ *
+ * 집계 API의 ETag 계산에 사용 - 버전이 같으면 응답도 같으므로 서비스 조회 없이 304 응답 가능
+ * - 배출량 쓰기: (본사, 연도) 버전 증가 (EmissionCacheInvalidator 무효화 시점)
+ * - 자재코드 할당/매핑 쓰기: 본사 전체 연도(0) 버전 증가
+ * - 쓰기 트랜잭션 커밋 직전에 같은 트랜잭션 안에서 증가 (데이터와 버전이 함께 커밋)
+ * - 버전은 DB에 보관하므로 모든 인스턴스가 같은 데이터에 같은 태그를 발급
+ * 태그에는 현재 보고 기간(yyyymm)을 포함 - 당해 연도 응답은 현재 월까지 집계하므로 월이 바뀌면 달라짐
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmissionDataVersionService {
+
+    private static final int ALL_YEARS = 0;
+    private static final String PENDING_RESOURCE = EmissionDataVersionService.class.getName() + ".pending";
+
+    private final EmissionDataVersionRepository emissionDataVersionRepository;
+
+    /**
+     * 데이터 버전 증가 (현재 쓰기 트랜잭션 커밋 직전에 반영)
+     * 한 트랜잭션의 증가는 (본사, 연도)별 1회로 모아 정렬 순서로 반영 (버전 행 잠금 순서 고정)
+     *
+     * @param year 보고 연도 (null이면 본사 전체 연도)
+     */
+    @Transactional
+    public void bump(Long headquartersId, Integer year) {
+        if (headquartersId == null) {
+            return;
+        }
+        pendingVersions().computeIfAbsent(headquartersId, key -> new TreeSet<>())
+                .add(year != null ? year : ALL_YEARS);
+    }
+
+    /**
+     * 연도 범위 버전 태그 (전체 연도 버전 + 범위 내 연도별 버전 합 + 현재 보고 기간)
+     * 각 버전이 단조 증가하므로 합도 쓰기마다 증가하며 이전 값으로 돌아가지 않음
+     */
+    @Transactional(readOnly = true)
+    public String versionTag(Long headquartersId, Integer fromYear, Integer toYear) {
+        List<Integer> years = new ArrayList<>();
+        years.add(ALL_YEARS);
+        for (int year = fromYear; year <= toYear; year++) {
+            years.add(year);
+        }
+        return tag(emissionDataVersionRepository.sumVersions(headquartersId, years));
+    }
+
+    /**
+     * 본사 전체 버전 태그 (연도 구분 없는 조회용)
+     */
+    @Transactional(readOnly = true)
+    public String versionTag(Long headquartersId) {
+        return tag(emissionDataVersionRepository.sumAllVersions(headquartersId));
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * 현재 트랜잭션의 증가 대상 (본사 → 연도) - 첫 호출 시 커밋 직전 반영 등록
+     */
+    @SuppressWarnings("unchecked")
+    private Map<Long, Set<Integer>> pendingVersions() {
+        Map<Long, Set<Integer>> pending =
+                (Map<Long, Set<Integer>>) TransactionSynchronizationManager.getResource(PENDING_RESOURCE);
+        if (pending != null) {
+            return pending;
+        }
+        Map<Long, Set<Integer>> created = new TreeMap<>();
+        TransactionSynchronizationManager.bindResource(PENDING_RESOURCE, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                created.forEach((headquartersId, years) -> years.forEach(year -> {
+                    emissionDataVersionRepository.increment(headquartersId, year);
+                    log.debug("배출량 데이터 버전 증가 - 본사: {}, 연도: {}", headquartersId, year == ALL_YEARS ? "ALL" : year);
+                }));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_RESOURCE);
+            }
+        });
+        return created;
+    }
+
+    private static String tag(Long version) {
+        LocalDate today = LocalDate.now();
+        return (version != null ? version : 0L) + "-" + ReportingPeriodUtil.of(today.getYear(), today.getMonthValue());
+    }
+}
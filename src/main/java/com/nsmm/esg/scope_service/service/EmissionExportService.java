@@ -0,0 +1,205 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scope_service.dto.response.ScopeEmissionResponse;
+import com.nsmm.esg.scope_service.enums.ExportFormat;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 배출량 대량 내보내기 서비스 (NDJSON / CSV 스트리밍)
+ *
+ * 주요 기능:
+ * - 감사 대응 및 공시 서비스 연동용 연간 배출량 원본 내보내기
+ * - 조회 결과를 목록으로 적재하지 않고 DB 커서에서 읽은 행을 바로 응답 스트림에 기록
+ *
+ * 메모리 특성:
+ * - MySQL 행 단위 스트리밍 + 프로젝션 조회로 행 수와 무관하게 힙 사용량 일정
+ * - 응답 기록은 요청 스레드가 아닌 비동기 스레드에서 실행되므로 OSIV 영속성 컨텍스트와 무관하며,
+ *   내보내기 전용 읽기 전용 트랜잭션(및 EntityManager)을 열고 스트림 종료 시 함께 닫음
+ */
+@Slf4j
+@Service
+public class EmissionExportService {
+
+    private static final int FLUSH_INTERVAL_ROWS = 1_000;
+
+    private static final String[] CSV_COLUMNS = {
+            "id", "scopeType", "reportingYear", "reportingMonth",
+            "scope1CategoryNumber", "scope1CategoryName", "scope1CategoryGroup",
+            "scope2CategoryNumber", "scope2CategoryName",
+            "scope3CategoryNumber", "scope3CategoryName",
+            "majorCategory", "subcategory", "rawMaterial",
+            "activityAmount", "unit", "emissionFactor", "totalEmission",
+            "inputType", "hasMaterialMapping", "factoryEnabled",
+            "internalMaterialCode", "upstreamMaterialCode", "materialName", "upstreamPartnerId",
+            "createdAt", "updatedAt"
+    };
+
+    private final ScopeEmissionRepository scopeEmissionRepository;
+    private final ScopeEmissionService scopeEmissionService;
+    private final ObjectWriter rowWriter;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public EmissionExportService(ScopeEmissionRepository scopeEmissionRepository,
+                                 ScopeEmissionService scopeEmissionService,
+                                 ObjectMapper objectMapper,
+                                 PlatformTransactionManager transactionManager) {
+        this.scopeEmissionRepository = scopeEmissionRepository;
+        this.scopeEmissionService = scopeEmissionService;
+        this.rowWriter = objectMapper.writerFor(ScopeEmissionResponse.class);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 배출량 내보내기 응답 본문 생성
+     *
+     * 권한/기간 검증은 호출 시점에 수행 (실패 시 IllegalArgumentException - 응답 전송 전 오류 반환),
+     * 실제 조회와 기록은 반환된 본문이 응답 스트림에 쓰일 때 수행
+     *
+     * @param year  보고 연도 (필수)
+     * @param month 보고 월 (선택, 미지정 시 연도 전체)
+     */
+    public StreamingResponseBody export(ScopeType scopeType, ExportFormat format, String userType,
+                                        String headquartersId, String partnerId, String treePath,
+                                        Integer year, Integer month) {
+        validateExportRequest(userType, headquartersId, partnerId, treePath, year, month);
+
+        Long headquarters = Long.parseLong(headquartersId);
+        Long partner = "PARTNER".equals(userType) ? Long.parseLong(partnerId) : null;
+        int fromPeriod = month == null ? ReportingPeriodUtil.startOfYear(year) : ReportingPeriodUtil.of(year, month);
+        int toPeriod = month == null ? ReportingPeriodUtil.endOfYear(year) : ReportingPeriodUtil.of(year, month);
+
+        return outputStream -> {
+            long startTime = System.currentTimeMillis();
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            Long rowCount = readOnlyTransaction.execute(status -> {
+                try (Stream<ScopeEmissionListProjection> rows = partner == null
+                        ? scopeEmissionRepository.streamEmissionsForHeadquartersOnly(
+                                headquarters, scopeType, fromPeriod, toPeriod)
+                        : scopeEmissionRepository.streamEmissionsForSpecificPartner(
+                                headquarters, partner, scopeType, fromPeriod, toPeriod)) {
+                    return writeRows(rows.iterator(), format, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            writer.flush();
+            log.info("Scope {} 배출량 내보내기 완료 - 본사: {}, 협력사: {}, 기간: {}~{}, 형식: {}, {}건 ({}ms)",
+                    scopeType, headquarters, partner, fromPeriod, toPeriod, format, rowCount,
+                    System.currentTimeMillis() - startTime);
+        };
+    }
+
+    /**
+     * 내보내기 파일명 (예: scope-emissions-SCOPE1-2024.csv, scope-emissions-SCOPE1-2024-03.ndjson)
+     */
+    public String fileName(ScopeType scopeType, ExportFormat format, Integer year, Integer month) {
+        String period = month == null ? String.valueOf(year) : String.format("%d-%02d", year, month);
+        return String.format("scope-emissions-%s-%s.%s", scopeType, period, format.getExtension());
+    }
+
+    // ========================================================================
+    // 행 기록 메서드
+    // ========================================================================
+
+    private long writeRows(Iterator<ScopeEmissionListProjection> rows, ExportFormat format, Writer writer)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            writer.write('\uFEFF'); // 엑셀 한글 인코딩 인식용 BOM
+            writer.write(String.join(",", CSV_COLUMNS));
+            writer.write("\r\n");
+        }
+
+        long count = 0;
+        while (rows.hasNext()) {
+            ScopeEmissionListProjection row = rows.next();
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(row, writer);
+            } else {
+                writer.write(rowWriter.writeValueAsString(ScopeEmissionResponse.from(row)));
+                writer.write('\n');
+            }
+            if (++count % FLUSH_INTERVAL_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+    private void writeCsvRow(ScopeEmissionListProjection row, Writer writer) throws IOException {
+        Object[] values = {
+                row.getId(), row.getScopeType(), row.getReportingYear(), row.getReportingMonth(),
+                row.getScope1CategoryNumber(), row.getScope1CategoryName(), row.getScope1CategoryGroup(),
+                row.getScope2CategoryNumber(), row.getScope2CategoryName(),
+                row.getScope3CategoryNumber(), row.getScope3CategoryName(),
+                row.getMajorCategory(), row.getSubcategory(), row.getRawMaterial(),
+                row.getActivityAmount(), row.getUnit(), row.getEmissionFactor(), row.getTotalEmission(),
+                row.getInputType(), row.getHasMaterialMapping(), row.getFactoryEnabled(),
+                row.getInternalMaterialCode(), row.getUpstreamMaterialCode(), row.getMaterialName(),
+                row.getUpstreamPartnerId(), row.getCreatedAt(), row.getUpdatedAt()
+        };
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(toCsvValue(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 값 변환 (쉼표/따옴표/줄바꿈 포함 시 따옴표로 감싸고 내부 따옴표는 이중화)
+     */
+    private static String toCsvValue(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    // ========================================================================
+    // 검증 메서드
+    // ========================================================================
+
+    /**
+     * 내보내기 요청 검증 - 사용자 권한은 배출량 목록 조회와 동일 기준 (ScopeEmissionService)
+     */
+    private void validateExportRequest(String userType, String headquartersId, String partnerId, String treePath,
+                                       Integer year, Integer month) {
+        scopeEmissionService.validateUserPermissions(userType, headquartersId, partnerId, treePath);
+        if (headquartersId == null) {
+            throw new IllegalArgumentException("본사 ID가 필요합니다");
+        }
+
+        if (year == null) {
+            throw new IllegalArgumentException("내보내기 보고 연도는 필수입니다");
+        }
+        if (month != null && (month < 1 || month > 12)) {
+            throw new IllegalArgumentException("보고 월은 1~12 사이여야 합니다: " + month);
+        }
+    }
+}
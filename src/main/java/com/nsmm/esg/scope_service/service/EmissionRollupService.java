@@ -0,0 +1,142 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.entity.EmissionRollup;
+import com.nsmm.esg.scope_service.entity.ScopeEmission;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+
+/**
+ * 배출량 집계 읽기 모델(emission_rollup) 관리 서비스
+ *
+ * 주요 기능:
+ * - 배출량 생성/수정/삭제 트랜잭션 내 집계 증분 갱신
+ * - 본사 단위 집계 재구성 (기존 데이터 백필)
+ * - 집계 조회 시 읽기 모델 사용 여부 제공
+ *
+ * 증분 갱신 메서드는 호출자의 쓰기 트랜잭션 안에서만 실행되어 원본 데이터와 항상 함께 커밋/롤백됨
+ *
+ * 읽기 모델 조회는 특수 집계(월별/연간)와 월별 요약(협력사 일괄 요약 포함)에만 연결되어 있음
+ * - 카테고리별, Scope3 카테고리, 추이, 자재 매핑 집계는 설정과 관계없이 원본(scope_emission) 조회
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmissionRollupService {
+
+    private final EmissionRollupRepository emissionRollupRepository;
+    private final EmissionDataVersionService emissionDataVersionService;
+
+    @Value("${scope.aggregation.rollup.read-enabled:false}")
+    private boolean readEnabled;
+
+    /**
+     * 집계 조회 시 읽기 모델 사용 여부 (재구성 완료 후 활성화)
+     */
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    // ========================================================================
+    // 증분 갱신 메서드
+    // ========================================================================
+
+    /**
+     * 배출량 생성 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyCreated(ScopeEmission emission) {
+        applyDelta(emission, emission.getTotalEmission(), 1L);
+    }
+
+    /**
+     * 배출량 삭제 반영
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyDeleted(ScopeEmission emission) {
+        applyDelta(emission, emission.getTotalEmission().negate(), -1L);
+        emissionRollupRepository.deleteEmptyRollups(
+                emission.getHeadquartersId(), toPartnerKey(emission.getPartnerId()),
+                emission.getReportingYear(), emission.getReportingMonth());
+    }
+
+    /**
+     * 배출량 수정 반영 - 수정 전 값을 빼고 수정 후 값을 더함 (집계 키 변경 포함)
+     *
+     * @param before 수정 전 상태 (영속성 컨텍스트와 분리된 복사본)
+     * @param after  수정 후 상태
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void applyUpdated(ScopeEmission before, ScopeEmission after) {
+        applyDeleted(before);
+        applyCreated(after);
+    }
+
+    // ========================================================================
+    // 재구성 메서드
+    // ========================================================================
+
+    /**
+     * 본사 단위 집계를 원본 데이터로부터 재구성 (EmissionRollupController 재구성 API)
+     * 삭제와 재생성을 한 트랜잭션으로 처리 - INSERT ... SELECT가 원본 행을 잠그므로 재구성 중 쓰기는 커밋 후 반영
+     * 읽기 모델 기반 응답이 바뀔 수 있으므로 본사 전체 연도의 데이터 버전 증가 (ETag 갱신)
+     */
+    @Transactional
+    public int rebuildForHeadquarters(Long headquartersId) {
+        long startTime = System.currentTimeMillis();
+
+        int deleted = emissionRollupRepository.deleteByHeadquartersId(headquartersId);
+        int inserted = emissionRollupRepository.insertFromScopeEmission(headquartersId);
+        emissionDataVersionService.bump(headquartersId, null);
+
+        log.info("배출량 집계 재구성 완료 - 본사: {}, 삭제: {}건, 생성: {}건 ({}ms)",
+                headquartersId, deleted, inserted, System.currentTimeMillis() - startTime);
+        return inserted;
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    private void applyDelta(ScopeEmission emission, BigDecimal emissionDelta, Long countDelta) {
+        emissionRollupRepository.upsertDelta(
+                emission.getHeadquartersId(),
+                emission.getPartnerId(),
+                toPartnerKey(emission.getPartnerId()),
+                emission.getReportingYear(),
+                emission.getReportingMonth(),
+                emission.getScopeType().name(),
+                resolveCategoryNumber(emission),
+                Boolean.TRUE.equals(emission.getFactoryEnabled()),
+                Boolean.TRUE.equals(emission.getHasMaterialMapping()),
+                emissionDelta,
+                countDelta);
+
+        log.debug("배출량 집계 증분 반영 - 본사: {}, 협력사: {}, {}년 {}월, {}, 변화량: {}",
+                emission.getHeadquartersId(), emission.getPartnerId(),
+                emission.getReportingYear(), emission.getReportingMonth(),
+                emission.getScopeType(), emissionDelta);
+    }
+
+    /**
+     * Scope 타입에 해당하는 카테고리 번호 (없으면 0)
+     */
+    private Integer resolveCategoryNumber(ScopeEmission emission) {
+        Integer categoryNumber = switch (emission.getScopeType()) {
+            case SCOPE1 -> emission.getScope1CategoryNumber();
+            case SCOPE2 -> emission.getScope2CategoryNumber();
+            case SCOPE3 -> emission.getScope3CategoryNumber();
+        };
+        return categoryNumber != null ? categoryNumber : EmissionRollup.NO_CATEGORY;
+    }
+
+    private Long toPartnerKey(Long partnerId) {
+        return partnerId != null ? partnerId : EmissionRollup.HEADQUARTERS_PARTNER_KEY;
+    }
+}
@@ -40,6 +40,7 @@ public class MaterialAssignmentService {
     private final MaterialAssignmentRepository materialAssignmentRepository;
     private final MaterialDataService materialDataService;
     private final AuthServiceClient authServiceClient;
+    private final EmissionDataVersionService emissionDataVersionService;
 
     /**
      * 특정 협력사에게 할당된 자재코드 목록을 조회합니다.
@@ -136,6 +137,7 @@ public class MaterialAssignmentService {
 
         MaterialAssignment assignment = buildAssignment(request, userType, headquartersId, currentPartnerId);
         MaterialAssignment savedAssignment = materialAssignmentRepository.save(assignment);
+        emissionDataVersionService.bump(savedAssignment.getHeadquartersId(), null);
         log.info("자재코드 할당 생성 완료: ID {}", savedAssignment.getId());
         return convertToResponse(savedAssignment);
     }
@@ -177,6 +179,10 @@ public class MaterialAssignmentService {
                 .collect(Collectors.toList());
 
         List<MaterialAssignment> savedAssignments = materialAssignmentRepository.saveAll(assignments);
+        savedAssignments.stream()
+                .map(MaterialAssignment::getHeadquartersId)
+                .distinct()
+                .forEach(assignmentHeadquartersId -> emissionDataVersionService.bump(assignmentHeadquartersId, null));
         log.info("자재코드 일괄 할당 완료: {}개 생성", savedAssignments.size());
         return savedAssignments.stream().map(this::convertToResponse).collect(Collectors.toList());
     }
@@ -228,6 +234,7 @@ public class MaterialAssignmentService {
                 .build();
         
         MaterialAssignment savedAssignment = materialAssignmentRepository.save(updatedAssignment);
+        emissionDataVersionService.bump(savedAssignment.getHeadquartersId(), null);
         return convertToResponse(savedAssignment);
     }
 
@@ -254,6 +261,7 @@ public class MaterialAssignmentService {
         }
         
         materialAssignmentRepository.delete(assignment);
+        emissionDataVersionService.bump(assignment.getHeadquartersId(), null);
         log.info("자재코드 할당 삭제 완료: ID {}", assignmentId);
     }
 
@@ -387,6 +395,7 @@ public class MaterialAssignmentService {
                 .build();
         
         MaterialAssignment savedAssignment = materialAssignmentRepository.save(updatedAssignment);
+        emissionDataVersionService.bump(savedAssignment.getHeadquartersId(), null);
         log.info("자재코드 할당 매핑 상태 업데이트 완료: assignmentId={}, isMapped={}", 
                 assignmentId, savedAssignment.getIsMapped());
         
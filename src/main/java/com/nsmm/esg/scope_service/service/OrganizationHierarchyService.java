@@ -0,0 +1,323 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.entity.OrganizationClosure;
+import com.nsmm.esg.scope_service.entity.OrganizationNode;
+import com.nsmm.esg.scope_service.repository.OrganizationClosureRepository;
+import com.nsmm.esg.scope_service.repository.OrganizationNodeRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 조직 계층 관리 서비스 (organization_node / organization_closure)
+ *
+ * 주요 기능:
+ * - 배출량 쓰기 시 전달된 treePath로 협력사 노드/클로저 등록
+ * - 전체 협력사 / 직속 하위 조직 / 상위 조직 조회 (항상 데이터베이스 기준, 메모리 트리 캐시 미사용)
+ * - 본사 단위 노드/클로저 재구성 (기존 데이터 백필)
+ *
+ * 조회는 scope.organization.closure.read-enabled가 true면 노드/클로저 테이블, 아니면 배출량 테이블의 DISTINCT 경로 사용
+ * 노드/클로저 등록은 설정과 관계없이 항상 수행 (재구성 후 설정만 전환하면 되도록)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OrganizationHierarchyService {
+
+    private static final String ROOT_TREE_PATH = "/";
+
+    private final OrganizationNodeRepository organizationNodeRepository;
+    private final OrganizationClosureRepository organizationClosureRepository;
+    private final ScopeEmissionRepository scopeEmissionRepository;
+    private final EmissionDataVersionService emissionDataVersionService;
+
+    @Value("${scope.organization.closure.read-enabled:false}")
+    private boolean readEnabled;
+
+    /**
+     * 조직 조회 시 노드/클로저 테이블 사용 여부 (재구성 완료 후 활성화)
+     */
+    public boolean isReadEnabled() {
+        return readEnabled;
+    }
+
+    // ========================================================================
+    // 조회 메서드
+    // ========================================================================
+
+    /**
+     * 본사의 전체 협력사 계층 경로 (협력사 ID → 경로, 경로 순서)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findPartnerTreePaths(Long headquartersId) {
+        if (readEnabled) {
+            return toTreePathMap(organizationNodeRepository.findByHeadquartersIdOrderByTreePathAscPartnerIdAsc(headquartersId));
+        }
+        return sortByTreePath(rowsToTreePathMap(scopeEmissionRepository.findDistinctPartnerTreePaths(headquartersId)));
+    }
+
+    /**
+     * 지정 협력사 계층 경로 (협력사 ID → 경로, 경로 순서, 경로를 찾지 못한 협력사는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findPartnerTreePaths(Long headquartersId, Collection<Long> partnerIds) {
+        if (partnerIds.isEmpty()) {
+            return Map.of();
+        }
+        if (readEnabled) {
+            return sortByTreePath(toTreePathMap(
+                    organizationNodeRepository.findByHeadquartersIdAndPartnerIdIn(headquartersId, partnerIds)));
+        }
+        return sortByTreePath(rowsToTreePathMap(
+                scopeEmissionRepository.findDistinctPartnerTreePathsByPartnerIds(headquartersId, partnerIds)));
+    }
+
+    /**
+     * 직속 하위 조직 계층 경로 (협력사 ID → 경로, 경로 순서)
+     * 직속 여부는 레벨 차이(1)로 판단 - 중간 경로의 협력사 데이터가 없어도 손자 조직이 직속으로 올라오지 않음
+     *
+     * @param treePath 상위 협력사 경로 (본사 루트는 null)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, String> findDirectChildTreePaths(Long headquartersId, String treePath) {
+        boolean isRoot = treePath == null || treePath.isBlank() || ROOT_TREE_PATH.equals(treePath);
+        int childLevel = isRoot ? 1 : calculateLevel(treePath) + 1;
+
+        if (readEnabled) {
+            return toTreePathMap(organizationNodeRepository.findChildNodes(
+                    headquartersId, isRoot ? ROOT_TREE_PATH : treePath, childLevel));
+        }
+
+        List<Object[]> rows = isRoot
+                ? scopeEmissionRepository.findDistinctPartnerTreePaths(headquartersId)
+                : scopeEmissionRepository.findDistinctPartnerTreePathsUnder(headquartersId, treePath);
+        Map<Long, String> children = new HashMap<>();
+        for (Object[] row : rows) {
+            String childTreePath = (String) row[1];
+            if (calculateLevel(childTreePath) == childLevel) {
+                children.put(((Number) row[0]).longValue(), childTreePath);
+            }
+        }
+        return sortByTreePath(children);
+    }
+
+    /**
+     * 상위 협력사 ID 조회 (자기 자신과 본사 루트 제외)
+     *
+     * @param partnerId 협력사 ID
+     * @param treePath  협력사 계층 경로 (클로저 미사용 시 상위 경로 탐색 기준)
+     */
+    @Transactional(readOnly = true)
+    public List<Long> findAncestorPartnerIds(Long headquartersId, Long partnerId, String treePath) {
+        if (partnerId == null) {
+            return List.of();
+        }
+        if (readEnabled) {
+            return organizationClosureRepository.findAncestorIds(headquartersId, partnerId);
+        }
+        if (treePath == null || treePath.isBlank()) {
+            return List.of();
+        }
+        List<String> ancestorPaths = extractAncestorPaths(treePath);
+        return ancestorPaths.isEmpty()
+                ? List.of()
+                : scopeEmissionRepository.findDistinctPartnerIdsByTreePaths(headquartersId, ancestorPaths);
+    }
+
+    // ========================================================================
+    // 등록 메서드
+    // ========================================================================
+
+    /**
+     * 협력사 노드 및 클로저 등록 - 배출량 쓰기 트랜잭션 내에서 호출
+     * 이미 같은 경로로 등록된 협력사는 조회 1회로 종료
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void registerOrganization(Long headquartersId, Long partnerId, String treePath) {
+        if (partnerId == null || treePath == null || treePath.isBlank()) {
+            return; // 본사 직접 입력 또는 경로 정보 없음
+        }
+
+        Optional<OrganizationNode> existing = organizationNodeRepository
+                .findByHeadquartersIdAndPartnerId(headquartersId, partnerId);
+        if (existing.isPresent() && treePath.equals(existing.get().getTreePath())) {
+            return;
+        }
+
+        if (existing.isPresent()) {
+            // 경로 변경 - 기존 클로저 정리 후 재등록
+            log.warn("협력사 계층 경로 변경 감지 - 본사: {}, 협력사: {}, {} -> {}",
+                    headquartersId, partnerId, existing.get().getTreePath(), treePath);
+            organizationClosureRepository.deleteByPartner(headquartersId, partnerId);
+        }
+
+        int level = calculateLevel(treePath);
+        organizationNodeRepository.upsertNode(headquartersId, partnerId, treePath, level);
+
+        // 자기 자신 및 본사 루트
+        organizationClosureRepository.insertIgnore(headquartersId, partnerId, partnerId, 0);
+        organizationClosureRepository.insertIgnore(headquartersId, OrganizationClosure.ROOT_ID, partnerId, level);
+
+        // 조상 노드 (상위 경로에 해당하는 등록된 협력사)
+        List<String> ancestorPaths = extractAncestorPaths(treePath);
+        if (!ancestorPaths.isEmpty()) {
+            for (OrganizationNode ancestor : organizationNodeRepository
+                    .findByHeadquartersIdAndTreePathIn(headquartersId, ancestorPaths)) {
+                organizationClosureRepository.insertIgnore(
+                        headquartersId, ancestor.getPartnerId(), partnerId, level - ancestor.getLevel());
+            }
+        }
+
+        // 자손 노드 (하위 협력사가 먼저 등록된 경우)
+        for (OrganizationNode descendant : organizationNodeRepository.findDescendantNodes(headquartersId, treePath)) {
+            organizationClosureRepository.insertIgnore(
+                    headquartersId, partnerId, descendant.getPartnerId(), descendant.getLevel() - level);
+        }
+
+        log.info("조직 계층 등록 완료 - 본사: {}, 협력사: {}, 경로: {}, 레벨: {}",
+                headquartersId, partnerId, treePath, level);
+    }
+
+    // ========================================================================
+    // 재구성 메서드
+    // ========================================================================
+
+    /**
+     * 본사 단위 노드/클로저를 배출량 데이터의 treePath로부터 재구성 (OrganizationHierarchyController 재구성 API)
+     * 클로저 조회 사용 중이면 하위 조직 범위가 달라질 수 있으므로 본사 데이터 버전도 증가
+     */
+    @Transactional
+    public int rebuildForHeadquarters(Long headquartersId) {
+        long startTime = System.currentTimeMillis();
+
+        organizationClosureRepository.deleteByHeadquartersId(headquartersId);
+        organizationNodeRepository.deleteByHeadquartersId(headquartersId);
+
+        // 협력사별 경로 수집 (동일 협력사의 경로가 여러 개면 마지막 값 사용)
+        Map<String, OrganizationNode> nodesByPath = new HashMap<>();
+        Map<Long, OrganizationNode> nodesByPartner = new HashMap<>();
+        for (Object[] row : scopeEmissionRepository.findDistinctPartnerTreePaths(headquartersId)) {
+            Long partnerId = ((Number) row[0]).longValue();
+            String treePath = (String) row[1];
+            OrganizationNode node = OrganizationNode.builder()
+                    .headquartersId(headquartersId)
+                    .partnerId(partnerId)
+                    .treePath(treePath)
+                    .level(calculateLevel(treePath))
+                    .build();
+            OrganizationNode previous = nodesByPartner.put(partnerId, node);
+            if (previous != null) {
+                nodesByPath.remove(previous.getTreePath());
+            }
+            nodesByPath.put(treePath, node);
+        }
+        organizationNodeRepository.saveAll(nodesByPartner.values());
+
+        // 경로 접두사 기반 클로저 생성
+        List<OrganizationClosure> closures = new ArrayList<>();
+        for (OrganizationNode node : nodesByPartner.values()) {
+            closures.add(buildClosure(headquartersId, node.getPartnerId(), node.getPartnerId(), 0));
+            closures.add(buildClosure(headquartersId, OrganizationClosure.ROOT_ID, node.getPartnerId(), node.getLevel()));
+            for (String ancestorPath : extractAncestorPaths(node.getTreePath())) {
+                OrganizationNode ancestor = nodesByPath.get(ancestorPath);
+                if (ancestor != null) {
+                    closures.add(buildClosure(headquartersId, ancestor.getPartnerId(), node.getPartnerId(),
+                            node.getLevel() - ancestor.getLevel()));
+                }
+            }
+        }
+        organizationClosureRepository.saveAll(closures);
+        emissionDataVersionService.bump(headquartersId, null);
+
+        log.info("조직 계층 재구성 완료 - 본사: {}, 노드: {}개, 클로저: {}행 ({}ms)",
+                headquartersId, nodesByPartner.size(), closures.size(), System.currentTimeMillis() - startTime);
+        return closures.size();
+    }
+
+    // ========================================================================
+    // 경로 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * treePath 레벨 계산 - 본사 ID 다음 세그먼트 수 (/1/L1-001/L2-003/ -> 2)
+     */
+    static int calculateLevel(String treePath) {
+        int segments = 0;
+        for (String part : treePath.split("/")) {
+            if (!part.isEmpty()) {
+                segments++;
+            }
+        }
+        return Math.max(segments - 1, 0);
+    }
+
+    /**
+     * 본사 루트를 제외한 상위 경로 목록 (/1/L1-001/L2-003/ -> [/1/L1-001/])
+     */
+    static List<String> extractAncestorPaths(String treePath) {
+        List<String> ancestorPaths = new ArrayList<>();
+        StringBuilder prefix = new StringBuilder("/");
+        int depth = 0;
+        String[] parts = treePath.split("/");
+        int lastIndex = parts.length - 1;
+        for (int i = 0; i < lastIndex; i++) {
+            if (parts[i].isEmpty()) {
+                continue;
+            }
+            prefix.append(parts[i]).append('/');
+            depth++;
+            if (depth > 1) {
+                ancestorPaths.add(prefix.toString());
+            }
+        }
+        return ancestorPaths;
+    }
+
+    private Map<Long, String> toTreePathMap(List<OrganizationNode> nodes) {
+        Map<Long, String> treePaths = new LinkedHashMap<>();
+        for (OrganizationNode node : nodes) {
+            treePaths.put(node.getPartnerId(), node.getTreePath());
+        }
+        return treePaths;
+    }
+
+    private Map<Long, String> rowsToTreePathMap(List<Object[]> rows) {
+        Map<Long, String> treePaths = new HashMap<>();
+        for (Object[] row : rows) {
+            treePaths.put(((Number) row[0]).longValue(), (String) row[1]);
+        }
+        return treePaths;
+    }
+
+    /**
+     * 경로 → 협력사 ID 순서로 정렬 (페이지 분할 순서 고정)
+     */
+    private Map<Long, String> sortByTreePath(Map<Long, String> treePaths) {
+        Map<Long, String> sorted = new LinkedHashMap<>();
+        treePaths.entrySet().stream()
+                .sorted(Map.Entry.<Long, String>comparingByValue().thenComparing(Map.Entry.<Long, String>comparingByKey()))
+                .forEachOrdered(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    private OrganizationClosure buildClosure(Long headquartersId, Long ancestorId, Long descendantId, int depth) {
+        return OrganizationClosure.builder()
+                .headquartersId(headquartersId)
+                .ancestorId(ancestorId)
+                .descendantId(descendantId)
+                .depth(depth)
+                .build();
+    }
+}
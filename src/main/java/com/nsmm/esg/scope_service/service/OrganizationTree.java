@@ -0,0 +1,218 @@
+package com.nsmm.esg.scope_service.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 본사 단위 조직 트리 (불변, 메모리 인덱스)
+ *
+ * treePath(/1/L1-001/L2-003/)를 정렬하여 전위 순회(Euler-tour) 순서로 협력사를 배치
+ * - 각 협력사는 진입(entry) = 배열 위치, 이탈(exit) = 서브트리 마지막 위치 구간을 가짐
+ * - "X의 모든 하위 조직"은 (entry, exit] 연속 구간이므로 SQL 없이 배열 구간으로 조회 가능
+ * - 같은 경로의 협력사(중복 경로)는 (경로, 협력사 ID) 순으로 인접 배치되고 이탈 위치를 공유
+ * - 본사 루트는 전체 구간 [0, size)
+ */
+public final class OrganizationTree {
+
+    private static final OrganizationTree EMPTY = new OrganizationTree(Collections.emptyMap());
+
+    private final long[] partnerIds;          // 전위 순회 순서의 협력사 ID
+    private final String[] treePaths;         // 전위 순회 순서의 계층 경로 (정렬됨)
+    private final int[] exits;                // 서브트리 마지막 위치 (포함)
+    private final Map<Long, Integer> indexByPartnerId;
+
+    private OrganizationTree(Map<Long, String> treePathByPartnerId) {
+        List<Map.Entry<Long, String>> entries = new ArrayList<>(treePathByPartnerId.entrySet());
+        entries.sort(Map.Entry.<Long, String>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+
+        int size = entries.size();
+        this.partnerIds = new long[size];
+        this.treePaths = new String[size];
+        this.exits = new int[size];
+        this.indexByPartnerId = new HashMap<>(size * 2);
+
+        for (int i = 0; i < size; i++) {
+            partnerIds[i] = entries.get(i).getKey();
+            treePaths[i] = entries.get(i).getValue();
+            indexByPartnerId.put(partnerIds[i], i);
+        }
+
+        // 정렬된 경로에서 하위 경로는 연속 구간이므로 뒤에서부터 서브트리 끝 위치 계산
+        for (int i = size - 1; i >= 0; i--) {
+            if (i + 1 < size && treePaths[i + 1].equals(treePaths[i])) {
+                exits[i] = exits[i + 1]; // 중복 경로는 같은 서브트리를 공유
+                continue;
+            }
+            int exit = i;
+            int next = i + 1;
+            while (next < size && treePaths[next].startsWith(treePaths[i])) {
+                exit = exits[next];
+                next = exits[next] + 1;
+            }
+            exits[i] = exit;
+        }
+    }
+
+    /**
+     * 협력사 ID → 계층 경로 매핑으로 트리 생성
+     */
+    public static OrganizationTree of(Map<Long, String> treePathByPartnerId) {
+        return treePathByPartnerId.isEmpty() ? EMPTY : new OrganizationTree(treePathByPartnerId);
+    }
+
+    public static OrganizationTree empty() {
+        return EMPTY;
+    }
+
+    // ========================================================================
+    // 구간 조회 메서드
+    // ========================================================================
+
+    public int size() {
+        return partnerIds.length;
+    }
+
+    public boolean contains(Long partnerId, String treePath) {
+        Integer index = indexByPartnerId.get(partnerId);
+        return index != null && treePaths[index].equals(treePath);
+    }
+
+    /**
+     * 전위 순회 위치 (없으면 -1)
+     */
+    public int indexOf(Long partnerId) {
+        Integer index = indexByPartnerId.get(partnerId);
+        return index != null ? index : -1;
+    }
+
+    public long partnerIdAt(int index) {
+        return partnerIds[index];
+    }
+
+    public String treePathAt(int index) {
+        return treePaths[index];
+    }
+
+    /**
+     * 경로 하위 조직 구간 [from, to) - 경로 자신(중복 경로 포함)은 제외 (본사 루트 "/"는 전체 구간)
+     */
+    public int[] descendantRange(String treePath) {
+        if (isRoot(treePath)) {
+            return new int[]{0, partnerIds.length};
+        }
+        int from = lowerBound(treePath);
+        if (from < partnerIds.length && treePaths[from].equals(treePath)) {
+            int to = exits[from] + 1;
+            while (from < to && treePaths[from].equals(treePath)) {
+                from++;
+            }
+            return new int[]{from, to};
+        }
+        // 경로 자신이 트리에 없는 경우 - 접두사가 일치하는 연속 구간
+        int to = from;
+        while (to < partnerIds.length && treePaths[to].startsWith(treePath)) {
+            to++;
+        }
+        return new int[]{from, to};
+    }
+
+    /**
+     * 경로 하위 조직 협력사 ID 목록 (전위 순회 순서)
+     */
+    public List<Long> descendantsOf(String treePath) {
+        int[] range = descendantRange(treePath);
+        List<Long> descendants = new ArrayList<>(range[1] - range[0]);
+        for (int i = range[0]; i < range[1]; i++) {
+            descendants.add(partnerIds[i]);
+        }
+        return descendants;
+    }
+
+    /**
+     * 경로 직속 하위 조직 협력사 ID 목록 (정확히 한 레벨 아래 경로만, 중복 경로 포함)
+     * 중간 경로의 협력사가 없어도 손자 조직은 직속으로 올라오지 않음
+     */
+    public List<Long> directChildrenOf(String treePath) {
+        int[] range = descendantRange(treePath);
+        int childLevel = isRoot(treePath) ? 1 : OrganizationHierarchyService.calculateLevel(treePath) + 1;
+        List<Long> children = new ArrayList<>();
+        int i = range[0];
+        while (i < range[1]) {
+            if (OrganizationHierarchyService.calculateLevel(treePaths[i]) != childLevel) {
+                i++; // 중간 경로가 비어 있는 더 깊은 조직은 건너뛰고 계속 탐색
+                continue;
+            }
+            children.add(partnerIds[i]);
+            boolean duplicateFollows = i + 1 < range[1] && treePaths[i + 1].equals(treePaths[i]);
+            i = duplicateFollows ? i + 1 : exits[i] + 1; // 자식의 서브트리 건너뛰기
+        }
+        return children;
+    }
+
+    /**
+     * 경로 상위 조직 협력사 ID 목록 (가까운 상위부터, 경로 자신과 본사 루트는 제외, 중복 경로 포함)
+     */
+    public List<Long> ancestorsOf(String treePath) {
+        List<Long> ancestors = new ArrayList<>();
+        if (treePath == null || treePath.length() < 2) {
+            return ancestors;
+        }
+        int end = treePath.lastIndexOf('/', treePath.length() - 2);
+        while (end > 0) {
+            String prefix = treePath.substring(0, end + 1);
+            for (int i = lowerBound(prefix); i < treePaths.length && treePaths[i].equals(prefix); i++) {
+                ancestors.add(partnerIds[i]);
+            }
+            end = treePath.lastIndexOf('/', end - 1);
+        }
+        return ancestors;
+    }
+
+    // ========================================================================
+    // 레벨 계산 메서드
+    // ========================================================================
+
+    /**
+     * treePath 레벨 파싱 (/1/L1-001/L2-003/ -> L1, L2 중 최대값 2)
+     */
+    public static int parseLevel(String treePath) {
+        if (treePath == null || treePath.trim().isEmpty()) {
+            return 0; // 본사
+        }
+        int level = 0;
+        for (String part : treePath.split("/")) {
+            if (part.startsWith("L")) {
+                try {
+                    level = Math.max(level, Integer.parseInt(part.substring(1, 2)));
+                } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
+                    // 파싱 실패 시 기본값 유지
+                }
+            }
+        }
+        return level;
+    }
+
+    private static boolean isRoot(String treePath) {
+        return treePath == null || "/".equals(treePath);
+    }
+
+    /**
+     * 경로가 처음 나타나는 위치 (중복 경로는 가장 앞, 없으면 삽입 위치)
+     */
+    private int lowerBound(String treePath) {
+        int low = 0;
+        int high = treePaths.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (treePaths[mid].compareTo(treePath) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
@@ -0,0 +1,101 @@
+package com.nsmm.esg.scope_service.service;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 본사별 조직 트리(OrganizationTree) 메모리 인덱스
+ *
+ * 주요 기능:
+ * - 본사 단위 트리를 최초 조회 시 1회 적재하여 재사용 (OrganizationHierarchyService 전체 협력사 조회)
+ * - 하위 조직 조회 / 레벨 계산을 배열 구간 연산으로 처리
+ * - 트리에 없는 협력사 경로가 기록되면 커밋 후 해당 본사 트리 폐기
+ *
+ * 최대 5분 이전 상태일 수 있으므로 캐시 워밍업 대상 선정처럼 결과 정확성과 무관한 용도에만 사용
+ * (집계 범위 / 접근 검증 / 마감 스냅샷은 OrganizationHierarchyService로 데이터베이스 기준 조회)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrganizationTreeIndex {
+
+    private static final long REFRESH_INTERVAL_MILLIS = 5 * 60 * 1000L; // 5분
+
+    private final OrganizationHierarchyService organizationHierarchyService;
+
+    private final Map<Long, CachedTree> treesByHeadquarters = new ConcurrentHashMap<>();
+
+    /**
+     * 본사 조직 트리 조회 (없거나 만료되면 재적재)
+     */
+    public OrganizationTree getTree(Long headquartersId) {
+        if (headquartersId == null) {
+            return OrganizationTree.empty();
+        }
+        long now = System.currentTimeMillis();
+        CachedTree cached = treesByHeadquarters.get(headquartersId);
+        if (cached != null && now - cached.getLoadedAt() < REFRESH_INTERVAL_MILLIS) {
+            return cached.getTree();
+        }
+        OrganizationTree tree = loadTree(headquartersId);
+        treesByHeadquarters.put(headquartersId, new CachedTree(tree, now));
+        return tree;
+    }
+
+    /**
+     * 협력사 배출량 쓰기 반영 - 트리에 없는 (협력사, 경로)면 커밋 후 본사 트리 폐기
+     */
+    public void onPartnerWrite(Long headquartersId, Long partnerId, String treePath) {
+        if (headquartersId == null || partnerId == null || treePath == null) {
+            return;
+        }
+        CachedTree cached = treesByHeadquarters.get(headquartersId);
+        if (cached == null || cached.getTree().contains(partnerId, treePath)) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evict(headquartersId);
+                }
+            });
+        } else {
+            evict(headquartersId);
+        }
+    }
+
+    public void evict(Long headquartersId) {
+        if (treesByHeadquarters.remove(headquartersId) != null) {
+            log.debug("조직 트리 인덱스 폐기 - 본사: {}", headquartersId);
+        }
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    private OrganizationTree loadTree(Long headquartersId) {
+        long startTime = System.currentTimeMillis();
+
+        OrganizationTree tree = OrganizationTree.of(organizationHierarchyService.findPartnerTreePaths(headquartersId));
+        log.debug("조직 트리 인덱스 적재 - 본사: {}, 협력사: {}개 ({}ms)",
+                headquartersId, tree.size(), System.currentTimeMillis() - startTime);
+        return tree;
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    private static final class CachedTree {
+        private final OrganizationTree tree;
+        private final long loadedAt;
+    }
+}
@@ -0,0 +1,134 @@
+package com.nsmm.esg.scope_service.service;
+
+import com.nsmm.esg.scope_service.dto.response.ReportingPeriodCloseResponse;
+import com.nsmm.esg.scope_service.entity.ReportingPeriodClose;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.repository.ReportingPeriodCloseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 보고 기간 마감 서비스
+ *
+ * 주요 기능:
+ * - 본사/연도/월 단위 마감 처리
+ * - 마감 시점의 특수 집계, 카테고리별, Scope3 카테고리, 월별 요약 결과를 조직별 스냅샷으로 저장
+ * - 마감 이력 조회
+ *
+ * 스냅샷 대상 조직: 본사 + 데이터베이스 기준 본사의 전체 협력사
+ * 스냅샷은 마감 잠금 트랜잭션 안에서 캐시/기존 스냅샷을 거치지 않고 원본 데이터로 계산
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReportingPeriodCloseService {
+
+    private static final long HEADQUARTERS_ONLY_PARTNER_ID = -1L; // 월별 요약의 본사 직접 입력 구분값
+
+    private final ReportingPeriodCloseRepository reportingPeriodCloseRepository;
+    private final AggregationSnapshotService aggregationSnapshotService;
+    private final Scope3SpecialAggregationService scope3SpecialAggregationService;
+    private final ScopeEmissionService scopeEmissionService;
+    private final ScopeAggregationService scopeAggregationService;
+    private final OrganizationHierarchyService organizationHierarchyService;
+    private final CacheWarmupService cacheWarmupService;
+
+    /**
+     * 보고 기간 마감 - 마감 기록과 스냅샷을 한 트랜잭션으로 저장
+     * 배출량 쓰기와 같은 보고 기간 잠금을 먼저 획득하여 진행 중인 쓰기 커밋 후 스냅샷 생성
+     * 이미 마감된 기간은 IllegalStateException (동시 마감이 유니크 키에 걸리면 DataIntegrityViolationException)
+     */
+    @Transactional
+    public ReportingPeriodCloseResponse closePeriod(Long headquartersId, Integer year, Integer month, String closedBy) {
+        long startTime = System.currentTimeMillis();
+
+        if (month == null || month < 1 || month > 12) {
+            throw new IllegalArgumentException("월은 1-12 범위여야 합니다");
+        }
+        if (aggregationSnapshotService.lockAndCheckClosed(headquartersId, year, month)) {
+            throw new IllegalStateException(String.format("이미 마감된 보고 기간입니다 (%d년 %d월)", year, month));
+        }
+
+        ReportingPeriodClose close = reportingPeriodCloseRepository.saveAndFlush(ReportingPeriodClose.builder()
+                .headquartersId(headquartersId)
+                .reportingYear(year)
+                .reportingMonth(month)
+                .closedBy(closedBy)
+                .closedAt(LocalDateTime.now())
+                .build());
+
+        // 본사 스냅샷
+        int snapshotCount = saveOrganizationSnapshots(headquartersId, year, month, null, null);
+
+        // 협력사 스냅샷 (데이터베이스 기준 전체 협력사, 경로 순서)
+        Map<Long, String> partnerTreePaths = organizationHierarchyService.findPartnerTreePaths(headquartersId);
+        for (Map.Entry<Long, String> partner : partnerTreePaths.entrySet()) {
+            snapshotCount += saveOrganizationSnapshots(
+                    headquartersId, year, month, partner.getKey(), partner.getValue());
+        }
+
+        // 커밋 후 마감 월 목록 재조회 (커밋 전 조회 시 스냅샷 없이 원본 재집계) 및 마감 연도 캐시 워밍업
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                aggregationSnapshotService.evictClosedMonths(headquartersId, year);
+                cacheWarmupService.warmUpAsync(headquartersId, year);
+            }
+        });
+
+        log.info("보고 기간 마감 완료 - 본사: {}, {}년 {}월, 협력사: {}개, 스냅샷: {}건 ({}ms)",
+                headquartersId, year, month, partnerTreePaths.size(), snapshotCount, System.currentTimeMillis() - startTime);
+        return ReportingPeriodCloseResponse.from(close, snapshotCount);
+    }
+
+    /**
+     * 연도별 마감 이력 조회
+     */
+    @Transactional(readOnly = true)
+    public List<ReportingPeriodCloseResponse> getClosedPeriods(Long headquartersId, Integer year) {
+        return reportingPeriodCloseRepository
+                .findByHeadquartersIdAndReportingYearOrderByReportingMonthAsc(headquartersId, year)
+                .stream()
+                .map(close -> ReportingPeriodCloseResponse.from(close, null))
+                .collect(Collectors.toList());
+    }
+
+    // ========================================================================
+    // 내부 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * 조직 단위 스냅샷 저장 (partnerId가 null이면 본사)
+     * 캐시된 조회 메서드 대신 원본 집계 메서드 사용 (캐시에 남은 마감 전 값이 스냅샷으로 고정되지 않도록)
+     */
+    private int saveOrganizationSnapshots(Long headquartersId, Integer year, Integer month,
+                                          Long partnerId, String treePath) {
+        boolean isHeadquarters = partnerId == null;
+        String subjectKey = AggregationSnapshotService.subjectKey(partnerId);
+
+        aggregationSnapshotService.saveSnapshot(headquartersId, year, month, SnapshotType.SPECIAL_AGGREGATION, subjectKey,
+                scope3SpecialAggregationService.calculateSpecialAggregation(
+                        year, month, headquartersId, isHeadquarters ? "HEADQUARTERS" : "PARTNER", partnerId, treePath));
+
+        aggregationSnapshotService.saveSnapshot(headquartersId, year, month, SnapshotType.CATEGORY_WISE, subjectKey,
+                scopeEmissionService.calculateCategoryWiseEmissions(headquartersId, partnerId, year, month));
+
+        aggregationSnapshotService.saveSnapshot(headquartersId, year, month, SnapshotType.SCOPE3_CATEGORIES, subjectKey,
+                scopeEmissionService.calculateScope3AllCategoriesEmissions(headquartersId, partnerId, year, month));
+
+        aggregationSnapshotService.saveSnapshot(headquartersId, year, month, SnapshotType.MONTHLY_SUMMARY, subjectKey,
+                scopeAggregationService.calculateMonthlyEmissionSummary(
+                        headquartersId, isHeadquarters ? HEADQUARTERS_ONLY_PARTNER_ID : partnerId, year, month));
+
+        return SnapshotType.values().length;
+    }
+}
@@ -1,16 +1,20 @@
 package com.nsmm.esg.scope_service.service;
 
 import com.nsmm.esg.scope_service.dto.response.Scope3SpecialAggregationResponse;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
 import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
-import com.nsmm.esg.scope_service.service.ScopeEmissionService;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
-import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 
 /**
  * Scope 3 특수 집계 서비스
@@ -20,6 +24,8 @@ import java.util.Map;
  * - Cat.2: Scope1 공장설비 + Scope2 공장설비 + Scope3 Cat.2
  * - Cat.4: Scope1 이동연소 + Scope3 Cat.4
  * - Cat.5: Scope1 폐수처리 + Scope3 Cat.5
+ *
+ * 집계 범위: 본사는 본사 직접 입력 + 전체 협력사, 협력사는 본인 + treePath 하위 협력사 (하위 조직 선별은 SQL 조건)
  */
 @Service
 @RequiredArgsConstructor
@@ -27,7 +33,10 @@ import java.util.Map;
 public class Scope3SpecialAggregationService {
 
     private final ScopeEmissionRepository scopeEmissionRepository;
-    private final ScopeEmissionService scopeEmissionService;
+    private final EmissionRollupRepository emissionRollupRepository;
+    private final EmissionRollupService emissionRollupService;
+    private final OrganizationHierarchyService organizationHierarchyService;
+    private final AggregationSnapshotService aggregationSnapshotService;
 
     /**
      * 특수 집계 실행 - 로그인된 사용자 기준 (최적화된 통합 쿼리 방식)
@@ -41,18 +50,46 @@ public class Scope3SpecialAggregationService {
             Long partnerId,
             String treePath) {
 
+        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+
+        // 마감된 기간은 마감 시점 스냅샷 반환
+        Optional<Scope3SpecialAggregationResponse> closedSnapshot = aggregationSnapshotService.findSnapshot(
+                headquartersId, year, month, SnapshotType.SPECIAL_AGGREGATION,
+                AggregationSnapshotService.subjectKey(isHeadquarters ? null : partnerId),
+                Scope3SpecialAggregationResponse.class);
+        if (closedSnapshot.isPresent()) {
+            log.debug("Scope3 특수집계 마감 스냅샷 반환 - {}년 {}월", year, month);
+            return closedSnapshot.get();
+        }
+
+        return calculateSpecialAggregation(year, month, headquartersId, userType, partnerId, treePath);
+    }
+
+    /**
+     * 월별 특수 집계 원본 계산 (스냅샷 미사용)
+     * 보고 기간 마감 시 스냅샷 생성에도 사용
+     */
+    public Scope3SpecialAggregationResponse calculateSpecialAggregation(
+            Integer year,
+            Integer month,
+            Long headquartersId,
+            String userType,
+            Long partnerId,
+            String treePath) {
+
         long startTime = System.currentTimeMillis();
+        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
 
-        // 통합 쿼리를 사용한 최적화된 집계 실행
-        Scope3SpecialAggregationResponse.Category1Detail category1Detail = calculateCategory1Optimized(
-                year, month, headquartersId, userType, partnerId, treePath);
-        Scope3SpecialAggregationResponse.Category2Detail category2Detail = calculateCategory2Optimized(
-                year, month, headquartersId, userType, partnerId, treePath);
-        Scope3SpecialAggregationResponse.Category4Detail category4Detail = calculateCategory4Optimized(
-                year, month, headquartersId, userType, partnerId, treePath);
-        Scope3SpecialAggregationResponse.Category5Detail category5Detail = calculateCategory5Optimized(
+        // 요청 단위 집계 스냅샷 1회 로딩 (본인 버킷, 하위 조직 버킷)
+        SpecialAggregationSnapshot snapshot = loadMonthlySnapshot(
                 year, month, headquartersId, userType, partnerId, treePath);
 
+        // 스냅샷을 공유하여 카테고리별 집계 실행
+        Scope3SpecialAggregationResponse.Category1Detail category1Detail = calculateCategory1Optimized(snapshot, isHeadquarters);
+        Scope3SpecialAggregationResponse.Category2Detail category2Detail = calculateCategory2Optimized(snapshot, isHeadquarters);
+        Scope3SpecialAggregationResponse.Category4Detail category4Detail = calculateCategory4Optimized(snapshot, isHeadquarters);
+        Scope3SpecialAggregationResponse.Category5Detail category5Detail = calculateCategory5Optimized(snapshot, isHeadquarters);
+
         // 응답 생성
         Scope3SpecialAggregationResponse response = Scope3SpecialAggregationResponse.builder()
                 .reportingYear(year)
@@ -81,9 +118,12 @@ public class Scope3SpecialAggregationService {
     }
 
     /**
-     * 연간 특수 집계 실행 - 최적화된 통합 쿼리 방식 (12개월 통합 조회)
-     * 기존의 12번 반복 호출을 통합하여 성능 대폭 향상
+     * 연간 특수 집계 실행 - 조직 × 월 × 버킷 그리드 단일 조회 방식
+     * 연간 버킷 그리드를 한 번에 조회한 뒤 본인/하위 조직 합계를 메모리에서 계산
+     * 대시보드 / Scope3 연별 통합 조회가 공유하므로 (본사, 협력사|HQ, 연도) 단위로 캐시
      */
+    @Cacheable(value = EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE, sync = true,
+               key = "T(com.nsmm.esg.scope_service.service.EmissionCacheKeys).specialAggregationYearly(#headquartersId, #userType == 'HEADQUARTERS' ? null : #partnerId, #year)")
     @Transactional(readOnly = true)
     public Scope3SpecialAggregationResponse getYearlySpecialAggregation(
             Integer year,
@@ -96,18 +136,39 @@ public class Scope3SpecialAggregationService {
         log.info("Scope3 연간 특수집계 시작 - {}년", year);
 
         try {
-            // 연간 카테고리별 집계 실행 (통합 쿼리 사용)
-            Scope3SpecialAggregationResponse.Category1Detail yearlyCategory1Detail = 
-                calculateYearlyCategory1Optimized(year, headquartersId, userType, partnerId, treePath);
-            Scope3SpecialAggregationResponse.Category2Detail yearlyCategory2Detail = 
-                calculateYearlyCategory2Optimized(year, headquartersId, userType, partnerId, treePath);
-            Scope3SpecialAggregationResponse.Category4Detail yearlyCategory4Detail = 
-                calculateYearlyCategory4Optimized(year, headquartersId, userType, partnerId, treePath);
-            Scope3SpecialAggregationResponse.Category5Detail yearlyCategory5Detail = 
-                calculateYearlyCategory5Optimized(year, headquartersId, userType, partnerId, treePath);
+            boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+
+            // 연간 조직 × 월 × 버킷 그리드 조회 (단일 그룹 쿼리, 협력사는 본인 + 하위 조직 행만)
+            List<Object[]> yearlyGrid;
+            if (isHeadquarters) {
+                yearlyGrid = emissionRollupService.isReadEnabled()
+                        ? emissionRollupRepository.sumSpecialAggregationBucketsByPartnerAndMonth(headquartersId, year)
+                        : scopeEmissionRepository.sumSpecialAggregationBucketsByPartnerAndMonth(headquartersId, year);
+            } else {
+                yearlyGrid = isRollupSubtreeReadEnabled()
+                        ? emissionRollupRepository.sumSpecialAggregationBucketsByPartnerAndMonthForSubtree(
+                                headquartersId, year, partnerId, treePath)
+                        : scopeEmissionRepository.sumSpecialAggregationBucketsByPartnerAndMonthForSubtree(
+                                headquartersId, year, partnerId, treePath);
+            }
+
+            // 그리드에서 본인/하위 조직 연간 버킷 합산
+            SpecialAggregationSnapshot snapshot = SpecialAggregationSnapshot.of(yearlyGrid, 2, isHeadquarters, partnerId);
+            SpecialAggregationBuckets ownBuckets = snapshot.getOwnBuckets();
+            SpecialAggregationBuckets childBuckets = snapshot.getChildBuckets();
+
+            // 연간 카테고리별 상세 계산
+            Scope3SpecialAggregationResponse.Category1Detail yearlyCategory1Detail =
+                buildCategory1Detail(ownBuckets, childBuckets.getCategory1Total(), isHeadquarters);
+            Scope3SpecialAggregationResponse.Category2Detail yearlyCategory2Detail =
+                buildCategory2Detail(ownBuckets, childBuckets.getCategory2Total(), isHeadquarters);
+            Scope3SpecialAggregationResponse.Category4Detail yearlyCategory4Detail =
+                buildCategory4Detail(ownBuckets, childBuckets.getCategory4Total(), isHeadquarters);
+            Scope3SpecialAggregationResponse.Category5Detail yearlyCategory5Detail =
+                buildCategory5Detail(ownBuckets, childBuckets.getCategory5Total(), isHeadquarters);
 
             // 응답 생성 (12월로 설정하여 연별임을 표시)
-            Long organizationId = "HEADQUARTERS".equals(userType) ? headquartersId : partnerId;
+            Long organizationId = isHeadquarters ? headquartersId : partnerId;
             
             Scope3SpecialAggregationResponse response = Scope3SpecialAggregationResponse.builder()
                     .reportingYear(year)
@@ -130,8 +191,8 @@ public class Scope3SpecialAggregationService {
                     .add(yearlyCategory4Detail.getFinalTotal())
                     .add(yearlyCategory5Detail.getFinalTotal());
             
-            log.info("Scope3 연별 특수집계 완료 - {}년: {} tCO2eq ({}ms)", 
-                    year, totalEmission, totalDuration);
+            log.info("Scope3 연별 특수집계 완료 - {}년: {} tCO2eq ({}ms, 그리드 {}행)", 
+                    year, totalEmission, totalDuration, yearlyGrid.size());
                     
             return response;
 
@@ -141,838 +202,291 @@ public class Scope3SpecialAggregationService {
         }
     }
 
+    // ========================================================================
+    // 버킷 합계 기반 카테고리 상세 생성 헬퍼 메서드들
+    // ========================================================================
+
     /**
-     * 연간 Cat.1 집계 - 최적화된 통합 쿼리 방식 (12개월 통합)
+     * Cat.1 상세 생성 - 본사는 본인 + 하위 조직, 협력사는 하위 조직 finalTotal만
      */
-    private Scope3SpecialAggregationResponse.Category1Detail calculateYearlyCategory1Optimized(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        BigDecimal totalScope1Total = BigDecimal.ZERO;
-        BigDecimal totalScope1MobileCombustion = BigDecimal.ZERO;
-        BigDecimal totalScope1Factory = BigDecimal.ZERO;
-        BigDecimal totalScope1WasteWater = BigDecimal.ZERO;
-        BigDecimal totalScope2Total = BigDecimal.ZERO;
-        BigDecimal totalScope2Factory = BigDecimal.ZERO;
-        BigDecimal totalScope3Category1 = BigDecimal.ZERO;
-        
-        // 1월부터 12월까지 통합 쿼리로 조회하여 합산
-        for (int month = 1; month <= 12; month++) {
-            Map<String, Object> aggregationData = isHeadquarters
-                    ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                    : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-            totalScope1Total = totalScope1Total.add(extractTotalEmission(aggregationData, "SCOPE1_TOTAL"));
-            totalScope1MobileCombustion = totalScope1MobileCombustion.add(extractTotalEmission(aggregationData, "SCOPE1_MOBILE"));
-            totalScope1Factory = totalScope1Factory.add(extractTotalEmission(aggregationData, "SCOPE1_FACTORY"));
-            totalScope1WasteWater = totalScope1WasteWater.add(extractTotalEmission(aggregationData, "SCOPE1_WASTEWATER"));
-            totalScope2Total = totalScope2Total.add(extractTotalEmission(aggregationData, "SCOPE2_TOTAL"));
-            totalScope2Factory = totalScope2Factory.add(extractTotalEmission(aggregationData, "SCOPE2_FACTORY"));
-            
-            // Scope3 Category 1은 별도 조회
-            BigDecimal monthlyScope3Cat1 = isHeadquarters
-                    ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 1, year, month)
-                    : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 1, year, month);
-            totalScope3Category1 = totalScope3Category1.add(monthlyScope3Cat1);
-        }
-
-        // 하위 조직들의 연간 Cat.1 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat1Total = calculateYearlyChildOrganizationsCat1Total(
-                year, headquartersId, userType, partnerId, treePath);
+    private Scope3SpecialAggregationResponse.Category1Detail buildCategory1Detail(
+            SpecialAggregationBuckets own, BigDecimal childOrganizationsCat1Total, boolean isHeadquarters) {
 
-        // 계산 수행
-        BigDecimal scope1Remaining = totalScope1Total
-                .subtract(totalScope1MobileCombustion)
-                .subtract(totalScope1Factory)
-                .subtract(totalScope1WasteWater);
+        BigDecimal scope1Remaining = own.getScope1Remaining();
+        BigDecimal scope2Remaining = own.getScope2Remaining();
 
-        BigDecimal scope2Remaining = totalScope2Total.subtract(totalScope2Factory);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = scope1Remaining
-                    .add(scope2Remaining)
-                    .add(totalScope3Category1)
-                    .add(childOrganizationsCat1Total);
-        } else {
-            finalTotal = childOrganizationsCat1Total;
-        }
+        BigDecimal finalTotal = isHeadquarters
+                ? scope1Remaining.add(scope2Remaining).add(own.getScope3Category1()).add(childOrganizationsCat1Total)
+                : childOrganizationsCat1Total;
 
         return Scope3SpecialAggregationResponse.Category1Detail.builder()
-                .scope1Total(totalScope1Total)
-                .scope1MobileCombustion(totalScope1MobileCombustion)
-                .scope1Factory(totalScope1Factory)
-                .scope1WasteWater(totalScope1WasteWater)
+                .scope1Total(own.getScope1Total())
+                .scope1MobileCombustion(own.getScope1MobileCombustion())
+                .scope1Factory(own.getScope1Factory())
+                .scope1WasteWater(own.getScope1WasteWater())
                 .scope1Remaining(scope1Remaining)
-                .scope2Total(totalScope2Total)
-                .scope2Factory(totalScope2Factory)
+                .scope2Total(own.getScope2Total())
+                .scope2Factory(own.getScope2Factory())
                 .scope2Remaining(scope2Remaining)
-                .scope3Category1(isHeadquarters ? totalScope3Category1.add(childOrganizationsCat1Total) : totalScope3Category1)
+                .scope3Category1(isHeadquarters ? own.getScope3Category1().add(childOrganizationsCat1Total) : own.getScope3Category1())
                 .finalTotal(finalTotal)
                 .build();
     }
 
     /**
-     * 연간 Cat.2 집계 - 최적화된 통합 쿼리 방식
+     * Cat.2 상세 생성 - 본사는 본인 + 하위 조직, 협력사는 하위 조직 finalTotal만
      */
-    private Scope3SpecialAggregationResponse.Category2Detail calculateYearlyCategory2Optimized(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
+    private Scope3SpecialAggregationResponse.Category2Detail buildCategory2Detail(
+            SpecialAggregationBuckets own, BigDecimal childOrganizationsCat2Total, boolean isHeadquarters) {
 
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        BigDecimal totalScope1Factory = BigDecimal.ZERO;
-        BigDecimal totalScope2Factory = BigDecimal.ZERO;
-        BigDecimal totalScope3Category2 = BigDecimal.ZERO;
-        
-        // 1월부터 12월까지 통합 쿼리로 조회하여 합산
-        for (int month = 1; month <= 12; month++) {
-            Map<String, Object> aggregationData = isHeadquarters
-                    ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                    : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-            totalScope1Factory = totalScope1Factory.add(extractTotalEmission(aggregationData, "SCOPE1_FACTORY"));
-            totalScope2Factory = totalScope2Factory.add(extractTotalEmission(aggregationData, "SCOPE2_FACTORY"));
-            
-            // Scope3 Category 2는 별도 조회
-            BigDecimal monthlyScope3Cat2 = isHeadquarters
-                    ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 2, year, month)
-                    : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 2, year, month);
-            totalScope3Category2 = totalScope3Category2.add(monthlyScope3Cat2);
-        }
-
-        // 하위 조직들의 연간 Cat.2 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat2Total = calculateYearlyChildOrganizationsCat2Total(
-                year, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = totalScope1Factory.add(totalScope2Factory).add(totalScope3Category2).add(childOrganizationsCat2Total);
-        } else {
-            finalTotal = childOrganizationsCat2Total;
-        }
+        BigDecimal finalTotal = isHeadquarters
+                ? own.getCategory2Total().add(childOrganizationsCat2Total)
+                : childOrganizationsCat2Total;
 
         return Scope3SpecialAggregationResponse.Category2Detail.builder()
-                .scope1Factory(totalScope1Factory)
-                .scope2Factory(totalScope2Factory)
-                .scope3Category2(isHeadquarters ? totalScope3Category2.add(childOrganizationsCat2Total) : totalScope3Category2)
+                .scope1Factory(own.getScope1Factory())
+                .scope2Factory(own.getScope2Factory())
+                .scope3Category2(isHeadquarters ? own.getScope3Category2().add(childOrganizationsCat2Total) : own.getScope3Category2())
                 .finalTotal(finalTotal)
                 .build();
     }
 
     /**
-     * 연간 Cat.4 집계 - 최적화된 통합 쿼리 방식
+     * Cat.4 상세 생성 - 본사는 본인 + 하위 조직, 협력사는 하위 조직 finalTotal만
      */
-    private Scope3SpecialAggregationResponse.Category4Detail calculateYearlyCategory4Optimized(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
+    private Scope3SpecialAggregationResponse.Category4Detail buildCategory4Detail(
+            SpecialAggregationBuckets own, BigDecimal childOrganizationsCat4Total, boolean isHeadquarters) {
 
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        BigDecimal totalScope1MobileCombustion = BigDecimal.ZERO;
-        BigDecimal totalScope3Category4 = BigDecimal.ZERO;
-        
-        // 1월부터 12월까지 통합 쿼리로 조회하여 합산
-        for (int month = 1; month <= 12; month++) {
-            Map<String, Object> aggregationData = isHeadquarters
-                    ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                    : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-            totalScope1MobileCombustion = totalScope1MobileCombustion.add(extractTotalEmission(aggregationData, "SCOPE1_MOBILE"));
-            
-            // Scope3 Category 4는 별도 조회
-            BigDecimal monthlyScope3Cat4 = isHeadquarters
-                    ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 4, year, month)
-                    : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 4, year, month);
-            totalScope3Category4 = totalScope3Category4.add(monthlyScope3Cat4);
-        }
-
-        // 하위 조직들의 연간 Cat.4 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat4Total = calculateYearlyChildOrganizationsCat4Total(
-                year, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = totalScope1MobileCombustion.add(totalScope3Category4).add(childOrganizationsCat4Total);
-        } else {
-            finalTotal = childOrganizationsCat4Total;
-        }
+        BigDecimal finalTotal = isHeadquarters
+                ? own.getCategory4Total().add(childOrganizationsCat4Total)
+                : childOrganizationsCat4Total;
 
         return Scope3SpecialAggregationResponse.Category4Detail.builder()
-                .scope1MobileCombustion(totalScope1MobileCombustion)
-                .scope3Category4(isHeadquarters ? totalScope3Category4.add(childOrganizationsCat4Total) : totalScope3Category4)
+                .scope1MobileCombustion(own.getScope1MobileCombustion())
+                .scope3Category4(isHeadquarters ? own.getScope3Category4().add(childOrganizationsCat4Total) : own.getScope3Category4())
                 .finalTotal(finalTotal)
                 .build();
     }
 
     /**
-     * 연간 Cat.5 집계 - 최적화된 통합 쿼리 방식
+     * Cat.5 상세 생성 - 본사는 본인 + 하위 조직, 협력사는 하위 조직 finalTotal만
      */
-    private Scope3SpecialAggregationResponse.Category5Detail calculateYearlyCategory5Optimized(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
+    private Scope3SpecialAggregationResponse.Category5Detail buildCategory5Detail(
+            SpecialAggregationBuckets own, BigDecimal childOrganizationsCat5Total, boolean isHeadquarters) {
 
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        BigDecimal totalScope1WasteWater = BigDecimal.ZERO;
-        BigDecimal totalScope3Category5 = BigDecimal.ZERO;
-        
-        // 1월부터 12월까지 통합 쿼리로 조회하여 합산
-        for (int month = 1; month <= 12; month++) {
-            Map<String, Object> aggregationData = isHeadquarters
-                    ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                    : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-            totalScope1WasteWater = totalScope1WasteWater.add(extractTotalEmission(aggregationData, "SCOPE1_WASTEWATER"));
-            
-            // Scope3 Category 5는 별도 조회
-            BigDecimal monthlyScope3Cat5 = isHeadquarters
-                    ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 5, year, month)
-                    : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 5, year, month);
-            totalScope3Category5 = totalScope3Category5.add(monthlyScope3Cat5);
-        }
-
-        // 하위 조직들의 연간 Cat.5 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat5Total = calculateYearlyChildOrganizationsCat5Total(
-                year, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = totalScope1WasteWater.add(totalScope3Category5).add(childOrganizationsCat5Total);
-        } else {
-            finalTotal = childOrganizationsCat5Total;
-        }
+        BigDecimal finalTotal = isHeadquarters
+                ? own.getCategory5Total().add(childOrganizationsCat5Total)
+                : childOrganizationsCat5Total;
 
         return Scope3SpecialAggregationResponse.Category5Detail.builder()
-                .scope1WasteWater(totalScope1WasteWater)
-                .scope3Category5(isHeadquarters ? totalScope3Category5.add(childOrganizationsCat5Total) : totalScope3Category5)
+                .scope1WasteWater(own.getScope1WasteWater())
+                .scope3Category5(isHeadquarters ? own.getScope3Category5().add(childOrganizationsCat5Total) : own.getScope3Category5())
                 .finalTotal(finalTotal)
                 .build();
     }
 
     // ========================================================================
-    // 연간 하위 조직의 특수 집계 finalTotal 계산 헬퍼 메서드들
+    // 최적화된 특수 집계 메서드들 (요청 단위 스냅샷 공유)
     // ========================================================================
 
     /**
-     * 하위 조직들의 연간 Cat.1 finalTotal 합계 계산
+     * 월별 특수 집계 스냅샷 로딩
+     * 조직별 버킷 그룹 쿼리 1회로 모든 카테고리 계산에 필요한 데이터 확보 (협력사는 본인 + 하위 조직 행만 조회)
      */
-    private BigDecimal calculateYearlyChildOrganizationsCat1Total(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        BigDecimal yearlyTotal = BigDecimal.ZERO;
-        
-        // 1월부터 12월까지 각 월의 하위 조직 Cat.1 합계 누적
-        for (int month = 1; month <= 12; month++) {
-            BigDecimal monthlyTotal = calculateChildOrganizationsCat1Total(
-                    year, month, headquartersId, userType, partnerId, treePath);
-            yearlyTotal = yearlyTotal.add(monthlyTotal);
-        }
-        
-        return yearlyTotal;
-    }
-
-    /**
-     * 하위 조직들의 연간 Cat.2 finalTotal 합계 계산
-     */
-    private BigDecimal calculateYearlyChildOrganizationsCat2Total(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        BigDecimal yearlyTotal = BigDecimal.ZERO;
-        
-        for (int month = 1; month <= 12; month++) {
-            BigDecimal monthlyTotal = calculateChildOrganizationsCat2Total(
-                    year, month, headquartersId, userType, partnerId, treePath);
-            yearlyTotal = yearlyTotal.add(monthlyTotal);
-        }
-        
-        return yearlyTotal;
-    }
+    private SpecialAggregationSnapshot loadMonthlySnapshot(
+            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
 
-    /**
-     * 하위 조직들의 연간 Cat.4 finalTotal 합계 계산
-     */
-    private BigDecimal calculateYearlyChildOrganizationsCat4Total(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        BigDecimal yearlyTotal = BigDecimal.ZERO;
-        
-        for (int month = 1; month <= 12; month++) {
-            BigDecimal monthlyTotal = calculateChildOrganizationsCat4Total(
-                    year, month, headquartersId, userType, partnerId, treePath);
-            yearlyTotal = yearlyTotal.add(monthlyTotal);
+        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+        List<Object[]> rows;
+        if (isHeadquarters) {
+            rows = emissionRollupService.isReadEnabled()
+                    ? emissionRollupRepository.sumSpecialAggregationBucketsByPartnerForMonth(headquartersId, year, month)
+                    : scopeEmissionRepository.sumSpecialAggregationBucketsByPartnerForMonth(headquartersId, year, month);
+        } else {
+            rows = isRollupSubtreeReadEnabled()
+                    ? emissionRollupRepository.sumSpecialAggregationBucketsByPartnerForMonthForSubtree(
+                            headquartersId, year, month, partnerId, treePath)
+                    : scopeEmissionRepository.sumSpecialAggregationBucketsByPartnerForMonthForSubtree(
+                            headquartersId, year, month, partnerId, treePath);
         }
-        
-        return yearlyTotal;
-    }
 
-    /**
-     * 하위 조직들의 연간 Cat.5 finalTotal 합계 계산
-     */
-    private BigDecimal calculateYearlyChildOrganizationsCat5Total(
-            Integer year, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        BigDecimal yearlyTotal = BigDecimal.ZERO;
-        
-        for (int month = 1; month <= 12; month++) {
-            BigDecimal monthlyTotal = calculateChildOrganizationsCat5Total(
-                    year, month, headquartersId, userType, partnerId, treePath);
-            yearlyTotal = yearlyTotal.add(monthlyTotal);
-        }
-        
-        return yearlyTotal;
+        return SpecialAggregationSnapshot.of(rows, 1, isHeadquarters, partnerId);
     }
 
-    // ========================================================================
-    // 최적화된 특수 집계 메서드들 (통합 쿼리 사용)
-    // ========================================================================
-
     /**
-     * Cat.1 집계 - 최적화된 통합 쿼리 방식
+     * Cat.1 집계 - 스냅샷 기반
      */
     private Scope3SpecialAggregationResponse.Category1Detail calculateCategory1Optimized(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        // 통합 쿼리를 사용하여 모든 특수 집계 데이터를 한 번에 조회
-        Map<String, Object> aggregationData = isHeadquarters
-                ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-        // 통합 쿼리 결과에서 필요한 데이터 추출
-        BigDecimal scope1Total = extractTotalEmission(aggregationData, "SCOPE1_TOTAL");
-        BigDecimal scope1MobileCombustion = extractTotalEmission(aggregationData, "SCOPE1_MOBILE");
-        BigDecimal scope1Factory = extractTotalEmission(aggregationData, "SCOPE1_FACTORY");
-        BigDecimal scope1WasteWater = extractTotalEmission(aggregationData, "SCOPE1_WASTEWATER");
-        BigDecimal scope2Total = extractTotalEmission(aggregationData, "SCOPE2_TOTAL");
-        BigDecimal scope2Factory = extractTotalEmission(aggregationData, "SCOPE2_FACTORY");
-        
-        // Scope3 Category 1은 별도 조회 (통합 쿼리에 포함되지 않음)
-        BigDecimal scope3Category1 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 1, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 1, year, month);
-
-        // 하위 조직들의 Cat.1 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat1Total = calculateChildOrganizationsCat1Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // 계산 수행
-        BigDecimal scope1Remaining = scope1Total
-                .subtract(scope1MobileCombustion)
-                .subtract(scope1Factory)
-                .subtract(scope1WasteWater);
-
-        BigDecimal scope2Remaining = scope2Total.subtract(scope2Factory);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = scope1Remaining
-                    .add(scope2Remaining)
-                    .add(scope3Category1)
-                    .add(childOrganizationsCat1Total);
-        } else {
-            finalTotal = childOrganizationsCat1Total;
-        }
-
-        return Scope3SpecialAggregationResponse.Category1Detail.builder()
-                .scope1Total(scope1Total)
-                .scope1MobileCombustion(scope1MobileCombustion)
-                .scope1Factory(scope1Factory)
-                .scope1WasteWater(scope1WasteWater)
-                .scope1Remaining(scope1Remaining)
-                .scope2Total(scope2Total)
-                .scope2Factory(scope2Factory)
-                .scope2Remaining(scope2Remaining)
-                .scope3Category1(isHeadquarters ? scope3Category1.add(childOrganizationsCat1Total) : scope3Category1)
-                .finalTotal(finalTotal)
-                .build();
+            SpecialAggregationSnapshot snapshot, boolean isHeadquarters) {
+        return buildCategory1Detail(snapshot.getOwnBuckets(), snapshot.getChildBuckets().getCategory1Total(), isHeadquarters);
     }
 
     /**
-     * Cat.2 집계 - 최적화된 통합 쿼리 방식
+     * Cat.2 집계 - 스냅샷 기반
      */
     private Scope3SpecialAggregationResponse.Category2Detail calculateCategory2Optimized(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        // 통합 쿼리를 사용하여 모든 특수 집계 데이터를 한 번에 조회
-        Map<String, Object> aggregationData = isHeadquarters
-                ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-        // 통합 쿼리 결과에서 필요한 데이터 추출
-        BigDecimal scope1Factory = extractTotalEmission(aggregationData, "SCOPE1_FACTORY");
-        BigDecimal scope2Factory = extractTotalEmission(aggregationData, "SCOPE2_FACTORY");
-        
-        // Scope3 Category 2는 별도 조회
-        BigDecimal scope3Category2 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 2, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 2, year, month);
-
-        // 하위 조직들의 Cat.2 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat2Total = calculateChildOrganizationsCat2Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = scope1Factory.add(scope2Factory).add(scope3Category2).add(childOrganizationsCat2Total);
-        } else {
-            finalTotal = childOrganizationsCat2Total;
-        }
-
-        return Scope3SpecialAggregationResponse.Category2Detail.builder()
-                .scope1Factory(scope1Factory)
-                .scope2Factory(scope2Factory)
-                .scope3Category2(isHeadquarters ? scope3Category2.add(childOrganizationsCat2Total) : scope3Category2)
-                .finalTotal(finalTotal)
-                .build();
+            SpecialAggregationSnapshot snapshot, boolean isHeadquarters) {
+        return buildCategory2Detail(snapshot.getOwnBuckets(), snapshot.getChildBuckets().getCategory2Total(), isHeadquarters);
     }
 
     /**
-     * Cat.4 집계 - 최적화된 통합 쿼리 방식
+     * Cat.4 집계 - 스냅샷 기반
      */
     private Scope3SpecialAggregationResponse.Category4Detail calculateCategory4Optimized(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        // 통합 쿼리를 사용하여 모든 특수 집계 데이터를 한 번에 조회
-        Map<String, Object> aggregationData = isHeadquarters
-                ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-        // 통합 쿼리 결과에서 필요한 데이터 추출
-        BigDecimal scope1MobileCombustion = extractTotalEmission(aggregationData, "SCOPE1_MOBILE");
-        
-        // Scope3 Category 4는 별도 조회
-        BigDecimal scope3Category4 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 4, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 4, year, month);
-
-        // 하위 조직들의 Cat.4 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat4Total = calculateChildOrganizationsCat4Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = scope1MobileCombustion.add(scope3Category4).add(childOrganizationsCat4Total);
-        } else {
-            finalTotal = childOrganizationsCat4Total;
-        }
-
-        return Scope3SpecialAggregationResponse.Category4Detail.builder()
-                .scope1MobileCombustion(scope1MobileCombustion)
-                .scope3Category4(isHeadquarters ? scope3Category4.add(childOrganizationsCat4Total) : scope3Category4)
-                .finalTotal(finalTotal)
-                .build();
+            SpecialAggregationSnapshot snapshot, boolean isHeadquarters) {
+        return buildCategory4Detail(snapshot.getOwnBuckets(), snapshot.getChildBuckets().getCategory4Total(), isHeadquarters);
     }
 
     /**
-     * Cat.5 집계 - 최적화된 통합 쿼리 방식
+     * Cat.5 집계 - 스냅샷 기반
      */
     private Scope3SpecialAggregationResponse.Category5Detail calculateCategory5Optimized(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-        
-        // 통합 쿼리를 사용하여 모든 특수 집계 데이터를 한 번에 조회
-        Map<String, Object> aggregationData = isHeadquarters
-                ? scopeEmissionService.getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month)
-                : scopeEmissionService.getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-
-        // 통합 쿼리 결과에서 필요한 데이터 추출
-        BigDecimal scope1WasteWater = extractTotalEmission(aggregationData, "SCOPE1_WASTEWATER");
-        
-        // Scope3 Category 5는 별도 조회
-        BigDecimal scope3Category5 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 5, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 5, year, month);
-
-        // 하위 조직들의 Cat.5 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat5Total = calculateChildOrganizationsCat5Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            finalTotal = scope1WasteWater.add(scope3Category5).add(childOrganizationsCat5Total);
-        } else {
-            finalTotal = childOrganizationsCat5Total;
-        }
-
-        return Scope3SpecialAggregationResponse.Category5Detail.builder()
-                .scope1WasteWater(scope1WasteWater)
-                .scope3Category5(isHeadquarters ? scope3Category5.add(childOrganizationsCat5Total) : scope3Category5)
-                .finalTotal(finalTotal)
-                .build();
+            SpecialAggregationSnapshot snapshot, boolean isHeadquarters) {
+        return buildCategory5Detail(snapshot.getOwnBuckets(), snapshot.getChildBuckets().getCategory5Total(), isHeadquarters);
     }
 
     /**
-     * 통합 쿼리 결과에서 배출량 데이터 추출
+     * 협력사 집계의 읽기 모델 사용 여부
+     * 읽기 모델에는 경로가 없어 하위 조직을 조직 노드로 판단하므로 조직 계층 조회도 활성화된 경우에만 사용
      */
-    @SuppressWarnings("unchecked")
-    private BigDecimal extractTotalEmission(Map<String, Object> aggregationData, String key) {
-        Map<String, Object> typeData = (Map<String, Object>) aggregationData.get(key);
-        if (typeData != null && typeData.get("totalEmission") != null) {
-            return (BigDecimal) typeData.get("totalEmission");
-        }
-        return BigDecimal.ZERO;
+    private boolean isRollupSubtreeReadEnabled() {
+        return emissionRollupService.isReadEnabled() && organizationHierarchyService.isReadEnabled();
     }
 
     /**
-     * Cat.1 집계: (Scope1 전체 - 이동연소 - 공장설비 - 폐수처리) + (Scope2 - 공장설비) + Scope3 Cat.1 + 하위 조직 Cat.1 finalTotal
+     * 집계 쿼리 결과 값을 BigDecimal로 변환
      */
-    private Scope3SpecialAggregationResponse.Category1Detail calculateCategory1(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-
-        // 본인 조직의 데이터 수집
-        BigDecimal scope1Total, scope1MobileCombustion, scope1Factory, scope1WasteWater;
-        BigDecimal scope2Total, scope2Factory, scope3Category1;
-
-        if (isHeadquarters) {
-            // 본사는 본사 직접 입력 데이터만
-            scope1Total = scopeEmissionRepository.sumScope1TotalEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope1MobileCombustion = scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope1Factory = scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope1WasteWater = scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope2Total = scopeEmissionRepository.sumScope2TotalEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope2Factory = scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month);
-            scope3Category1 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 1, year, month);
-        } else {
-            // 협력사는 본인 데이터만
-            scope1Total = scopeEmissionRepository.sumScope1TotalEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope1MobileCombustion = scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope1Factory = scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope1WasteWater = scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope2Total = scopeEmissionRepository.sumScope2TotalEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope2Factory = scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-            scope3Category1 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 1, year, month);
+    private static BigDecimal toBigDecimal(Object value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
         }
-
-        // 하위 조직들의 Cat.1 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat1Total = calculateChildOrganizationsCat1Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // 계산 수행
-        BigDecimal scope1Remaining = scope1Total
-                .subtract(scope1MobileCombustion)
-                .subtract(scope1Factory)
-                .subtract(scope1WasteWater);
-
-        BigDecimal scope2Remaining = scope2Total.subtract(scope2Factory);
-
-        // finalTotal 계산 - 협력사는 하위 조직 데이터만, 본사는 본인 + 하위 조직
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            // 본사: 본인 계산 결과 + 하위 조직들의 Cat.1 finalTotal
-            finalTotal = scope1Remaining
-                    .add(scope2Remaining)
-                    .add(scope3Category1)
-                    .add(childOrganizationsCat1Total);
-        } else {
-            // 협력사: 하위 조직들의 Cat.1 finalTotal만 (본인 데이터는 업스트림용)
-            finalTotal = childOrganizationsCat1Total;
+        if (value instanceof BigDecimal) {
+            return (BigDecimal) value;
         }
-
-        return Scope3SpecialAggregationResponse.Category1Detail.builder()
-                .scope1Total(scope1Total)
-                .scope1MobileCombustion(scope1MobileCombustion)
-                .scope1Factory(scope1Factory)
-                .scope1WasteWater(scope1WasteWater)
-                .scope1Remaining(scope1Remaining)
-                .scope2Total(scope2Total)
-                .scope2Factory(scope2Factory)
-                .scope2Remaining(scope2Remaining)
-                .scope3Category1(isHeadquarters ? scope3Category1.add(childOrganizationsCat1Total) : scope3Category1) // 협력사는 본인 데이터만
-                .finalTotal(finalTotal)
-                .build();
+        return new BigDecimal(value.toString());
     }
 
     /**
-     * Cat.2 집계: Scope1 공장설비 + Scope2 공장설비 + Scope3 Cat.2 + 하위 조직 Cat.2 finalTotal
+     * 특수 집계 버킷 합계 (불변)
+     * Scope1 전체/이동연소/공장설비/폐수처리, Scope2 전체/공장설비, Scope3 Cat.1/2/4/5
      */
-    private Scope3SpecialAggregationResponse.Category2Detail calculateCategory2(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-
-        BigDecimal scope1Factory = isHeadquarters
-                ? scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month)
-                : scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-
-        BigDecimal scope2Factory = isHeadquarters
-                ? scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month)
-                : scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-
-        BigDecimal scope3Category2 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 2, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 2, year, month);
-
-        // 하위 조직들의 Cat.2 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat2Total = calculateChildOrganizationsCat2Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산 - 협력사는 하위 조직 데이터만, 본사는 본인 + 하위 조직
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            // 본사: 본인 계산 결과 + 하위 조직들의 Cat.2 finalTotal
-            finalTotal = scope1Factory.add(scope2Factory).add(scope3Category2).add(childOrganizationsCat2Total);
-        } else {
-            // 협력사: 하위 조직들의 Cat.2 finalTotal만 (본인 데이터는 업스트림용)
-            finalTotal = childOrganizationsCat2Total;
+    @Getter
+    @RequiredArgsConstructor
+    private static final class SpecialAggregationBuckets {
+        private static final SpecialAggregationBuckets EMPTY = new SpecialAggregationBuckets(
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO,
+                BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+
+        private final BigDecimal scope1Total;
+        private final BigDecimal scope1MobileCombustion;
+        private final BigDecimal scope1Factory;
+        private final BigDecimal scope1WasteWater;
+        private final BigDecimal scope2Total;
+        private final BigDecimal scope2Factory;
+        private final BigDecimal scope3Category1;
+        private final BigDecimal scope3Category2;
+        private final BigDecimal scope3Category4;
+        private final BigDecimal scope3Category5;
+
+        private static SpecialAggregationBuckets empty() {
+            return EMPTY;
         }
 
-        return Scope3SpecialAggregationResponse.Category2Detail.builder()
-                .scope1Factory(scope1Factory)
-                .scope2Factory(scope2Factory)
-                .scope3Category2(isHeadquarters ? scope3Category2.add(childOrganizationsCat2Total) : scope3Category2) // 협력사는 본인 데이터만
-                .finalTotal(finalTotal)
-                .build();
-    }
-
-    /**
-     * Cat.4 집계: Scope1 이동연소 + Scope3 Cat.4 + 하위 조직 Cat.4 finalTotal
-     */
-    private Scope3SpecialAggregationResponse.Category4Detail calculateCategory4(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-
-        BigDecimal scope1MobileCombustion = isHeadquarters
-                ? scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month)
-                : scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-
-        BigDecimal scope3Category4 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 4, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 4, year, month);
-
-        // 하위 조직들의 Cat.4 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat4Total = calculateChildOrganizationsCat4Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산 - 협력사는 하위 조직 데이터만, 본사는 본인 + 하위 조직
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            // 본사: 본인 계산 결과 + 하위 조직들의 Cat.4 finalTotal
-            finalTotal = scope1MobileCombustion.add(scope3Category4).add(childOrganizationsCat4Total);
-        } else {
-            // 협력사: 하위 조직들의 Cat.4 finalTotal만 (본인 데이터는 업스트림용)
-            finalTotal = childOrganizationsCat4Total;
+        /**
+         * 집계 쿼리 결과 행에서 버킷 추출 (offset: 첫 번째 버킷 컬럼 위치)
+         */
+        private static SpecialAggregationBuckets fromRow(Object[] row, int offset) {
+            return new SpecialAggregationBuckets(
+                    toBigDecimal(row[offset]),
+                    toBigDecimal(row[offset + 1]),
+                    toBigDecimal(row[offset + 2]),
+                    toBigDecimal(row[offset + 3]),
+                    toBigDecimal(row[offset + 4]),
+                    toBigDecimal(row[offset + 5]),
+                    toBigDecimal(row[offset + 6]),
+                    toBigDecimal(row[offset + 7]),
+                    toBigDecimal(row[offset + 8]),
+                    toBigDecimal(row[offset + 9]));
         }
 
-        return Scope3SpecialAggregationResponse.Category4Detail.builder()
-                .scope1MobileCombustion(scope1MobileCombustion)
-                .scope3Category4(isHeadquarters ? scope3Category4.add(childOrganizationsCat4Total) : scope3Category4) // 협력사는 본인 데이터만
-                .finalTotal(finalTotal)
-                .build();
-    }
-
-    /**
-     * Cat.5 집계: Scope1 폐수처리 + Scope3 Cat.5 + 하위 조직 Cat.5 finalTotal
-     */
-    private Scope3SpecialAggregationResponse.Category5Detail calculateCategory5(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-
-        boolean isHeadquarters = "HEADQUARTERS".equals(userType);
-
-        BigDecimal scope1WasteWater = isHeadquarters
-                ? scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForHeadquarters(headquartersId, year, month)
-                : scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-
-        BigDecimal scope3Category5 = isHeadquarters
-                ? scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForHeadquarters(headquartersId, 5, year, month)
-                : scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 5, year, month);
-
-        // 하위 조직들의 Cat.5 finalTotal 합계 계산
-        BigDecimal childOrganizationsCat5Total = calculateChildOrganizationsCat5Total(
-                year, month, headquartersId, userType, partnerId, treePath);
-
-        // finalTotal 계산 - 협력사는 하위 조직 데이터만, 본사는 본인 + 하위 조직
-        BigDecimal finalTotal;
-        if (isHeadquarters) {
-            // 본사: 본인 계산 결과 + 하위 조직들의 Cat.5 finalTotal
-            finalTotal = scope1WasteWater.add(scope3Category5).add(childOrganizationsCat5Total);
-        } else {
-            // 협력사: 하위 조직들의 Cat.5 finalTotal만 (본인 데이터는 업스트림용)
-            finalTotal = childOrganizationsCat5Total;
+        private SpecialAggregationBuckets add(SpecialAggregationBuckets other) {
+            return new SpecialAggregationBuckets(
+                    scope1Total.add(other.scope1Total),
+                    scope1MobileCombustion.add(other.scope1MobileCombustion),
+                    scope1Factory.add(other.scope1Factory),
+                    scope1WasteWater.add(other.scope1WasteWater),
+                    scope2Total.add(other.scope2Total),
+                    scope2Factory.add(other.scope2Factory),
+                    scope3Category1.add(other.scope3Category1),
+                    scope3Category2.add(other.scope3Category2),
+                    scope3Category4.add(other.scope3Category4),
+                    scope3Category5.add(other.scope3Category5));
         }
 
-        return Scope3SpecialAggregationResponse.Category5Detail.builder()
-                .scope1WasteWater(scope1WasteWater)
-                .scope3Category5(isHeadquarters ? scope3Category5.add(childOrganizationsCat5Total) : scope3Category5) // 협력사는 본인 데이터만
-                .finalTotal(finalTotal)
-                .build();
-    }
-
-    // ========================================================================
-    // 하위 조직의 특수 집계 finalTotal 계산 헬퍼 메서드들
-    // ========================================================================
-
-    /**
-     * 하위 조직들의 Cat.1 finalTotal 합계 계산
-     */
-    private BigDecimal calculateChildOrganizationsCat1Total(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        if ("HEADQUARTERS".equals(userType)) {
-            // 본사인 경우 모든 협력사의 Cat.1 finalTotal 합계 반환
-            List<Long> allChildPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, "/");
-            return calculateCat1TotalForPartnerList(allChildPartnerIds, year, month, headquartersId);
-        } else if (treePath != null) {
-            // 협력사인 경우 하위 조직들의 Cat.1 finalTotal 합계 반환
-            List<Long> childPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, treePath);
-            return calculateCat1TotalForPartnerList(childPartnerIds, year, month, headquartersId);
+        // Scope1 잔여 (전체 - 이동연소 - 공장설비 - 폐수처리)
+        private BigDecimal getScope1Remaining() {
+            return scope1Total.subtract(scope1MobileCombustion).subtract(scope1Factory).subtract(scope1WasteWater);
         }
-        
-        return BigDecimal.ZERO;
-    }
 
-    /**
-     * 하위 조직들의 Cat.2 finalTotal 합계 계산
-     */
-    private BigDecimal calculateChildOrganizationsCat2Total(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        if ("HEADQUARTERS".equals(userType)) {
-            List<Long> allChildPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, "/");
-            return calculateCat2TotalForPartnerList(allChildPartnerIds, year, month, headquartersId);
-        } else if (treePath != null) {
-            List<Long> childPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, treePath);
-            return calculateCat2TotalForPartnerList(childPartnerIds, year, month, headquartersId);
+        // Scope2 잔여 (전체 - 공장설비)
+        private BigDecimal getScope2Remaining() {
+            return scope2Total.subtract(scope2Factory);
         }
-        
-        return BigDecimal.ZERO;
-    }
 
-    /**
-     * 하위 조직들의 Cat.4 finalTotal 합계 계산
-     */
-    private BigDecimal calculateChildOrganizationsCat4Total(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        if ("HEADQUARTERS".equals(userType)) {
-            List<Long> allChildPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, "/");
-            return calculateCat4TotalForPartnerList(allChildPartnerIds, year, month, headquartersId);
-        } else if (treePath != null) {
-            List<Long> childPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, treePath);
-            return calculateCat4TotalForPartnerList(childPartnerIds, year, month, headquartersId);
+        // Cat.1: (Scope1 전체 - 이동연소 - 공장설비 - 폐수처리) + (Scope2 - 공장설비) + Scope3 Cat.1
+        private BigDecimal getCategory1Total() {
+            return getScope1Remaining().add(getScope2Remaining()).add(scope3Category1);
         }
-        
-        return BigDecimal.ZERO;
-    }
 
-    /**
-     * 하위 조직들의 Cat.5 finalTotal 합계 계산
-     */
-    private BigDecimal calculateChildOrganizationsCat5Total(
-            Integer year, Integer month, Long headquartersId, String userType, Long partnerId, String treePath) {
-        
-        if ("HEADQUARTERS".equals(userType)) {
-            List<Long> allChildPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, "/");
-            return calculateCat5TotalForPartnerList(allChildPartnerIds, year, month, headquartersId);
-        } else if (treePath != null) {
-            List<Long> childPartnerIds = scopeEmissionRepository.findAllChildPartnerIds(headquartersId, treePath);
-            return calculateCat5TotalForPartnerList(childPartnerIds, year, month, headquartersId);
+        // Cat.2: Scope1 공장설비 + Scope2 공장설비 + Scope3 Cat.2
+        private BigDecimal getCategory2Total() {
+            return scope1Factory.add(scope2Factory).add(scope3Category2);
         }
-        
-        return BigDecimal.ZERO;
-    }
 
-    // ========================================================================
-    // 개별 협력사들의 특수 집계 계산 헬퍼 메서드들
-    // ========================================================================
-
-    /**
-     * 협력사 목록의 Cat.1 finalTotal 합계 계산
-     */
-    private BigDecimal calculateCat1TotalForPartnerList(List<Long> partnerIds, Integer year, Integer month, Long headquartersId) {
-        return partnerIds.stream()
-                .map(pId -> calculateSinglePartnerCat1Total(pId, year, month, headquartersId))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    /**
-     * 협력사 목록의 Cat.2 finalTotal 합계 계산
-     */
-    private BigDecimal calculateCat2TotalForPartnerList(List<Long> partnerIds, Integer year, Integer month, Long headquartersId) {
-        return partnerIds.stream()
-                .map(pId -> calculateSinglePartnerCat2Total(pId, year, month, headquartersId))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    /**
-     * 협력사 목록의 Cat.4 finalTotal 합계 계산
-     */
-    private BigDecimal calculateCat4TotalForPartnerList(List<Long> partnerIds, Integer year, Integer month, Long headquartersId) {
-        return partnerIds.stream()
-                .map(pId -> calculateSinglePartnerCat4Total(pId, year, month, headquartersId))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    /**
-     * 협력사 목록의 Cat.5 finalTotal 합계 계산
-     */
-    private BigDecimal calculateCat5TotalForPartnerList(List<Long> partnerIds, Integer year, Integer month, Long headquartersId) {
-        return partnerIds.stream()
-                .map(pId -> calculateSinglePartnerCat5Total(pId, year, month, headquartersId))
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-    }
-
-    /**
-     * 단일 협력사의 Cat.1 finalTotal 계산
-     */
-    private BigDecimal calculateSinglePartnerCat1Total(Long partnerId, Integer year, Integer month, Long headquartersId) {
-        BigDecimal scope1Total = scopeEmissionRepository.sumScope1TotalEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope1MobileCombustion = scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope1Factory = scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope1WasteWater = scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope2Total = scopeEmissionRepository.sumScope2TotalEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope2Factory = scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope3Category1 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 1, year, month);
-
-        BigDecimal scope1Remaining = scope1Total.subtract(scope1MobileCombustion).subtract(scope1Factory).subtract(scope1WasteWater);
-        BigDecimal scope2Remaining = scope2Total.subtract(scope2Factory);
-        
-        return scope1Remaining.add(scope2Remaining).add(scope3Category1);
-    }
-
-    /**
-     * 단일 협력사의 Cat.2 finalTotal 계산
-     */
-    private BigDecimal calculateSinglePartnerCat2Total(Long partnerId, Integer year, Integer month, Long headquartersId) {
-        BigDecimal scope1Factory = scopeEmissionRepository.sumScope1FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope2Factory = scopeEmissionRepository.sumScope2FactoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope3Category2 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 2, year, month);
-        
-        return scope1Factory.add(scope2Factory).add(scope3Category2);
-    }
+        // Cat.4: Scope1 이동연소 + Scope3 Cat.4
+        private BigDecimal getCategory4Total() {
+            return scope1MobileCombustion.add(scope3Category4);
+        }
 
-    /**
-     * 단일 협력사의 Cat.4 finalTotal 계산
-     */
-    private BigDecimal calculateSinglePartnerCat4Total(Long partnerId, Integer year, Integer month, Long headquartersId) {
-        BigDecimal scope1MobileCombustion = scopeEmissionRepository.sumScope1MobileCombustionEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope3Category4 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 4, year, month);
-        
-        return scope1MobileCombustion.add(scope3Category4);
+        // Cat.5: Scope1 폐수처리 + Scope3 Cat.5
+        private BigDecimal getCategory5Total() {
+            return scope1WasteWater.add(scope3Category5);
+        }
     }
 
     /**
-     * 단일 협력사의 Cat.5 finalTotal 계산
+     * 요청 단위 특수 집계 스냅샷 (불변)
+     * 본인 버킷, 하위 조직 버킷 합계를 한 번 로딩하여 카테고리 계산기 간 공유
      */
-    private BigDecimal calculateSinglePartnerCat5Total(Long partnerId, Integer year, Integer month, Long headquartersId) {
-        BigDecimal scope1WasteWater = scopeEmissionRepository.sumScope1WasteWaterTreatmentEmissionsByYearAndMonthForPartner(headquartersId, partnerId, year, month);
-        BigDecimal scope3Category5 = scopeEmissionRepository.sumScope3CategoryEmissionsByYearAndMonthForPartner(headquartersId, partnerId, 5, year, month);
-        
-        return scope1WasteWater.add(scope3Category5);
+    @Getter
+    @RequiredArgsConstructor
+    private static final class SpecialAggregationSnapshot {
+        private final SpecialAggregationBuckets ownBuckets;
+        private final SpecialAggregationBuckets childBuckets;
+
+        /**
+         * 조직별 버킷 집계 행에서 스냅샷 생성 (행의 0번 컬럼은 partnerId, 본사 직접 입력은 NULL)
+         * 행은 이미 집계 범위로 조회되었으므로 본인 행 외의 협력사 행은 모두 하위 조직 (본사는 전체 협력사)
+         */
+        private static SpecialAggregationSnapshot of(
+                List<Object[]> rows, int bucketOffset, boolean isHeadquarters, Long partnerId) {
+
+            SpecialAggregationBuckets own = SpecialAggregationBuckets.empty();
+            SpecialAggregationBuckets children = SpecialAggregationBuckets.empty();
+
+            for (Object[] row : rows) {
+                Long rowPartnerId = row[0] != null ? ((Number) row[0]).longValue() : null;
+                SpecialAggregationBuckets rowBuckets = SpecialAggregationBuckets.fromRow(row, bucketOffset);
+
+                boolean isOwnRow = isHeadquarters ? rowPartnerId == null : Objects.equals(rowPartnerId, partnerId);
+                if (isOwnRow) {
+                    own = own.add(rowBuckets);
+                } else if (rowPartnerId != null) {
+                    children = children.add(rowBuckets);
+                }
+            }
+
+            return new SpecialAggregationSnapshot(own, children);
+        }
     }
-}
\ No newline at end of file
+}
@@ -1,27 +1,53 @@
 package com.nsmm.esg.scope_service.service;
 
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import com.nsmm.esg.scope_service.entity.EmissionRollup;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
 import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
 import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.projection.CategoryEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.CategoryMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.MappedMaterialMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.MonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.PartnerMonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryMonthlyEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryYearlyEmissionProjection;
 import com.nsmm.esg.scope_service.dto.response.MonthlyEmissionSummary;
 import com.nsmm.esg.scope_service.dto.response.CategoryYearlyEmission;
 import com.nsmm.esg.scope_service.dto.response.CategoryMonthlyEmission;
-import com.nsmm.esg.scope_service.dto.response.ScopeCategoryResponse;
+import com.nsmm.esg.scope_service.dto.response.DashboardAggregationResponse;
+import com.nsmm.esg.scope_service.dto.response.EmissionTrendResponse;
 import com.nsmm.esg.scope_service.dto.response.Scope3CombinedEmissionResponse;
 import com.nsmm.esg.scope_service.dto.response.Scope3SpecialAggregationResponse;
 import com.nsmm.esg.scope_service.dto.response.MappedMaterialMonthlyTotalResponse;
+import com.nsmm.esg.scope_service.dto.response.PartnerMonthlySummaryBatchResponse;
+import com.nsmm.esg.scope_service.enums.ScopeCategoryRegistry;
 import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
 
 /**
  * Scope 배출량 집계 서비스
@@ -42,9 +68,18 @@ import com.nsmm.esg.scope_service.enums.ScopeType;
 @Slf4j
 public class ScopeAggregationService {
 
+  private static final int MAX_TREND_YEARS = 10;
+  private static final int MAX_BATCH_PARTNERS = 200;
+
   private final ScopeEmissionRepository scopeEmissionRepository;
   private final MaterialAssignmentRepository materialAssignmentRepository;
   private final Scope3SpecialAggregationService scope3SpecialAggregationService;
+  private final OrganizationHierarchyService organizationHierarchyService;
+  private final AggregationSnapshotService aggregationSnapshotService;
+  private final EmissionRollupService emissionRollupService;
+  private final EmissionRollupRepository emissionRollupRepository;
+  private final CacheManager cacheManager;
+  private final AggregationRequestCoalescer aggregationRequestCoalescer;
 
   // ========================================================================
   // 대시보드 협력사별 월별 집계 메서드 (Partner Monthly Aggregation)
@@ -71,56 +106,18 @@ public class ScopeAggregationService {
       // 권한 확인: 해당 협력사 데이터에 접근할 수 있는지 검증
       validatePartnerAccess(partnerId, userType, requestPartnerId, treePath);
 
-      List<MonthlyEmissionSummary> monthlyData = new ArrayList<>();
-
       // 1월부터 현재월까지 반복 (또는 12월까지)
       int currentMonth = java.time.LocalDate.now().getMonthValue();
       int maxMonth = (year.equals(java.time.LocalDate.now().getYear())) ? currentMonth : 12;
 
-      for (int month = 1; month <= maxMonth; month++) {
-        BigDecimal scope1Total, scope2Total, scope3Total;
-        Long dataCount;
-
-        if (partnerId == -1L) {
-          // 본사 직접 입력 데이터만 조회 (partnerId가 -1인 경우)
-          scope1Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndYearAndMonthForHeadquartersOnly(headquartersId, ScopeType.SCOPE1, year, month);
-          scope2Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndYearAndMonthForHeadquartersOnly(headquartersId, ScopeType.SCOPE2, year, month);
-          scope3Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndYearAndMonthForHeadquartersOnly(headquartersId, ScopeType.SCOPE3, year, month);
-
-          // 본사 직접 입력 데이터만의 건수 조회
-          dataCount = scopeEmissionRepository
-              .countEmissionsByHeadquartersOnlyAndYearAndMonth(headquartersId, year, month);
-        } else {
-          // 협력사 데이터 조회
-          scope1Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndPartnerAndYearAndMonth(headquartersId, partnerId, ScopeType.SCOPE1, year,
-                  month);
-          scope2Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndPartnerAndYearAndMonth(headquartersId, partnerId, ScopeType.SCOPE2, year,
-                  month);
-          scope3Total = scopeEmissionRepository
-              .sumTotalEmissionByScopeTypeAndPartnerAndYearAndMonth(headquartersId, partnerId, ScopeType.SCOPE3, year,
-                  month);
-
-          // 해당 협력사의 데이터 건수 조회
-          dataCount = scopeEmissionRepository
-              .countEmissionsByPartnerAndYearAndMonth(headquartersId, partnerId, year, month);
-        }
-
-        MonthlyEmissionSummary monthlyItem = MonthlyEmissionSummary.builder()
-            .year(year)
-            .month(month)
-            .scope1Total(scope1Total != null ? scope1Total : BigDecimal.ZERO)
-            .scope2Total(scope2Total != null ? scope2Total : BigDecimal.ZERO)
-            .scope3Total(scope3Total != null ? scope3Total : BigDecimal.ZERO)
-            .dataCount(dataCount != null ? dataCount : 0L)
-            .build();
-
-        monthlyData.add(monthlyItem);
-      }
+      // 조직 단위 캐시 조회 (권한 검증 후) - 쓰기 시 EmissionCacheInvalidator가 키 단위 무효화
+      // 같은 키의 동시 요청은 진행 중인 계산 1건의 결과를 공유, 월이 바뀌어 행 수가 다르면 다시 계산
+      String cacheKey = EmissionCacheKeys.monthlySummary(headquartersId, partnerId, year);
+      List<MonthlyEmissionSummary> monthlyData = aggregationRequestCoalescer.execute(
+          cacheManager.getCache(EmissionCacheKeys.MONTHLY_SUMMARY_CACHE), cacheKey,
+          () -> assembleMonthlySummaries(headquartersId, partnerId, year, maxMonth,
+              () -> toMonthlySummaries(loadMonthlyScopeTotals(headquartersId, partnerId, year, 1, maxMonth), year, 1, maxMonth)),
+          summaries -> summaries.size() == maxMonth);
 
       long endTime = System.currentTimeMillis();
       long duration = endTime - startTime;
@@ -134,6 +131,220 @@ public class ScopeAggregationService {
     }
   }
 
+  /**
+   * 협력사 일괄 월별 배출량 집계
+   * 요청자의 직속 하위 협력사(또는 지정한 협력사 목록)의 월별 Scope 1,2,3 배출량 총계를
+   * (협력사, 월, Scope) 그룹 쿼리 1회로 조회 - 협력사 목록은 page / size 단위로 분할
+   * 마감된 월도 원본 집계 결과 사용 (마감 기간은 쓰기가 거부되므로 스냅샷과 동일한 값)
+   *
+   * @param partnerIds 조회할 협력사 ID 목록 (없으면 직속 하위 협력사 전체)
+   */
+  @Transactional
+  public PartnerMonthlySummaryBatchResponse getPartnerMonthlyEmissionSummaries(
+      Integer year,
+      Long headquartersId,
+      String userType,
+      Long requestPartnerId,
+      String treePath,
+      List<Long> partnerIds,
+      int page,
+      int size) {
+
+    if (page < 0 || size < 1 || size > MAX_BATCH_PARTNERS) {
+      throw new IllegalArgumentException(String.format("페이지 번호는 0 이상, 페이지 크기는 1~%d 사이여야 합니다", MAX_BATCH_PARTNERS));
+    }
+    boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+    if (!isHeadquarters && (requestPartnerId == null || treePath == null)) {
+      throw new IllegalArgumentException("협력사 요청에는 협력사 ID와 트리 경로가 필요합니다");
+    }
+
+    long startTime = System.currentTimeMillis();
+    log.info("[PERF] getPartnerMonthlyEmissionSummaries 시작 - 본사ID: {}, 사용자타입: {}, 요청자협력사ID: {}, 연도: {}, 지정 협력사 수: {}, 페이지: {}/{}",
+        headquartersId, userType, requestPartnerId, year, partnerIds != null ? partnerIds.size() : 0, page, size);
+
+    // 대상 협력사 결정 - 경로는 데이터베이스 기준 (본사는 모든 협력사 접근 가능)
+    Map<Long, String> targetTreePaths;
+    List<Long> targetPartnerIds;
+    if (partnerIds == null || partnerIds.isEmpty()) {
+      targetTreePaths = organizationHierarchyService
+          .findDirectChildTreePaths(headquartersId, isHeadquarters ? null : treePath);
+      targetPartnerIds = new ArrayList<>(targetTreePaths.keySet());
+    } else {
+      targetPartnerIds = new ArrayList<>(new LinkedHashSet<>(partnerIds));
+      targetTreePaths = organizationHierarchyService.findPartnerTreePaths(headquartersId, targetPartnerIds);
+      if (!isHeadquarters) {
+        // 지정 목록은 요청자 경로(X-TREE-PATH) 하위 경로인지 검증 (요청자 본인은 허용)
+        for (Long targetPartnerId : targetPartnerIds) {
+          String targetTreePath = targetTreePaths.get(targetPartnerId);
+          boolean isDescendant = targetTreePath != null
+              && targetTreePath.startsWith(treePath) && !targetTreePath.equals(treePath);
+          if (!targetPartnerId.equals(requestPartnerId) && !isDescendant) {
+            throw new IllegalArgumentException("해당 협력사 데이터에 접근할 권한이 없습니다: " + targetPartnerId);
+          }
+        }
+      }
+    }
+
+    try {
+      int totalPartners = targetPartnerIds.size();
+      int fromIndex = (int) Math.min((long) page * size, totalPartners);
+      int toIndex = Math.min(fromIndex + size, totalPartners);
+      List<Long> pagePartnerIds = targetPartnerIds.subList(fromIndex, toIndex);
+
+      int currentMonth = java.time.LocalDate.now().getMonthValue();
+      int maxMonth = (year.equals(java.time.LocalDate.now().getYear())) ? currentMonth : 12;
+
+      // 페이지 협력사 전체를 (협력사, 월, Scope) 그룹 쿼리 1회로 조회
+      Map<Long, List<PartnerMonthlyScopeEmissionProjection>> rowsByPartner = pagePartnerIds.isEmpty()
+          ? Map.of()
+          : loadPartnerMonthlyScopeTotals(headquartersId, pagePartnerIds, year, maxMonth).stream()
+              .collect(Collectors.groupingBy(PartnerMonthlyScopeEmissionProjection::getPartnerId));
+
+      List<PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary> partners = new ArrayList<>(pagePartnerIds.size());
+      for (Long targetPartnerId : pagePartnerIds) {
+        MonthlyEmissionSummary[] summaries = toMonthlySummaries(
+            rowsByPartner.getOrDefault(targetPartnerId, List.of()), year, 1, maxMonth);
+        partners.add(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary.builder()
+            .partnerId(targetPartnerId)
+            .treePath(targetTreePaths.get(targetPartnerId))
+            .monthlySummaries(java.util.Arrays.asList(summaries).subList(1, maxMonth + 1))
+            .build());
+      }
+
+      PartnerMonthlySummaryBatchResponse response = PartnerMonthlySummaryBatchResponse.builder()
+          .year(year)
+          .page(page)
+          .size(size)
+          .totalPartners(totalPartners)
+          .hasNext(toIndex < totalPartners)
+          .partners(partners)
+          .build();
+
+      long endTime = System.currentTimeMillis();
+      log.info("[PERF] getPartnerMonthlyEmissionSummaries 완료 - 소요시간: {}ms, 연도: {}, 협력사 수: {}/{}",
+          endTime - startTime, year, partners.size(), totalPartners);
+      return response;
+
+    } catch (Exception e) {
+      log.error("협력사 일괄 월별 집계 중 오류 발생 - 본사ID: {}, 연도: {}, 오류: {}", headquartersId, year, e.getMessage(), e);
+      throw new RuntimeException("협력사 일괄 월별 집계 처리 중 오류가 발생했습니다", e);
+    }
+  }
+
+  /**
+   * 월별 요약 목록 구성 - 마감된 월은 스냅샷, 나머지 월은 집계 결과 사용
+   * 모든 월이 스냅샷으로 채워지면 집계(조회)를 생략
+   *
+   * @param aggregation 1~maxMonth 월 인덱스 배열을 반환하는 집계 (필요할 때 1회만 호출)
+   */
+  private List<MonthlyEmissionSummary> assembleMonthlySummaries(
+      Long headquartersId, Long partnerId, Integer year, int maxMonth,
+      Supplier<MonthlyEmissionSummary[]> aggregation) {
+    // 마감된 월은 마감 시점 스냅샷 사용
+    Set<Integer> closedMonths = aggregationSnapshotService.getClosedMonths(headquartersId, year);
+    String subjectKey = AggregationSnapshotService.subjectKey(partnerId == -1L ? null : partnerId);
+
+    MonthlyEmissionSummary[] snapshotByMonth = new MonthlyEmissionSummary[maxMonth + 1];
+    boolean needsAggregation = false;
+    for (int month = 1; month <= maxMonth; month++) {
+      if (closedMonths.contains(month)) {
+        snapshotByMonth[month] = aggregationSnapshotService.findSnapshot(headquartersId, year, month,
+            SnapshotType.MONTHLY_SUMMARY, subjectKey, MonthlyEmissionSummary.class).orElse(null);
+      }
+      needsAggregation |= snapshotByMonth[month] == null;
+    }
+
+    // 스냅샷이 없는 월은 (월, Scope) 그룹 집계 결과 사용 (데이터 없는 월은 0)
+    MonthlyEmissionSummary[] aggregatedByMonth = needsAggregation
+        ? aggregation.get()
+        : new MonthlyEmissionSummary[maxMonth + 1];
+
+    List<MonthlyEmissionSummary> monthlyData = new ArrayList<>(maxMonth);
+    for (int month = 1; month <= maxMonth; month++) {
+      monthlyData.add(snapshotByMonth[month] != null ? snapshotByMonth[month] : aggregatedByMonth[month]);
+    }
+    return monthlyData;
+  }
+
+  /**
+   * 협력사(본사 직접 입력은 partnerId = -1) 단일 월 배출량 요약 계산
+   * 보고 기간 마감 시 스냅샷 생성에도 사용 (접근 권한 검증 없음)
+   */
+  @Transactional
+  public MonthlyEmissionSummary calculateMonthlyEmissionSummary(
+      Long headquartersId, Long partnerId, Integer year, Integer month) {
+    int period = ReportingPeriodUtil.of(year, month);
+    // 마감 스냅샷은 항상 원본 데이터 기준으로 생성
+    List<MonthlyScopeEmissionProjection> rows = partnerId == -1L
+        ? scopeEmissionRepository.sumMonthlyScopeTotalsForHeadquartersOnly(headquartersId, period, period)
+        : scopeEmissionRepository.sumMonthlyScopeTotalsForSpecificPartner(headquartersId, partnerId, period, period);
+    return toMonthlySummaries(rows, year, month, month)[month];
+  }
+
+  /**
+   * 월별 Scope 타입별 합계/건수 조회 - 단일 그룹 쿼리 (읽기 모델 활성화 시 emission_rollup 사용)
+   */
+  private List<MonthlyScopeEmissionProjection> loadMonthlyScopeTotals(
+      Long headquartersId, Long partnerId, Integer year, int fromMonth, int toMonth) {
+    if (emissionRollupService.isReadEnabled()) {
+      Long partnerKey = partnerId == -1L ? EmissionRollup.HEADQUARTERS_PARTNER_KEY : partnerId;
+      return emissionRollupRepository.sumMonthlyScopeTotalsByPartnerKey(headquartersId, partnerKey, year);
+    }
+    int fromPeriod = ReportingPeriodUtil.of(year, fromMonth);
+    int toPeriod = ReportingPeriodUtil.of(year, toMonth);
+    return partnerId == -1L
+        ? scopeEmissionRepository.sumMonthlyScopeTotalsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+        : scopeEmissionRepository.sumMonthlyScopeTotalsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+  }
+
+  /**
+   * 여러 협력사의 (협력사, 월, Scope) 합계/건수 조회 - 단일 그룹 쿼리 (읽기 모델 활성화 시 emission_rollup 사용)
+   */
+  private List<PartnerMonthlyScopeEmissionProjection> loadPartnerMonthlyScopeTotals(
+      Long headquartersId, List<Long> partnerIds, Integer year, int toMonth) {
+    if (emissionRollupService.isReadEnabled()) {
+      return emissionRollupRepository.sumMonthlyScopeTotalsByPartnerKeys(headquartersId, partnerIds, year);
+    }
+    return scopeEmissionRepository.sumMonthlyScopeTotalsForPartners(headquartersId, partnerIds,
+        ReportingPeriodUtil.of(year, 1), ReportingPeriodUtil.of(year, toMonth));
+  }
+
+  /**
+   * (월, Scope[, 카테고리]) 합계 행을 월 인덱스 배열로 변환 - 구간 내 데이터 없는 월은 0으로 채움
+   */
+  private MonthlyEmissionSummary[] toMonthlySummaries(
+      List<? extends MonthlyScopeEmissionProjection> rows, Integer year, int fromMonth, int toMonth) {
+    BigDecimal[][] totals = new BigDecimal[toMonth + 1][ScopeType.values().length];
+    for (BigDecimal[] scopeTotals : totals) {
+      java.util.Arrays.fill(scopeTotals, BigDecimal.ZERO);
+    }
+    long[] counts = new long[toMonth + 1];
+
+    for (MonthlyScopeEmissionProjection row : rows) {
+      int month = row.getReportingMonth();
+      if (month < fromMonth || month > toMonth) {
+        continue; // 연도 전체 조회 결과(읽기 모델, 대시보드)에서 구간 밖 월 제외
+      }
+      int scope = row.getScopeType().ordinal();
+      totals[month][scope] = totals[month][scope].add(row.getTotalEmission() != null ? row.getTotalEmission() : BigDecimal.ZERO);
+      counts[month] += row.getRecordCount() != null ? row.getRecordCount() : 0L;
+    }
+
+    MonthlyEmissionSummary[] summaries = new MonthlyEmissionSummary[toMonth + 1];
+    for (int month = fromMonth; month <= toMonth; month++) {
+      BigDecimal[] scopeTotals = totals[month];
+      summaries[month] = MonthlyEmissionSummary.builder()
+          .year(year)
+          .month(month)
+          .scope1Total(scopeTotals[ScopeType.SCOPE1.ordinal()])
+          .scope2Total(scopeTotals[ScopeType.SCOPE2.ordinal()])
+          .scope3Total(scopeTotals[ScopeType.SCOPE3.ordinal()])
+          .dataCount(counts[month])
+          .build();
+    }
+    return summaries;
+  }
+
   /**
    * 협력사 데이터 접근 권한 검증
    */
@@ -191,68 +402,19 @@ public class ScopeAggregationService {
         scopeType, year, headquartersId, userType, partnerId);
 
     try {
-      List<Object[]> results = new ArrayList<>();
-
-      // 사용자 타입에 따라 적절한 쿼리 메서드 호출
-      if ("HEADQUARTERS".equals(userType)) {
-        // 본사인 경우 본사 직접 입력 데이터만 집계
-        switch (scopeType) {
-          case SCOPE1:
-            results = scopeEmissionRepository.sumScope1EmissionByYearAndCategoryForHeadquartersOnly(headquartersId, year);
-            break;
-          case SCOPE2:
-            results = scopeEmissionRepository.sumScope2EmissionByYearAndCategoryForHeadquartersOnly(headquartersId, year);
-            break;
-          case SCOPE3:
-            results = scopeEmissionRepository.sumScope3EmissionByYearAndCategoryForHeadquartersOnly(headquartersId, year);
-            break;
-        }
-      } else {
-        // 파트너사인 경우 해당 파트너사 데이터만 집계
-        if (partnerId == null) {
-          log.warn("파트너사 요청이지만 partnerId가 없습니다");
-          return new ArrayList<>();
-        }
-
-        switch (scopeType) {
-          case SCOPE1:
-            results = scopeEmissionRepository.sumScope1EmissionByYearAndCategoryForSpecificPartner(headquartersId, partnerId, year);
-            break;
-          case SCOPE2:
-            results = scopeEmissionRepository.sumScope2EmissionByYearAndCategoryForSpecificPartner(headquartersId, partnerId, year);
-            break;
-          case SCOPE3:
-            results = scopeEmissionRepository.sumScope3EmissionByYearAndCategoryForSpecificPartner(headquartersId, partnerId, year);
-            break;
-        }
+      // 파트너사 요청인데 partnerId가 없으면 빈 결과
+      if (!"HEADQUARTERS".equals(userType) && partnerId == null) {
+        log.warn("파트너사 요청이지만 partnerId가 없습니다");
+        return new ArrayList<>();
       }
 
-      // 모든 카테고리의 총 배출량 합계 계산
-      BigDecimal totalSumAllCategories = results.stream()
-          .map(row -> (BigDecimal) row[1]) // totalEmission
-          .reduce(BigDecimal.ZERO, BigDecimal::add);
-
-      // Object[] 결과를 CategoryYearlyEmission DTO로 변환
-      List<CategoryYearlyEmission> categoryEmissions = results.stream()
-          .map(row -> {
-            Integer categoryNumber = (Integer) row[0];
-            BigDecimal totalEmission = (BigDecimal) row[1];
-            Long dataCount = (Long) row[2];
-
-            // 카테고리명 가져오기
-            String categoryName = getCategoryNameByNumber(scopeType, categoryNumber);
-
-            return CategoryYearlyEmission.builder()
-                .categoryNumber(categoryNumber)
-                .categoryName(categoryName)
-                .year(year)
-                .totalEmission(totalEmission)
-                .dataCount(dataCount)
-                .scopeType(scopeType.name())
-                .totalSumAllCategories(totalSumAllCategories)
-                .build();
-          })
-          .collect(Collectors.toList());
+      // 조직(본사 직접 입력 / 협력사) 단위 캐시 조회 - 쓰기 시 EmissionCacheInvalidator가 키 단위 무효화
+      // 같은 키의 동시 요청은 진행 중인 계산 1건의 결과를 공유
+      String cacheKey = EmissionCacheKeys.categoryYearly(
+          headquartersId, "HEADQUARTERS".equals(userType) ? null : partnerId, scopeType, year);
+      List<CategoryYearlyEmission> categoryEmissions = aggregationRequestCoalescer.execute(
+          cacheManager.getCache(EmissionCacheKeys.CATEGORY_YEARLY_CACHE), cacheKey,
+          () -> loadCategoryYearlyEmissions(scopeType, year, headquartersId, userType, partnerId));
 
       long endTime = System.currentTimeMillis();
       long duration = endTime - startTime;
@@ -262,8 +424,72 @@ public class ScopeAggregationService {
 
     } catch (Exception e) {
       log.error("카테고리별 연간 집계 중 오류 발생 - Scope: {}, 연도: {}: {}", scopeType, year, e.getMessage(), e);
-      return new ArrayList<>();
+      throw new RuntimeException("카테고리별 연간 집계 처리 중 오류가 발생했습니다", e);
+    }
+  }
+
+  /**
+   * 카테고리별 연간 배출량 조회 - 본사 직접 입력 / 특정 협력사 데이터 (캐시 미적중 시)
+   */
+  private List<CategoryYearlyEmission> loadCategoryYearlyEmissions(
+      ScopeType scopeType, Integer year, Long headquartersId, String userType, Long partnerId) {
+    List<CategoryEmissionProjection> results = new ArrayList<>();
+    // 연도 전체를 보고 기간(yyyymm) 단일 범위로 조회
+    int fromPeriod = ReportingPeriodUtil.startOfYear(year);
+    int toPeriod = ReportingPeriodUtil.endOfYear(year);
+
+    // 사용자 타입에 따라 적절한 쿼리 메서드 호출
+    if ("HEADQUARTERS".equals(userType)) {
+      // 본사인 경우 본사 직접 입력 데이터만 집계
+      switch (scopeType) {
+        case SCOPE1:
+          results = scopeEmissionRepository.sumScope1EmissionByPeriodRangeAndCategoryForHeadquartersOnly(headquartersId, fromPeriod, toPeriod);
+          break;
+        case SCOPE2:
+          results = scopeEmissionRepository.sumScope2EmissionByPeriodRangeAndCategoryForHeadquartersOnly(headquartersId, fromPeriod, toPeriod);
+          break;
+        case SCOPE3:
+          results = scopeEmissionRepository.sumScope3EmissionByPeriodRangeAndCategoryForHeadquartersOnly(headquartersId, fromPeriod, toPeriod);
+          break;
+      }
+    } else {
+      // 파트너사인 경우 해당 파트너사 데이터만 집계
+      switch (scopeType) {
+        case SCOPE1:
+          results = scopeEmissionRepository.sumScope1EmissionByPeriodRangeAndCategoryForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+          break;
+        case SCOPE2:
+          results = scopeEmissionRepository.sumScope2EmissionByPeriodRangeAndCategoryForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+          break;
+        case SCOPE3:
+          results = scopeEmissionRepository.sumScope3EmissionByPeriodRangeAndCategoryForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+          break;
+      }
     }
+
+    // 모든 카테고리의 총 배출량 합계 계산
+    BigDecimal totalSumAllCategories = results.stream()
+        .map(CategoryEmissionProjection::getTotalEmission)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+    // 프로젝션 결과를 CategoryYearlyEmission DTO로 변환
+    List<CategoryYearlyEmission> categoryEmissions = results.stream()
+        .map(row -> {
+          // 카테고리명 가져오기
+          String categoryName = getCategoryNameByNumber(scopeType, row.getCategoryNumber());
+
+          return CategoryYearlyEmission.builder()
+              .categoryNumber(row.getCategoryNumber())
+              .categoryName(categoryName)
+              .year(year)
+              .totalEmission(row.getTotalEmission())
+              .dataCount(row.getRecordCount())
+              .scopeType(scopeType.name())
+              .totalSumAllCategories(totalSumAllCategories)
+              .build();
+        })
+        .collect(Collectors.toList());
+    return categoryEmissions;
   }
 
   /**
@@ -293,23 +519,26 @@ public class ScopeAggregationService {
         scopeType, year, headquartersId, userType, partnerId);
 
     try {
-      List<Object[]> results = new ArrayList<>();
+      List<CategoryMonthlyEmissionProjection> results = new ArrayList<>();
+      // 연도 전체를 보고 기간(yyyymm) 단일 범위로 조회
+      int fromPeriod = ReportingPeriodUtil.startOfYear(year);
+      int toPeriod = ReportingPeriodUtil.endOfYear(year);
 
       // 사용자 타입에 따라 적절한 쿼리 메서드 호출
       if ("HEADQUARTERS".equals(userType)) {
         // 본사인 경우 본사 직접 입력 데이터만 집계
         switch (scopeType) {
           case SCOPE1:
-            results = scopeEmissionRepository.sumScope1EmissionByYearAndMonthAndCategoryForHeadquartersOnly(headquartersId,
-                year);
+            results = scopeEmissionRepository.sumScope1EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(headquartersId,
+                fromPeriod, toPeriod);
             break;
           case SCOPE2:
-            results = scopeEmissionRepository.sumScope2EmissionByYearAndMonthAndCategoryForHeadquartersOnly(headquartersId,
-                year);
+            results = scopeEmissionRepository.sumScope2EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(headquartersId,
+                fromPeriod, toPeriod);
             break;
           case SCOPE3:
-            results = scopeEmissionRepository.sumScope3EmissionByYearAndMonthAndCategoryForHeadquartersOnly(headquartersId,
-                year);
+            results = scopeEmissionRepository.sumScope3EmissionByPeriodRangeAndMonthAndCategoryForHeadquartersOnly(headquartersId,
+                fromPeriod, toPeriod);
             break;
         }
       } else {
@@ -321,16 +550,16 @@ public class ScopeAggregationService {
 
         switch (scopeType) {
           case SCOPE1:
-            results = scopeEmissionRepository.sumScope1EmissionByYearAndMonthAndCategoryForSpecificPartner(headquartersId,
-                partnerId, year);
+            results = scopeEmissionRepository.sumScope1EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(headquartersId,
+                partnerId, fromPeriod, toPeriod);
             break;
           case SCOPE2:
-            results = scopeEmissionRepository.sumScope2EmissionByYearAndMonthAndCategoryForSpecificPartner(headquartersId,
-                partnerId, year);
+            results = scopeEmissionRepository.sumScope2EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(headquartersId,
+                partnerId, fromPeriod, toPeriod);
             break;
           case SCOPE3:
-            results = scopeEmissionRepository.sumScope3EmissionByYearAndMonthAndCategoryForSpecificPartner(headquartersId,
-                partnerId, year);
+            results = scopeEmissionRepository.sumScope3EmissionByPeriodRangeAndMonthAndCategoryForSpecificPartner(headquartersId,
+                partnerId, fromPeriod, toPeriod);
             break;
         }
       }
@@ -338,33 +567,28 @@ public class ScopeAggregationService {
       // 월별로 그룹화하여 각 월의 총합 계산
       Map<Integer, BigDecimal> monthlyTotals = results.stream()
           .collect(Collectors.groupingBy(
-              row -> (Integer) row[1], // month
+              CategoryMonthlyEmissionProjection::getReportingMonth,
               Collectors.reducing(
                   BigDecimal.ZERO,
-                  row -> (BigDecimal) row[2], // totalEmission
+                  CategoryMonthlyEmissionProjection::getTotalEmission,
                   BigDecimal::add)));
 
-      // Object[] 결과를 CategoryMonthlyEmission DTO로 변환
+      // 프로젝션 결과를 CategoryMonthlyEmission DTO로 변환
       List<CategoryMonthlyEmission> categoryEmissions = results.stream()
           .map(row -> {
-            Integer categoryNumber = (Integer) row[0];
-            Integer month = (Integer) row[1];
-            BigDecimal totalEmission = (BigDecimal) row[2];
-            Long dataCount = (Long) row[3];
-
             // 카테고리명 가져오기
-            String categoryName = getCategoryNameByNumber(scopeType, categoryNumber);
+            String categoryName = getCategoryNameByNumber(scopeType, row.getCategoryNumber());
 
             // 해당 월의 모든 카테고리 총합
-            BigDecimal totalSumAllCategories = monthlyTotals.getOrDefault(month, BigDecimal.ZERO);
+            BigDecimal totalSumAllCategories = monthlyTotals.getOrDefault(row.getReportingMonth(), BigDecimal.ZERO);
 
             return CategoryMonthlyEmission.builder()
-                .categoryNumber(categoryNumber)
+                .categoryNumber(row.getCategoryNumber())
                 .categoryName(categoryName)
                 .year(year)
-                .month(month)
-                .totalEmission(totalEmission)
-                .dataCount(dataCount)
+                .month(row.getReportingMonth())
+                .totalEmission(row.getTotalEmission())
+                .dataCount(row.getRecordCount())
                 .scopeType(scopeType.name())
                 .totalSumAllCategories(totalSumAllCategories)
                 .build();
@@ -379,31 +603,27 @@ public class ScopeAggregationService {
 
     } catch (Exception e) {
       log.error("카테고리별 월간 집계 중 오류 발생 - Scope: {}, 연도: {}: {}", scopeType, year, e.getMessage(), e);
-      return new ArrayList<>();
+      throw new RuntimeException("카테고리별 월간 집계 처리 중 오류가 발생했습니다", e);
     }
   }
 
   /**
-   * Scope 타입과 카테고리 번호로 카테고리명 조회
+   * Scope 타입과 카테고리 번호로 카테고리명 조회 (카테고리 레지스트리 배열 조회)
    * 
    * @param scopeType      Scope 타입
    * @param categoryNumber 카테고리 번호
    * @return 카테고리명
    */
   private String getCategoryNameByNumber(ScopeType scopeType, Integer categoryNumber) {
-    try {
-      List<ScopeCategoryResponse> categories = ScopeCategoryResponse.getAllCategoriesByScope(scopeType);
-      return categories.stream()
-          .filter(category -> category.getCategoryNumber().equals(categoryNumber))
-          .map(ScopeCategoryResponse::getCategoryName)
-          .findFirst()
-          .orElse("Unknown Category");
-    } catch (Exception e) {
-      log.warn("카테고리명 조회 실패 - Scope: {}, 번호: {}: {}", scopeType, categoryNumber, e.getMessage());
+    String categoryName = ScopeCategoryRegistry.findCategoryName(scopeType, categoryNumber);
+    if (categoryName == null) {
+      log.warn("카테고리명 조회 실패 - Scope: {}, 번호: {}", scopeType, categoryNumber);
       return "Unknown Category";
     }
+    return categoryName;
   }
 
+
   /**
    * 카테고리별 특정 월 배출량 집계 (Scope3만 지원)
    * 
@@ -439,7 +659,7 @@ public class ScopeAggregationService {
     }
 
     try {
-      List<Object[]> results = new ArrayList<>();
+      List<CategoryMonthlyEmissionProjection> results = new ArrayList<>();
 
       // 사용자 타입에 따라 적절한 쿼리 메서드 호출
       if ("HEADQUARTERS".equals(userType)) {
@@ -454,26 +674,21 @@ public class ScopeAggregationService {
 
       // 전체 합계 계산
       BigDecimal totalSumAllCategories = results.stream()
-          .map(result -> (BigDecimal) result[2])
+          .map(CategoryMonthlyEmissionProjection::getTotalEmission)
           .reduce(BigDecimal.ZERO, BigDecimal::add);
 
       // 결과를 CategoryMonthlyEmission으로 변환
       List<CategoryMonthlyEmission> categoryEmissions = results.stream()
           .map(result -> {
-            Integer categoryNumber = (Integer) result[0];
-            Integer reportingMonth = (Integer) result[1];
-            BigDecimal totalEmission = (BigDecimal) result[2];
-            Long dataCount = (Long) result[3];
-
-            String categoryName = getCategoryNameByNumber(scopeType, categoryNumber);
+            String categoryName = getCategoryNameByNumber(scopeType, result.getCategoryNumber());
 
             return CategoryMonthlyEmission.builder()
-                .categoryNumber(categoryNumber)
+                .categoryNumber(result.getCategoryNumber())
                 .categoryName(categoryName)
                 .year(year)
-                .month(reportingMonth)
-                .totalEmission(totalEmission)
-                .dataCount(dataCount)
+                .month(result.getReportingMonth())
+                .totalEmission(result.getTotalEmission())
+                .dataCount(result.getRecordCount())
                 .scopeType(scopeType.name())
                 .totalSumAllCategories(totalSumAllCategories)
                 .build();
@@ -489,7 +704,7 @@ public class ScopeAggregationService {
     } catch (Exception e) {
       log.error("카테고리별 특정 월 집계 중 오류 발생 - Scope: {}, 연도: {}, 월: {}: {}", 
           scopeType, year, month, e.getMessage(), e);
-      return new ArrayList<>();
+      throw new RuntimeException("카테고리별 특정 월 집계 처리 중 오류가 발생했습니다", e);
     }
   }
 
@@ -563,7 +778,7 @@ public class ScopeAggregationService {
 
     try {
       // 1. 특수집계 배출량 조회 (1~12월 모든 월 합산)
-      Scope3SpecialAggregationResponse specialAggregation = getYearlySpecialAggregation(
+      Scope3SpecialAggregationResponse specialAggregation = scope3SpecialAggregationService.getYearlySpecialAggregation(
           year, headquartersId, userType, partnerId, treePath);
 
       // 2. 일반 Scope3 카테고리별 연별 배출량 조회
@@ -590,46 +805,357 @@ public class ScopeAggregationService {
     }
   }
 
+  // ========================================================================
+  // 홈 대시보드 통합 집계 메서드 (Dashboard Aggregation)
+  // ========================================================================
+
   /**
-   * 연별 특수집계 배출량 조회 (최적화된 통합 쿼리 방식)
-   * 기존의 12번 반복 호출을 통합 쿼리로 최적화
+   * 홈 대시보드 통합 집계
+   * 연간 (월, Scope, 카테고리) 합계 단일 조회 결과로 월별 요약 / Scope 1,2,3 카테고리별 연간 집계를 메모리에서 계산
+   * Scope 3 특수집계(조직 × 월 버킷 그리드)와 맵핑 자재 집계는 각 전용 그룹 쿼리를 1회씩 사용
+   *
+   * @param year           보고 연도
+   * @param headquartersId 본사 ID
+   * @param userType       사용자 타입 (HEADQUARTERS | PARTNER)
+   * @param partnerId      협력사 ID (협력사인 경우)
+   * @param treePath       계층 경로
+   * @param userLevel      사용자 레벨 (0: 본사, 1: 1차사, 2: 2차사...)
+   * @return 대시보드 통합 집계 응답
    */
-  private Scope3SpecialAggregationResponse getYearlySpecialAggregation(
+  @Transactional
+  public DashboardAggregationResponse getDashboardAggregation(
       Integer year,
       Long headquartersId,
       String userType,
       Long partnerId,
-      String treePath) {
+      String treePath,
+      Integer userLevel) {
 
     long startTime = System.currentTimeMillis();
-    log.info("[PERF] getYearlySpecialAggregation 최적화 시작 - 연도: {}, 본사ID: {}, 사용자타입: {}, 파트너ID: {}",
-        year, headquartersId, userType, partnerId);
+    log.info("[PERF] getDashboardAggregation 시작 - 연도: {}, 본사ID: {}, 사용자타입: {}, 협력사ID: {}, 레벨: {}",
+        year, headquartersId, userType, partnerId, userLevel);
 
     try {
-      // Scope3SpecialAggregationService에 연간 집계 메서드 호출 (새로 추가될 메서드)
-      Scope3SpecialAggregationResponse yearlySpecialAggregation = 
-          scope3SpecialAggregationService.getYearlySpecialAggregation(
-              year, headquartersId, userType, partnerId, treePath);
+      boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+      if (!isHeadquarters && partnerId == null) {
+        throw new IllegalArgumentException("협력사 요청에는 협력사 ID가 필요합니다");
+      }
+      validatePartnerAccess(partnerId, userType, partnerId, treePath);
+
+      int currentMonth = java.time.LocalDate.now().getMonthValue();
+      int maxMonth = (year.equals(java.time.LocalDate.now().getYear())) ? currentMonth : 12;
+
+      // 1. 연간 (월, Scope, 카테고리) 합계 단일 조회 - 본사는 본사 직접 입력, 협력사는 본인 데이터
+      int fromPeriod = ReportingPeriodUtil.startOfYear(year);
+      int toPeriod = ReportingPeriodUtil.endOfYear(year);
+      List<ScopeCategoryMonthlyEmissionProjection> facts = isHeadquarters
+          ? scopeEmissionRepository.sumMonthlyScopeCategoryTotalsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+          : scopeEmissionRepository.sumMonthlyScopeCategoryTotalsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+
+      // 2. 월별 요약 (마감된 월은 스냅샷)
+      List<MonthlyEmissionSummary> monthlySummaries = assembleMonthlySummaries(
+          headquartersId, isHeadquarters ? -1L : partnerId, year, maxMonth,
+          () -> toMonthlySummaries(facts, year, 1, maxMonth));
+
+      // 3. Scope별 카테고리 연간 집계
+      Map<ScopeType, List<CategoryYearlyEmission>> categoriesByScope = toCategoryYearlyEmissions(facts, year);
+
+      // 4. Scope 3 연별 통합 (특수집계 + 일반 카테고리)
+      Long organizationId = isHeadquarters ? headquartersId : partnerId;
+      Scope3SpecialAggregationResponse specialAggregation = scope3SpecialAggregationService.getYearlySpecialAggregation(
+          year, headquartersId, userType, partnerId, treePath);
+      Scope3CombinedEmissionResponse scope3Combined = Scope3CombinedEmissionResponse.createYearlyResponse(
+          year, userType, organizationId, specialAggregation, categoriesByScope.get(ScopeType.SCOPE3));
+
+      // 5. 맵핑된 자재코드 월별 총합
+      MappedMaterialMonthlyTotalResponse mappedMaterials = getMappedMaterialMonthlyTotals(
+          year, headquartersId, userType, partnerId, userLevel, treePath);
+
+      DashboardAggregationResponse response = DashboardAggregationResponse.builder()
+          .reportingYear(year)
+          .userType(userType)
+          .organizationId(organizationId)
+          .monthlySummaries(monthlySummaries)
+          .scope1Categories(categoriesByScope.get(ScopeType.SCOPE1))
+          .scope2Categories(categoriesByScope.get(ScopeType.SCOPE2))
+          .scope3Categories(categoriesByScope.get(ScopeType.SCOPE3))
+          .scope3Combined(scope3Combined)
+          .mappedMaterials(mappedMaterials)
+          .build();
 
       long endTime = System.currentTimeMillis();
-      long duration = endTime - startTime;
-      
-      BigDecimal totalEmission = yearlySpecialAggregation.getCategory1TotalEmission()
-          .add(yearlySpecialAggregation.getCategory2TotalEmission())
-          .add(yearlySpecialAggregation.getCategory4TotalEmission())
-          .add(yearlySpecialAggregation.getCategory5TotalEmission());
-      
-      log.info("Scope3 연별 특수집계 최적화 완료 - {}년: {} tCO2eq ({}ms)", 
-          year, totalEmission, duration);
+      log.info("[PERF] getDashboardAggregation 완료 - 소요시간: {}ms, 연도: {}, 집계 원천 행 수: {}",
+          endTime - startTime, year, facts.size());
+      return response;
 
-      return yearlySpecialAggregation;
+    } catch (IllegalArgumentException e) {
+      log.warn("홈 대시보드 통합 집계 요청 검증 실패 - 연도: {}: {}", year, e.getMessage());
+      throw e;
+    } catch (Exception e) {
+      log.error("홈 대시보드 통합 집계 중 오류 발생 - 연도: {}: {}", year, e.getMessage(), e);
+      throw new RuntimeException("홈 대시보드 통합 집계 처리 중 오류가 발생했습니다", e);
+    }
+  }
+
+  /**
+   * (월, Scope, 카테고리) 합계 행을 Scope별 카테고리 연간 배출량 목록으로 변환 (카테고리 번호 순)
+   * 카테고리 미지정 행은 카테고리 집계에서 제외 (카테고리별 연간 집계 쿼리와 동일)
+   */
+  private Map<ScopeType, List<CategoryYearlyEmission>> toCategoryYearlyEmissions(
+      List<? extends ScopeCategoryEmissionProjection> facts, Integer year) {
+    Map<ScopeType, TreeMap<Integer, BigDecimal>> totalsByScope = new EnumMap<>(ScopeType.class);
+    Map<ScopeType, Map<Integer, Long>> countsByScope = new EnumMap<>(ScopeType.class);
+    for (ScopeType scopeType : ScopeType.values()) {
+      totalsByScope.put(scopeType, new TreeMap<>());
+      countsByScope.put(scopeType, new HashMap<>());
+    }
+
+    for (ScopeCategoryEmissionProjection fact : facts) {
+      Integer categoryNumber = switch (fact.getScopeType()) {
+        case SCOPE1 -> fact.getScope1CategoryNumber();
+        case SCOPE2 -> fact.getScope2CategoryNumber();
+        case SCOPE3 -> fact.getScope3CategoryNumber();
+      };
+      if (categoryNumber == null) {
+        continue;
+      }
+      totalsByScope.get(fact.getScopeType()).merge(categoryNumber,
+          fact.getTotalEmission() != null ? fact.getTotalEmission() : BigDecimal.ZERO, BigDecimal::add);
+      countsByScope.get(fact.getScopeType()).merge(categoryNumber,
+          fact.getRecordCount() != null ? fact.getRecordCount() : 0L, Long::sum);
+    }
+
+    Map<ScopeType, List<CategoryYearlyEmission>> categoriesByScope = new EnumMap<>(ScopeType.class);
+    for (ScopeType scopeType : ScopeType.values()) {
+      TreeMap<Integer, BigDecimal> totals = totalsByScope.get(scopeType);
+      BigDecimal totalSumAllCategories = totals.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+
+      List<CategoryYearlyEmission> categories = new ArrayList<>(totals.size());
+      for (Map.Entry<Integer, BigDecimal> entry : totals.entrySet()) {
+        categories.add(CategoryYearlyEmission.builder()
+            .categoryNumber(entry.getKey())
+            .categoryName(getCategoryNameByNumber(scopeType, entry.getKey()))
+            .year(year)
+            .totalEmission(entry.getValue())
+            .dataCount(countsByScope.get(scopeType).get(entry.getKey()))
+            .scopeType(scopeType.name())
+            .totalSumAllCategories(totalSumAllCategories)
+            .build());
+      }
+      categoriesByScope.put(scopeType, categories);
+    }
+    return categoriesByScope;
+  }
+
+  // ========================================================================
+  // 다년 추이 / 전년 대비 집계 메서드 (Multi-year Trend Aggregation)
+  // ========================================================================
+
+  /**
+   * 다년 배출량 추이 및 전년 대비(YoY) 증감 조회
+   * 연도 범위(전년 포함)를 연도 × Scope × 카테고리 그룹 집계 1회로 조회
+   * 12개월이 모두 마감된 연도는 결과를 캐시에 보관하고 조회 범위에서 제외
+   * 진행 중인 당해 연도는 전년 동일 월(1월~현재 월)까지의 합계와 비교
+   * 전년에만 있는 카테고리는 당해 배출량 0(-100%) 행으로 포함
+   *
+   * @param fromYear       시작 연도
+   * @param toYear         종료 연도
+   * @param headquartersId 본사 ID
+   * @param userType       사용자 타입 (HEADQUARTERS | PARTNER)
+   * @param partnerId      협력사 ID (협력사인 경우)
+   * @return 연도별 Scope 합계 / 카테고리별 연간 배출량 (전년 대비 증감 포함)
+   */
+  @Transactional
+  public EmissionTrendResponse getEmissionTrend(
+      Integer fromYear,
+      Integer toYear,
+      Long headquartersId,
+      String userType,
+      Long partnerId) {
+
+    if (fromYear == null || toYear == null || fromYear > toYear) {
+      throw new IllegalArgumentException("시작 연도는 종료 연도보다 클 수 없습니다");
+    }
+    if (toYear - fromYear + 1 > MAX_TREND_YEARS) {
+      throw new IllegalArgumentException(String.format("추이 조회는 최대 %d년까지 가능합니다", MAX_TREND_YEARS));
+    }
+    boolean isHeadquarters = "HEADQUARTERS".equals(userType);
+    if (!isHeadquarters && partnerId == null) {
+      throw new IllegalArgumentException("협력사 요청에는 협력사 ID가 필요합니다");
+    }
+
+    long startTime = System.currentTimeMillis();
+    log.info("[PERF] getEmissionTrend 시작 - {}년~{}년, 본사ID: {}, 사용자타입: {}, 협력사ID: {}",
+        fromYear, toYear, headquartersId, userType, partnerId);
+
+    try {
+      Long subjectPartnerId = isHeadquarters ? null : partnerId;
+      Cache closedYearCache = cacheManager.getCache(EmissionCacheKeys.CLOSED_YEAR_CATEGORY_CACHE);
+
+      // 1. 마감 연도 캐시 조회 (첫 연도의 전년 대비 계산을 위해 전년도 포함)
+      Map<Integer, Map<ScopeType, List<CategoryYearlyEmission>>> categoriesByYear = new TreeMap<>();
+      Set<Integer> closedYears = new HashSet<>();
+      Integer firstUncachedYear = null;
+      Integer lastUncachedYear = null;
+      for (int year = fromYear - 1; year <= toYear; year++) {
+        if (aggregationSnapshotService.getClosedMonths(headquartersId, year).size() == 12) {
+          closedYears.add(year);
+          Map<ScopeType, List<CategoryYearlyEmission>> cached = findClosedYearCategories(
+              closedYearCache, closedYearCacheKey(headquartersId, subjectPartnerId, year));
+          if (cached != null) {
+            categoriesByYear.put(year, cached);
+            continue;
+          }
+        }
+        firstUncachedYear = firstUncachedYear == null ? year : firstUncachedYear;
+        lastUncachedYear = year;
+      }
+
+      // 2. 캐시되지 않은 연도 구간을 단일 그룹 쿼리로 조회
+      int queriedRows = 0;
+      if (firstUncachedYear != null) {
+        int fromPeriod = ReportingPeriodUtil.startOfYear(firstUncachedYear);
+        int toPeriod = ReportingPeriodUtil.endOfYear(lastUncachedYear);
+        List<ScopeCategoryYearlyEmissionProjection> rows = isHeadquarters
+            ? scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+            : scopeEmissionRepository.sumYearlyScopeCategoryTotalsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+        queriedRows = rows.size();
+
+        Map<Integer, List<ScopeCategoryYearlyEmissionProjection>> rowsByYear = rows.stream()
+            .collect(Collectors.groupingBy(ScopeCategoryYearlyEmissionProjection::getReportingYear));
+        for (int year = firstUncachedYear; year <= lastUncachedYear; year++) {
+          if (categoriesByYear.containsKey(year)) {
+            continue;
+          }
+          Map<ScopeType, List<CategoryYearlyEmission>> categories = toCategoryYearlyEmissions(
+              rowsByYear.getOrDefault(year, List.of()), year);
+          categoriesByYear.put(year, categories);
+          if (closedYears.contains(year) && closedYearCache != null) {
+            closedYearCache.put(closedYearCacheKey(headquartersId, subjectPartnerId, year), categories);
+          }
+        }
+      }
+
+      // 3. 진행 중인 당해 연도가 범위에 있으면 전년 동일 월 구간 합계 조회 (부분 연도끼리 비교)
+      java.time.LocalDate today = java.time.LocalDate.now();
+      Integer partialYearMonths = null;
+      Map<ScopeType, List<CategoryYearlyEmission>> previousSamePeriod = null;
+      if (today.getYear() >= fromYear && today.getYear() <= toYear && today.getMonthValue() < 12) {
+        partialYearMonths = today.getMonthValue();
+        int previousYear = today.getYear() - 1;
+        int fromPeriod = ReportingPeriodUtil.startOfYear(previousYear);
+        int toPeriod = ReportingPeriodUtil.of(previousYear, partialYearMonths);
+        List<ScopeCategoryYearlyEmissionProjection> rows = isHeadquarters
+            ? scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+            : scopeEmissionRepository.sumYearlyScopeCategoryTotalsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+        queriedRows += rows.size();
+        previousSamePeriod = toCategoryYearlyEmissions(rows, previousYear);
+      }
+
+      // 4. 전년 대비 증감 계산 (시작 연도 ~ 종료 연도)
+      List<CategoryYearlyEmission> scopeYearlyTotals = new ArrayList<>();
+      List<CategoryYearlyEmission> categoryYearlyEmissions = new ArrayList<>();
+      for (int year = fromYear; year <= toYear; year++) {
+        Map<ScopeType, List<CategoryYearlyEmission>> current = categoriesByYear.get(year);
+        Map<ScopeType, List<CategoryYearlyEmission>> previous = year == today.getYear() && previousSamePeriod != null
+            ? previousSamePeriod
+            : categoriesByYear.get(year - 1);
+
+        for (ScopeType scopeType : ScopeType.values()) {
+          List<CategoryYearlyEmission> previousCategories = previous.get(scopeType);
+          BigDecimal scopeTotal = sumCategoryEmissions(current.get(scopeType));
+          BigDecimal previousScopeTotal = sumCategoryEmissions(previousCategories);
+          long scopeDataCount = current.get(scopeType).stream().mapToLong(CategoryYearlyEmission::getDataCount).sum();
+
+          scopeYearlyTotals.add(withYearOverYear(CategoryYearlyEmission.builder()
+              .categoryName(scopeType.getDescription())
+              .year(year)
+              .totalEmission(scopeTotal)
+              .dataCount(scopeDataCount)
+              .scopeType(scopeType.name())
+              .totalSumAllCategories(scopeTotal)
+              .build(), previousScopeTotal));
+
+          // 당해/전년 카테고리 합집합 (카테고리 번호 순) - 전년에만 있는 카테고리는 당해 0으로 비교
+          TreeMap<Integer, CategoryYearlyEmission> currentByCategory = new TreeMap<>();
+          for (CategoryYearlyEmission category : current.get(scopeType)) {
+            currentByCategory.put(category.getCategoryNumber(), category);
+          }
+          Map<Integer, BigDecimal> previousByCategory = new HashMap<>();
+          for (CategoryYearlyEmission category : previousCategories) {
+            previousByCategory.put(category.getCategoryNumber(), category.getTotalEmission());
+            currentByCategory.putIfAbsent(category.getCategoryNumber(), CategoryYearlyEmission.builder()
+                .categoryNumber(category.getCategoryNumber())
+                .categoryName(category.getCategoryName())
+                .year(year)
+                .totalEmission(BigDecimal.ZERO)
+                .dataCount(0L)
+                .scopeType(scopeType.name())
+                .totalSumAllCategories(scopeTotal)
+                .build());
+          }
+          for (CategoryYearlyEmission category : currentByCategory.values()) {
+            categoryYearlyEmissions.add(withYearOverYear(category,
+                previousByCategory.getOrDefault(category.getCategoryNumber(), BigDecimal.ZERO)));
+          }
+        }
+      }
+
+      EmissionTrendResponse response = EmissionTrendResponse.builder()
+          .fromYear(fromYear)
+          .toYear(toYear)
+          .userType(userType)
+          .organizationId(isHeadquarters ? headquartersId : partnerId)
+          .partialYearMonths(partialYearMonths)
+          .scopeYearlyTotals(scopeYearlyTotals)
+          .categoryYearlyEmissions(categoryYearlyEmissions)
+          .build();
+
+      long endTime = System.currentTimeMillis();
+      log.info("[PERF] getEmissionTrend 완료 - 소요시간: {}ms, {}년~{}년, 조회 연도: {}~{}, 집계 원천 행 수: {}",
+          endTime - startTime, fromYear, toYear, firstUncachedYear, lastUncachedYear, queriedRows);
+      return response;
 
     } catch (Exception e) {
-      log.error("연별 특수집계 조회 중 오류 발생 - 연도: {}: {}", year, e.getMessage(), e);
-      throw new RuntimeException("연별 특수집계 조회 중 오류가 발생했습니다", e);
+      log.error("다년 배출량 추이 집계 중 오류 발생 - {}년~{}년: {}", fromYear, toYear, e.getMessage(), e);
+      throw new RuntimeException("다년 배출량 추이 집계 처리 중 오류가 발생했습니다", e);
     }
   }
 
+  /**
+   * 마감 연도 캐시 키 (본사:조직:연도)
+   */
+  private static String closedYearCacheKey(Long headquartersId, Long partnerId, Integer year) {
+    return headquartersId + ":" + AggregationSnapshotService.subjectKey(partnerId) + ":" + year;
+  }
+
+  @SuppressWarnings("unchecked")
+  private Map<ScopeType, List<CategoryYearlyEmission>> findClosedYearCategories(Cache cache, String key) {
+    Cache.ValueWrapper cached = cache != null ? cache.get(key) : null;
+    return cached != null ? (Map<ScopeType, List<CategoryYearlyEmission>>) cached.get() : null;
+  }
+
+  private BigDecimal sumCategoryEmissions(List<CategoryYearlyEmission> categories) {
+    return categories.stream()
+        .map(CategoryYearlyEmission::getTotalEmission)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+
+  /**
+   * 전년 대비 증감 / 증감률(%) 설정 - 전년 배출량이 0이면 증감률은 null
+   */
+  private CategoryYearlyEmission withYearOverYear(CategoryYearlyEmission current, BigDecimal previousEmission) {
+    BigDecimal change = current.getTotalEmission().subtract(previousEmission);
+    BigDecimal changeRate = previousEmission.signum() == 0
+        ? null
+        : change.multiply(BigDecimal.valueOf(100)).divide(previousEmission.abs(), 2, RoundingMode.HALF_UP);
+    return current.toBuilder()
+        .previousYearEmission(previousEmission)
+        .yearOverYearChange(change)
+        .yearOverYearChangeRate(changeRate)
+        .build();
+  }
+
   // ========================================================================
   // 맵핑된 자재코드 대시보드 집계 메서드 (Mapped Material Dashboard Aggregation)
   // ========================================================================
@@ -766,89 +1292,62 @@ public class ScopeAggregationService {
       
       log.info("조회 범위 - 연도: {}, 최대월: {} (현재년도: {}, 현재월: {})", year, maxMonth, currentYear, currentMonth);
 
-      // 월별 총합 조회
-      List<MappedMaterialMonthlyTotalResponse.MonthlyTotal> monthlyTotals = new ArrayList<>();
-      
-      for (int month = 1; month <= maxMonth; month++) {
-        try {
-          // 각 월별로 맵핑된 자재 배출량 조회
-          List<Object[]> monthlyResults = scopeEmissionRepository.findMappedMaterialEmissionsByLevel(
-              headquartersId, targetLevel, year, month);
-
-          BigDecimal monthlyTotal = BigDecimal.ZERO;
-          Long monthlyDataCount = 0L;
-
-          // 해당 월의 모든 자재의 Scope 1 + Scope 2 합산
-          for (Object[] result : monthlyResults) {
-            BigDecimal scope1 = (BigDecimal) result[3]; // scope1Emission
-            BigDecimal scope2 = (BigDecimal) result[4]; // scope2Emission
-            Long dataCount = (Long) result[6]; // dataCount
-            
-            monthlyTotal = monthlyTotal.add(scope1 != null ? scope1 : BigDecimal.ZERO);
-            monthlyTotal = monthlyTotal.add(scope2 != null ? scope2 : BigDecimal.ZERO);
-            monthlyDataCount += dataCount != null ? dataCount : 0L;
-          }
-
-          // 월별 총합 객체 생성
-          MappedMaterialMonthlyTotalResponse.MonthlyTotal monthlyTotalItem = 
-              MappedMaterialMonthlyTotalResponse.MonthlyTotal.builder()
-                  .month(month)
-                  .totalEmission(monthlyTotal)
-                  .dataCount(monthlyDataCount)
-                  .build();
-
-          monthlyTotals.add(monthlyTotalItem);
+      // 연간 (월, 자재)별 배출량 단일 조회 - 월별 총합 / 자재별 상세 / 자재 × 월 매트릭스를 메모리에서 계산
+      List<MappedMaterialMonthlyEmissionProjection> rows = scopeEmissionRepository
+          .sumMappedMaterialEmissionsByLevelAndMonth(headquartersId, targetLevel,
+              ReportingPeriodUtil.startOfYear(year), ReportingPeriodUtil.endOfYear(year));
+
+      BigDecimal[] monthlyEmissions = new BigDecimal[maxMonth + 1];
+      long[] monthlyDataCounts = new long[maxMonth + 1];
+      Map<String, MaterialEmissionAccumulator> materials = new LinkedHashMap<>();
+
+      for (MappedMaterialMonthlyEmissionProjection row : rows) {
+        BigDecimal scope1 = row.getScope1Emission() != null ? row.getScope1Emission() : BigDecimal.ZERO;
+        BigDecimal scope2 = row.getScope2Emission() != null ? row.getScope2Emission() : BigDecimal.ZERO;
+        int month = row.getReportingMonth();
+
+        // 월별 총합은 1월~최대월만, 자재별 상세는 연간 전체
+        if (month <= maxMonth) {
+          monthlyEmissions[month] = (monthlyEmissions[month] != null ? monthlyEmissions[month] : BigDecimal.ZERO)
+              .add(scope1).add(scope2);
+          monthlyDataCounts[month] += row.getRecordCount() != null ? row.getRecordCount() : 0L;
+        }
 
-          log.debug("{}월 총합 조회 완료 - 배출량: {}, 데이터 건수: {}", month, monthlyTotal, monthlyDataCount);
+        String materialKey = row.getInternalMaterialCode() + "|" + row.getMaterialName() + "|" + row.getUpstreamMaterialCode();
+        materials.computeIfAbsent(materialKey, key -> new MaterialEmissionAccumulator(row, maxMonth))
+            .add(month, scope1, scope2, row.getTotalEmission());
+      }
 
-        } catch (Exception e) {
-          log.warn("{}월 데이터 조회 중 오류 발생: {}", month, e.getMessage());
-          // 해당 월 데이터 없으면 0으로 처리하고 계속 진행
-          monthlyTotals.add(MappedMaterialMonthlyTotalResponse.MonthlyTotal.createEmptyMonth(month));
-        }
+      // 월별 총합 (데이터 없는 월은 0)
+      List<MappedMaterialMonthlyTotalResponse.MonthlyTotal> monthlyTotals = new ArrayList<>();
+      for (int month = 1; month <= maxMonth; month++) {
+        monthlyTotals.add(monthlyEmissions[month] == null
+            ? MappedMaterialMonthlyTotalResponse.MonthlyTotal.createEmptyMonth(month)
+            : MappedMaterialMonthlyTotalResponse.MonthlyTotal.builder()
+                .month(month)
+                .totalEmission(monthlyEmissions[month])
+                .dataCount(monthlyDataCounts[month])
+                .build());
       }
 
-      // 자재별 상세 정보 조회 (연간 전체 데이터)
+      // 자재별 상세 정보 (연간) 및 자재 × 월 매트릭스
       List<MappedMaterialMonthlyTotalResponse.MaterialDetail> materialDetails = new ArrayList<>();
-      
-      try {
-        // 연간 전체 자재별 배출량 정보 조회 (month=null로 전체 조회)
-        List<Object[]> yearlyMaterialResults = scopeEmissionRepository.findMappedMaterialEmissionsByLevel(
-            headquartersId, targetLevel, year, null);
-        
-        // Object[] 결과를 MaterialDetail로 변환
-        // 순서: internalMaterialCode, materialName, upstreamMaterialCode, scope1Emission, scope2Emission, totalEmission, dataCount
-        for (Object[] result : yearlyMaterialResults) {
-          MappedMaterialMonthlyTotalResponse.MaterialDetail materialDetail = 
-              MappedMaterialMonthlyTotalResponse.MaterialDetail.builder()
-                  .materialName(result[1] != null ? (String) result[1] : "")
-                  .internalMaterialCode(result[0] != null ? (String) result[0] : "")
-                  .upstreamMaterialCode(result[2] != null ? (String) result[2] : "")
-                  .scope1Emission(result[3] != null ? (BigDecimal) result[3] : BigDecimal.ZERO)
-                  .scope2Emission(result[4] != null ? (BigDecimal) result[4] : BigDecimal.ZERO)
-                  .totalEmission(result[5] != null ? (BigDecimal) result[5] : BigDecimal.ZERO)
-                  .build();
-          
-          materialDetails.add(materialDetail);
-        }
-        
-        log.info("자재별 상세 정보 조회 완료 - 자재 수: {}", materialDetails.size());
-        
-      } catch (Exception e) {
-        log.warn("자재별 상세 정보 조회 중 오류 발생: {}", e.getMessage());
-        // 자재별 상세 정보 조회 실패 시 빈 리스트로 처리
-        materialDetails = new ArrayList<>();
+      List<MappedMaterialMonthlyTotalResponse.MaterialMonthlyEmission> materialMonthlyEmissions = new ArrayList<>();
+      for (MaterialEmissionAccumulator material : materials.values()) {
+        materialDetails.add(material.toDetail());
+        materialMonthlyEmissions.add(material.toMonthlyEmission());
       }
+      log.info("자재별 상세 정보 조회 완료 - 자재 수: {}", materialDetails.size());
 
       // 응답 생성
       MappedMaterialMonthlyTotalResponse response;
       
       if ("HEADQUARTERS".equals(userType)) {
         response = MappedMaterialMonthlyTotalResponse.createHeadquartersResponse(
-            headquartersId, year, monthlyTotals, materialDetails);
+            headquartersId, year, monthlyTotals, materialDetails, materialMonthlyEmissions);
       } else {
         response = MappedMaterialMonthlyTotalResponse.createPartnerResponse(
-            partnerId, year, monthlyTotals, materialDetails);
+            partnerId, year, monthlyTotals, materialDetails, materialMonthlyEmissions);
       }
 
       long endTime = System.currentTimeMillis();
@@ -864,4 +1363,54 @@ public class ScopeAggregationService {
     }
   }
 
-}
\ No newline at end of file
+  /**
+   * 자재별 연간/월별 배출량 누적 (맵핑 자재 월별 총합 계산용)
+   */
+  private static final class MaterialEmissionAccumulator {
+    private final String internalMaterialCode;
+    private final String materialName;
+    private final String upstreamMaterialCode;
+    private final BigDecimal[] monthlyEmissions;
+    private BigDecimal scope1Emission = BigDecimal.ZERO;
+    private BigDecimal scope2Emission = BigDecimal.ZERO;
+    private BigDecimal totalEmission = BigDecimal.ZERO;
+
+    private MaterialEmissionAccumulator(MappedMaterialMonthlyEmissionProjection row, int maxMonth) {
+      this.internalMaterialCode = row.getInternalMaterialCode() != null ? row.getInternalMaterialCode() : "";
+      this.materialName = row.getMaterialName() != null ? row.getMaterialName() : "";
+      this.upstreamMaterialCode = row.getUpstreamMaterialCode() != null ? row.getUpstreamMaterialCode() : "";
+      this.monthlyEmissions = new BigDecimal[maxMonth];
+      java.util.Arrays.fill(monthlyEmissions, BigDecimal.ZERO);
+    }
+
+    private void add(int month, BigDecimal scope1, BigDecimal scope2, BigDecimal total) {
+      scope1Emission = scope1Emission.add(scope1);
+      scope2Emission = scope2Emission.add(scope2);
+      totalEmission = totalEmission.add(total != null ? total : BigDecimal.ZERO);
+      if (month >= 1 && month <= monthlyEmissions.length) {
+        monthlyEmissions[month - 1] = monthlyEmissions[month - 1].add(scope1).add(scope2);
+      }
+    }
+
+    private MappedMaterialMonthlyTotalResponse.MaterialDetail toDetail() {
+      return MappedMaterialMonthlyTotalResponse.MaterialDetail.builder()
+          .materialName(materialName)
+          .internalMaterialCode(internalMaterialCode)
+          .upstreamMaterialCode(upstreamMaterialCode)
+          .scope1Emission(scope1Emission)
+          .scope2Emission(scope2Emission)
+          .totalEmission(totalEmission)
+          .build();
+    }
+
+    private MappedMaterialMonthlyTotalResponse.MaterialMonthlyEmission toMonthlyEmission() {
+      return MappedMaterialMonthlyTotalResponse.MaterialMonthlyEmission.builder()
+          .materialName(materialName)
+          .internalMaterialCode(internalMaterialCode)
+          .upstreamMaterialCode(upstreamMaterialCode)
+          .monthlyEmissions(List.of(monthlyEmissions))
+          .build();
+    }
+  }
+
+}
@@ -1,20 +1,27 @@
 package com.nsmm.esg.scope_service.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.nsmm.esg.scope_service.dto.request.ScopeEmissionRequest;
 import com.nsmm.esg.scope_service.dto.request.ScopeEmissionUpdateRequest;
+import com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary;
+import com.nsmm.esg.scope_service.dto.response.ScopeEmissionPageResponse;
 import com.nsmm.esg.scope_service.dto.response.ScopeEmissionResponse;
 import com.nsmm.esg.scope_service.entity.*;
 import com.nsmm.esg.scope_service.enums.Scope1Category;
 import com.nsmm.esg.scope_service.enums.Scope2Category;
 import com.nsmm.esg.scope_service.enums.Scope3Category;
 import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
 import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
 import com.nsmm.esg.scope_service.repository.MaterialMappingRepository;
 import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
+import com.nsmm.esg.scope_service.repository.projection.SpecialAggregationSummaryProjection;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -50,9 +57,17 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class ScopeEmissionService {
 
+  private static final int DEFAULT_PAGE_SIZE = 50;
+  private static final int MAX_PAGE_SIZE = 500;
+
   private final ScopeEmissionRepository scopeEmissionRepository;
   private final MaterialMappingRepository materialMappingRepository;
   private final MaterialAssignmentRepository materialAssignmentRepository;
+  private final EmissionRollupService emissionRollupService;
+  private final OrganizationHierarchyService organizationHierarchyService;
+  private final OrganizationTreeIndex organizationTreeIndex;
+  private final AggregationSnapshotService aggregationSnapshotService;
+  private final EmissionCacheInvalidator emissionCacheInvalidator;
 
   // ============================================================================
   // 생성 메서드
@@ -173,8 +188,10 @@ public class ScopeEmissionService {
             finalHeadquartersId, finalPartnerId);
       }
 
-      // 2. 기본 필드 검증
+      // 2. 기본 필드 검증 및 마감 기간 확인
       validateBasicFields(request);
+      aggregationSnapshotService.validatePeriodOpen(
+          finalHeadquartersId, request.getReportingYear(), request.getReportingMonth());
 
       // 4. 엔티티 생성
       ScopeEmission emission = createScopeEmissionEntity(
@@ -185,8 +202,13 @@ public class ScopeEmissionService {
       log.info("Scope 배출량 데이터 생성 완료: id={}, scopeType={}, totalEmission={}",
           savedEmission.getId(), savedEmission.getScopeType(), savedEmission.getTotalEmission());
 
-      // 6. 캐시 무효화
-      evictEmissionCaches();
+      // 6. 집계 읽기 모델 및 조직 계층 갱신 (동일 트랜잭션)
+      emissionRollupService.applyCreated(savedEmission);
+      organizationHierarchyService.registerOrganization(finalHeadquartersId, finalPartnerId, treePath);
+      organizationTreeIndex.onPartnerWrite(finalHeadquartersId, finalPartnerId, treePath);
+
+      // 7. 캐시 무효화 (변경된 조직/기간 키만, 커밋 후)
+      emissionCacheInvalidator.evict(savedEmission);
 
       return ScopeEmissionResponse.from(savedEmission);
 
@@ -227,20 +249,99 @@ public class ScopeEmissionService {
       throw new IllegalArgumentException("알 수 없는 사용자 유형입니다: " + userType);
     }
 
-    // MaterialMapping 관계를 명시적으로 로드하여 자재명이 올바르게 조회되도록 보장
-    emissions.forEach(emission -> {
-      if (emission.getMaterialMapping() != null) {
-        // MaterialMapping의 materialName 필드에 접근하여 Lazy Loading 강제 실행
-        String materialName = emission.getMaterialMapping().getMaterialName();
-        log.debug("MaterialMapping 로드 완료: emissionId={}, materialName={}", emission.getId(), materialName);
-      }
-    });
-
+    // MaterialMapping은 조회 쿼리에서 함께 로딩 (@EntityGraph - 행별 지연 로딩 N+1 방지)
     return emissions.stream()
         .map(ScopeEmissionResponse::from)
         .collect(Collectors.toList());
   }
 
+  /**
+   * Scope 타입별 배출량 목록 키셋 페이지 조회 (본인 데이터만)
+   *
+   * 보고 연/월 최신순 + ID 역순 정렬, OFFSET 없이 직전 페이지 마지막 행 이후부터 조회
+   * 자재코드 매핑 필드는 동일 SELECT에서 조인하여 프로젝션으로 반환
+   *
+   * @param year   보고 연도 필터 (선택)
+   * @param month  보고 월 필터 (선택, 연도 필수)
+   * @param cursor 다음 페이지 커서 (보고연도:보고월:ID, 첫 페이지는 null)
+   * @param size   페이지 크기 (기본 50, 최대 500)
+   */
+  public ScopeEmissionPageResponse getEmissionsByScopePage(
+      ScopeType scopeType,
+      String accountNumber,
+      String userType,
+      String headquartersId,
+      String partnerId,
+      String treePath,
+      Integer year,
+      Integer month,
+      String cursor,
+      Integer size) {
+
+    log.info("Scope {} 배출량 페이지 조회: accountNumber={}, userType={}, year={}, month={}, cursor={}, size={}",
+        scopeType, accountNumber, userType, year, month, cursor, size);
+    validateUserPermissions(userType, headquartersId, partnerId, treePath);
+    if (headquartersId == null) {
+      throw new IllegalArgumentException("본사 ID가 필요합니다");
+    }
+
+    // 기간 필터 (미지정 시 전체 기간)
+    if (month != null && year == null) {
+      throw new IllegalArgumentException("보고 월 필터는 보고 연도와 함께 지정해야 합니다");
+    }
+    if (month != null && (month < 1 || month > 12)) {
+      throw new IllegalArgumentException("보고 월은 1~12 사이여야 합니다: " + month);
+    }
+    int fromPeriod = year == null ? 0 : toFromPeriod(year, month);
+    int toPeriod = year == null ? Integer.MAX_VALUE : toToPeriod(year, month);
+
+    // 커서 (첫 페이지는 최댓값부터)
+    int cursorPeriod = Integer.MAX_VALUE;
+    long cursorId = Long.MAX_VALUE;
+    if (cursor != null && !cursor.isBlank()) {
+      String[] parts = cursor.split(":");
+      if (parts.length != 3) {
+        throw new IllegalArgumentException("잘못된 페이지 커서 형식입니다: " + cursor);
+      }
+      try {
+        cursorPeriod = ReportingPeriodUtil.of(Integer.parseInt(parts[0]), Integer.parseInt(parts[1]));
+        cursorId = Long.parseLong(parts[2]);
+      } catch (NumberFormatException e) {
+        throw new IllegalArgumentException("잘못된 페이지 커서 형식입니다: " + cursor);
+      }
+    }
+
+    int pageSize = size == null ? DEFAULT_PAGE_SIZE : Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    // 다음 페이지 존재 여부 확인용으로 1건 더 조회
+    PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+    List<ScopeEmissionListProjection> rows;
+    if ("HEADQUARTERS".equals(userType)) {
+      rows = scopeEmissionRepository.findEmissionPageForHeadquartersOnly(
+          Long.parseLong(headquartersId), scopeType, fromPeriod, toPeriod, cursorPeriod, cursorId, limit);
+    } else {
+      rows = scopeEmissionRepository.findEmissionPageForSpecificPartner(
+          Long.parseLong(headquartersId), Long.parseLong(partnerId), scopeType,
+          fromPeriod, toPeriod, cursorPeriod, cursorId, limit);
+    }
+
+    boolean hasNext = rows.size() > pageSize;
+    List<ScopeEmissionListProjection> page = hasNext ? rows.subList(0, pageSize) : rows;
+    String nextCursor = null;
+    if (hasNext) {
+      ScopeEmissionListProjection last = page.get(page.size() - 1);
+      nextCursor = last.getReportingYear() + ":" + last.getReportingMonth() + ":" + last.getId();
+    }
+
+    log.info("Scope {} 배출량 페이지 조회 완료: {}건, hasNext={}", scopeType, page.size(), hasNext);
+    return ScopeEmissionPageResponse.builder()
+        .content(page.stream().map(ScopeEmissionResponse::from).collect(Collectors.toList()))
+        .size(pageSize)
+        .hasNext(hasNext)
+        .nextCursor(nextCursor)
+        .build();
+  }
+
 
 
   // Scope 배출량 데이터 수정
@@ -259,8 +360,15 @@ public class ScopeEmissionService {
     ScopeEmission existingEmission = scopeEmissionRepository.findById(id)
         .orElseThrow(() -> new IllegalArgumentException("배출량 데이터를 찾을 수 없습니다: " + id));
 
-    // 2. 수정 권한 검증
+    // 2. 수정 권한 검증 및 마감 기간 확인 (기존 기간과 변경될 기간 모두)
     validateUpdatePermissions(existingEmission, userType, headquartersId, partnerId, treePath);
+    aggregationSnapshotService.validatePeriodsOpen(existingEmission.getHeadquartersId(),
+        existingEmission.getReportingYear(), existingEmission.getReportingMonth(),
+        request.getReportingYear() != null ? request.getReportingYear() : existingEmission.getReportingYear(),
+        request.getReportingMonth() != null ? request.getReportingMonth() : existingEmission.getReportingMonth());
+
+    // 집계 읽기 모델 갱신용 수정 전 상태 복사 (저장 시 영속 엔티티가 덮어써지므로 미리 보관)
+    ScopeEmission beforeEmission = existingEmission.toBuilder().build();
 
     // 3. 부분 업데이트 수행
     ScopeEmission updatedEmission = performPartialUpdate(existingEmission, request);
@@ -269,8 +377,12 @@ public class ScopeEmissionService {
     ScopeEmission savedEmission = scopeEmissionRepository.save(updatedEmission);
     log.info("Scope 배출량 데이터 수정 완료: id={}", savedEmission.getId());
 
-    // 5. 캐시 무효화
-    evictEmissionCaches();
+    // 5. 집계 읽기 모델 갱신 (동일 트랜잭션)
+    emissionRollupService.applyUpdated(beforeEmission, savedEmission);
+
+    // 6. 캐시 무효화 (수정 전/후 조직/기간 키만, 커밋 후)
+    emissionCacheInvalidator.evict(beforeEmission);
+    emissionCacheInvalidator.evict(savedEmission);
 
     return ScopeEmissionResponse.from(savedEmission);
   }
@@ -291,8 +403,10 @@ public class ScopeEmissionService {
       ScopeEmission emission = scopeEmissionRepository.findById(id)
           .orElseThrow(() -> new IllegalArgumentException("배출량 데이터를 찾을 수 없습니다: " + id));
 
-      // 2. 권한 검증
+      // 2. 권한 검증 및 마감 기간 확인
       validateDeletePermissions(emission, userType, headquartersId, partnerId, treePath);
+      aggregationSnapshotService.validatePeriodOpen(
+          emission.getHeadquartersId(), emission.getReportingYear(), emission.getReportingMonth());
 
       // 3. 관련 매핑 데이터 삭제 (삭제 순서: MaterialMapping -> MaterialAssignment 상태 변경 -> ScopeEmission)
       if (emission.getMaterialMapping() != null) {
@@ -337,9 +451,12 @@ public class ScopeEmissionService {
       // 4. 배출량 데이터 삭제
       scopeEmissionRepository.delete(emission);
       log.info("Scope 배출량 데이터 삭제 완료: id={}", id);
+
+      // 5. 집계 읽기 모델 갱신 (동일 트랜잭션)
+      emissionRollupService.applyDeleted(emission);
       
-      // 5. 캐시 무효화
-      evictEmissionCaches();
+      // 6. 캐시 무효화 (삭제된 조직/기간 키만, 커밋 후)
+      emissionCacheInvalidator.evict(emission);
       
     } catch (IllegalArgumentException e) {
       log.error("배출량 데이터 삭제 중 검증 오류: id={}", id, e);
@@ -358,15 +475,17 @@ public class ScopeEmissionService {
    * 특수 집계 배출량 통합 조회 - 본사용 (캐시 적용)
    * 
    * 기존의 50여개 개별 쿼리를 1개의 통합 쿼리로 최적화
+   * (연도, 월) 범위 단일 스캔 조건부 집계 - 버킷별 UNION ALL 반복 스캔 제거
    * - SCOPE1_MOBILE: Scope1 이동연소 (카테고리 4,5,6)
    * - SCOPE1_WASTEWATER: Scope1 폐수처리 (카테고리 8)
    * - SCOPE1_FACTORY: Scope1 공장설비
    * - SCOPE2_FACTORY: Scope2 공장설비  
    * - SCOPE1_TOTAL: Scope1 전체 합계
    * - SCOPE2_TOTAL: Scope2 전체 합계
+   * - SCOPE3_CATEGORY_1, 2, 4, 5: Scope3 특수 집계 대상 카테고리
    */
-  @Cacheable(value = "specialAggregationCache", 
-             key = "'headquarters:' + #headquartersId + ':' + #year + ':' + #month")
+  @Cacheable(value = EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE, sync = true,
+             key = "T(com.nsmm.esg.scope_service.service.EmissionCacheKeys).specialAggregation(#headquartersId, null, #year, #month)")
   @Transactional(readOnly = true)
   public Map<String, Object> getSpecialAggregationSummaryForHeadquarters(
       Long headquartersId, Integer year, Integer month) {
@@ -374,23 +493,9 @@ public class ScopeEmissionService {
     log.info("특수 집계 통합 조회 - 본사: headquartersId={}, year={}, month={}", 
              headquartersId, year, month);
     
-    List<Object[]> results = scopeEmissionRepository
+    SpecialAggregationSummaryProjection summary = scopeEmissionRepository
         .getSpecialAggregationSummaryForHeadquarters(headquartersId, year, month);
-    
-    Map<String, Object> aggregationMap = new HashMap<>();
-    
-    // 결과를 Map으로 변환
-    for (Object[] result : results) {
-      String type = (String) result[0];
-      BigDecimal totalEmission = (BigDecimal) result[1];
-      Long recordCount = (Long) result[2];
-      
-      Map<String, Object> typeData = new HashMap<>();
-      typeData.put("totalEmission", totalEmission);
-      typeData.put("recordCount", recordCount);
-      
-      aggregationMap.put(type, typeData);
-    }
+    Map<String, Object> aggregationMap = toSpecialAggregationMap(summary);
     
     log.info("특수 집계 조회 완료 - 본사: {} 개 항목", aggregationMap.size());
     return aggregationMap;
@@ -399,8 +504,8 @@ public class ScopeEmissionService {
   /**
    * 특수 집계 배출량 통합 조회 - 협력사용 (캐시 적용)
    */
-  @Cacheable(value = "specialAggregationCache", 
-             key = "'partner:' + #headquartersId + ':' + #partnerId + ':' + #year + ':' + #month")
+  @Cacheable(value = EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE, sync = true,
+             key = "T(com.nsmm.esg.scope_service.service.EmissionCacheKeys).specialAggregation(#headquartersId, #partnerId, #year, #month)")
   @Transactional(readOnly = true)
   public Map<String, Object> getSpecialAggregationSummaryForPartner(
       Long headquartersId, Long partnerId, Integer year, Integer month) {
@@ -408,23 +513,9 @@ public class ScopeEmissionService {
     log.info("특수 집계 통합 조회 - 협력사: headquartersId={}, partnerId={}, year={}, month={}", 
              headquartersId, partnerId, year, month);
     
-    List<Object[]> results = scopeEmissionRepository
+    SpecialAggregationSummaryProjection summary = scopeEmissionRepository
         .getSpecialAggregationSummaryForPartner(headquartersId, partnerId, year, month);
-    
-    Map<String, Object> aggregationMap = new HashMap<>();
-    
-    // 결과를 Map으로 변환
-    for (Object[] result : results) {
-      String type = (String) result[0];
-      BigDecimal totalEmission = (BigDecimal) result[1];
-      Long recordCount = (Long) result[2];
-      
-      Map<String, Object> typeData = new HashMap<>();
-      typeData.put("totalEmission", totalEmission);
-      typeData.put("recordCount", recordCount);
-      
-      aggregationMap.put(type, typeData);
-    }
+    Map<String, Object> aggregationMap = toSpecialAggregationMap(summary);
     
     log.info("특수 집계 조회 완료 - 협력사: {} 개 항목", aggregationMap.size());
     return aggregationMap;
@@ -435,85 +526,130 @@ public class ScopeEmissionService {
    * 
    * Scope1, 2, 3의 모든 카테고리별 배출량을 한 번에 조회
    */
-  @Cacheable(value = "categoryWiseCache", 
-             key = "'category:' + #headquartersId + ':' + (#partnerId ?: 'HQ') + ':' + #year + ':' + (#month ?: 'ALL')")
+  @Cacheable(value = EmissionCacheKeys.CATEGORY_WISE_CACHE, sync = true,
+             key = "T(com.nsmm.esg.scope_service.service.EmissionCacheKeys).categoryWise(#headquartersId, #partnerId, #year, #month)")
   @Transactional(readOnly = true)
-  public List<Map<String, Object>> getCategoryWiseEmissions(
+  public List<CategoryEmissionSummary> getCategoryWiseEmissions(
       Long headquartersId, Long partnerId, Integer year, Integer month) {
     
     log.info("카테고리별 배출량 통합 조회: headquartersId={}, partnerId={}, year={}, month={}", 
              headquartersId, partnerId, year, month);
     
-    List<Object[]> results = scopeEmissionRepository
-        .getCategoryWiseEmissions(headquartersId, partnerId, year, month);
+    // 마감된 월은 마감 시점 스냅샷 반환
+    Optional<List<CategoryEmissionSummary>> closedSnapshot = aggregationSnapshotService.findSnapshot(
+        headquartersId, year, month, SnapshotType.CATEGORY_WISE,
+        AggregationSnapshotService.subjectKey(partnerId), new TypeReference<List<CategoryEmissionSummary>>() {});
+    if (closedSnapshot.isPresent()) {
+      log.info("카테고리별 배출량 마감 스냅샷 반환: {} 개 항목", closedSnapshot.get().size());
+      return closedSnapshot.get();
+    }
     
-    List<Map<String, Object>> categoryList = results.stream()
-        .map(result -> {
-          Map<String, Object> categoryData = new HashMap<>();
-          categoryData.put("scopeType", result[0]);
-          categoryData.put("categoryNumber", result[1]);
-          categoryData.put("categoryName", result[2]);
-          categoryData.put("reportingMonth", result[3]);
-          categoryData.put("totalEmission", result[4]);
-          categoryData.put("recordCount", result[5]);
-          return categoryData;
-        })
-        .collect(Collectors.toList());
+    List<CategoryEmissionSummary> categoryList = calculateCategoryWiseEmissions(headquartersId, partnerId, year, month);
     
     log.info("카테고리별 배출량 조회 완료: {} 개 항목", categoryList.size());
     return categoryList;
   }
 
+  /**
+   * 카테고리별 배출량 원본 집계 (캐시/스냅샷 미사용)
+   * 보고 기간 마감 시 스냅샷 생성에도 사용
+   */
+  public List<CategoryEmissionSummary> calculateCategoryWiseEmissions(
+      Long headquartersId, Long partnerId, Integer year, Integer month) {
+    // 쿼리에서 DTO 직접 생성 (Object[] -> Map 변환 생략)
+    // 본사/협력사별 전용 쿼리 + 기간 범위 조건 (인덱스 사용 가능한 조건만 사용)
+    int fromPeriod = toFromPeriod(year, month);
+    int toPeriod = toToPeriod(year, month);
+    return partnerId == null
+        ? scopeEmissionRepository.getCategoryWiseEmissionsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+        : scopeEmissionRepository.getCategoryWiseEmissionsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+  }
+
   /**
    * Scope3 전체 카테고리 배출량 조회 (캐시 적용)
    */
-  @Cacheable(value = "scope3CategoriesCache", 
-             key = "'scope3:' + #headquartersId + ':' + (#partnerId ?: 'HQ') + ':' + #year + ':' + (#month ?: 'ALL')")
+  @Cacheable(value = EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE, sync = true,
+             key = "T(com.nsmm.esg.scope_service.service.EmissionCacheKeys).scope3Categories(#headquartersId, #partnerId, #year, #month)")
   @Transactional(readOnly = true)
-  public List<Map<String, Object>> getScope3AllCategoriesEmissions(
+  public List<CategoryEmissionSummary> getScope3AllCategoriesEmissions(
       Long headquartersId, Long partnerId, Integer year, Integer month) {
     
     log.info("Scope3 전체 카테고리 배출량 조회: headquartersId={}, partnerId={}, year={}, month={}", 
              headquartersId, partnerId, year, month);
     
-    List<Object[]> results = scopeEmissionRepository
-        .getScope3AllCategoriesEmissions(headquartersId, partnerId, year, month);
+    // 마감된 월은 마감 시점 스냅샷 반환
+    Optional<List<CategoryEmissionSummary>> closedSnapshot = aggregationSnapshotService.findSnapshot(
+        headquartersId, year, month, SnapshotType.SCOPE3_CATEGORIES,
+        AggregationSnapshotService.subjectKey(partnerId), new TypeReference<List<CategoryEmissionSummary>>() {});
+    if (closedSnapshot.isPresent()) {
+      log.info("Scope3 카테고리 배출량 마감 스냅샷 반환: {} 개 항목", closedSnapshot.get().size());
+      return closedSnapshot.get();
+    }
     
-    List<Map<String, Object>> scope3List = results.stream()
-        .map(result -> {
-          Map<String, Object> categoryData = new HashMap<>();
-          categoryData.put("categoryNumber", result[0]);
-          categoryData.put("categoryName", result[1]);
-          categoryData.put("reportingMonth", result[2]);
-          categoryData.put("totalEmission", result[3]);
-          categoryData.put("recordCount", result[4]);
-          return categoryData;
-        })
-        .collect(Collectors.toList());
+    List<CategoryEmissionSummary> scope3List = calculateScope3AllCategoriesEmissions(headquartersId, partnerId, year, month);
     
     log.info("Scope3 카테고리 배출량 조회 완료: {} 개 항목", scope3List.size());
     return scope3List;
   }
 
-  // ============================================================================
-  // 캐시 무효화 메서드
-  // ============================================================================
+  /**
+   * Scope3 전체 카테고리 배출량 원본 집계 (캐시/스냅샷 미사용)
+   * 보고 기간 마감 시 스냅샷 생성에도 사용
+   */
+  public List<CategoryEmissionSummary> calculateScope3AllCategoriesEmissions(
+      Long headquartersId, Long partnerId, Integer year, Integer month) {
+    int fromPeriod = toFromPeriod(year, month);
+    int toPeriod = toToPeriod(year, month);
+    return partnerId == null
+        ? scopeEmissionRepository.getScope3AllCategoriesEmissionsForHeadquartersOnly(headquartersId, fromPeriod, toPeriod)
+        : scopeEmissionRepository.getScope3AllCategoriesEmissionsForSpecificPartner(headquartersId, partnerId, fromPeriod, toPeriod);
+  }
+
+  /**
+   * 조회 시작 기간 (월 지정 시 해당 월, 미지정 시 연도 첫 달)
+   */
+  private int toFromPeriod(Integer year, Integer month) {
+    return month != null ? ReportingPeriodUtil.of(year, month) : ReportingPeriodUtil.startOfYear(year);
+  }
+
+  /**
+   * 조회 종료 기간 (월 지정 시 해당 월, 미지정 시 연도 마지막 달)
+   */
+  private int toToPeriod(Integer year, Integer month) {
+    return month != null ? ReportingPeriodUtil.of(year, month) : ReportingPeriodUtil.endOfYear(year);
+  }
 
   /**
-   * 배출량 데이터 생성/수정/삭제 시 관련 캐시 무효화
+   * 특수 집계 요약 프로젝션을 집계 유형별 Map으로 변환 (유형별 totalEmission, recordCount)
    */
-  @CacheEvict(value = {"specialAggregationCache", "categoryWiseCache", "scope3CategoriesCache", 
-                       "monthlyEmissionCache", "partnerEmissionCache"}, allEntries = true)
-  public void evictEmissionCaches() {
-    log.info("배출량 관련 모든 캐시 무효화 완료");
+  private Map<String, Object> toSpecialAggregationMap(SpecialAggregationSummaryProjection summary) {
+    Map<String, Object> aggregationMap = new HashMap<>();
+    putAggregation(aggregationMap, "SCOPE1_MOBILE", summary.getScope1MobileCombustion(), summary.getScope1MobileCombustionCount());
+    putAggregation(aggregationMap, "SCOPE1_WASTEWATER", summary.getScope1WasteWater(), summary.getScope1WasteWaterCount());
+    putAggregation(aggregationMap, "SCOPE1_FACTORY", summary.getScope1Factory(), summary.getScope1FactoryCount());
+    putAggregation(aggregationMap, "SCOPE2_FACTORY", summary.getScope2Factory(), summary.getScope2FactoryCount());
+    putAggregation(aggregationMap, "SCOPE1_TOTAL", summary.getScope1Total(), summary.getScope1TotalCount());
+    putAggregation(aggregationMap, "SCOPE2_TOTAL", summary.getScope2Total(), summary.getScope2TotalCount());
+    putAggregation(aggregationMap, "SCOPE3_CATEGORY_1", summary.getScope3Category1(), summary.getScope3Category1Count());
+    putAggregation(aggregationMap, "SCOPE3_CATEGORY_2", summary.getScope3Category2(), summary.getScope3Category2Count());
+    putAggregation(aggregationMap, "SCOPE3_CATEGORY_4", summary.getScope3Category4(), summary.getScope3Category4Count());
+    putAggregation(aggregationMap, "SCOPE3_CATEGORY_5", summary.getScope3Category5(), summary.getScope3Category5Count());
+    return aggregationMap;
+  }
+
+  private void putAggregation(Map<String, Object> aggregationMap, String type, BigDecimal totalEmission, Long recordCount) {
+    Map<String, Object> typeData = new HashMap<>();
+    typeData.put("totalEmission", totalEmission != null ? totalEmission : BigDecimal.ZERO);
+    typeData.put("recordCount", recordCount != null ? recordCount : 0L);
+    aggregationMap.put(type, typeData);
   }
 
   // ============================================================================
   // 유효성 검증 메서드
   // ============================================================================
 
- // 사용자 권한 검증
-  private void validateUserPermissions(String userType, String headquartersId, String partnerId, String treePath) {
+ // 사용자 권한 검증 (배출량 내보내기에서도 동일 기준으로 사용)
+  public void validateUserPermissions(String userType, String headquartersId, String partnerId, String treePath) {
     if (userType == null) {
       throw new IllegalArgumentException("사용자 타입이 필요합니다");
     }
@@ -1197,24 +1333,7 @@ public class ScopeEmissionService {
    * 트리 경로로부터 협력사 레벨 계산
    */
   private Integer calculatePartnerLevel(String treePath) {
-    if (treePath == null || treePath.trim().isEmpty()) {
-      return 0; // 본사
-    }
-    
-    // treePath 형태: /1/L1-001/L2-003/ -> L1, L2 등으로 레벨 계산
-    String[] parts = treePath.split("/");
-    int level = 0;
-    for (String part : parts) {
-      if (part.startsWith("L")) {
-        try {
-          int partLevel = Integer.parseInt(part.substring(1, 2));
-          level = Math.max(level, partLevel);
-        } catch (NumberFormatException | StringIndexOutOfBoundsException e) {
-          // 파싱 실패 시 기본값 유지
-        }
-      }
-    }
-    return level;
+    return OrganizationTree.parseLevel(treePath);
   }
 
 
@@ -0,0 +1,35 @@
+package com.nsmm.esg.scope_service.util;
+
+/**
+ * 보고 기간(reporting_period, yyyymm 정수) 관련 유틸리티 클래스
+ *
+ * 연/월을 하나의 정수로 표현하여 임의의 월 구간을 단일 범위 조건으로 조회
+ * - 2024년 3월 -> 202403
+ * - 2024년 전체 -> BETWEEN 202401 AND 202412
+ */
+public class ReportingPeriodUtil {
+
+    private ReportingPeriodUtil() {
+    }
+
+    /**
+     * 연/월 -> yyyymm
+     */
+    public static int of(int year, int month) {
+        return year * 100 + month;
+    }
+
+    /**
+     * 연도 첫 달 (yyyy01)
+     */
+    public static int startOfYear(int year) {
+        return of(year, 1);
+    }
+
+    /**
+     * 연도 마지막 달 (yyyy12)
+     */
+    public static int endOfYear(int year) {
+        return of(year, 12);
+    }
+}
@@ -0,0 +1,235 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.config.AggregationEtagInterceptor;
+import com.nsmm.esg.scope_service.config.AggregationEtagResponseAdvice;
+import com.nsmm.esg.scope_service.dto.ApiResponse;
+import com.nsmm.esg.scope_service.repository.EmissionDataVersionRepository;
+import com.nsmm.esg.scope_service.service.EmissionDataVersionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 집계 API 데이터 버전 ETag / 조건부 GET 테스트
+ *
+ * 버전 레포지토리는 (본사, 연도) → 버전 맵으로 대체 (emission_data_version 테이블과 동일한 증가 / 합계 규칙)
+ * - 데이터 버전이 같으면 같은 요청은 같은 ETag, If-None-Match 일치 시 컨트롤러 실행 없이 304
+ * - (본사, 연도) 쓰기는 해당 연도 ETag만 변경, 자재코드 할당 쓰기(전체 연도)는 모든 연도 ETag 변경
+ * - 추이(fromYear ~ toYear) ETag는 시작 연도 전년(증감률 기준) 쓰기에도 변경
+ * - 버전은 쓰기 트랜잭션 커밋 직전에 (본사, 연도)별 1회 증가, 커밋 전에는 태그 불변
+ * - 버전 저장소를 공유하는 다른 인스턴스도 같은 태그 발급
+ * - 사용자 헤더(협력사 ID 등)가 다르면 다른 ETag
+ * - ETag 헤더는 성공(2xx) 응답에만 추가
+ */
+public class AggregationEtagTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+
+    private final Map<String, Long> versions = new ConcurrentHashMap<>();
+
+    private EmissionDataVersionRepository repository;
+    private EmissionDataVersionService versionService;
+    private AggregationEtagInterceptor interceptor;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        repository = mock(EmissionDataVersionRepository.class);
+        when(repository.increment(anyLong(), anyInt())).thenAnswer(invocation -> {
+            versions.merge(invocation.getArgument(0) + ":" + invocation.getArgument(1), 1L, Long::sum);
+            return 1;
+        });
+        when(repository.sumVersions(anyLong(), any())).thenAnswer(invocation -> {
+            Long headquartersId = invocation.getArgument(0);
+            return ((Collection<Integer>) invocation.getArgument(1)).stream()
+                    .mapToLong(year -> versions.getOrDefault(headquartersId + ":" + year, 0L))
+                    .sum();
+        });
+
+        versionService = new EmissionDataVersionService(repository);
+        interceptor = new AggregationEtagInterceptor(versionService);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void matchingIfNoneMatchReturnsNotModifiedBeforeController() {
+        String etag = etagOf(request(2024, null));
+
+        MockHttpServletRequest conditional = request(2024, null);
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etag);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        assertThat(interceptor.preHandle(conditional, response, new Object())).isFalse();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isEqualTo(etag);
+    }
+
+    @Test
+    void writeChangesOnlyAffectedYearEtag() {
+        String etag2024 = etagOf(request(2024, null));
+        String etag2023 = etagOf(request(2023, null));
+
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2024));
+
+        assertThat(etagOf(request(2024, null))).isNotEqualTo(etag2024);
+        assertThat(etagOf(request(2023, null))).isEqualTo(etag2023);
+
+        // 자재코드 할당 쓰기 - 모든 연도 변경
+        commit(() -> versionService.bump(HEADQUARTERS_ID, null));
+        assertThat(etagOf(request(2023, null))).isNotEqualTo(etag2023);
+    }
+
+    @Test
+    void trendEtagCoversPreviousYearOfRange() {
+        String etag = etagOf(trendRequest(2022, 2024));
+
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2020));
+        assertThat(etagOf(trendRequest(2022, 2024))).isEqualTo(etag);
+
+        // 2022년 증감률 기준인 2021년 쓰기
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2021));
+        String afterPreviousYear = etagOf(trendRequest(2022, 2024));
+        assertThat(afterPreviousYear).isNotEqualTo(etag);
+
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2024));
+        String afterLastYear = etagOf(trendRequest(2022, 2024));
+        assertThat(afterLastYear).isNotEqualTo(afterPreviousYear);
+
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2025));
+        assertThat(etagOf(trendRequest(2022, 2024))).isEqualTo(afterLastYear);
+    }
+
+    @Test
+    void versionIsBumpedOncePerYearJustBeforeCommit() {
+        String before = versionService.versionTag(HEADQUARTERS_ID, 2024, 2024);
+
+        TransactionSynchronizationManager.initSynchronization();
+        versionService.bump(HEADQUARTERS_ID, 2024);
+        versionService.bump(HEADQUARTERS_ID, 2024); // 수정 전후 같은 연도
+        assertThat(versionService.versionTag(HEADQUARTERS_ID, 2024, 2024)).isEqualTo(before);
+
+        completeTransaction();
+        verify(repository, times(1)).increment(HEADQUARTERS_ID, 2024);
+        assertThat(versionService.versionTag(HEADQUARTERS_ID, 2024, 2024)).isNotEqualTo(before);
+    }
+
+    @Test
+    void instancesSharingVersionStoreIssueSameTag() {
+        AggregationEtagInterceptor otherInstance = new AggregationEtagInterceptor(new EmissionDataVersionService(repository));
+        commit(() -> versionService.bump(HEADQUARTERS_ID, 2024));
+
+        // 다른 인스턴스에서 발급한 태그로 조건부 요청 → 304
+        MockHttpServletRequest conditional = request(2024, null);
+        conditional.addHeader(HttpHeaders.IF_NONE_MATCH, etagOf(request(2024, null)));
+        assertThat(otherInstance.preHandle(conditional, new MockHttpServletResponse(), new Object())).isFalse();
+    }
+
+    @Test
+    void differentPartnerGetsDifferentEtag() {
+        assertThat(etagOf(request(2024, "10"))).isNotEqualTo(etagOf(request(2024, "11")));
+    }
+
+    @Test
+    void etagHeaderIsAddedOnlyToSuccessfulResponses() throws IOException {
+        assertThat(writeResponse(200, ApiResponse.success(List.of()))).isNotNull();
+        assertThat(writeResponse(500, ApiResponse.error("집계 처리 중 오류가 발생했습니다"))).isNull();
+        assertThat(writeResponse(400, ApiResponse.error("ID는 숫자여야 합니다"))).isNull();
+        assertThat(writeResponse(200, ApiResponse.error("조회 실패"))).isNull();
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private MockHttpServletRequest request(int year, String partnerId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(
+                "GET", "/api/v1/scope/aggregation/dashboard/" + year);
+        request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("year", String.valueOf(year)));
+        request.addHeader("X-HEADQUARTERS-ID", String.valueOf(HEADQUARTERS_ID));
+        request.addHeader("X-USER-TYPE", partnerId == null ? "HEADQUARTERS" : "PARTNER");
+        if (partnerId != null) {
+            request.addHeader("X-PARTNER-ID", partnerId);
+        }
+        return request;
+    }
+
+    private MockHttpServletRequest trendRequest(int fromYear, int toYear) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/scope/aggregation/trend");
+        request.setQueryString("fromYear=" + fromYear + "&toYear=" + toYear);
+        request.addParameter("fromYear", String.valueOf(fromYear));
+        request.addParameter("toYear", String.valueOf(toYear));
+        request.addHeader("X-HEADQUARTERS-ID", String.valueOf(HEADQUARTERS_ID));
+        request.addHeader("X-USER-TYPE", "HEADQUARTERS");
+        return request;
+    }
+
+    /**
+     * 컨트롤러로 넘어가는 요청의 ETag (응답 헤더가 아닌 요청 속성에 보관)
+     */
+    private String etagOf(MockHttpServletRequest request) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertThat(interceptor.preHandle(request, response, new Object())).isTrue();
+        assertThat(response.getHeader(HttpHeaders.ETAG)).isNull();
+        return (String) request.getAttribute(AggregationEtagInterceptor.ETAG_ATTRIBUTE);
+    }
+
+    /**
+     * 인터셉터 통과 후 컨트롤러 응답 상태 / 본문으로 응답 작성 - 기록된 ETag 헤더 반환
+     */
+    private String writeResponse(int status, Object body) throws IOException {
+        MockHttpServletRequest request = request(2024, null);
+        etagOf(request);
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        servletResponse.setStatus(status);
+
+        ServletServerHttpResponse response = new ServletServerHttpResponse(servletResponse);
+        new AggregationEtagResponseAdvice().beforeBodyWrite(body, null, null, null,
+                new ServletServerHttpRequest(request), response);
+        response.flush();
+        return servletResponse.getHeader(HttpHeaders.ETAG);
+    }
+
+    private void commit(Runnable write) {
+        TransactionSynchronizationManager.initSynchronization();
+        write.run();
+        completeTransaction();
+    }
+
+    private static void completeTransaction() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationUtils.triggerBeforeCommit(false);
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(synchronization ->
+                synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+    }
+}
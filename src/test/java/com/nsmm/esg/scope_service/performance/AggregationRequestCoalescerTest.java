@@ -0,0 +1,142 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.config.CacheConfig;
+import com.nsmm.esg.scope_service.config.ScopeCacheProperties;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.service.AggregationRequestCoalescer;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 동일 집계 요청 단일 실행(single-flight) 테스트
+ *
+ * - 같은 키의 동시 요청은 계산 1회, 모든 요청이 같은 결과를 받음
+ * - 리더 계산 실패 시 대기 중인 요청도 같은 예외를 받고, 이후 요청은 새로 계산
+ * - 캐시 연동 시 리더 결과가 캐시에 저장되어 이후 요청은 계산 없이 반환
+ */
+public class AggregationRequestCoalescerTest {
+
+    private static final int CALLERS = 8;
+    private static final String KEY = EmissionCacheKeys.scope3Combined(1L, null, null, 2024, null);
+
+    private final AggregationRequestCoalescer coalescer = new AggregationRequestCoalescer();
+
+    @Test
+    void concurrentCallersShareSingleComputation() throws Exception {
+        AtomicInteger computations = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> coalescer.execute(KEY, () -> {
+                computations.incrementAndGet();
+                started.countDown();
+                await(release);
+                return "combined-2024";
+            })));
+            assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+            // 리더 계산 중 도착한 요청
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.execute(KEY, () -> {
+                    computations.incrementAndGet();
+                    return "duplicate";
+                })));
+            }
+            waitForFollowers(CALLERS - 1);
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("combined-2024");
+            }
+            assertThat(computations.get()).isEqualTo(1);
+            assertThat(coalescer.inFlightCount()).isZero();
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void failureIsSharedAndNextCallRecomputes() {
+        assertThatThrownBy(() -> coalescer.execute(KEY, () -> {
+            throw new IllegalStateException("집계 실패");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(coalescer.inFlightCount()).isZero();
+        assertThat(coalescer.<String>execute(KEY, () -> "recomputed")).isEqualTo("recomputed");
+    }
+
+    @Test
+    void cacheAwareExecutionStoresLeaderResult() {
+        Cache cache = CacheConfig.localCacheManager(new ScopeCacheProperties())
+                .getCache(EmissionCacheKeys.CATEGORY_YEARLY_CACHE);
+        String key = EmissionCacheKeys.categoryYearly(1L, null, ScopeType.SCOPE1, 2024);
+        AtomicInteger computations = new AtomicInteger();
+
+        List<String> first = coalescer.execute(cache, key, () -> {
+            computations.incrementAndGet();
+            return List.of("category-1");
+        });
+        List<String> second = coalescer.execute(cache, key, () -> {
+            computations.incrementAndGet();
+            return List.of("recomputed");
+        });
+
+        assertThat(first).containsExactly("category-1");
+        assertThat(second).containsExactly("category-1");
+        assertThat(computations.get()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidCachedValueIsRecomputed() {
+        Cache cache = CacheConfig.localCacheManager(new ScopeCacheProperties())
+                .getCache(EmissionCacheKeys.MONTHLY_SUMMARY_CACHE);
+        String key = EmissionCacheKeys.monthlySummary(1L, null, 2024);
+        cache.put(key, List.of("1월", "2월"));
+
+        // 월이 바뀌어 기대 행 수(3)와 다르면 캐시 값을 버리고 다시 계산 후 저장
+        List<String> summaries = coalescer.execute(cache, key,
+                () -> List.of("1월", "2월", "3월"), values -> values.size() == 3);
+
+        assertThat(summaries).hasSize(3);
+        assertThat(cache.get(key).get()).isEqualTo(summaries);
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 후속 요청이 모두 진행 중인 계산의 결과를 기다릴 때까지 대기
+     */
+    private void waitForFollowers(int followers) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (coalescer.waitingCount() < followers) {
+            assertThat(System.nanoTime()).as("후속 요청 합류 대기 시간 초과").isLessThan(deadline);
+            Thread.onSpinWait();
+        }
+    }
+}
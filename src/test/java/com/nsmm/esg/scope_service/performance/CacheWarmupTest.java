@@ -0,0 +1,113 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.config.CacheWarmupRunner;
+import com.nsmm.esg.scope_service.config.ReportingPeriodBackfillRunner;
+import com.nsmm.esg.scope_service.config.ScopeCacheProperties;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.service.CacheWarmupService;
+import com.nsmm.esg.scope_service.service.OrganizationTree;
+import com.nsmm.esg.scope_service.service.OrganizationTreeIndex;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 집계 캐시 워밍업 테스트
+ *
+ * - 워밍업 실행기는 보고 기간 백필 실행기 이후에 실행 (백필 전 값이 캐시되지 않음)
+ * - 제한 시간 초과 시 대기 중인 작업을 취소하고 반환 (기동 지연 없음)
+ */
+public class CacheWarmupTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final CountDownLatch firstTaskStarted = new CountDownLatch(1);
+
+    private Scope3SpecialAggregationService scope3SpecialAggregationService;
+    private CacheWarmupService cacheWarmupService;
+
+    @BeforeEach
+    void setUp() {
+        ScopeEmissionRepository repository = mock(ScopeEmissionRepository.class);
+        when(repository.findMostActiveHeadquartersIds(anyInt(), anyInt(), any(Pageable.class)))
+                .thenReturn(List.of(HEADQUARTERS_ID));
+
+        OrganizationTreeIndex organizationTreeIndex = mock(OrganizationTreeIndex.class);
+        when(organizationTreeIndex.getTree(anyLong())).thenReturn(OrganizationTree.empty());
+
+        // 첫 작업(본사 전년도)은 해제 전까지 대기
+        scope3SpecialAggregationService = mock(Scope3SpecialAggregationService.class);
+        when(scope3SpecialAggregationService.getYearlySpecialAggregation(
+                anyInt(), eq(HEADQUARTERS_ID), eq("HEADQUARTERS"), any(), any()))
+                .thenAnswer(invocation -> {
+                    firstTaskStarted.countDown();
+                    release.await(10, TimeUnit.SECONDS);
+                    return null;
+                });
+
+        ScopeCacheProperties cacheProperties = new ScopeCacheProperties();
+        cacheProperties.getWarmup().setEnabled(true);
+        cacheProperties.getWarmup().setConcurrency(1);
+        cacheProperties.getWarmup().setStartupTimeout(Duration.ofMillis(200));
+
+        cacheWarmupService = new CacheWarmupService(repository, mock(ScopeAggregationService.class),
+                scope3SpecialAggregationService, organizationTreeIndex, cacheProperties);
+        cacheWarmupService.startExecutor();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        cacheWarmupService.stopExecutor();
+    }
+
+    @Test
+    void warmupRunnerRunsAfterReportingPeriodBackfill() {
+        List<Object> runners = new ArrayList<>(List.of(CacheWarmupRunner.class, ReportingPeriodBackfillRunner.class));
+
+        AnnotationAwareOrderComparator.sort(runners);
+
+        assertThat(runners).containsExactly(ReportingPeriodBackfillRunner.class, CacheWarmupRunner.class);
+    }
+
+    @Test
+    void startupWarmupStopsWaitingAtTimeoutAndCancelsQueuedTasks() throws Exception {
+        long startTime = System.nanoTime();
+        int completed = cacheWarmupService.warmUpMostActiveHeadquarters();
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+
+        // 본사 × 2개 연도 = 2건, 첫 작업이 대기 중이므로 완료 0건
+        assertThat(firstTaskStarted.await(0, TimeUnit.SECONDS)).isTrue();
+        assertThat(completed).isZero();
+        assertThat(elapsedMillis).isLessThan(5_000);
+
+        // 대기 작업 해제 후 다시 워밍업 - 같은 스레드 큐 뒤에 제출되므로 취소된 두 번째 작업보다 나중에 실행
+        release.countDown();
+        assertThat(cacheWarmupService.warmUpMostActiveHeadquarters()).isEqualTo(2);
+
+        // 첫 실행 1건 + 재실행 2건 (취소된 작업은 실행되지 않음)
+        verify(scope3SpecialAggregationService, times(3)).getYearlySpecialAggregation(
+                anyInt(), eq(HEADQUARTERS_ID), eq("HEADQUARTERS"), any(), any());
+    }
+}
@@ -0,0 +1,255 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.stream.StreamSupport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 카테고리별 통합 조회 쿼리 실행 계획(EXPLAIN) 테스트
+ *
+ * 본사/협력사, 단일 월/연도 전체 조합별 전용 쿼리가 인덱스를 사용하는지 검증
+ * - Hibernate가 실제 생성한 SQL을 StatementInspector로 수집하여 EXPLAIN 실행
+ * - 모든 조합에서 보고 기간 인덱스(idx_scope_period / idx_partner_period)를 range 접근으로 사용하고
+ *   reporting_period 컬럼까지 인덱스 키로 사용 (headquarters_id 접두사만 쓰는 ref 접근과 구분)
+ * - 비교용으로 기존 OR 결합 조건(:partnerId IS NULL ... OR ...) 실행 계획도 기록
+ */
+@Slf4j
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.nsmm.esg.scope_service.performance.CategoryWiseQueryExplainTest$CapturingStatementInspector")
+@ActiveProfiles("test")
+@Transactional
+public class CategoryWiseQueryExplainTest {
+
+    private static final long EXPLAIN_HEADQUARTERS_ID = 990_002L;
+    private static final long EXPLAIN_PARTNER_ID = 7L;
+    private static final int EXPLAIN_YEAR = 2098;
+    private static final int ROW_COUNT = 20_000;
+
+    // 본사 쿼리(partner_id IS NULL)는 두 보고 기간 인덱스 모두 사용 가능, 협력사 쿼리는 idx_partner_period
+    private static final String[] HEADQUARTERS_QUERY_INDEXES = {"idx_scope_period", "idx_partner_period"};
+    private static final String[] PARTNER_QUERY_INDEXES = {"idx_partner_period"};
+
+    // 기존 방식: 협력사/월 조건을 OR로 결합한 범용 쿼리
+    private static final String LEGACY_CATCH_ALL_SQL =
+            "SELECT s.scope3_category_number, s.reporting_month, SUM(s.total_emission), COUNT(*) " +
+            "FROM scope_emission s " +
+            "WHERE s.headquarters_id = ? " +
+            "AND (? IS NULL AND s.partner_id IS NULL OR s.partner_id = ?) " +
+            "AND s.scope_type = 'SCOPE3' " +
+            "AND s.reporting_year = ? " +
+            "AND (? IS NULL OR s.reporting_month = ?) " +
+            "GROUP BY s.scope3_category_number, s.reporting_month";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScopeEmissionRepository scopeEmissionRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "EXPLAIN 결과 형식은 MySQL 기준입니다");
+        insertSyntheticRows();
+    }
+
+    @Test
+    void categoryWiseQueriesUseIndexForEveryParameterCombination() {
+        int monthPeriod = ReportingPeriodUtil.of(EXPLAIN_YEAR, 6);
+        int yearFrom = ReportingPeriodUtil.startOfYear(EXPLAIN_YEAR);
+        int yearTo = ReportingPeriodUtil.endOfYear(EXPLAIN_YEAR);
+
+        // 본사 + 단일 월 / 연도 전체
+        assertPeriodIndexUsed("카테고리별-본사-월", HEADQUARTERS_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getCategoryWiseEmissionsForHeadquartersOnly(EXPLAIN_HEADQUARTERS_ID, monthPeriod, monthPeriod),
+                EXPLAIN_HEADQUARTERS_ID, monthPeriod, monthPeriod);
+        assertPeriodIndexUsed("카테고리별-본사-연도", HEADQUARTERS_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getCategoryWiseEmissionsForHeadquartersOnly(EXPLAIN_HEADQUARTERS_ID, yearFrom, yearTo),
+                EXPLAIN_HEADQUARTERS_ID, yearFrom, yearTo);
+
+        // 협력사 + 단일 월 / 연도 전체
+        assertPeriodIndexUsed("카테고리별-협력사-월", PARTNER_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getCategoryWiseEmissionsForSpecificPartner(EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, monthPeriod, monthPeriod),
+                EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, monthPeriod, monthPeriod);
+        assertPeriodIndexUsed("카테고리별-협력사-연도", PARTNER_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getCategoryWiseEmissionsForSpecificPartner(EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, yearFrom, yearTo),
+                EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, yearFrom, yearTo);
+    }
+
+    @Test
+    void scope3CategoryQueriesUseIndexForEveryParameterCombination() {
+        int monthPeriod = ReportingPeriodUtil.of(EXPLAIN_YEAR, 6);
+        int yearFrom = ReportingPeriodUtil.startOfYear(EXPLAIN_YEAR);
+        int yearTo = ReportingPeriodUtil.endOfYear(EXPLAIN_YEAR);
+
+        assertPeriodIndexUsed("Scope3-본사-월", HEADQUARTERS_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getScope3AllCategoriesEmissionsForHeadquartersOnly(EXPLAIN_HEADQUARTERS_ID, monthPeriod, monthPeriod),
+                EXPLAIN_HEADQUARTERS_ID, monthPeriod, monthPeriod);
+        assertPeriodIndexUsed("Scope3-본사-연도", HEADQUARTERS_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getScope3AllCategoriesEmissionsForHeadquartersOnly(EXPLAIN_HEADQUARTERS_ID, yearFrom, yearTo),
+                EXPLAIN_HEADQUARTERS_ID, yearFrom, yearTo);
+        assertPeriodIndexUsed("Scope3-협력사-월", PARTNER_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getScope3AllCategoriesEmissionsForSpecificPartner(EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, monthPeriod, monthPeriod),
+                EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, monthPeriod, monthPeriod);
+        assertPeriodIndexUsed("Scope3-협력사-연도", PARTNER_QUERY_INDEXES, () -> scopeEmissionRepository
+                        .getScope3AllCategoriesEmissionsForSpecificPartner(EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, yearFrom, yearTo),
+                EXPLAIN_HEADQUARTERS_ID, EXPLAIN_PARTNER_ID, yearFrom, yearTo);
+
+        // 비교용: 기존 OR 결합 조건 실행 계획 (검증 없이 기록만)
+        Map<String, Object> legacyPlan = explain(LEGACY_CATCH_ALL_SQL,
+                EXPLAIN_HEADQUARTERS_ID, null, null, EXPLAIN_YEAR, null, null);
+        log.info("[EXPLAIN] 기존 OR 결합 조건 - type: {}, key: {}, rows: {}",
+                legacyPlan.get("type"), legacyPlan.get("key"), legacyPlan.get("rows"));
+    }
+
+    // ========================================================================
+    // 실행 계획 헬퍼 메서드
+    // ========================================================================
+
+    /**
+     * 보고 기간 인덱스 range 접근 검증 (reporting_period 컬럼까지 인덱스 키로 사용)
+     */
+    private void assertPeriodIndexUsed(String label, String[] expectedKeys, Runnable query, Object... params) {
+        CapturingStatementInspector.clear();
+        query.run();
+        String sql = CapturingStatementInspector.lastQueryOn("scope_emission");
+        assertThat(sql).as(label + " SQL 수집").isNotNull();
+        assertThat(sql.chars().filter(c -> c == '?').count())
+                .as(label + " 바인딩 파라미터 수").isEqualTo(params.length);
+
+        JsonNode table = explainJson(sql, params);
+        List<String> usedKeyParts = StreamSupport.stream(table.path("used_key_parts").spliterator(), false)
+                .map(JsonNode::asText)
+                .toList();
+        log.info("[EXPLAIN] {} - access_type: {}, key: {}, used_key_parts: {}, rows: {}", label,
+                table.path("access_type").asText(), table.path("key").asText(), usedKeyParts,
+                table.path("rows_examined_per_scan").asText());
+
+        assertThat(table.path("key").asText()).as(label + " 사용 인덱스").isIn((Object[]) expectedKeys);
+        assertThat(table.path("access_type").asText()).as(label + " 접근 방식").isEqualTo("range");
+        assertThat(usedKeyParts).as(label + " 인덱스 사용 컬럼").contains("reporting_period");
+    }
+
+    /**
+     * scope_emission 테이블 접근 노드의 JSON 실행 계획 (used_key_parts 포함)
+     */
+    private JsonNode explainJson(String sql, Object... params) {
+        String json = jdbcTemplate.queryForObject("EXPLAIN FORMAT=JSON " + sql, String.class, params);
+        try {
+            return objectMapper.readTree(json).findValues("table").stream()
+                    .filter(node -> node.has("access_type"))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("실행 계획에 테이블 접근 노드가 없습니다: " + json));
+        } catch (java.io.IOException e) {
+            throw new IllegalStateException("실행 계획 JSON 파싱 실패", e);
+        }
+    }
+
+    /**
+     * scope_emission 테이블 접근 행의 실행 계획
+     */
+    private Map<String, Object> explain(String sql, Object... params) {
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql, params);
+        return rows.stream()
+                .filter(row -> row.get("table") != null && !String.valueOf(row.get("table")).startsWith("<"))
+                .findFirst()
+                .orElse(rows.get(0));
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    private void insertSyntheticRows() {
+        Random random = new Random(7);
+        String sql = "INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                "input_type, has_material_mapping, factory_enabled) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'EXPLAIN', 'EXPLAIN', 'EXPLAIN', 1, 'kg', 1, ?, 'MANUAL', false, false)";
+
+        List<Object[]> rows = new ArrayList<>(ROW_COUNT);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            boolean headquartersRow = random.nextInt(10) == 0;
+            Long partnerId = headquartersRow ? null : (long) (1 + random.nextInt(500));
+            String treePath = headquartersRow ? "/" + EXPLAIN_HEADQUARTERS_ID + "/"
+                    : "/" + EXPLAIN_HEADQUARTERS_ID + "/L1-" + String.format("%03d", partnerId) + "/";
+            int year = EXPLAIN_YEAR - random.nextInt(3);
+            int month = 1 + random.nextInt(12);
+            int scope = random.nextInt(3);
+            rows.add(new Object[]{
+                    EXPLAIN_HEADQUARTERS_ID, partnerId, treePath, year, month, ReportingPeriodUtil.of(year, month),
+                    scope == 0 ? "SCOPE1" : scope == 1 ? "SCOPE2" : "SCOPE3",
+                    scope == 0 ? 1 + random.nextInt(10) : null,
+                    scope == 1 ? 1 + random.nextInt(2) : null,
+                    scope == 2 ? 1 + random.nextInt(15) : null,
+                    BigDecimal.valueOf(random.nextInt(100_000), 3)
+            });
+        }
+        jdbcTemplate.batchUpdate(sql, rows, 5_000, (PreparedStatement ps, Object[] row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+
+    /**
+     * Hibernate 실행 SQL 수집기 (테스트 전용)
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new ArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            synchronized (STATEMENTS) {
+                STATEMENTS.add(sql);
+            }
+            return sql;
+        }
+
+        static void clear() {
+            synchronized (STATEMENTS) {
+                STATEMENTS.clear();
+            }
+        }
+
+        static String lastQueryOn(String table) {
+            synchronized (STATEMENTS) {
+                for (int i = STATEMENTS.size() - 1; i >= 0; i--) {
+                    String sql = STATEMENTS.get(i);
+                    if (sql.toLowerCase().startsWith("select") && sql.contains(table)) {
+                        return sql;
+                    }
+                }
+                return null;
+            }
+        }
+    }
+}
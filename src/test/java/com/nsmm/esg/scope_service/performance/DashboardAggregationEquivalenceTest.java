@@ -0,0 +1,187 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.DashboardAggregationResponse;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 홈 대시보드 통합 집계 - 개별 API 결과 일치 테스트
+ *
+ * 대시보드 각 섹션이 같은 요청의 개별 API 응답과 동일한지 비교 (BigDecimal은 값 비교)
+ * - 월별 요약: 협력사별 월별 요약 API (본사 직접 입력은 partnerId = -1)
+ * - Scope 1/2/3 카테고리: 카테고리별 연간 집계 API (카테고리 미지정 행 제외)
+ * - Scope 3 통합: Scope 3 연별 통합 API (특수 집계 + 일반 카테고리, 하위 조직 포함)
+ * - 맵핑 자재: 맵핑 자재 월별 총합 API
+ *
+ * 합성 데이터는 테스트 트랜잭션 롤백으로 정리됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class DashboardAggregationEquivalenceTest {
+
+    private static final long HEADQUARTERS_ID = 990_401L;
+    private static final int YEAR = 2096;
+    private static final String ROOT_PATH = "/" + HEADQUARTERS_ID + "/";
+
+    // 협력사 ID, treePath, 레벨
+    private static final Object[][] PARTNERS = {
+            {10L, ROOT_PATH + "L1-001/", 1},
+            {11L, ROOT_PATH + "L1-001/L2-001/", 2},
+            {12L, ROOT_PATH + "L1-002/", 1}
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScopeAggregationService scopeAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "배출량 테이블 스키마는 MySQL 기준입니다");
+        insertSyntheticRows();
+    }
+
+    @Test
+    void headquartersSectionsMatchIndividualEndpoints() {
+        DashboardAggregationResponse dashboard = scopeAggregationService.getDashboardAggregation(
+                YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null, 0);
+
+        assertSectionsMatch(dashboard, "HEADQUARTERS", null, null, 0, -1L);
+    }
+
+    @Test
+    void partnerSectionsMatchIndividualEndpoints() {
+        for (Object[] partner : PARTNERS) {
+            Long partnerId = (Long) partner[0];
+            String treePath = (String) partner[1];
+            Integer level = (Integer) partner[2];
+            DashboardAggregationResponse dashboard = scopeAggregationService.getDashboardAggregation(
+                    YEAR, HEADQUARTERS_ID, "PARTNER", partnerId, treePath, level);
+
+            assertSectionsMatch(dashboard, "PARTNER", partnerId, treePath, level, partnerId);
+        }
+    }
+
+    private void assertSectionsMatch(DashboardAggregationResponse dashboard, String userType, Long partnerId,
+                                     String treePath, Integer level, Long summaryPartnerId) {
+        assertSameValues(dashboard.getMonthlySummaries(), scopeAggregationService.getPartnerMonthlyEmissionSummary(
+                summaryPartnerId, YEAR, HEADQUARTERS_ID, userType, partnerId, treePath));
+        assertThat(dashboard.getMonthlySummaries()).hasSize(12);
+
+        assertSameValues(dashboard.getScope1Categories(), scopeAggregationService.getCategoryYearlyEmissions(
+                ScopeType.SCOPE1, YEAR, HEADQUARTERS_ID, userType, partnerId, treePath, level));
+        assertSameValues(dashboard.getScope2Categories(), scopeAggregationService.getCategoryYearlyEmissions(
+                ScopeType.SCOPE2, YEAR, HEADQUARTERS_ID, userType, partnerId, treePath, level));
+        assertSameValues(dashboard.getScope3Categories(), scopeAggregationService.getCategoryYearlyEmissions(
+                ScopeType.SCOPE3, YEAR, HEADQUARTERS_ID, userType, partnerId, treePath, level));
+        assertThat(dashboard.getScope1Categories()).isNotEmpty();
+
+        assertSameValues(dashboard.getScope3Combined(), scopeAggregationService.getScope3CombinedYearlyEmission(
+                YEAR, HEADQUARTERS_ID, userType, partnerId, treePath, level));
+
+        assertSameValues(dashboard.getMappedMaterials(), scopeAggregationService.getMappedMaterialMonthlyTotals(
+                YEAR, HEADQUARTERS_ID, userType, partnerId, level, treePath));
+    }
+
+    private static void assertSameValues(Object dashboardSection, Object endpointResponse) {
+        assertThat(dashboardSection)
+                .usingRecursiveComparison()
+                .withComparatorForType(BigDecimal::compareTo, BigDecimal.class)
+                .isEqualTo(endpointResponse);
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    /**
+     * 본사 직접 입력 + 협력사별로 매월 Scope1/2/3 행 생성
+     * 일부 행은 카테고리 미지정, 일부 Scope 1/2 행은 레벨 1/2 자재 매핑에 연결
+     */
+    private void insertSyntheticRows() {
+        List<Long> levelOneMappings = List.of(insertMapping(1, "D100", "강판"), insertMapping(1, "D200", "도료"));
+        List<Long> levelTwoMappings = List.of(insertMapping(2, "E100", "볼트"));
+
+        Random random = new Random(17);
+        String sql = "INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                "input_type, has_material_mapping, factory_enabled, material_mapping_id) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'DASHBOARD', 'DASHBOARD', 'DASHBOARD', 1, 'kg', 1, ?, 'MANUAL', ?, ?, ?)";
+
+        List<Object[]> subjects = new ArrayList<>();
+        subjects.add(new Object[]{null, ROOT_PATH, 0});
+        subjects.addAll(List.of(PARTNERS));
+
+        List<Object[]> batch = new ArrayList<>();
+        for (Object[] subject : subjects) {
+            List<Long> mappings = (Integer) subject[2] == 2 ? levelTwoMappings : levelOneMappings;
+            for (int month = 1; month <= 12; month++) {
+                if (random.nextInt(6) == 0) {
+                    continue;
+                }
+                int rowCount = 3 + random.nextInt(6);
+                for (int i = 0; i < rowCount; i++) {
+                    int scope = random.nextInt(3);
+                    boolean uncategorized = random.nextInt(8) == 0;
+                    boolean mapped = scope < 2 && random.nextInt(3) == 0;
+                    batch.add(new Object[]{
+                            HEADQUARTERS_ID, subject[0], subject[1], YEAR, month, YEAR * 100 + month,
+                            scope == 0 ? "SCOPE1" : scope == 1 ? "SCOPE2" : "SCOPE3",
+                            scope == 0 && !uncategorized ? 1 + random.nextInt(10) : null,
+                            scope == 1 && !uncategorized ? 1 + random.nextInt(2) : null,
+                            scope == 2 && !uncategorized ? 1 + random.nextInt(15) : null,
+                            BigDecimal.valueOf(random.nextInt(100_000), 3),
+                            mapped,
+                            random.nextBoolean(),
+                            mapped ? mappings.get(random.nextInt(mappings.size())) : null
+                    });
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (PreparedStatement ps, Object[] row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+
+    private Long insertMapping(int partnerLevel, String internalMaterialCode, String materialName) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement(
+                    "INSERT INTO material_mapping (headquarters_id, partner_level, internal_material_code, material_name, " +
+                    "scope_emission_id, created_at) VALUES (?, ?, ?, ?, 0, NOW())", Statement.RETURN_GENERATED_KEYS);
+            ps.setObject(1, HEADQUARTERS_ID);
+            ps.setObject(2, partnerLevel);
+            ps.setObject(3, internalMaterialCode);
+            ps.setObject(4, materialName);
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+}
@@ -0,0 +1,117 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.config.CacheConfig;
+import com.nsmm.esg.scope_service.config.ScopeCacheProperties;
+import com.nsmm.esg.scope_service.service.EmissionCacheInvalidator;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
+import com.nsmm.esg.scope_service.service.EmissionDataVersionService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배출량 쓰기 시 캐시 키 단위 무효화 테스트
+ *
+ * 협력사 L2-003(본사 1)의 2024년 6월 데이터 변경 시:
+ * - 본인, 상위 협력사(L1-001), 본사의 2024년 6월 / 2024년 전체 키만 제거
+ * - 다른 본사, 형제 협력사, 다른 월의 캐시 항목은 유지
+ */
+public class EmissionCacheInvalidationTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final long OTHER_HEADQUARTERS_ID = 2L;
+    private static final long L1_PARTNER_ID = 10L;
+    private static final long L2_PARTNER_ID = 11L;
+    private static final long SIBLING_PARTNER_ID = 12L;
+    private static final String L2_TREE_PATH = "/1/L1-001/L2-003/";
+
+    private CacheManager cacheManager;
+    private EmissionCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = CacheConfig.localCacheManager(new ScopeCacheProperties());
+
+        OrganizationHierarchyService organizationHierarchyService = mock(OrganizationHierarchyService.class);
+        when(organizationHierarchyService.findAncestorPartnerIds(HEADQUARTERS_ID, L2_PARTNER_ID, L2_TREE_PATH))
+                .thenReturn(List.of(L1_PARTNER_ID));
+        invalidator = new EmissionCacheInvalidator(
+                cacheManager, organizationHierarchyService, mock(EmissionDataVersionService.class));
+    }
+
+    @Test
+    void partnerWriteEvictsOnlyAffectedAndAncestorKeys() {
+        // 변경 대상: 본인 / 상위 협력사 / 본사 (월, 연도 전체)
+        String ownMonth = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, L2_PARTNER_ID, 2024, 6);
+        String ownYear = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, L2_PARTNER_ID, 2024, null);
+        String parentMonth = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, L1_PARTNER_ID, 2024, 6);
+        String headquartersYear = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, null, 2024, null);
+        String ownSpecial = EmissionCacheKeys.specialAggregation(HEADQUARTERS_ID, L2_PARTNER_ID, 2024, 6);
+        String headquartersYearlySpecial = EmissionCacheKeys.specialAggregationYearly(HEADQUARTERS_ID, null, 2024);
+        String headquartersScope3 = EmissionCacheKeys.scope3Categories(HEADQUARTERS_ID, null, 2024, 6);
+
+        // 유지 대상: 다른 본사 / 형제 협력사 / 다른 월 / 다른 연도
+        String otherTenantMonth = EmissionCacheKeys.categoryWise(OTHER_HEADQUARTERS_ID, L2_PARTNER_ID, 2024, 6);
+        String otherTenantHeadquarters = EmissionCacheKeys.categoryWise(OTHER_HEADQUARTERS_ID, null, 2024, null);
+        String otherTenantSpecial = EmissionCacheKeys.specialAggregation(OTHER_HEADQUARTERS_ID, null, 2024, 6);
+        String siblingMonth = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, SIBLING_PARTNER_ID, 2024, 6);
+        String ownOtherMonth = EmissionCacheKeys.categoryWise(HEADQUARTERS_ID, L2_PARTNER_ID, 2024, 7);
+        String ownOtherYear = EmissionCacheKeys.scope3Categories(HEADQUARTERS_ID, L2_PARTNER_ID, 2023, null);
+
+        Cache categoryWiseCache = cacheManager.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        Cache specialAggregationCache = cacheManager.getCache(EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE);
+        Cache scope3CategoriesCache = cacheManager.getCache(EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE);
+        for (String key : new String[]{ownMonth, ownYear, parentMonth, headquartersYear,
+                otherTenantMonth, otherTenantHeadquarters, siblingMonth, ownOtherMonth}) {
+            categoryWiseCache.put(key, key);
+        }
+        specialAggregationCache.put(ownSpecial, ownSpecial);
+        specialAggregationCache.put(headquartersYearlySpecial, headquartersYearlySpecial);
+        specialAggregationCache.put(otherTenantSpecial, otherTenantSpecial);
+        scope3CategoriesCache.put(headquartersScope3, headquartersScope3);
+        scope3CategoriesCache.put(ownOtherYear, ownOtherYear);
+
+        invalidator.evict(HEADQUARTERS_ID, L2_PARTNER_ID, L2_TREE_PATH, 2024, 6);
+
+        assertThat(categoryWiseCache.get(ownMonth)).isNull();
+        assertThat(categoryWiseCache.get(ownYear)).isNull();
+        assertThat(categoryWiseCache.get(parentMonth)).isNull();
+        assertThat(categoryWiseCache.get(headquartersYear)).isNull();
+        assertThat(specialAggregationCache.get(ownSpecial)).isNull();
+        assertThat(specialAggregationCache.get(headquartersYearlySpecial)).isNull();
+        assertThat(scope3CategoriesCache.get(headquartersScope3)).isNull();
+
+        assertThat(categoryWiseCache.get(otherTenantMonth)).isNotNull();
+        assertThat(categoryWiseCache.get(otherTenantHeadquarters)).isNotNull();
+        assertThat(specialAggregationCache.get(otherTenantSpecial)).isNotNull();
+        assertThat(categoryWiseCache.get(siblingMonth)).isNotNull();
+        assertThat(categoryWiseCache.get(ownOtherMonth)).isNotNull();
+        assertThat(scope3CategoriesCache.get(ownOtherYear)).isNotNull();
+    }
+
+    @Test
+    void headquartersWriteKeepsPartnerAndOtherTenantEntries() {
+        String headquartersMonth = EmissionCacheKeys.specialAggregation(HEADQUARTERS_ID, null, 2024, 6);
+        String partnerMonth = EmissionCacheKeys.specialAggregation(HEADQUARTERS_ID, L1_PARTNER_ID, 2024, 6);
+        String otherTenantMonth = EmissionCacheKeys.specialAggregation(OTHER_HEADQUARTERS_ID, null, 2024, 6);
+
+        Cache specialAggregationCache = cacheManager.getCache(EmissionCacheKeys.SPECIAL_AGGREGATION_CACHE);
+        specialAggregationCache.put(headquartersMonth, headquartersMonth);
+        specialAggregationCache.put(partnerMonth, partnerMonth);
+        specialAggregationCache.put(otherTenantMonth, otherTenantMonth);
+
+        invalidator.evict(HEADQUARTERS_ID, null, "/1/", 2024, 6);
+
+        assertThat(specialAggregationCache.get(headquartersMonth)).isNull();
+        assertThat(specialAggregationCache.get(partnerMonth)).isNotNull();
+        assertThat(specialAggregationCache.get(otherTenantMonth)).isNotNull();
+    }
+}
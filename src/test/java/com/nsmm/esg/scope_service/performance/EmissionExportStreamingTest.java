@@ -0,0 +1,204 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scope_service.enums.ExportFormat;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.MaterialMappingRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.EmissionCacheInvalidator;
+import com.nsmm.esg.scope_service.service.EmissionExportService;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.OrganizationTreeIndex;
+import com.nsmm.esg.scope_service.service.ScopeEmissionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배출량 내보내기 스트리밍 테스트
+ *
+ * - 조회와 기록은 응답 본문이 쓰일 때(비동기 스레드) 읽기 전용 트랜잭션 안에서 실행
+ * - DB 스트림을 끝까지 읽기 전에 앞선 행이 응답 스트림으로 흘러가고, 종료 후 스트림을 닫음
+ * - CSV 값의 쉼표/따옴표/줄바꿈 이스케이프
+ * - 잘못된 요청은 응답 본문 생성 전에 거부
+ */
+public class EmissionExportStreamingTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final int STREAM_ROWS = 2_500;
+    private static final int PROBE_ROW = 1_500;
+
+    private ScopeEmissionRepository repository;
+    private PlatformTransactionManager transactionManager;
+    private EmissionExportService exportService;
+    private ExecutorService asyncExecutor;
+
+    private final AtomicReference<TransactionDefinition> transactionDefinition = new AtomicReference<>();
+    private final AtomicReference<Thread> transactionThread = new AtomicReference<>();
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(ScopeEmissionRepository.class);
+        transactionManager = mock(PlatformTransactionManager.class);
+        when(transactionManager.getTransaction(any())).thenAnswer(invocation -> {
+            transactionDefinition.set(invocation.getArgument(0));
+            transactionThread.set(Thread.currentThread());
+            return new SimpleTransactionStatus();
+        });
+
+        ScopeEmissionService scopeEmissionService = new ScopeEmissionService(
+                repository,
+                mock(MaterialMappingRepository.class),
+                mock(MaterialAssignmentRepository.class),
+                mock(EmissionRollupService.class),
+                mock(OrganizationHierarchyService.class),
+                mock(OrganizationTreeIndex.class),
+                mock(AggregationSnapshotService.class),
+                mock(EmissionCacheInvalidator.class));
+        exportService = new EmissionExportService(
+                repository, scopeEmissionService, new ObjectMapper().findAndRegisterModules(), transactionManager);
+        asyncExecutor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "export-async"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncExecutor.shutdownNow();
+    }
+
+    @Test
+    void exportRunsInReadOnlyTransactionOnWritingThread() throws Exception {
+        when(repository.streamEmissionsForHeadquartersOnly(eq(HEADQUARTERS_ID), eq(ScopeType.SCOPE1), anyInt(), anyInt()))
+                .thenReturn(Stream.of(row(1L, "철강")));
+
+        StreamingResponseBody body = exportService.export(ScopeType.SCOPE1, ExportFormat.NDJSON,
+                "HEADQUARTERS", String.valueOf(HEADQUARTERS_ID), null, null, 2024, null);
+
+        // 본문 생성 시점에는 트랜잭션/조회 없음 (요청 스레드에서 커넥션을 잡지 않음)
+        verifyNoInteractions(transactionManager);
+        verifyNoInteractions(repository);
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        asyncExecutor.submit(() -> {
+            body.writeTo(output);
+            return null;
+        }).get(10, TimeUnit.SECONDS);
+
+        assertThat(transactionThread.get().getName()).isEqualTo("export-async");
+        assertThat(transactionDefinition.get().isReadOnly()).isTrue();
+        verify(transactionManager).commit(any());
+        verify(repository).streamEmissionsForHeadquartersOnly(HEADQUARTERS_ID, ScopeType.SCOPE1, 202401, 202412);
+        assertThat(output.toString(StandardCharsets.UTF_8)).contains("\"rawMaterial\":\"철강\"");
+    }
+
+    @Test
+    void rowsAreFlushedBeforeStreamIsExhaustedAndStreamIsClosed() throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        AtomicLong linesWrittenAtProbe = new AtomicLong(-1);
+        AtomicBoolean streamClosed = new AtomicBoolean(false);
+
+        Stream<ScopeEmissionListProjection> rows = IntStream.rangeClosed(1, STREAM_ROWS)
+                .mapToObj(i -> {
+                    if (i == PROBE_ROW) {
+                        linesWrittenAtProbe.set(countLines(output));
+                    }
+                    return row(i, "자재-" + i);
+                })
+                .onClose(() -> streamClosed.set(true));
+        when(repository.streamEmissionsForHeadquartersOnly(eq(HEADQUARTERS_ID), eq(ScopeType.SCOPE1), anyInt(), anyInt()))
+                .thenReturn(rows);
+
+        exportService.export(ScopeType.SCOPE1, ExportFormat.NDJSON,
+                "HEADQUARTERS", String.valueOf(HEADQUARTERS_ID), null, null, 2024, 3).writeTo(output);
+
+        // 1,500번째 행을 읽는 시점에 이미 앞선 1,000행이 응답 스트림으로 전달됨
+        assertThat(linesWrittenAtProbe.get()).isGreaterThanOrEqualTo(1_000L).isLessThan(PROBE_ROW);
+        assertThat(countLines(output)).isEqualTo(STREAM_ROWS);
+        assertThat(streamClosed).isTrue();
+    }
+
+    @Test
+    void csvValuesAreEscaped() throws Exception {
+        ScopeEmissionListProjection row = row(7L, "철강, 압연");
+        when(row.getMajorCategory()).thenReturn("고정 \"연소\"");
+        when(row.getSubcategory()).thenReturn("1행\n2행");
+        when(row.getTotalEmission()).thenReturn(new BigDecimal("1.5E+3"));
+        when(repository.streamEmissionsForHeadquartersOnly(eq(HEADQUARTERS_ID), eq(ScopeType.SCOPE1), anyInt(), anyInt()))
+                .thenReturn(Stream.of(row));
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        exportService.export(ScopeType.SCOPE1, ExportFormat.CSV,
+                "HEADQUARTERS", String.valueOf(HEADQUARTERS_ID), null, null, 2024, null).writeTo(output);
+
+        String csv = output.toString(StandardCharsets.UTF_8);
+        assertThat(csv).startsWith("\uFEFFid,scopeType,");
+        assertThat(csv).contains("\"고정 \"\"연소\"\"\"");
+        assertThat(csv).contains("\"1행\n2행\"");
+        assertThat(csv).contains("\"철강, 압연\"");
+        assertThat(csv).contains(",1500,");
+        assertThat(csv).endsWith("\r\n");
+    }
+
+    @Test
+    void invalidRequestIsRejectedBeforeStreaming() {
+        assertThatThrownBy(() -> exportService.export(ScopeType.SCOPE1, ExportFormat.CSV,
+                "PARTNER", String.valueOf(HEADQUARTERS_ID), "10", null, 2024, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exportService.export(ScopeType.SCOPE1, ExportFormat.CSV,
+                "HEADQUARTERS", String.valueOf(HEADQUARTERS_ID), null, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> exportService.export(ScopeType.SCOPE1, ExportFormat.CSV,
+                "HEADQUARTERS", String.valueOf(HEADQUARTERS_ID), null, null, 2024, 13))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        verifyNoInteractions(transactionManager);
+        verifyNoInteractions(repository);
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private static long countLines(ByteArrayOutputStream output) {
+        return output.toString(StandardCharsets.UTF_8).chars().filter(c -> c == '\n').count();
+    }
+
+    private static ScopeEmissionListProjection row(long id, String rawMaterial) {
+        ScopeEmissionListProjection row = mock(ScopeEmissionListProjection.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getScopeType()).thenReturn(ScopeType.SCOPE1);
+        when(row.getReportingYear()).thenReturn(2024);
+        when(row.getReportingMonth()).thenReturn(3);
+        when(row.getRawMaterial()).thenReturn(rawMaterial);
+        return row;
+    }
+}
@@ -0,0 +1,186 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.ScopeEmissionPageResponse;
+import com.nsmm.esg.scope_service.dto.response.ScopeEmissionResponse;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.MaterialMappingRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.ScopeEmissionListProjection;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.EmissionCacheInvalidator;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.OrganizationTreeIndex;
+import com.nsmm.esg.scope_service.service.ScopeEmissionService;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Pageable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 배출량 목록 키셋 페이지(/page) 테스트
+ *
+ * 레포지토리는 키셋 조건(기간 범위, (기간, ID) 커서 미만, 기간/ID 내림차순, LIMIT)을 메모리에서 동일하게 적용
+ * - 페이지 경계에서 누락/중복 없이 전체 행을 한 번씩 반환
+ * - 같은 보고 기간에 여러 행이 있으면 커서 ID 기준으로 이어서 조회
+ * - 마지막 페이지(행 수가 페이지 크기의 배수인 경우 포함)는 hasNext=false, nextCursor=null
+ * - 형식이 잘못된 커서는 IllegalArgumentException
+ */
+public class EmissionKeysetPageTest {
+
+    private static final String HEADQUARTERS_ID = "1";
+
+    private final List<ScopeEmissionListProjection> rows = new ArrayList<>();
+    private ScopeEmissionService scopeEmissionService;
+
+    @BeforeEach
+    void setUp() {
+        // 2024년 6월 4건, 5월 3건, 2023년 12월 2건 - 같은 기간 내 ID 순서가 입력 순서와 다르도록 구성
+        long[][] data = {
+                {2024, 6, 15}, {2024, 6, 3}, {2024, 6, 27}, {2024, 6, 9},
+                {2024, 5, 30}, {2024, 5, 1}, {2024, 5, 12},
+                {2023, 12, 40}, {2023, 12, 2}
+        };
+        for (long[] row : data) {
+            rows.add(row((int) row[0], (int) row[1], row[2]));
+        }
+
+        ScopeEmissionRepository repository = mock(ScopeEmissionRepository.class);
+        when(repository.findEmissionPageForHeadquartersOnly(
+                eq(1L), eq(ScopeType.SCOPE1), anyInt(), anyInt(), anyInt(), anyLong(), any(Pageable.class)))
+                .thenAnswer(invocation -> keysetPage(
+                        invocation.getArgument(2), invocation.getArgument(3),
+                        invocation.getArgument(4), invocation.getArgument(5), invocation.getArgument(6)));
+
+        scopeEmissionService = new ScopeEmissionService(
+                repository,
+                mock(MaterialMappingRepository.class),
+                mock(MaterialAssignmentRepository.class),
+                mock(EmissionRollupService.class),
+                mock(OrganizationHierarchyService.class),
+                mock(OrganizationTreeIndex.class),
+                mock(AggregationSnapshotService.class),
+                mock(EmissionCacheInvalidator.class));
+    }
+
+    @Test
+    void pagesCoverEveryRowOnceAcrossBoundaries() {
+        List<Long> expectedOrder = List.of(27L, 15L, 9L, 3L, 30L, 12L, 1L, 40L, 2L);
+
+        for (int size = 1; size <= expectedOrder.size() + 1; size++) {
+            List<Long> visited = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            ScopeEmissionPageResponse page;
+            do {
+                page = fetch(cursor, size, null, null);
+                visited.addAll(ids(page));
+                cursor = page.getNextCursor();
+                pages++;
+                assertThat(page.getContent()).as("페이지 크기 %d", size).hasSizeLessThanOrEqualTo(size);
+            } while (page.getHasNext());
+
+            assertThat(visited).as("페이지 크기 %d 전체 순회", size).containsExactlyElementsOf(expectedOrder);
+            assertThat(pages).as("페이지 크기 %d 페이지 수", size)
+                    .isEqualTo((expectedOrder.size() + size - 1) / size);
+            assertThat(page.getNextCursor()).as("마지막 페이지 커서").isNull();
+        }
+    }
+
+    @Test
+    void exactMultipleOfPageSizeEndsWithoutEmptyPage() {
+        // 9건을 3건씩: 세 번째 페이지에서 hasNext=false (빈 네 번째 페이지 요청 없음)
+        ScopeEmissionPageResponse first = fetch(null, 3, null, null);
+        ScopeEmissionPageResponse second = fetch(first.getNextCursor(), 3, null, null);
+        ScopeEmissionPageResponse third = fetch(second.getNextCursor(), 3, null, null);
+
+        assertThat(first.getHasNext()).isTrue();
+        assertThat(second.getHasNext()).isTrue();
+        assertThat(third.getHasNext()).isFalse();
+        assertThat(ids(third)).containsExactly(1L, 40L, 2L);
+    }
+
+    @Test
+    void cursorInsidePeriodTieContinuesWithLowerIds() {
+        // 2024년 6월 중간(ID 15)에서 끊긴 경우 같은 월의 더 작은 ID부터 이어서 조회
+        ScopeEmissionPageResponse page = fetch("2024:6:15", 3, null, null);
+
+        assertThat(ids(page)).containsExactly(9L, 3L, 30L);
+        assertThat(page.getNextCursor()).isEqualTo("2024:5:30");
+    }
+
+    @Test
+    void periodFilterLimitsPagesToRequestedMonth() {
+        ScopeEmissionPageResponse first = fetch(null, 2, 2024, 6);
+        ScopeEmissionPageResponse second = fetch(first.getNextCursor(), 2, 2024, 6);
+
+        assertThat(ids(first)).containsExactly(27L, 15L);
+        assertThat(first.getNextCursor()).isEqualTo("2024:6:15");
+        assertThat(ids(second)).containsExactly(9L, 3L);
+        assertThat(second.getHasNext()).isFalse();
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        for (String cursor : new String[]{"2024:6", "2024:6:15:1", "abc:6:15", "2024:6:x", "2024-06-15"}) {
+            assertThatThrownBy(() -> fetch(cursor, 3, null, null))
+                    .as("커서 %s", cursor)
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining("커서");
+        }
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private ScopeEmissionPageResponse fetch(String cursor, int size, Integer year, Integer month) {
+        return scopeEmissionService.getEmissionsByScopePage(ScopeType.SCOPE1, "HQ001", "HEADQUARTERS",
+                HEADQUARTERS_ID, null, null, year, month, cursor, size);
+    }
+
+    private static List<Long> ids(ScopeEmissionPageResponse page) {
+        return page.getContent().stream().map(ScopeEmissionResponse::getId).collect(Collectors.toList());
+    }
+
+    /**
+     * 키셋 페이지 쿼리와 동일한 조건을 메모리에서 적용
+     */
+    private List<ScopeEmissionListProjection> keysetPage(int fromPeriod, int toPeriod,
+                                                         int cursorPeriod, long cursorId, Pageable pageable) {
+        return rows.stream()
+                .filter(row -> row.getReportingPeriod() >= fromPeriod && row.getReportingPeriod() <= toPeriod)
+                .filter(row -> row.getReportingPeriod() < cursorPeriod
+                        || (row.getReportingPeriod() == cursorPeriod && row.getId() < cursorId))
+                .sorted(Comparator.comparing(ScopeEmissionListProjection::getReportingPeriod)
+                        .thenComparing(ScopeEmissionListProjection::getId)
+                        .reversed())
+                .limit(pageable.getPageSize())
+                .collect(Collectors.toList());
+    }
+
+    private static ScopeEmissionListProjection row(int year, int month, long id) {
+        ScopeEmissionListProjection row = mock(ScopeEmissionListProjection.class);
+        when(row.getId()).thenReturn(id);
+        when(row.getScopeType()).thenReturn(ScopeType.SCOPE1);
+        when(row.getReportingYear()).thenReturn(year);
+        when(row.getReportingMonth()).thenReturn(month);
+        when(row.getReportingPeriod()).thenReturn(ReportingPeriodUtil.of(year, month));
+        return row;
+    }
+}
@@ -0,0 +1,234 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.entity.ScopeEmission;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 배출량 집계 읽기 모델 증분 갱신 - 전체 재구성 결과 일치 테스트
+ *
+ * 원본 행 생성/수정/삭제를 scope_emission에 반영하면서 같은 변경을 증분 갱신(applyCreated/Updated/Deleted)으로 적용한 뒤
+ * 본사 단위 재구성(rebuildForHeadquarters) 결과와 emission_rollup 행이 동일한지 비교
+ * - 수정: 보고 월 / 협력사 / 배출량 / 카테고리 / 공장설비 / 자재 매핑 변경 (집계 키 이동 포함)
+ * - 삭제 또는 키 이동으로 비게 된 집계 키는 deleteEmptyRollups로 정리되어 건수 0 행이 남지 않음
+ *
+ * 합성 데이터는 테스트 트랜잭션 롤백으로 정리됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class EmissionRollupDeltaEquivalenceTest {
+
+    private static final long HEADQUARTERS_ID = 990_201L;
+    private static final int YEAR = 2097;
+    private static final Long[] PARTNER_IDS = {null, 11L, 12L, 13L};
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EmissionRollupService emissionRollupService;
+
+    private final List<ScopeEmission> liveRows = new ArrayList<>();
+    private int sequence;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "집계 증분 갱신 쿼리는 MySQL 문법을 사용합니다");
+    }
+
+    @Test
+    void deltaMaintenanceMatchesFullRebuild() {
+        Random random = new Random(11);
+        for (int i = 0; i < 80; i++) {
+            create(randomRow(random));
+        }
+        for (int i = 0; i < 30; i++) {
+            ScopeEmission before = liveRows.get(random.nextInt(liveRows.size()));
+            update(before, randomChange(before, random));
+        }
+        for (int i = 0; i < 20; i++) {
+            delete(liveRows.get(random.nextInt(liveRows.size())));
+        }
+
+        List<String> deltaRows = rollupRows();
+        assertThat(deltaRows).noneMatch(row -> row.endsWith("|0") || row.contains("|-"));
+
+        emissionRollupService.rebuildForHeadquarters(HEADQUARTERS_ID);
+
+        assertThat(deltaRows).containsExactlyElementsOf(rollupRows());
+    }
+
+    @Test
+    void movingOnlyRowAcrossPeriodAndPartnerLeavesNoEmptyKey() {
+        ScopeEmission row = create(row(11L, 1, ScopeType.SCOPE3, 1, "10.000", false));
+        update(row, row.toBuilder().partnerId(12L).treePath(treePath(12L)).reportingMonth(2).build());
+
+        List<String> deltaRows = rollupRows();
+        assertThat(deltaRows).containsExactly(
+                "12|12|" + YEAR + "|2|SCOPE3|1|false|false|10|1");
+
+        emissionRollupService.rebuildForHeadquarters(HEADQUARTERS_ID);
+
+        assertThat(rollupRows()).containsExactlyElementsOf(deltaRows);
+    }
+
+    @Test
+    void deletingLastRowOfKeyRemovesRollup() {
+        ScopeEmission kept = create(row(null, 3, ScopeType.SCOPE1, 2, "4.5", true));
+        ScopeEmission removed = create(row(null, 3, ScopeType.SCOPE1, 2, "1.5", false));
+        delete(removed);
+
+        assertThat(rollupRows()).containsExactly(
+                "null|0|" + YEAR + "|3|SCOPE1|2|true|false|4.5|1");
+        assertThat(liveRows).containsExactly(kept);
+
+        emissionRollupService.rebuildForHeadquarters(HEADQUARTERS_ID);
+
+        assertThat(rollupRows()).containsExactly(
+                "null|0|" + YEAR + "|3|SCOPE1|2|true|false|4.5|1");
+    }
+
+    // ========================================================================
+    // 원본 변경 + 증분 갱신
+    // ========================================================================
+
+    private ScopeEmission create(ScopeEmission row) {
+        jdbcTemplate.update("INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                        "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                        "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                        "input_type, has_material_mapping, factory_enabled) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'ROLLUP', 'ROLLUP', ?, 1, 'kg', 1, ?, 'MANUAL', ?, ?)",
+                row.getHeadquartersId(), row.getPartnerId(), row.getTreePath(), row.getReportingYear(), row.getReportingMonth(),
+                row.getReportingYear() * 100 + row.getReportingMonth(), row.getScopeType().name(),
+                row.getScope1CategoryNumber(), row.getScope2CategoryNumber(), row.getScope3CategoryNumber(),
+                row.getRawMaterial(), row.getTotalEmission(), row.getHasMaterialMapping(), row.getFactoryEnabled());
+        emissionRollupService.applyCreated(row);
+        liveRows.add(row);
+        return row;
+    }
+
+    private void update(ScopeEmission before, ScopeEmission after) {
+        jdbcTemplate.update("UPDATE scope_emission SET partner_id = ?, tree_path = ?, reporting_month = ?, reporting_period = ?, " +
+                        "scope_type = ?, scope1_category_number = ?, scope2_category_number = ?, scope3_category_number = ?, " +
+                        "total_emission = ?, has_material_mapping = ?, factory_enabled = ? " +
+                        "WHERE headquarters_id = ? AND raw_material = ?",
+                after.getPartnerId(), after.getTreePath(), after.getReportingMonth(),
+                after.getReportingYear() * 100 + after.getReportingMonth(), after.getScopeType().name(),
+                after.getScope1CategoryNumber(), after.getScope2CategoryNumber(), after.getScope3CategoryNumber(),
+                after.getTotalEmission(), after.getHasMaterialMapping(), after.getFactoryEnabled(),
+                HEADQUARTERS_ID, before.getRawMaterial());
+        emissionRollupService.applyUpdated(before, after);
+        liveRows.set(liveRows.indexOf(before), after);
+    }
+
+    private void delete(ScopeEmission row) {
+        jdbcTemplate.update("DELETE FROM scope_emission WHERE headquarters_id = ? AND raw_material = ?",
+                HEADQUARTERS_ID, row.getRawMaterial());
+        emissionRollupService.applyDeleted(row);
+        liveRows.remove(row);
+    }
+
+    /**
+     * 집계 행 (협력사 ID|협력사 키|연도|월|Scope|카테고리|공장설비|자재 매핑|배출량|건수, 키 순서)
+     */
+    private List<String> rollupRows() {
+        return jdbcTemplate.query(
+                "SELECT partner_id, partner_key, reporting_year, reporting_month, scope_type, category_number, " +
+                "factory_enabled, has_material_mapping, total_emission, record_count FROM emission_rollup " +
+                "WHERE headquarters_id = ? " +
+                "ORDER BY partner_key, reporting_year, reporting_month, scope_type, category_number, factory_enabled, has_material_mapping",
+                (rs, rowNum) -> rs.getObject("partner_id") + "|" + rs.getLong("partner_key") + "|"
+                        + rs.getInt("reporting_year") + "|" + rs.getInt("reporting_month") + "|"
+                        + rs.getString("scope_type") + "|" + rs.getInt("category_number") + "|"
+                        + rs.getBoolean("factory_enabled") + "|" + rs.getBoolean("has_material_mapping") + "|"
+                        + rs.getBigDecimal("total_emission").stripTrailingZeros().toPlainString() + "|"
+                        + rs.getLong("record_count"),
+                HEADQUARTERS_ID);
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    private ScopeEmission randomRow(Random random) {
+        ScopeType scopeType = ScopeType.values()[random.nextInt(3)];
+        return row(PARTNER_IDS[random.nextInt(PARTNER_IDS.length)], 1 + random.nextInt(3), scopeType,
+                randomCategory(scopeType, random), BigDecimal.valueOf(random.nextInt(100_000), 3).toPlainString(),
+                random.nextInt(4) == 0);
+    }
+
+    /**
+     * 수정 후 상태 - 집계 키를 구성하는 값 중 하나 이상을 무작위로 변경 (같은 원본 행 식별자 유지)
+     */
+    private ScopeEmission randomChange(ScopeEmission before, Random random) {
+        ScopeEmission.ScopeEmissionBuilder after = before.toBuilder();
+        switch (random.nextInt(5)) {
+            case 0 -> after.reportingMonth(1 + random.nextInt(3));
+            case 1 -> {
+                Long partnerId = PARTNER_IDS[random.nextInt(PARTNER_IDS.length)];
+                after.partnerId(partnerId).treePath(treePath(partnerId));
+            }
+            case 2 -> after.totalEmission(BigDecimal.valueOf(random.nextInt(100_000), 3));
+            case 3 -> {
+                ScopeType scopeType = ScopeType.values()[random.nextInt(3)];
+                after.scopeType(scopeType)
+                        .scope1CategoryNumber(scopeType == ScopeType.SCOPE1 ? randomCategory(scopeType, random) : null)
+                        .scope2CategoryNumber(scopeType == ScopeType.SCOPE2 ? randomCategory(scopeType, random) : null)
+                        .scope3CategoryNumber(scopeType == ScopeType.SCOPE3 ? randomCategory(scopeType, random) : null);
+            }
+            default -> after.factoryEnabled(!before.getFactoryEnabled())
+                    .hasMaterialMapping(random.nextBoolean());
+        }
+        return after.build();
+    }
+
+    private ScopeEmission row(Long partnerId, int month, ScopeType scopeType, int categoryNumber,
+                              String totalEmission, boolean factoryEnabled) {
+        return ScopeEmission.builder()
+                .headquartersId(HEADQUARTERS_ID)
+                .partnerId(partnerId)
+                .treePath(treePath(partnerId))
+                .reportingYear(YEAR)
+                .reportingMonth(month)
+                .scopeType(scopeType)
+                .scope1CategoryNumber(scopeType == ScopeType.SCOPE1 ? categoryNumber : null)
+                .scope2CategoryNumber(scopeType == ScopeType.SCOPE2 ? categoryNumber : null)
+                .scope3CategoryNumber(scopeType == ScopeType.SCOPE3 ? categoryNumber : null)
+                .rawMaterial("ROLLUP-" + (sequence++))
+                .totalEmission(new BigDecimal(totalEmission))
+                .factoryEnabled(factoryEnabled)
+                .hasMaterialMapping(false)
+                .build();
+    }
+
+    private static int randomCategory(ScopeType scopeType, Random random) {
+        return switch (scopeType) {
+            case SCOPE1 -> 1 + random.nextInt(10);
+            case SCOPE2 -> 1 + random.nextInt(2);
+            case SCOPE3 -> 1 + random.nextInt(15);
+        };
+    }
+
+    private static String treePath(Long partnerId) {
+        return partnerId == null ? "/" + HEADQUARTERS_ID + "/" : "/" + HEADQUARTERS_ID + "/L1-0" + partnerId + "/";
+    }
+}
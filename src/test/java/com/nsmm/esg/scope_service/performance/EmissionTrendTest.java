@@ -0,0 +1,227 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.CategoryYearlyEmission;
+import com.nsmm.esg.scope_service.dto.response.EmissionTrendResponse;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
+import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.ScopeCategoryYearlyEmissionProjection;
+import com.nsmm.esg.scope_service.service.AggregationRequestCoalescer;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 다년 배출량 추이 / 전년 대비 증감 테스트
+ *
+ * 연도 × Scope × 카테고리 그룹 쿼리 결과를 프로젝션 목으로 대체
+ * - 진행 중인 당해 연도는 전년 1월~현재 월 합계와 비교 (partialYearMonths)
+ * - 카테고리는 당해/전년 합집합, 전년에만 있는 카테고리는 당해 0 (-100%), 전년 0이면 증감률 null
+ * - 조회 범위는 최대 10년, 시작 연도가 종료 연도보다 크면 거부
+ * - 12개월 마감 연도는 마감 연도 캐시에 보관하고 다음 요청의 조회 범위에서 제외 (조직별 키)
+ */
+public class EmissionTrendTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+
+    private ScopeEmissionRepository scopeEmissionRepository;
+    private AggregationSnapshotService aggregationSnapshotService;
+    private ScopeAggregationService scopeAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        scopeEmissionRepository = mock(ScopeEmissionRepository.class);
+        aggregationSnapshotService = mock(AggregationSnapshotService.class);
+        scopeAggregationService = new ScopeAggregationService(
+                scopeEmissionRepository,
+                mock(MaterialAssignmentRepository.class),
+                mock(Scope3SpecialAggregationService.class),
+                mock(OrganizationHierarchyService.class),
+                aggregationSnapshotService,
+                mock(EmissionRollupService.class),
+                mock(EmissionRollupRepository.class),
+                new ConcurrentMapCacheManager(EmissionCacheKeys.CLOSED_YEAR_CATEGORY_CACHE),
+                mock(AggregationRequestCoalescer.class));
+    }
+
+    @Test
+    void partialCurrentYearComparesSameMonthsOfPreviousYear() {
+        LocalDate today = LocalDate.now();
+        Assumptions.assumeTrue(today.getMonthValue() < 12, "12월에는 당해 연도를 전체 연도로 비교합니다");
+        int currentYear = today.getYear();
+        int previousYear = currentYear - 1;
+
+        List<ScopeCategoryYearlyEmissionProjection> fullYears = List.of(
+                row(previousYear, ScopeType.SCOPE1, 1, "100", 12L),
+                row(currentYear, ScopeType.SCOPE1, 1, "30", 3L));
+        when(scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(previousYear), ReportingPeriodUtil.endOfYear(currentYear))).thenReturn(fullYears);
+        List<ScopeCategoryYearlyEmissionProjection> previousSameMonths = List.of(
+                row(previousYear, ScopeType.SCOPE1, 1, "20", 2L));
+        when(scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(previousYear), ReportingPeriodUtil.of(previousYear, today.getMonthValue())))
+                .thenReturn(previousSameMonths);
+
+        EmissionTrendResponse response = scopeAggregationService.getEmissionTrend(
+                currentYear, currentYear, HEADQUARTERS_ID, "HEADQUARTERS", null);
+
+        assertThat(response.getPartialYearMonths()).isEqualTo(today.getMonthValue());
+        CategoryYearlyEmission scope1 = scopeTotal(response, currentYear, ScopeType.SCOPE1);
+        assertThat(scope1.getTotalEmission()).isEqualByComparingTo("30");
+        assertThat(scope1.getPreviousYearEmission()).isEqualByComparingTo("20");
+        assertThat(scope1.getYearOverYearChange()).isEqualByComparingTo("10");
+        assertThat(scope1.getYearOverYearChangeRate()).isEqualByComparingTo("50.00");
+    }
+
+    @Test
+    void categoriesAreUnionOfCurrentAndPreviousYear() {
+        List<ScopeCategoryYearlyEmissionProjection> rows = List.of(
+                row(2019, ScopeType.SCOPE3, 4, "50", 5L),
+                row(2020, ScopeType.SCOPE3, 1, "10", 1L),
+                row(2020, ScopeType.SCOPE3, 4, "20", 2L),
+                row(2021, ScopeType.SCOPE3, 1, "15", 1L),
+                row(2021, ScopeType.SCOPE3, null, "99", 1L)); // 카테고리 미지정 행은 제외
+        when(scopeEmissionRepository.sumYearlyScopeCategoryTotalsForSpecificPartner(HEADQUARTERS_ID, 10L,
+                ReportingPeriodUtil.startOfYear(2019), ReportingPeriodUtil.endOfYear(2021))).thenReturn(rows);
+
+        EmissionTrendResponse response = scopeAggregationService.getEmissionTrend(
+                2020, 2021, HEADQUARTERS_ID, "PARTNER", 10L);
+
+        assertThat(response.getPartialYearMonths()).isNull();
+        assertThat(response.getCategoryYearlyEmissions())
+                .extracting(CategoryYearlyEmission::getYear, CategoryYearlyEmission::getCategoryNumber)
+                .containsExactly(
+                        tuple(2020, 1), tuple(2020, 4),
+                        tuple(2021, 1), tuple(2021, 4));
+
+        CategoryYearlyEmission newCategory = category(response, 2020, 1);
+        assertThat(newCategory.getPreviousYearEmission()).isEqualByComparingTo("0");
+        assertThat(newCategory.getYearOverYearChangeRate()).isNull();
+
+        CategoryYearlyEmission droppedCategory = category(response, 2021, 4);
+        assertThat(droppedCategory.getTotalEmission()).isEqualByComparingTo("0");
+        assertThat(droppedCategory.getDataCount()).isZero();
+        assertThat(droppedCategory.getPreviousYearEmission()).isEqualByComparingTo("20");
+        assertThat(droppedCategory.getYearOverYearChangeRate()).isEqualByComparingTo("-100.00");
+
+        assertThat(category(response, 2020, 4).getYearOverYearChangeRate()).isEqualByComparingTo("-60.00");
+        assertThat(scopeTotal(response, 2021, ScopeType.SCOPE3).getTotalEmission()).isEqualByComparingTo("15");
+        assertThat(scopeTotal(response, 2021, ScopeType.SCOPE3).getPreviousYearEmission()).isEqualByComparingTo("30");
+    }
+
+    @Test
+    void rangeIsLimitedToTenYears() {
+        EmissionTrendResponse response = scopeAggregationService.getEmissionTrend(
+                2011, 2020, HEADQUARTERS_ID, "HEADQUARTERS", null);
+
+        assertThat(response.getScopeYearlyTotals()).hasSize(10 * ScopeType.values().length);
+        verify(scopeEmissionRepository, times(1)).sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(2010), ReportingPeriodUtil.endOfYear(2020));
+
+        assertThatThrownBy(() -> scopeAggregationService.getEmissionTrend(
+                2010, 2020, HEADQUARTERS_ID, "HEADQUARTERS", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scopeAggregationService.getEmissionTrend(
+                2021, 2020, HEADQUARTERS_ID, "HEADQUARTERS", null))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scopeAggregationService.getEmissionTrend(
+                2020, 2020, HEADQUARTERS_ID, "PARTNER", null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void closedYearsAreReusedFromCache() {
+        Set<Integer> allMonths = IntStream.rangeClosed(1, 12).boxed().collect(Collectors.toSet());
+        when(aggregationSnapshotService.getClosedMonths(HEADQUARTERS_ID, 2019)).thenReturn(allMonths);
+        when(aggregationSnapshotService.getClosedMonths(HEADQUARTERS_ID, 2020)).thenReturn(allMonths);
+        List<ScopeCategoryYearlyEmissionProjection> rows = List.of(
+                row(2019, ScopeType.SCOPE2, 1, "40", 4L),
+                row(2020, ScopeType.SCOPE2, 1, "50", 5L),
+                row(2021, ScopeType.SCOPE2, 1, "60", 6L));
+        when(scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(2019), ReportingPeriodUtil.endOfYear(2021))).thenReturn(rows);
+        List<ScopeCategoryYearlyEmissionProjection> openYearRows = List.of(
+                row(2021, ScopeType.SCOPE2, 1, "60", 6L));
+        when(scopeEmissionRepository.sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(2021), ReportingPeriodUtil.endOfYear(2021))).thenReturn(openYearRows);
+
+        EmissionTrendResponse first = scopeAggregationService.getEmissionTrend(
+                2020, 2021, HEADQUARTERS_ID, "HEADQUARTERS", null);
+        EmissionTrendResponse second = scopeAggregationService.getEmissionTrend(
+                2020, 2021, HEADQUARTERS_ID, "HEADQUARTERS", null);
+
+        // 두 번째 요청은 마감되지 않은 2021년만 조회
+        verify(scopeEmissionRepository, times(1)).sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(2019), ReportingPeriodUtil.endOfYear(2021));
+        verify(scopeEmissionRepository, times(1)).sumYearlyScopeCategoryTotalsForHeadquartersOnly(HEADQUARTERS_ID,
+                ReportingPeriodUtil.startOfYear(2021), ReportingPeriodUtil.endOfYear(2021));
+        assertThat(second).usingRecursiveComparison().isEqualTo(first);
+        assertThat(scopeTotal(second, 2020, ScopeType.SCOPE2).getPreviousYearEmission()).isEqualByComparingTo("40");
+
+        // 다른 조직은 같은 연도라도 캐시를 공유하지 않음
+        scopeAggregationService.getEmissionTrend(2020, 2021, HEADQUARTERS_ID, "PARTNER", 10L);
+        verify(scopeEmissionRepository).sumYearlyScopeCategoryTotalsForSpecificPartner(HEADQUARTERS_ID, 10L,
+                ReportingPeriodUtil.startOfYear(2019), ReportingPeriodUtil.endOfYear(2021));
+        verify(scopeEmissionRepository, never()).sumYearlyScopeCategoryTotalsForSpecificPartner(
+                anyLong(), anyLong(), eq(ReportingPeriodUtil.startOfYear(2021)), anyInt());
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private static CategoryYearlyEmission scopeTotal(EmissionTrendResponse response, int year, ScopeType scopeType) {
+        return response.getScopeYearlyTotals().stream()
+                .filter(total -> total.getYear() == year && scopeType.name().equals(total.getScopeType()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static CategoryYearlyEmission category(EmissionTrendResponse response, int year, int categoryNumber) {
+        return response.getCategoryYearlyEmissions().stream()
+                .filter(category -> category.getYear() == year && category.getCategoryNumber() == categoryNumber)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private ScopeCategoryYearlyEmissionProjection row(
+            int year, ScopeType scopeType, Integer categoryNumber, String totalEmission, Long recordCount) {
+        ScopeCategoryYearlyEmissionProjection row = mock(ScopeCategoryYearlyEmissionProjection.class);
+        when(row.getReportingYear()).thenReturn(year);
+        when(row.getScopeType()).thenReturn(scopeType);
+        when(row.getScope1CategoryNumber()).thenReturn(scopeType == ScopeType.SCOPE1 ? categoryNumber : null);
+        when(row.getScope2CategoryNumber()).thenReturn(scopeType == ScopeType.SCOPE2 ? categoryNumber : null);
+        when(row.getScope3CategoryNumber()).thenReturn(scopeType == ScopeType.SCOPE3 ? categoryNumber : null);
+        when(row.getTotalEmission()).thenReturn(new BigDecimal(totalEmission));
+        when(row.getRecordCount()).thenReturn(recordCount);
+        return row;
+    }
+}
@@ -0,0 +1,235 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.MappedMaterialMonthlyTotalResponse;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 맵핑 자재 월별 총합 (월, 자재) 단일 그룹 쿼리 - 기존 월별 개별 조회 결과 일치 테스트
+ *
+ * 기존 방식: 1월~최대월 각 월마다 자재별 합계 조회(월별 총합) + 연간 자재별 합계 조회(자재별 상세)
+ * - 월별 총합 / 건수: 당해 연도는 현재 월까지, 지난 연도는 12월까지 (최대월 이후 데이터 제외)
+ * - 자재별 상세: 최대월과 관계없이 연간 전체 (당해 연도의 최대월 이후 데이터 포함)
+ * - 자재 × 월 매트릭스: 기존 월별 조회의 자재별 Scope 1+2 합계와 일치
+ * - 대상 레벨 외 매핑, 자재 매핑 비활성, Scope 3 행은 제외
+ *
+ * 합성 데이터는 테스트 트랜잭션 롤백으로 정리됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class MappedMaterialMonthlyTotalsEquivalenceTest {
+
+    private static final long HEADQUARTERS_ID = 990_301L;
+    private static final int PAST_YEAR = LocalDate.now().getYear() - 1;
+    private static final int CURRENT_YEAR = LocalDate.now().getYear();
+
+    // 협력사 레벨, 내부 자재코드, 자재명, 상위 자재코드 (같은 코드의 다른 자재명, 상위 코드 없는 최상위 자재 포함)
+    private static final Object[][] MATERIALS = {
+            {1, "B100", "강판", "A100"},
+            {1, "B200", "알루미늄", null},
+            {1, "B200", "알루미늄 합금", null},
+            {2, "C100", "볼트", "B100"},
+            {2, "C200", "도료", "B200"}
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScopeAggregationService scopeAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "배출량 테이블 스키마는 MySQL 기준입니다");
+        insertSyntheticRows();
+    }
+
+    @Test
+    void pastYearMatchesLegacyMonthlyQueries() {
+        MappedMaterialMonthlyTotalResponse headquarters = scopeAggregationService.getMappedMaterialMonthlyTotals(
+                PAST_YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, 0, null);
+        assertMatchesLegacy(headquarters, PAST_YEAR, 1, 12);
+
+        MappedMaterialMonthlyTotalResponse partner = scopeAggregationService.getMappedMaterialMonthlyTotals(
+                PAST_YEAR, HEADQUARTERS_ID, "PARTNER", 10L, 1, "/" + HEADQUARTERS_ID + "/L1-001/");
+        assertMatchesLegacy(partner, PAST_YEAR, 2, 12);
+    }
+
+    @Test
+    void currentYearTotalsStopAtCurrentMonthButDetailsCoverWholeYear() {
+        int maxMonth = LocalDate.now().getMonthValue();
+        MappedMaterialMonthlyTotalResponse response = scopeAggregationService.getMappedMaterialMonthlyTotals(
+                CURRENT_YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, 0, null);
+
+        assertThat(response.getMonthlyTotals()).hasSize(maxMonth);
+        assertMatchesLegacy(response, CURRENT_YEAR, 1, maxMonth);
+    }
+
+    // ========================================================================
+    // 기존 방식 재현 (월별 자재 합계 조회 × 최대월 + 연간 자재 합계 조회)
+    // ========================================================================
+
+    private void assertMatchesLegacy(MappedMaterialMonthlyTotalResponse response, int year, int targetLevel, int maxMonth) {
+        List<String> legacyMonthlyTotals = new ArrayList<>();
+        List<String> legacyMaterialMonths = new ArrayList<>();
+        for (int month = 1; month <= maxMonth; month++) {
+            BigDecimal monthlyTotal = BigDecimal.ZERO;
+            long monthlyCount = 0L;
+            for (Object[] row : legacyMaterialEmissions(targetLevel, year, month)) {
+                BigDecimal scope1Plus2 = ((BigDecimal) row[3]).add((BigDecimal) row[4]);
+                monthlyTotal = monthlyTotal.add(scope1Plus2);
+                monthlyCount += (Long) row[6];
+                legacyMaterialMonths.add(materialKey(row) + "|" + month + "|" + plain(scope1Plus2));
+            }
+            legacyMonthlyTotals.add(month + "|" + plain(monthlyTotal) + "|" + monthlyCount);
+        }
+        List<String> legacyDetails = new ArrayList<>();
+        for (Object[] row : legacyMaterialEmissions(targetLevel, year, null)) {
+            legacyDetails.add(materialKey(row) + "|" + plain((BigDecimal) row[3]) + "|"
+                    + plain((BigDecimal) row[4]) + "|" + plain((BigDecimal) row[5]));
+        }
+
+        assertThat(response.getMonthlyTotals())
+                .extracting(total -> total.getMonth() + "|" + plain(total.getTotalEmission()) + "|" + total.getDataCount())
+                .containsExactlyElementsOf(legacyMonthlyTotals);
+        assertThat(response.getMaterialDetails())
+                .extracting(detail -> detail.getInternalMaterialCode() + "|" + detail.getMaterialName() + "|"
+                        + detail.getUpstreamMaterialCode() + "|" + plain(detail.getScope1Emission()) + "|"
+                        + plain(detail.getScope2Emission()) + "|" + plain(detail.getTotalEmission()))
+                .containsExactlyInAnyOrderElementsOf(legacyDetails);
+
+        List<String> materialMonths = new ArrayList<>();
+        for (MappedMaterialMonthlyTotalResponse.MaterialMonthlyEmission material : response.getMaterialMonthlyEmissions()) {
+            assertThat(material.getMonthlyEmissions()).hasSize(maxMonth);
+            for (int month = 1; month <= maxMonth; month++) {
+                BigDecimal emission = material.getMonthlyEmissions().get(month - 1);
+                if (emission.signum() != 0) {
+                    materialMonths.add(material.getInternalMaterialCode() + "|" + material.getMaterialName() + "|"
+                            + material.getUpstreamMaterialCode() + "|" + month + "|" + plain(emission));
+                }
+            }
+        }
+        assertThat(materialMonths).containsExactlyInAnyOrderElementsOf(
+                legacyMaterialMonths.stream().filter(row -> !row.endsWith("|0")).toList());
+    }
+
+    /**
+     * 기존 findMappedMaterialEmissionsByLevel 쿼리 (month = null이면 연간 전체)
+     * 결과: 내부 자재코드, 자재명, 상위 자재코드, Scope1, Scope2, 합계, 건수
+     */
+    private List<Object[]> legacyMaterialEmissions(int targetLevel, int year, Integer month) {
+        return jdbcTemplate.query(
+                "SELECT mm.internal_material_code, mm.material_name, mm.upstream_material_code, " +
+                "COALESCE(SUM(CASE WHEN s.scope_type = 'SCOPE1' THEN s.total_emission ELSE 0 END), 0), " +
+                "COALESCE(SUM(CASE WHEN s.scope_type = 'SCOPE2' THEN s.total_emission ELSE 0 END), 0), " +
+                "COALESCE(SUM(s.total_emission), 0), COUNT(*) " +
+                "FROM scope_emission s JOIN material_mapping mm ON mm.id = s.material_mapping_id " +
+                "WHERE s.headquarters_id = ? AND mm.partner_level = ? AND s.has_material_mapping = true " +
+                "AND s.scope_type IN ('SCOPE1', 'SCOPE2') AND s.reporting_year = ? " +
+                "AND (? IS NULL OR s.reporting_month = ?) " +
+                "GROUP BY mm.internal_material_code, mm.material_name, mm.upstream_material_code " +
+                "ORDER BY mm.internal_material_code",
+                (rs, rowNum) -> new Object[]{
+                        rs.getString(1), rs.getString(2), rs.getString(3),
+                        rs.getBigDecimal(4), rs.getBigDecimal(5), rs.getBigDecimal(6), rs.getLong(7)},
+                HEADQUARTERS_ID, targetLevel, year, month, month);
+    }
+
+    /**
+     * 응답과 같은 자재 키 (null 자재명/상위 코드는 빈 문자열)
+     */
+    private static String materialKey(Object[] row) {
+        return row[0] + "|" + (row[1] != null ? row[1] : "") + "|" + (row[2] != null ? row[2] : "");
+    }
+
+    private static String plain(BigDecimal value) {
+        return value.stripTrailingZeros().toPlainString();
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    /**
+     * 자재 매핑 + 전년/당해 연도 매월 매핑 행 생성 (자재 매핑 비활성, Scope 3 행은 제외 대상으로 함께 생성)
+     */
+    private void insertSyntheticRows() {
+        List<Long> mappingIds = new ArrayList<>();
+        for (Object[] material : MATERIALS) {
+            KeyHolder keyHolder = new GeneratedKeyHolder();
+            jdbcTemplate.update(connection -> {
+                PreparedStatement ps = connection.prepareStatement(
+                        "INSERT INTO material_mapping (headquarters_id, partner_id, partner_level, tree_path, " +
+                        "upstream_material_code, internal_material_code, material_name, scope_emission_id, created_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, 0, NOW())", Statement.RETURN_GENERATED_KEYS);
+                ps.setObject(1, HEADQUARTERS_ID);
+                ps.setObject(2, (Integer) material[0] == 1 ? 10L : 11L);
+                ps.setObject(3, material[0]);
+                ps.setObject(4, (Integer) material[0] == 1 ? "/" + HEADQUARTERS_ID + "/L1-001/" : "/" + HEADQUARTERS_ID + "/L1-001/L2-001/");
+                ps.setObject(5, material[3]);
+                ps.setObject(6, material[1]);
+                ps.setObject(7, material[2]);
+                return ps;
+            }, keyHolder);
+            mappingIds.add(keyHolder.getKey().longValue());
+        }
+
+        Random random = new Random(15);
+        String sql = "INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                "input_type, has_material_mapping, factory_enabled, material_mapping_id) " +
+                "VALUES (?, 10, ?, ?, ?, ?, ?, ?, ?, ?, 'MAPPED', 'MAPPED', 'MAPPED', 1, 'kg', 1, ?, 'MANUAL', ?, false, ?)";
+
+        List<Object[]> batch = new ArrayList<>();
+        for (int year : new int[]{PAST_YEAR, CURRENT_YEAR}) {
+            for (int month = 1; month <= 12; month++) {
+                if (random.nextInt(5) == 0) {
+                    continue;
+                }
+                int rowCount = 3 + random.nextInt(6);
+                for (int i = 0; i < rowCount; i++) {
+                    int scope = random.nextInt(3);
+                    batch.add(new Object[]{
+                            HEADQUARTERS_ID, "/" + HEADQUARTERS_ID + "/L1-001/", year, month, year * 100 + month,
+                            scope == 0 ? "SCOPE1" : scope == 1 ? "SCOPE2" : "SCOPE3",
+                            scope == 0 ? 1 + random.nextInt(10) : null,
+                            scope == 1 ? 1 + random.nextInt(2) : null,
+                            scope == 2 ? 1 + random.nextInt(15) : null,
+                            BigDecimal.valueOf(random.nextInt(100_000), 3),
+                            random.nextInt(6) != 0,
+                            mappingIds.get(random.nextInt(mappingIds.size()))
+                    });
+                }
+            }
+        }
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (PreparedStatement ps, Object[] row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+    }
+}
@@ -0,0 +1,214 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.CategoryYearlyEmission;
+import com.nsmm.esg.scope_service.dto.response.MonthlyEmissionSummary;
+import com.nsmm.esg.scope_service.enums.ScopeCategoryRegistry;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
+import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.CategoryEmissionProjection;
+import com.nsmm.esg.scope_service.repository.projection.MonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.service.AggregationRequestCoalescer;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import com.nsmm.esg.scope_service.util.ReportingPeriodUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 월별 배출량 요약 단일 그룹 쿼리 / 레지스트리 기반 카테고리명 테스트
+ *
+ * - 월별 요약은 연도 구간 (월, Scope) 그룹 쿼리 1회로 조회, 데이터 없는 월은 0, 같은 키의 다음 요청은 캐시 사용
+ * - 마감된 월은 스냅샷 사용, 모든 월이 스냅샷이면 쿼리 생략
+ * - 마감용 단일 월 요약은 해당 보고 기간만 같은 그룹 쿼리로 조회
+ * - 카테고리별 연간 집계의 카테고리명은 ScopeCategoryRegistry 기준, 알 수 없는 번호는 "Unknown Category"
+ */
+public class MonthlySummaryAggregationTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final int YEAR = 2020;
+
+    private ScopeEmissionRepository scopeEmissionRepository;
+    private AggregationSnapshotService aggregationSnapshotService;
+    private ScopeAggregationService scopeAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        scopeEmissionRepository = mock(ScopeEmissionRepository.class);
+        aggregationSnapshotService = mock(AggregationSnapshotService.class);
+        scopeAggregationService = new ScopeAggregationService(
+                scopeEmissionRepository,
+                mock(MaterialAssignmentRepository.class),
+                mock(Scope3SpecialAggregationService.class),
+                mock(OrganizationHierarchyService.class),
+                aggregationSnapshotService,
+                mock(EmissionRollupService.class),
+                mock(EmissionRollupRepository.class),
+                new ConcurrentMapCacheManager(),
+                new AggregationRequestCoalescer());
+    }
+
+    @Test
+    void monthlySummaryIsBuiltFromOneGroupedQuery() {
+        List<MonthlyScopeEmissionProjection> rows = List.of(
+                monthlyRow(1, ScopeType.SCOPE1, "1.5", 2L),
+                monthlyRow(1, ScopeType.SCOPE3, "2.0", 1L),
+                monthlyRow(12, ScopeType.SCOPE2, "4.25", 3L));
+        when(scopeEmissionRepository.sumMonthlyScopeTotalsForSpecificPartner(
+                HEADQUARTERS_ID, 10L, ReportingPeriodUtil.startOfYear(YEAR), ReportingPeriodUtil.endOfYear(YEAR))).thenReturn(rows);
+
+        List<MonthlyEmissionSummary> summaries = scopeAggregationService.getPartnerMonthlyEmissionSummary(
+                10L, YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+        assertThat(summaries).extracting(MonthlyEmissionSummary::getMonth)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, 12).boxed().toList());
+        assertThat(summaries.get(0).getScope1Total()).isEqualByComparingTo("1.5");
+        assertThat(summaries.get(0).getScope3Total()).isEqualByComparingTo("2.0");
+        assertThat(summaries.get(0).getDataCount()).isEqualTo(3L);
+        assertThat(summaries.get(5).getScope1Total()).isEqualByComparingTo("0");
+        assertThat(summaries.get(5).getDataCount()).isZero();
+        assertThat(summaries.get(11).getScope2Total()).isEqualByComparingTo("4.25");
+
+        // 같은 키의 다음 요청은 캐시 사용
+        scopeAggregationService.getPartnerMonthlyEmissionSummary(10L, YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+        verify(scopeEmissionRepository, times(1)).sumMonthlyScopeTotalsForSpecificPartner(
+                anyLong(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void closedMonthsComeFromSnapshots() {
+        when(aggregationSnapshotService.getClosedMonths(HEADQUARTERS_ID, YEAR)).thenReturn(Set.of(1, 2));
+        MonthlyEmissionSummary januarySnapshot = summary(1, "7");
+        MonthlyEmissionSummary februarySnapshot = summary(2, "8");
+        when(aggregationSnapshotService.findSnapshot(HEADQUARTERS_ID, YEAR, 1, SnapshotType.MONTHLY_SUMMARY,
+                AggregationSnapshotService.subjectKey(null), MonthlyEmissionSummary.class)).thenReturn(Optional.of(januarySnapshot));
+        when(aggregationSnapshotService.findSnapshot(HEADQUARTERS_ID, YEAR, 2, SnapshotType.MONTHLY_SUMMARY,
+                AggregationSnapshotService.subjectKey(null), MonthlyEmissionSummary.class)).thenReturn(Optional.of(februarySnapshot));
+        List<MonthlyScopeEmissionProjection> rows = List.of(
+                monthlyRow(1, ScopeType.SCOPE1, "100", 1L), // 마감 후 원본 변경 - 스냅샷 우선
+                monthlyRow(3, ScopeType.SCOPE1, "3", 1L));
+        when(scopeEmissionRepository.sumMonthlyScopeTotalsForHeadquartersOnly(
+                HEADQUARTERS_ID, ReportingPeriodUtil.startOfYear(YEAR), ReportingPeriodUtil.endOfYear(YEAR))).thenReturn(rows);
+
+        List<MonthlyEmissionSummary> summaries = scopeAggregationService.getPartnerMonthlyEmissionSummary(
+                -1L, YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+        assertThat(summaries.get(0)).isSameAs(januarySnapshot);
+        assertThat(summaries.get(1)).isSameAs(februarySnapshot);
+        assertThat(summaries.get(2).getScope1Total()).isEqualByComparingTo("3");
+        verify(scopeEmissionRepository, times(1)).sumMonthlyScopeTotalsForHeadquartersOnly(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void fullyClosedYearSkipsQuery() {
+        Set<Integer> allMonths = IntStream.rangeClosed(1, 12).boxed().collect(Collectors.toSet());
+        when(aggregationSnapshotService.getClosedMonths(HEADQUARTERS_ID, YEAR)).thenReturn(allMonths);
+        for (int month = 1; month <= 12; month++) {
+            MonthlyEmissionSummary snapshot = summary(month, "1");
+            when(aggregationSnapshotService.findSnapshot(HEADQUARTERS_ID, YEAR, month, SnapshotType.MONTHLY_SUMMARY,
+                    "10", MonthlyEmissionSummary.class)).thenReturn(Optional.of(snapshot));
+        }
+
+        List<MonthlyEmissionSummary> summaries = scopeAggregationService.getPartnerMonthlyEmissionSummary(
+                10L, YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+        assertThat(summaries).hasSize(12);
+        verify(scopeEmissionRepository, never()).sumMonthlyScopeTotalsForSpecificPartner(
+                anyLong(), anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void singleMonthSummaryQueriesOnlyThatPeriod() {
+        int period = ReportingPeriodUtil.of(YEAR, 3);
+        List<MonthlyScopeEmissionProjection> rows = List.of(
+                monthlyRow(3, ScopeType.SCOPE2, "5", 2L),
+                monthlyRow(3, ScopeType.SCOPE3, "1", 1L));
+        when(scopeEmissionRepository.sumMonthlyScopeTotalsForSpecificPartner(HEADQUARTERS_ID, 10L, period, period))
+                .thenReturn(rows);
+
+        MonthlyEmissionSummary summary = scopeAggregationService.calculateMonthlyEmissionSummary(HEADQUARTERS_ID, 10L, YEAR, 3);
+
+        assertThat(summary.getMonth()).isEqualTo(3);
+        assertThat(summary.getScope1Total()).isEqualByComparingTo("0");
+        assertThat(summary.getScope2Total()).isEqualByComparingTo("5");
+        assertThat(summary.getScope3Total()).isEqualByComparingTo("1");
+        assertThat(summary.getDataCount()).isEqualTo(3L);
+        verify(scopeEmissionRepository, never()).sumMonthlyScopeTotalsForHeadquartersOnly(anyLong(), anyInt(), anyInt());
+    }
+
+    @Test
+    void categoryNamesComeFromRegistry() {
+        List<CategoryEmissionProjection> rows = List.of(
+                categoryRow(1, "10"),
+                categoryRow(10, "20"),
+                categoryRow(99, "5"));
+        when(scopeEmissionRepository.sumScope1EmissionByPeriodRangeAndCategoryForHeadquartersOnly(
+                eq(HEADQUARTERS_ID), any(), any())).thenReturn(rows);
+
+        List<CategoryYearlyEmission> categories = scopeAggregationService.getCategoryYearlyEmissions(
+                ScopeType.SCOPE1, YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null, 0);
+
+        assertThat(categories).extracting(CategoryYearlyEmission::getCategoryName).containsExactly(
+                ScopeCategoryRegistry.scope1(1).getCategoryName(),
+                ScopeCategoryRegistry.scope1(10).getCategoryName(),
+                "Unknown Category");
+        assertThat(categories).allSatisfy(category ->
+                assertThat(category.getTotalSumAllCategories()).isEqualByComparingTo("35"));
+    }
+
+    // ========================================================================
+    // 헬퍼 메서드
+    // ========================================================================
+
+    private static MonthlyEmissionSummary summary(int month, String scope1Total) {
+        return MonthlyEmissionSummary.builder()
+                .year(YEAR)
+                .month(month)
+                .scope1Total(new BigDecimal(scope1Total))
+                .scope2Total(BigDecimal.ZERO)
+                .scope3Total(BigDecimal.ZERO)
+                .dataCount(1L)
+                .build();
+    }
+
+    private MonthlyScopeEmissionProjection monthlyRow(int month, ScopeType scopeType, String totalEmission, Long recordCount) {
+        MonthlyScopeEmissionProjection row = mock(MonthlyScopeEmissionProjection.class);
+        when(row.getReportingMonth()).thenReturn(month);
+        when(row.getScopeType()).thenReturn(scopeType);
+        when(row.getTotalEmission()).thenReturn(new BigDecimal(totalEmission));
+        when(row.getRecordCount()).thenReturn(recordCount);
+        return row;
+    }
+
+    private CategoryEmissionProjection categoryRow(int categoryNumber, String totalEmission) {
+        CategoryEmissionProjection row = mock(CategoryEmissionProjection.class);
+        when(row.getCategoryNumber()).thenReturn(categoryNumber);
+        when(row.getTotalEmission()).thenReturn(new BigDecimal(totalEmission));
+        when(row.getRecordCount()).thenReturn(1L);
+        return row;
+    }
+}
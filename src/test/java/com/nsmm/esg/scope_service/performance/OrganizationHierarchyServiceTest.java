@@ -0,0 +1,138 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.entity.OrganizationNode;
+import com.nsmm.esg.scope_service.repository.OrganizationClosureRepository;
+import com.nsmm.esg.scope_service.repository.OrganizationNodeRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.service.EmissionDataVersionService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 조직 계층 조회/등록 테스트
+ *
+ * - 직속 하위 조직은 레벨 차이로 판단 (중간 경로 데이터가 없어도 손자 조직이 직속으로 올라오지 않음)
+ * - 클로저 사용 시 노드 테이블, 미사용 시 배출량 테이블 DISTINCT 경로로 조회 (메모리 트리 미사용)
+ * - 상위 조직은 클로저 사용 시 클로저 테이블, 미사용 시 상위 경로 IN 조회
+ * - 같은 경로로 이미 등록된 협력사는 클로저를 다시 쓰지 않음
+ */
+public class OrganizationHierarchyServiceTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+
+    private OrganizationNodeRepository nodeRepository;
+    private OrganizationClosureRepository closureRepository;
+    private ScopeEmissionRepository scopeEmissionRepository;
+    private OrganizationHierarchyService service;
+
+    @BeforeEach
+    void setUp() {
+        nodeRepository = mock(OrganizationNodeRepository.class);
+        closureRepository = mock(OrganizationClosureRepository.class);
+        scopeEmissionRepository = mock(ScopeEmissionRepository.class);
+        service = new OrganizationHierarchyService(
+                nodeRepository, closureRepository, scopeEmissionRepository, mock(EmissionDataVersionService.class));
+    }
+
+    @Test
+    void directChildrenSkipGrandchildrenWhenIntermediatePathHasNoData() {
+        // L1-002 하위 L2-005는 L1-002 데이터가 없어도 본사 직속이 아님
+        when(scopeEmissionRepository.findDistinctPartnerTreePaths(HEADQUARTERS_ID)).thenReturn(List.of(
+                new Object[]{12L, "/1/L1-001/"},
+                new Object[]{11L, "/1/L1-001/L2-003/"},
+                new Object[]{15L, "/1/L1-002/L2-005/"},
+                new Object[]{10L, "/1/L1-000/"}));
+
+        assertThat(service.findDirectChildTreePaths(HEADQUARTERS_ID, null))
+                .containsExactly(
+                        entry(10L, "/1/L1-000/"),
+                        entry(12L, "/1/L1-001/"));
+    }
+
+    @Test
+    void partnerDirectChildrenIncludeDuplicatePathsInPathOrder() {
+        when(scopeEmissionRepository.findDistinctPartnerTreePathsUnder(HEADQUARTERS_ID, "/1/L1-001/")).thenReturn(List.of(
+                new Object[]{21L, "/1/L1-001/L2-004/"},
+                new Object[]{20L, "/1/L1-001/L2-004/"},
+                new Object[]{22L, "/1/L1-001/L2-004/L3-001/"},
+                new Object[]{23L, "/1/L1-001/L2-002/"}));
+
+        assertThat(service.findDirectChildTreePaths(HEADQUARTERS_ID, "/1/L1-001/").keySet())
+                .containsExactly(23L, 20L, 21L);
+    }
+
+    @Test
+    void closureReadUsesNodeTableForChildrenAndClosureForAncestors() {
+        ReflectionTestUtils.setField(service, "readEnabled", true);
+        when(nodeRepository.findChildNodes(HEADQUARTERS_ID, "/1/L1-001/", 2))
+                .thenReturn(List.of(node(11L, "/1/L1-001/L2-003/", 2)));
+        when(closureRepository.findAncestorIds(HEADQUARTERS_ID, 11L)).thenReturn(List.of(10L));
+
+        assertThat(service.findDirectChildTreePaths(HEADQUARTERS_ID, "/1/L1-001/").keySet()).containsExactly(11L);
+        assertThat(service.findAncestorPartnerIds(HEADQUARTERS_ID, 11L, "/1/L1-001/L2-003/")).containsExactly(10L);
+        verify(scopeEmissionRepository, never()).findDistinctPartnerTreePathsUnder(anyLong(), any());
+    }
+
+    @Test
+    void ancestorsWithoutClosureQueryOnlyAncestorPaths() {
+        when(scopeEmissionRepository.findDistinctPartnerIdsByTreePaths(
+                HEADQUARTERS_ID, List.of("/1/L1-001/", "/1/L1-001/L2-003/"))).thenReturn(List.of(10L, 11L));
+
+        assertThat(service.findAncestorPartnerIds(HEADQUARTERS_ID, 12L, "/1/L1-001/L2-003/L3-001/"))
+                .containsExactlyInAnyOrder(10L, 11L);
+        assertThat(service.findAncestorPartnerIds(HEADQUARTERS_ID, 10L, "/1/L1-001/")).isEmpty();
+    }
+
+    @Test
+    void registeringKnownPathIsSingleLookup() {
+        when(nodeRepository.findByHeadquartersIdAndPartnerId(HEADQUARTERS_ID, 11L))
+                .thenReturn(Optional.of(node(11L, "/1/L1-001/L2-003/", 2)));
+
+        service.registerOrganization(HEADQUARTERS_ID, 11L, "/1/L1-001/L2-003/");
+
+        verify(nodeRepository, never()).upsertNode(anyLong(), anyLong(), any(), anyInt());
+        verify(closureRepository, never()).insertIgnore(anyLong(), anyLong(), anyLong(), anyInt());
+    }
+
+    @Test
+    void registeringNewPartnerLinksRegisteredAncestorsAndDescendants() {
+        when(nodeRepository.findByHeadquartersIdAndPartnerId(HEADQUARTERS_ID, 11L)).thenReturn(Optional.empty());
+        when(nodeRepository.findByHeadquartersIdAndTreePathIn(HEADQUARTERS_ID, List.of("/1/L1-001/")))
+                .thenReturn(List.of(node(10L, "/1/L1-001/", 1)));
+        when(nodeRepository.findDescendantNodes(HEADQUARTERS_ID, "/1/L1-001/L2-003/"))
+                .thenReturn(List.of(node(12L, "/1/L1-001/L2-003/L3-001/", 3)));
+
+        service.registerOrganization(HEADQUARTERS_ID, 11L, "/1/L1-001/L2-003/");
+
+        verify(nodeRepository).upsertNode(HEADQUARTERS_ID, 11L, "/1/L1-001/L2-003/", 2);
+        verify(closureRepository).insertIgnore(HEADQUARTERS_ID, 11L, 11L, 0);
+        verify(closureRepository).insertIgnore(eq(HEADQUARTERS_ID), eq(0L), eq(11L), eq(2));
+        verify(closureRepository).insertIgnore(HEADQUARTERS_ID, 10L, 11L, 1);
+        verify(closureRepository).insertIgnore(HEADQUARTERS_ID, 11L, 12L, 1);
+    }
+
+    private OrganizationNode node(long partnerId, String treePath, int level) {
+        return OrganizationNode.builder()
+                .headquartersId(HEADQUARTERS_ID)
+                .partnerId(partnerId)
+                .treePath(treePath)
+                .level(level)
+                .build();
+    }
+}
@@ -0,0 +1,81 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.service.OrganizationTree;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조직 트리 메모리 인덱스 테스트
+ *
+ * - 전위 순회 구간: 하위 조직은 연속 구간, 트리에 없는 경로는 접두사 구간
+ * - 상위 조직: 가까운 상위부터, 중간 경로가 비어 있으면 건너뜀
+ * - 직속 하위 조직: 정확히 한 레벨 아래만 (중간 경로가 비어 있어도 손자 조직이 올라오지 않음)
+ * - 중복 경로: (경로, 협력사 ID) 순 인접 배치, 같은 하위 구간 공유, 상위/직속 조회에 모두 포함
+ */
+public class OrganizationTreeTest {
+
+    private static final OrganizationTree TREE = OrganizationTree.of(treePaths());
+
+    private static Map<Long, String> treePaths() {
+        Map<Long, String> treePaths = new HashMap<>();
+        treePaths.put(10L, "/1/L1-001/");
+        treePaths.put(11L, "/1/L1-001/L2-001/");
+        treePaths.put(12L, "/1/L1-001/L2-001/L3-001/");
+        treePaths.put(13L, "/1/L1-001/L2-002/");
+        treePaths.put(14L, "/1/L1-002/");
+        treePaths.put(15L, "/1/L1-003/L2-001/");        // 상위 L1-003 협력사 없음
+        treePaths.put(16L, "/1/L1-003/L2-001/L3-001/");
+        treePaths.put(21L, "/1/L1-004/");               // 중복 경로
+        treePaths.put(20L, "/1/L1-004/");
+        treePaths.put(22L, "/1/L1-004/L2-001/");
+        return treePaths;
+    }
+
+    @Test
+    void descendantsArePreOrderRanges() {
+        assertThat(TREE.indexOf(10L)).isZero();
+        assertThat(TREE.descendantRange("/1/L1-001/")).containsExactly(1, 4);
+        assertThat(TREE.descendantsOf("/1/L1-001/")).containsExactly(11L, 12L, 13L);
+        assertThat(TREE.descendantsOf("/1/L1-001/L2-001/L3-001/")).isEmpty();
+        assertThat(TREE.descendantsOf(null)).containsExactly(10L, 11L, 12L, 13L, 14L, 15L, 16L, 20L, 21L, 22L);
+
+        // 트리에 없는 경로는 접두사가 일치하는 구간
+        assertThat(TREE.descendantsOf("/1/L1-003/")).containsExactly(15L, 16L);
+        assertThat(TREE.descendantsOf("/1/L1-009/")).isEmpty();
+    }
+
+    @Test
+    void ancestorsAreNearestFirstAndSkipMissingPaths() {
+        assertThat(TREE.ancestorsOf("/1/L1-001/L2-001/L3-001/")).containsExactly(11L, 10L);
+        assertThat(TREE.ancestorsOf("/1/L1-003/L2-001/L3-001/")).containsExactly(15L);
+        assertThat(TREE.ancestorsOf("/1/L1-001/")).isEmpty();
+        assertThat(TREE.ancestorsOf(null)).isEmpty();
+    }
+
+    @Test
+    void directChildrenAreExactlyOneLevelDeeper() {
+        // L1-003 협력사가 없어도 L2 협력사 15는 본사 직속이 아님
+        assertThat(TREE.directChildrenOf(null)).containsExactly(10L, 14L, 20L, 21L);
+        assertThat(TREE.directChildrenOf("/")).containsExactly(10L, 14L, 20L, 21L);
+        assertThat(TREE.directChildrenOf("/1/L1-001/")).containsExactly(11L, 13L);
+        assertThat(TREE.directChildrenOf("/1/L1-003/")).containsExactly(15L);
+        assertThat(TREE.directChildrenOf("/1/L1-002/")).isEmpty();
+    }
+
+    @Test
+    void duplicatePathsShareSubtreeAndAreAllReturned() {
+        assertThat(TREE.indexOf(20L)).isEqualTo(7);
+        assertThat(TREE.indexOf(21L)).isEqualTo(8);
+        assertThat(TREE.treePathAt(7)).isEqualTo("/1/L1-004/");
+        assertThat(TREE.contains(21L, "/1/L1-004/")).isTrue();
+
+        // 같은 경로의 협력사는 하위 조직에 포함되지 않고 같은 하위 구간을 공유
+        assertThat(TREE.descendantRange("/1/L1-004/")).containsExactly(9, 10);
+        assertThat(TREE.descendantsOf("/1/L1-004/")).containsExactly(22L);
+        assertThat(TREE.ancestorsOf("/1/L1-004/L2-001/")).containsExactly(20L, 21L);
+    }
+}
@@ -0,0 +1,188 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.PartnerMonthlySummaryBatchResponse;
+import com.nsmm.esg.scope_service.enums.ScopeType;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
+import com.nsmm.esg.scope_service.repository.MaterialAssignmentRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.PartnerMonthlyScopeEmissionProjection;
+import com.nsmm.esg.scope_service.service.AggregationRequestCoalescer;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.CacheManager;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 협력사 일괄 월별 배출량 요약 테스트
+ *
+ * - 직속 하위 협력사 목록을 page / size로 분할하고 페이지 협력사만 그룹 쿼리 1회로 조회
+ * - 지정 목록은 데이터베이스 경로가 요청자 경로(X-TREE-PATH) 하위인지 검증 (요청자 본인 허용, 본사는 전체 허용)
+ * - 응답 treePath는 데이터베이스에서 조회한 경로
+ */
+public class PartnerMonthlySummaryBatchTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final int YEAR = 2020;
+    private static final long REQUEST_PARTNER_ID = 10L;
+    private static final String REQUEST_TREE_PATH = "/1/L1-001/";
+
+    private ScopeEmissionRepository scopeEmissionRepository;
+    private OrganizationHierarchyService organizationHierarchyService;
+    private ScopeAggregationService scopeAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        scopeEmissionRepository = mock(ScopeEmissionRepository.class);
+        organizationHierarchyService = mock(OrganizationHierarchyService.class);
+        scopeAggregationService = new ScopeAggregationService(
+                scopeEmissionRepository,
+                mock(MaterialAssignmentRepository.class),
+                mock(Scope3SpecialAggregationService.class),
+                organizationHierarchyService,
+                mock(AggregationSnapshotService.class),
+                mock(EmissionRollupService.class),
+                mock(EmissionRollupRepository.class),
+                mock(CacheManager.class),
+                mock(AggregationRequestCoalescer.class));
+    }
+
+    @Test
+    void directChildrenArePagedAndLoadedOnePageAtATime() {
+        Map<Long, String> children = new LinkedHashMap<>();
+        children.put(11L, "/1/L1-001/L2-001/");
+        children.put(12L, "/1/L1-001/L2-002/");
+        children.put(13L, "/1/L1-001/L2-003/");
+        when(organizationHierarchyService.findDirectChildTreePaths(HEADQUARTERS_ID, REQUEST_TREE_PATH)).thenReturn(children);
+        List<PartnerMonthlyScopeEmissionProjection> rows = List.of(
+                row(11L, 3, ScopeType.SCOPE1, "1.5", 2L),
+                row(12L, 12, ScopeType.SCOPE3, "4.0", 1L));
+        when(scopeEmissionRepository.sumMonthlyScopeTotalsForPartners(
+                HEADQUARTERS_ID, List.of(11L, 12L), YEAR * 100 + 1, YEAR * 100 + 12)).thenReturn(rows);
+
+        PartnerMonthlySummaryBatchResponse firstPage = scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "PARTNER", REQUEST_PARTNER_ID, REQUEST_TREE_PATH, null, 0, 2);
+
+        assertThat(firstPage.getTotalPartners()).isEqualTo(3);
+        assertThat(firstPage.getHasNext()).isTrue();
+        assertThat(firstPage.getPartners()).extracting(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary::getPartnerId)
+                .containsExactly(11L, 12L);
+        assertThat(firstPage.getPartners().get(0).getTreePath()).isEqualTo("/1/L1-001/L2-001/");
+        assertThat(firstPage.getPartners().get(0).getMonthlySummaries()).hasSize(12);
+        assertThat(firstPage.getPartners().get(0).getMonthlySummaries().get(2).getScope1Total()).isEqualByComparingTo("1.5");
+        assertThat(firstPage.getPartners().get(0).getMonthlySummaries().get(2).getDataCount()).isEqualTo(2L);
+        assertThat(firstPage.getPartners().get(1).getMonthlySummaries().get(11).getScope3Total()).isEqualByComparingTo("4.0");
+
+        PartnerMonthlySummaryBatchResponse lastPage = scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "PARTNER", REQUEST_PARTNER_ID, REQUEST_TREE_PATH, null, 1, 2);
+
+        assertThat(lastPage.getHasNext()).isFalse();
+        assertThat(lastPage.getPartners()).extracting(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary::getPartnerId)
+                .containsExactly(13L);
+        verify(scopeEmissionRepository).sumMonthlyScopeTotalsForPartners(
+                HEADQUARTERS_ID, List.of(13L), YEAR * 100 + 1, YEAR * 100 + 12);
+    }
+
+    @Test
+    void pageBeyondTargetsIsEmptyWithoutQuery() {
+        when(organizationHierarchyService.findDirectChildTreePaths(HEADQUARTERS_ID, null))
+                .thenReturn(Map.of(10L, "/1/L1-001/"));
+
+        PartnerMonthlySummaryBatchResponse response = scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null, null, 5, 10);
+
+        assertThat(response.getPartners()).isEmpty();
+        assertThat(response.getHasNext()).isFalse();
+        verify(scopeEmissionRepository, never()).sumMonthlyScopeTotalsForPartners(anyLong(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void explicitTargetsUnderRequesterPathAreAllowedWithDatabasePaths() {
+        Map<Long, String> treePaths = new LinkedHashMap<>();
+        treePaths.put(REQUEST_PARTNER_ID, REQUEST_TREE_PATH);
+        treePaths.put(12L, "/1/L1-001/L2-002/L3-001/");
+        when(organizationHierarchyService.findPartnerTreePaths(HEADQUARTERS_ID, List.of(12L, REQUEST_PARTNER_ID)))
+                .thenReturn(treePaths);
+
+        PartnerMonthlySummaryBatchResponse response = scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "PARTNER", REQUEST_PARTNER_ID, REQUEST_TREE_PATH,
+                List.of(12L, REQUEST_PARTNER_ID, 12L), 0, 10);
+
+        // 요청 순서 유지, 중복 제거
+        assertThat(response.getPartners()).extracting(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary::getPartnerId)
+                .containsExactly(12L, REQUEST_PARTNER_ID);
+        assertThat(response.getPartners()).extracting(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary::getTreePath)
+                .containsExactly("/1/L1-001/L2-002/L3-001/", REQUEST_TREE_PATH);
+    }
+
+    @Test
+    void explicitTargetsOutsideRequesterPathAreRejected() {
+        Map<Long, String> treePaths = new LinkedHashMap<>();
+        treePaths.put(11L, "/1/L1-001/L2-001/");
+        treePaths.put(20L, "/1/L1-002/");          // 형제 조직
+        treePaths.put(21L, REQUEST_TREE_PATH);     // 같은 경로의 다른 협력사
+        treePaths.put(22L, "/1/L1-0010/");         // 접두사만 비슷한 경로
+        when(organizationHierarchyService.findPartnerTreePaths(eq(HEADQUARTERS_ID), any())).thenReturn(treePaths);
+
+        for (long outsider : new long[]{20L, 21L, 22L, 99L}) { // 99: 경로를 찾을 수 없는 협력사
+            assertThatThrownBy(() -> scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                    YEAR, HEADQUARTERS_ID, "PARTNER", REQUEST_PARTNER_ID, REQUEST_TREE_PATH,
+                    List.of(11L, outsider), 0, 10))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessageContaining(String.valueOf(outsider));
+        }
+        verify(scopeEmissionRepository, never()).sumMonthlyScopeTotalsForPartners(anyLong(), any(), anyInt(), anyInt());
+    }
+
+    @Test
+    void headquartersMayRequestAnyPartner() {
+        when(organizationHierarchyService.findPartnerTreePaths(HEADQUARTERS_ID, List.of(20L, 99L)))
+                .thenReturn(Map.of(20L, "/1/L1-002/"));
+
+        PartnerMonthlySummaryBatchResponse response = scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null, List.of(20L, 99L), 0, 10);
+
+        assertThat(response.getPartners()).extracting(PartnerMonthlySummaryBatchResponse.PartnerMonthlySummary::getTreePath)
+                .containsExactly("/1/L1-002/", null);
+    }
+
+    @Test
+    void invalidPageRequestIsRejected() {
+        assertThatThrownBy(() -> scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null, null, 0, 201))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> scopeAggregationService.getPartnerMonthlyEmissionSummaries(
+                YEAR, HEADQUARTERS_ID, "PARTNER", REQUEST_PARTNER_ID, null, null, 0, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private PartnerMonthlyScopeEmissionProjection row(
+            Long partnerId, int month, ScopeType scopeType, String totalEmission, Long recordCount) {
+        PartnerMonthlyScopeEmissionProjection row = mock(PartnerMonthlyScopeEmissionProjection.class);
+        when(row.getPartnerId()).thenReturn(partnerId);
+        when(row.getReportingMonth()).thenReturn(month);
+        when(row.getScopeType()).thenReturn(scopeType);
+        when(row.getTotalEmission()).thenReturn(new BigDecimal(totalEmission));
+        when(row.getRecordCount()).thenReturn(recordCount);
+        return row;
+    }
+}
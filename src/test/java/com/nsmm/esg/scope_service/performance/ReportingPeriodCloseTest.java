@@ -0,0 +1,213 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.nsmm.esg.scope_service.dto.response.MonthlyEmissionSummary;
+import com.nsmm.esg.scope_service.dto.response.ReportingPeriodCloseResponse;
+import com.nsmm.esg.scope_service.dto.response.Scope3SpecialAggregationResponse;
+import com.nsmm.esg.scope_service.entity.AggregationSnapshot;
+import com.nsmm.esg.scope_service.entity.ReportingPeriodClose;
+import com.nsmm.esg.scope_service.enums.SnapshotType;
+import com.nsmm.esg.scope_service.repository.AggregationSnapshotRepository;
+import com.nsmm.esg.scope_service.repository.EmissionRollupRepository;
+import com.nsmm.esg.scope_service.repository.ReportingPeriodCloseRepository;
+import com.nsmm.esg.scope_service.repository.ReportingPeriodLockRepository;
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.service.AggregationSnapshotService;
+import com.nsmm.esg.scope_service.service.CacheWarmupService;
+import com.nsmm.esg.scope_service.service.EmissionRollupService;
+import com.nsmm.esg.scope_service.service.OrganizationHierarchyService;
+import com.nsmm.esg.scope_service.service.ReportingPeriodCloseService;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeAggregationService;
+import com.nsmm.esg.scope_service.service.ScopeEmissionService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+/**
+ * 보고 기간 마감 테스트
+ *
+ * - 마감 시 본사 + 데이터베이스 기준 전체 협력사 스냅샷을 원본 집계 메서드로 생성 (캐시된 조회 메서드 미사용)
+ * - 이미 마감된 기간의 재마감 / 배출량 쓰기 거부 (보고 기간 잠금 후 확인)
+ * - 마감된 기간의 조회는 스냅샷에서 반환 (원본 재집계 생략), 마감되지 않은 기간은 원본 집계
+ */
+public class ReportingPeriodCloseTest {
+
+    private static final long HEADQUARTERS_ID = 1L;
+    private static final int YEAR = 2024;
+    private static final int MONTH = 3;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReportingPeriodCloseRepository closeRepository;
+    private ReportingPeriodLockRepository lockRepository;
+    private AggregationSnapshotRepository snapshotRepository;
+    private AggregationSnapshotService aggregationSnapshotService;
+    private OrganizationHierarchyService organizationHierarchyService;
+
+    @BeforeEach
+    void setUp() {
+        closeRepository = mock(ReportingPeriodCloseRepository.class);
+        lockRepository = mock(ReportingPeriodLockRepository.class);
+        snapshotRepository = mock(AggregationSnapshotRepository.class);
+        aggregationSnapshotService = new AggregationSnapshotService(
+                closeRepository, lockRepository, snapshotRepository, objectMapper);
+        organizationHierarchyService = mock(OrganizationHierarchyService.class);
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void closeSnapshotsEveryDatabasePartnerFromUncachedCalculations() {
+        Map<Long, String> partners = new LinkedHashMap<>();
+        partners.put(11L, "/1/L1-001/");
+        partners.put(12L, "/1/L1-001/L2-001/");
+        when(organizationHierarchyService.findPartnerTreePaths(HEADQUARTERS_ID)).thenReturn(partners);
+        when(closeRepository.findLockedByHeadquartersIdAndReportingYearAndReportingMonth(HEADQUARTERS_ID, YEAR, MONTH))
+                .thenReturn(Optional.empty());
+        when(closeRepository.saveAndFlush(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Scope3SpecialAggregationService scope3SpecialAggregationService = mock(Scope3SpecialAggregationService.class);
+        when(scope3SpecialAggregationService.calculateSpecialAggregation(
+                anyInt(), anyInt(), anyLong(), anyString(), any(), any()))
+                .thenReturn(Scope3SpecialAggregationResponse.builder().build());
+        ScopeEmissionService scopeEmissionService = mock(ScopeEmissionService.class);
+        ScopeAggregationService scopeAggregationService = mock(ScopeAggregationService.class);
+        when(scopeAggregationService.calculateMonthlyEmissionSummary(anyLong(), anyLong(), anyInt(), anyInt()))
+                .thenReturn(MonthlyEmissionSummary.builder().year(YEAR).month(MONTH).build());
+
+        ReportingPeriodCloseService closeService = new ReportingPeriodCloseService(
+                closeRepository, aggregationSnapshotService, scope3SpecialAggregationService,
+                scopeEmissionService, scopeAggregationService, organizationHierarchyService,
+                mock(CacheWarmupService.class));
+
+        ReportingPeriodCloseResponse response = closeService.closePeriod(HEADQUARTERS_ID, YEAR, MONTH, "admin");
+
+        int organizations = 1 + partners.size();
+        assertThat(response.getSnapshotCount()).isEqualTo(organizations * SnapshotType.values().length);
+        verify(snapshotRepository, times(organizations * SnapshotType.values().length)).save(any());
+        verify(lockRepository).acquire(HEADQUARTERS_ID, YEAR * 100 + MONTH);
+
+        // 조직별 원본 집계 (협력사 경로는 데이터베이스 조회 결과)
+        verify(scope3SpecialAggregationService).calculateSpecialAggregation(
+                YEAR, MONTH, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+        verify(scope3SpecialAggregationService).calculateSpecialAggregation(
+                YEAR, MONTH, HEADQUARTERS_ID, "PARTNER", 12L, "/1/L1-001/L2-001/");
+        verify(scopeEmissionService).calculateCategoryWiseEmissions(HEADQUARTERS_ID, 11L, YEAR, MONTH);
+        verify(scopeEmissionService).calculateScope3AllCategoriesEmissions(HEADQUARTERS_ID, null, YEAR, MONTH);
+        verify(scopeAggregationService).calculateMonthlyEmissionSummary(HEADQUARTERS_ID, -1L, YEAR, MONTH);
+
+        // 캐시된 조회 메서드는 사용하지 않음
+        verify(scope3SpecialAggregationService, never()).getSpecialAggregation(
+                anyInt(), anyInt(), anyLong(), anyString(), any(), any());
+        verify(scopeEmissionService, never()).getCategoryWiseEmissions(any(), any(), any(), any());
+        verify(scopeEmissionService, never()).getScope3AllCategoriesEmissions(any(), any(), any(), any());
+    }
+
+    @Test
+    void closingClosedPeriodIsRejected() {
+        when(closeRepository.findLockedByHeadquartersIdAndReportingYearAndReportingMonth(HEADQUARTERS_ID, YEAR, MONTH))
+                .thenReturn(Optional.of(closed()));
+
+        ReportingPeriodCloseService closeService = new ReportingPeriodCloseService(
+                closeRepository, aggregationSnapshotService, mock(Scope3SpecialAggregationService.class),
+                mock(ScopeEmissionService.class), mock(ScopeAggregationService.class), organizationHierarchyService,
+                mock(CacheWarmupService.class));
+
+        assertThatThrownBy(() -> closeService.closePeriod(HEADQUARTERS_ID, YEAR, MONTH, "admin"))
+                .isInstanceOf(IllegalStateException.class);
+        verify(closeRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(organizationHierarchyService);
+    }
+
+    @Test
+    void writesToClosedPeriodAreRejectedAfterLocking() {
+        when(closeRepository.findLockedByHeadquartersIdAndReportingYearAndReportingMonth(HEADQUARTERS_ID, YEAR, MONTH))
+                .thenReturn(Optional.of(closed()));
+        when(closeRepository.findLockedByHeadquartersIdAndReportingYearAndReportingMonth(HEADQUARTERS_ID, YEAR, MONTH + 1))
+                .thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> aggregationSnapshotService.validatePeriodOpen(HEADQUARTERS_ID, YEAR, MONTH))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(lockRepository).acquire(HEADQUARTERS_ID, YEAR * 100 + MONTH);
+
+        // 수정으로 마감 기간에서 열린 기간으로 옮기는 쓰기도 거부 (이른 기간부터 잠금)
+        assertThatThrownBy(() -> aggregationSnapshotService.validatePeriodsOpen(
+                HEADQUARTERS_ID, YEAR, MONTH + 1, YEAR, MONTH))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(lockRepository, never()).acquire(HEADQUARTERS_ID, YEAR * 100 + MONTH + 1);
+
+        // 열린 기간 쓰기는 허용
+        aggregationSnapshotService.validatePeriodOpen(HEADQUARTERS_ID, YEAR, MONTH + 1);
+    }
+
+    @Test
+    void closedPeriodIsServedFromSnapshot() throws Exception {
+        Scope3SpecialAggregationResponse closedResponse = Scope3SpecialAggregationResponse.builder()
+                .reportingYear(YEAR)
+                .reportingMonth(MONTH)
+                .userType("HEADQUARTERS")
+                .organizationId(HEADQUARTERS_ID)
+                .category1TotalEmission(new BigDecimal("123.456"))
+                .build();
+        when(closeRepository.findClosedMonths(HEADQUARTERS_ID, YEAR)).thenReturn(List.of(MONTH));
+        when(snapshotRepository.findByHeadquartersIdAndReportingYearAndReportingMonthAndSnapshotTypeAndSubjectKey(
+                HEADQUARTERS_ID, YEAR, MONTH, SnapshotType.SPECIAL_AGGREGATION, AggregationSnapshot.HEADQUARTERS_SUBJECT))
+                .thenReturn(Optional.of(AggregationSnapshot.builder()
+                        .payload(objectMapper.writeValueAsString(closedResponse))
+                        .build()));
+
+        ScopeEmissionRepository scopeEmissionRepository = mock(ScopeEmissionRepository.class);
+        Scope3SpecialAggregationService scope3SpecialAggregationService = new Scope3SpecialAggregationService(
+                scopeEmissionRepository, mock(EmissionRollupRepository.class), mock(EmissionRollupService.class),
+                organizationHierarchyService, aggregationSnapshotService);
+
+        Scope3SpecialAggregationResponse closed = scope3SpecialAggregationService.getSpecialAggregation(
+                YEAR, MONTH, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+        assertThat(closed.getCategory1TotalEmission()).isEqualByComparingTo("123.456");
+        verifyNoInteractions(scopeEmissionRepository);
+
+        // 마감되지 않은 월은 원본 집계
+        Scope3SpecialAggregationResponse open = scope3SpecialAggregationService.getSpecialAggregation(
+                YEAR, MONTH + 1, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+        assertThat(open.getCategory1TotalEmission()).isEqualByComparingTo(BigDecimal.ZERO);
+        verify(scopeEmissionRepository).sumSpecialAggregationBucketsByPartnerForMonth(HEADQUARTERS_ID, YEAR, MONTH + 1);
+        verify(snapshotRepository, never()).findByHeadquartersIdAndReportingYearAndReportingMonthAndSnapshotTypeAndSubjectKey(
+                eq(HEADQUARTERS_ID), eq(YEAR), eq(MONTH + 1), any(), any());
+    }
+
+    private ReportingPeriodClose closed() {
+        return ReportingPeriodClose.builder()
+                .headquartersId(HEADQUARTERS_ID)
+                .reportingYear(YEAR)
+                .reportingMonth(MONTH)
+                .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.nsmm.esg.scope_service.performance;
 
+import com.nsmm.esg.scope_service.dto.response.CategoryEmissionSummary;
 import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
 import com.nsmm.esg.scope_service.service.ScopeEmissionService;
 import lombok.extern.slf4j.Slf4j;
@@ -118,7 +119,7 @@ public class ScopeEmissionPerformanceTest {
         log.info("=== 카테고리별 집계 성능 테스트 시작 ===");
 
         long startTime = System.currentTimeMillis();
-        List<Map<String, Object>> categoryResults = scopeEmissionService
+        List<CategoryEmissionSummary> categoryResults = scopeEmissionService
             .getCategoryWiseEmissions(headquartersId, partnerId, year, month);
         long queryTime = System.currentTimeMillis() - startTime;
 
@@ -127,7 +128,7 @@ public class ScopeEmissionPerformanceTest {
 
         // Scope3 전체 카테고리 조회 성능 테스트
         startTime = System.currentTimeMillis();
-        List<Map<String, Object>> scope3Results = scopeEmissionService
+        List<CategoryEmissionSummary> scope3Results = scopeEmissionService
             .getScope3AllCategoriesEmissions(headquartersId, partnerId, year, month);
         long scope3QueryTime = System.currentTimeMillis() - startTime;
 
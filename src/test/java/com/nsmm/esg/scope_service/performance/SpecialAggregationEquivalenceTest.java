@@ -0,0 +1,271 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.dto.response.Scope3SpecialAggregationResponse;
+import com.nsmm.esg.scope_service.service.Scope3SpecialAggregationService;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 특수 집계 그룹 쿼리 - 기존 협력사별/월별 루프 결과 일치 테스트
+ *
+ * 본사 + 3단계 협력사 합성 데이터에서 그룹 쿼리 기반 특수 집계와
+ * 기존 방식(하위 협력사 DISTINCT 조회 후 협력사 × 월 × 버킷 개별 합계 쿼리) 결과 비교
+ * - 월별: 본사, 하위 조직이 있는 협력사, 중간 경로 데이터가 없는 협력사, 말단 협력사
+ * - 연간: 기존 방식의 12개월 합계와 일치
+ *
+ * 합성 데이터는 테스트 트랜잭션 롤백으로 정리됨
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SpecialAggregationEquivalenceTest {
+
+    private static final long HEADQUARTERS_ID = 990_101L;
+    private static final int YEAR = 2098;
+    private static final String ROOT_PATH = "/" + HEADQUARTERS_ID + "/";
+
+    // 협력사 ID, treePath (L1-003 경로는 데이터 없이 하위 L2만 존재)
+    private static final Object[][] PARTNERS = {
+            {101L, ROOT_PATH + "L1-001/"},
+            {102L, ROOT_PATH + "L1-001/L2-001/"},
+            {103L, ROOT_PATH + "L1-001/L2-001/L3-001/"},
+            {104L, ROOT_PATH + "L1-001/L2-002/"},
+            {105L, ROOT_PATH + "L1-002/"},
+            {106L, ROOT_PATH + "L1-003/L2-001/"}
+    };
+
+    // 기존 개별 합계 쿼리의 버킷 조건 (Scope1 전체/이동연소/공장설비/폐수처리, Scope2 전체/공장설비, Scope3 Cat.1/2/4/5)
+    private static final String[] LEGACY_BUCKET_CONDITIONS = {
+            "s.scope_type = 'SCOPE1'",
+            "s.scope_type = 'SCOPE1' AND s.scope1_category_number IN (4, 5, 6)",
+            "s.scope_type = 'SCOPE1' AND s.factory_enabled = true",
+            "s.scope_type = 'SCOPE1' AND s.scope1_category_number = 8",
+            "s.scope_type = 'SCOPE2'",
+            "s.scope_type = 'SCOPE2' AND s.factory_enabled = true",
+            "s.scope_type = 'SCOPE3' AND s.scope3_category_number = 1",
+            "s.scope_type = 'SCOPE3' AND s.scope3_category_number = 2",
+            "s.scope_type = 'SCOPE3' AND s.scope3_category_number = 4",
+            "s.scope_type = 'SCOPE3' AND s.scope3_category_number = 5"
+    };
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Scope3SpecialAggregationService scope3SpecialAggregationService;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "배출량 테이블 스키마는 MySQL 기준입니다");
+        insertSyntheticRows();
+    }
+
+    @Test
+    void monthlyHeadquartersMatchesLegacyLoops() {
+        for (int month = 1; month <= 12; month++) {
+            Scope3SpecialAggregationResponse response = scope3SpecialAggregationService.getSpecialAggregation(
+                    YEAR, month, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+
+            assertMatchesLegacy(response, legacyResult(null, ROOT_PATH, month), true, "본사 " + month + "월");
+        }
+    }
+
+    @Test
+    void monthlyPartnerMatchesLegacyLoops() {
+        for (Object[] partner : PARTNERS) {
+            Long partnerId = (Long) partner[0];
+            String treePath = (String) partner[1];
+            for (int month = 1; month <= 12; month++) {
+                Scope3SpecialAggregationResponse response = scope3SpecialAggregationService.getSpecialAggregation(
+                        YEAR, month, HEADQUARTERS_ID, "PARTNER", partnerId, treePath);
+
+                assertMatchesLegacy(response, legacyResult(partnerId, treePath, month), false,
+                        "협력사 " + partnerId + " " + month + "월");
+            }
+        }
+    }
+
+    @Test
+    void yearlyMatchesSumOfLegacyMonthlyLoops() {
+        Scope3SpecialAggregationResponse headquarters = scope3SpecialAggregationService.getYearlySpecialAggregation(
+                YEAR, HEADQUARTERS_ID, "HEADQUARTERS", null, null);
+        assertMatchesLegacy(headquarters, legacyYearlyResult(null, ROOT_PATH), true, "본사 연간");
+
+        Scope3SpecialAggregationResponse partner = scope3SpecialAggregationService.getYearlySpecialAggregation(
+                YEAR, HEADQUARTERS_ID, "PARTNER", 101L, ROOT_PATH + "L1-001/");
+        assertMatchesLegacy(partner, legacyYearlyResult(101L, ROOT_PATH + "L1-001/"), false, "협력사 101 연간");
+    }
+
+    // ========================================================================
+    // 기존 방식 재현 (하위 협력사 DISTINCT 조회 + 협력사 × 월 × 버킷 개별 쿼리)
+    // ========================================================================
+
+    /**
+     * 기존 방식 월별 결과: [0] 본인 버킷, [1] 하위 조직 카테고리 합계 (Cat.1/2/4/5)
+     */
+    private BigDecimal[][] legacyResult(Long partnerId, String treePath, int month) {
+        BigDecimal[] own = legacyBuckets(partnerId, month);
+        BigDecimal[] childTotals = {BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO};
+        for (Long childPartnerId : legacyChildPartnerIds(treePath)) {
+            BigDecimal[] childCategories = categoryTotals(legacyBuckets(childPartnerId, month));
+            for (int i = 0; i < childTotals.length; i++) {
+                childTotals[i] = childTotals[i].add(childCategories[i]);
+            }
+        }
+        return new BigDecimal[][]{own, childTotals};
+    }
+
+    /**
+     * 기존 방식 연간 결과: 월별 결과의 12개월 합계
+     */
+    private BigDecimal[][] legacyYearlyResult(Long partnerId, String treePath) {
+        BigDecimal[][] yearly = legacyResult(partnerId, treePath, 1);
+        for (int month = 2; month <= 12; month++) {
+            BigDecimal[][] monthly = legacyResult(partnerId, treePath, month);
+            for (int part = 0; part < yearly.length; part++) {
+                for (int i = 0; i < yearly[part].length; i++) {
+                    yearly[part][i] = yearly[part][i].add(monthly[part][i]);
+                }
+            }
+        }
+        return yearly;
+    }
+
+    private List<Long> legacyChildPartnerIds(String parentTreePath) {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT s.partner_id FROM scope_emission s " +
+                "WHERE s.headquarters_id = ? AND s.partner_id IS NOT NULL " +
+                "AND s.tree_path LIKE CONCAT(?, '%') AND s.tree_path <> ?",
+                Long.class, HEADQUARTERS_ID, parentTreePath, parentTreePath);
+    }
+
+    private BigDecimal[] legacyBuckets(Long partnerId, int month) {
+        BigDecimal[] buckets = new BigDecimal[LEGACY_BUCKET_CONDITIONS.length];
+        for (int i = 0; i < LEGACY_BUCKET_CONDITIONS.length; i++) {
+            String sql = "SELECT COALESCE(SUM(s.total_emission), 0) FROM scope_emission s " +
+                    "WHERE s.headquarters_id = ? " +
+                    (partnerId == null ? "AND s.partner_id IS NULL " : "AND s.partner_id = " + partnerId + " ") +
+                    "AND " + LEGACY_BUCKET_CONDITIONS[i] + " " +
+                    "AND s.reporting_year = ? AND s.reporting_month = ?";
+            buckets[i] = jdbcTemplate.queryForObject(sql, BigDecimal.class, HEADQUARTERS_ID, YEAR, month);
+        }
+        return buckets;
+    }
+
+    /**
+     * 버킷에서 Cat.1/2/4/5 합계 계산 (특수 집계 규칙)
+     */
+    private static BigDecimal[] categoryTotals(BigDecimal[] b) {
+        return new BigDecimal[]{
+                b[0].subtract(b[1]).subtract(b[2]).subtract(b[3]).add(b[4]).subtract(b[5]).add(b[6]),
+                b[2].add(b[5]).add(b[7]),
+                b[1].add(b[8]),
+                b[3].add(b[9])
+        };
+    }
+
+    private void assertMatchesLegacy(
+            Scope3SpecialAggregationResponse response, BigDecimal[][] legacy, boolean isHeadquarters, String label) {
+
+        BigDecimal[] own = legacy[0];
+        BigDecimal[] childTotals = legacy[1];
+        BigDecimal[] ownCategories = categoryTotals(own);
+        BigDecimal[] expectedFinals = new BigDecimal[4];
+        for (int i = 0; i < expectedFinals.length; i++) {
+            expectedFinals[i] = isHeadquarters ? ownCategories[i].add(childTotals[i]) : childTotals[i];
+        }
+
+        assertThat(response.getCategory1TotalEmission()).as(label + " Cat.1").isEqualByComparingTo(expectedFinals[0]);
+        assertThat(response.getCategory2TotalEmission()).as(label + " Cat.2").isEqualByComparingTo(expectedFinals[1]);
+        assertThat(response.getCategory4TotalEmission()).as(label + " Cat.4").isEqualByComparingTo(expectedFinals[2]);
+        assertThat(response.getCategory5TotalEmission()).as(label + " Cat.5").isEqualByComparingTo(expectedFinals[3]);
+
+        Scope3SpecialAggregationResponse.Category1Detail category1 = response.getCategory1Detail();
+        assertThat(category1.getScope1Total()).as(label + " Scope1 전체").isEqualByComparingTo(own[0]);
+        assertThat(category1.getScope1MobileCombustion()).as(label + " Scope1 이동연소").isEqualByComparingTo(own[1]);
+        assertThat(category1.getScope1Factory()).as(label + " Scope1 공장설비").isEqualByComparingTo(own[2]);
+        assertThat(category1.getScope1WasteWater()).as(label + " Scope1 폐수처리").isEqualByComparingTo(own[3]);
+        assertThat(category1.getScope2Total()).as(label + " Scope2 전체").isEqualByComparingTo(own[4]);
+        assertThat(category1.getScope2Factory()).as(label + " Scope2 공장설비").isEqualByComparingTo(own[5]);
+        assertThat(category1.getScope3Category1()).as(label + " Scope3 Cat.1")
+                .isEqualByComparingTo(isHeadquarters ? own[6].add(childTotals[0]) : own[6]);
+        assertThat(response.getCategory2Detail().getScope3Category2()).as(label + " Scope3 Cat.2")
+                .isEqualByComparingTo(isHeadquarters ? own[7].add(childTotals[1]) : own[7]);
+        assertThat(response.getCategory4Detail().getScope3Category4()).as(label + " Scope3 Cat.4")
+                .isEqualByComparingTo(isHeadquarters ? own[8].add(childTotals[2]) : own[8]);
+        assertThat(response.getCategory5Detail().getScope3Category5()).as(label + " Scope3 Cat.5")
+                .isEqualByComparingTo(isHeadquarters ? own[9].add(childTotals[3]) : own[9]);
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    /**
+     * 본사 직접 입력 + 협력사별로 매월 Scope1/2/3 행 생성 (일부 월은 비워 두어 0 합계도 비교)
+     */
+    private void insertSyntheticRows() {
+        Random random = new Random(7);
+        String sql = "INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                "input_type, has_material_mapping, factory_enabled) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'EQUIV', 'EQUIV', 'EQUIV', 1, 'kg', 1, ?, 'MANUAL', false, ?)";
+
+        List<Object[]> batch = new ArrayList<>();
+        List<Object[]> subjects = new ArrayList<>();
+        subjects.add(new Object[]{null, ROOT_PATH});
+        subjects.addAll(List.of(PARTNERS));
+
+        for (Object[] subject : subjects) {
+            for (int month = 1; month <= 12; month++) {
+                if (random.nextInt(6) == 0) {
+                    continue;
+                }
+                int rowCount = 4 + random.nextInt(8);
+                for (int i = 0; i < rowCount; i++) {
+                    int scope = random.nextInt(3);
+                    batch.add(new Object[]{
+                            HEADQUARTERS_ID, subject[0], subject[1], YEAR, month, YEAR * 100 + month,
+                            scope == 0 ? "SCOPE1" : scope == 1 ? "SCOPE2" : "SCOPE3",
+                            scope == 0 ? 1 + random.nextInt(10) : null,
+                            scope == 1 ? 1 + random.nextInt(2) : null,
+                            scope == 2 ? 1 + random.nextInt(6) : null,
+                            BigDecimal.valueOf(random.nextInt(100_000), 3),
+                            random.nextBoolean()
+                    });
+                }
+            }
+        }
+        flushBatch(sql, batch);
+    }
+
+    private void flushBatch(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (PreparedStatement ps, Object[] row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        batch.clear();
+    }
+}
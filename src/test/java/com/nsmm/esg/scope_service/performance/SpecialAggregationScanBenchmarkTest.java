@@ -0,0 +1,233 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.repository.ScopeEmissionRepository;
+import com.nsmm.esg.scope_service.repository.projection.SpecialAggregationSummaryProjection;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 특수 집계 단일 스캔 벤치마크
+ *
+ * 대용량 합성 데이터에서 기존 6단 UNION ALL 쿼리와 조건부 집계(SUM(CASE ...)) 단일 스캔 쿼리 비교
+ * - 스캔 행 수: MySQL 세션 Handler_read_* 증가량
+ * - 결과 일치: 6개 버킷 합계/건수 동일
+ *
+ * 합성 데이터는 테스트 트랜잭션 롤백으로 정리됨 (행 수: -Dbenchmark.rows, 기본 200,000)
+ */
+@Slf4j
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+public class SpecialAggregationScanBenchmarkTest {
+
+    private static final long BENCHMARK_HEADQUARTERS_ID = 990_001L;
+    private static final int BENCHMARK_YEAR = 2099;
+    private static final int TARGET_MONTH = 6;
+    private static final int ROW_COUNT = Integer.getInteger("benchmark.rows", 200_000);
+    private static final int ITERATIONS = 5;
+
+    // 기존 방식: 버킷마다 동일한 (본사, 연도, 월) 범위를 다시 읽는 6단 UNION ALL
+    private static final String LEGACY_UNION_ALL_SQL =
+            "SELECT 'SCOPE1_MOBILE', COALESCE(SUM(CASE WHEN s.scope1_category_number IN (4, 5, 6) THEN s.total_emission ELSE 0 END), 0), " +
+            "COUNT(CASE WHEN s.scope1_category_number IN (4, 5, 6) THEN 1 END) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE1' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ? " +
+            "UNION ALL " +
+            "SELECT 'SCOPE1_WASTEWATER', COALESCE(SUM(CASE WHEN s.scope1_category_number = 8 THEN s.total_emission ELSE 0 END), 0), " +
+            "COUNT(CASE WHEN s.scope1_category_number = 8 THEN 1 END) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE1' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ? " +
+            "UNION ALL " +
+            "SELECT 'SCOPE1_FACTORY', COALESCE(SUM(CASE WHEN s.factory_enabled = true THEN s.total_emission ELSE 0 END), 0), " +
+            "COUNT(CASE WHEN s.factory_enabled = true THEN 1 END) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE1' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ? " +
+            "UNION ALL " +
+            "SELECT 'SCOPE2_FACTORY', COALESCE(SUM(CASE WHEN s.factory_enabled = true THEN s.total_emission ELSE 0 END), 0), " +
+            "COUNT(CASE WHEN s.factory_enabled = true THEN 1 END) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE2' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ? " +
+            "UNION ALL " +
+            "SELECT 'SCOPE1_TOTAL', COALESCE(SUM(s.total_emission), 0), COUNT(*) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE1' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ? " +
+            "UNION ALL " +
+            "SELECT 'SCOPE2_TOTAL', COALESCE(SUM(s.total_emission), 0), COUNT(*) " +
+            "FROM scope_emission s WHERE s.headquarters_id = ? AND s.partner_id IS NULL AND s.scope_type = 'SCOPE2' " +
+            "AND s.reporting_year = ? AND s.reporting_month = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ScopeEmissionRepository scopeEmissionRepository;
+
+    @BeforeEach
+    void setUp() {
+        String productName = jdbcTemplate.execute(
+                (java.sql.Connection connection) -> connection.getMetaData().getDatabaseProductName());
+        Assumptions.assumeTrue("MySQL".equalsIgnoreCase(productName),
+                "Handler_read_* 통계는 MySQL에서만 측정 가능합니다");
+        insertSyntheticRows();
+    }
+
+    @Test
+    void singleScanReadsFewerRowsThanUnionAll() {
+        log.info("=== 특수 집계 스캔 벤치마크 시작 (합성 데이터 {}건) ===", ROW_COUNT);
+
+        // 워밍업 (버퍼 풀 적재)
+        Map<String, BigDecimal[]> legacy = runLegacyQuery();
+        SpecialAggregationSummaryProjection summary = runSingleScanQuery();
+
+        // 결과 일치 확인
+        assertBucket(legacy, "SCOPE1_MOBILE", summary.getScope1MobileCombustion(), summary.getScope1MobileCombustionCount());
+        assertBucket(legacy, "SCOPE1_WASTEWATER", summary.getScope1WasteWater(), summary.getScope1WasteWaterCount());
+        assertBucket(legacy, "SCOPE1_FACTORY", summary.getScope1Factory(), summary.getScope1FactoryCount());
+        assertBucket(legacy, "SCOPE2_FACTORY", summary.getScope2Factory(), summary.getScope2FactoryCount());
+        assertBucket(legacy, "SCOPE1_TOTAL", summary.getScope1Total(), summary.getScope1TotalCount());
+        assertBucket(legacy, "SCOPE2_TOTAL", summary.getScope2Total(), summary.getScope2TotalCount());
+
+        // 스캔 행 수 측정
+        long legacyRowsRead = measureRowsRead(this::runLegacyQuery);
+        long singleScanRowsRead = measureRowsRead(this::runSingleScanQuery);
+
+        // 응답 시간 측정
+        long legacyNanos = measureNanos(this::runLegacyQuery);
+        long singleScanNanos = measureNanos(this::runSingleScanQuery);
+
+        log.info("=== 특수 집계 스캔 벤치마크 결과 ===");
+        log.info("UNION ALL 6단: 스캔 {}행, 평균 {}ms", legacyRowsRead, legacyNanos / ITERATIONS / 1_000_000.0);
+        log.info("단일 스캔:     스캔 {}행, 평균 {}ms", singleScanRowsRead, singleScanNanos / ITERATIONS / 1_000_000.0);
+        log.info("스캔 감소율: {}%", 100 - (singleScanRowsRead * 100 / Math.max(legacyRowsRead, 1)));
+
+        assertThat(singleScanRowsRead).isLessThan(legacyRowsRead);
+    }
+
+    // ========================================================================
+    // 측정 헬퍼 메서드
+    // ========================================================================
+
+    private Map<String, BigDecimal[]> runLegacyQuery() {
+        Object[] params = new Object[18];
+        for (int i = 0; i < 6; i++) {
+            params[i * 3] = BENCHMARK_HEADQUARTERS_ID;
+            params[i * 3 + 1] = BENCHMARK_YEAR;
+            params[i * 3 + 2] = TARGET_MONTH;
+        }
+        Map<String, BigDecimal[]> buckets = new HashMap<>();
+        jdbcTemplate.query(LEGACY_UNION_ALL_SQL, rs -> {
+            buckets.put(rs.getString(1), new BigDecimal[]{rs.getBigDecimal(2), BigDecimal.valueOf(rs.getLong(3))});
+        }, params);
+        return buckets;
+    }
+
+    private SpecialAggregationSummaryProjection runSingleScanQuery() {
+        return scopeEmissionRepository.getSpecialAggregationSummaryForHeadquarters(
+                BENCHMARK_HEADQUARTERS_ID, BENCHMARK_YEAR, TARGET_MONTH);
+    }
+
+    private long measureRowsRead(Runnable query) {
+        long before = sessionRowsRead();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return (sessionRowsRead() - before) / ITERATIONS;
+    }
+
+    private long measureNanos(Runnable query) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            query.run();
+        }
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * 세션 누적 행 읽기 수 (인덱스 탐색 + 인덱스 순차 + 풀 스캔)
+     */
+    private long sessionRowsRead() {
+        long total = 0;
+        for (Map<String, Object> row : jdbcTemplate.queryForList("SHOW SESSION STATUS LIKE 'Handler_read%'")) {
+            String name = String.valueOf(row.get("Variable_name"));
+            if ("Handler_read_key".equals(name) || "Handler_read_next".equals(name)
+                    || "Handler_read_rnd_next".equals(name)) {
+                total += Long.parseLong(String.valueOf(row.get("Value")));
+            }
+        }
+        return total;
+    }
+
+    private void assertBucket(Map<String, BigDecimal[]> legacy, String type, BigDecimal total, Long count) {
+        BigDecimal[] expected = legacy.get(type);
+        assertThat(total).as(type + " 합계").isEqualByComparingTo(expected[0]);
+        assertThat(count).as(type + " 건수").isEqualTo(expected[1].longValue());
+    }
+
+    // ========================================================================
+    // 합성 데이터 생성
+    // ========================================================================
+
+    /**
+     * 본사 직접 입력 + 협력사 데이터를 12개월에 분산 생성 (대상 월은 전체의 약 1/12)
+     */
+    private void insertSyntheticRows() {
+        Random random = new Random(42);
+        String sql = "INSERT INTO scope_emission (headquarters_id, partner_id, tree_path, reporting_year, reporting_month, reporting_period, " +
+                "scope_type, scope1_category_number, scope2_category_number, scope3_category_number, " +
+                "major_category, subcategory, raw_material, activity_amount, unit, emission_factor, total_emission, " +
+                "input_type, has_material_mapping, factory_enabled) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 'BENCH', 'BENCH', 'BENCH', 1, 'kg', 1, ?, 'MANUAL', false, ?)";
+
+        List<Object[]> batch = new ArrayList<>(5_000);
+        for (int i = 0; i < ROW_COUNT; i++) {
+            boolean headquartersRow = random.nextInt(4) == 0;
+            Long partnerId = headquartersRow ? null : (long) (1 + random.nextInt(200));
+            String treePath = headquartersRow ? "/" + BENCHMARK_HEADQUARTERS_ID + "/"
+                    : "/" + BENCHMARK_HEADQUARTERS_ID + "/L1-" + String.format("%03d", partnerId) + "/";
+            int scope = random.nextInt(3);
+            int month = 1 + random.nextInt(12);
+            batch.add(new Object[]{
+                    BENCHMARK_HEADQUARTERS_ID, partnerId, treePath, BENCHMARK_YEAR, month, BENCHMARK_YEAR * 100 + month,
+                    scope == 0 ? "SCOPE1" : scope == 1 ? "SCOPE2" : "SCOPE3",
+                    scope == 0 ? 1 + random.nextInt(10) : null,
+                    scope == 1 ? 1 + random.nextInt(2) : null,
+                    scope == 2 ? 1 + random.nextInt(15) : null,
+                    BigDecimal.valueOf(random.nextInt(100_000), 3),
+                    random.nextBoolean()
+            });
+            if (batch.size() == 5_000) {
+                flushBatch(sql, batch);
+            }
+        }
+        flushBatch(sql, batch);
+    }
+
+    private void flushBatch(String sql, List<Object[]> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(sql, batch, batch.size(), (PreparedStatement ps, Object[] row) -> {
+            for (int i = 0; i < row.length; i++) {
+                ps.setObject(i + 1, row[i]);
+            }
+        });
+        batch.clear();
+    }
+}
@@ -0,0 +1,148 @@
+package com.nsmm.esg.scope_service.performance;
+
+import com.nsmm.esg.scope_service.cache.InMemorySharedCacheStore;
+import com.nsmm.esg.scope_service.cache.LoopbackCacheInvalidationBroadcaster;
+import com.nsmm.esg.scope_service.cache.TwoTierCacheManager;
+import com.nsmm.esg.scope_service.config.CacheConfig;
+import com.nsmm.esg.scope_service.config.ScopeCacheProperties;
+import com.nsmm.esg.scope_service.service.EmissionCacheKeys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 2단계 캐시(L1 로컬 + L2 공유) 테스트
+ *
+ * 한 JVM에서 인스턴스 A, B를 재현 (각자 L1 Caffeine, L2 / 무효화 전파는 공유)
+ * - A가 계산한 결과를 B는 L2에서 재사용 (원본 재계산 없음)
+ * - A의 제거가 B의 L1에 전파되어 이전 값을 반환하지 않음 (다른 키의 L1 항목은 유지)
+ * - 계산 결과 저장(put)은 전파하지 않아 B의 L1 항목을 제거하지 않음
+ * - L2 항목은 캐시 설정의 만료 시간이 지나면 만료되고, 저장소 용량은 제한됨
+ */
+public class TwoTierCacheTest {
+
+    private static final String KEY = EmissionCacheKeys.categoryWise(1L, null, 2024, 6);
+    private static final String OTHER_KEY = EmissionCacheKeys.categoryWise(2L, null, 2024, 6);
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final ScopeCacheProperties cacheProperties = new ScopeCacheProperties();
+
+    private InMemorySharedCacheStore sharedCacheStore;
+    private LoopbackCacheInvalidationBroadcaster broadcaster;
+    private TwoTierCacheManager instanceA;
+    private TwoTierCacheManager instanceB;
+
+    @BeforeEach
+    void setUp() {
+        sharedCacheStore = new InMemorySharedCacheStore(100, nanos::get);
+        broadcaster = new LoopbackCacheInvalidationBroadcaster();
+        instanceA = newInstance();
+        instanceB = newInstance();
+    }
+
+    @Test
+    void peerReusesSharedResultWithoutRecomputing() {
+        AtomicInteger loads = new AtomicInteger();
+        Cache cacheA = instanceA.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        Cache cacheB = instanceB.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+
+        List<String> fromA = cacheA.get(KEY, () -> {
+            loads.incrementAndGet();
+            return List.of("v1");
+        });
+        List<String> fromB = cacheB.get(KEY, () -> {
+            loads.incrementAndGet();
+            return List.of("recomputed");
+        });
+
+        assertThat(fromA).containsExactly("v1");
+        assertThat(fromB).containsExactly("v1");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void evictionOnOneInstanceInvalidatesPeerLocalCache() {
+        Cache cacheA = instanceA.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        Cache cacheB = instanceB.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        cacheA.put(KEY, "v1");
+        cacheB.put(OTHER_KEY, "other");
+        assertThat(cacheB.get(KEY).get()).isEqualTo("v1"); // B의 L1에 적재
+
+        // A에서 쓰기 후 키 무효화 → B는 L1/L2 모두에서 이전 값을 찾지 못함
+        cacheA.evict(KEY);
+        assertThat(cacheB.get(KEY)).isNull();
+        assertThat(cacheB.get(OTHER_KEY).get()).isEqualTo("other");
+
+    }
+
+    @Test
+    void computedPutIsNotBroadcastToPeers() {
+        Cache cacheA = instanceA.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        Cache cacheB = instanceB.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE);
+        cacheB.get(KEY, () -> "computed-by-b");
+
+        // A의 계산 결과 저장은 L2에만 기록, B의 L1 항목은 유지
+        cacheA.put(KEY, "computed-by-a");
+        assertThat(cacheB.get(KEY).get()).isEqualTo("computed-by-b");
+        assertThat(newInstance().getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE).get(KEY).get())
+                .isEqualTo("computed-by-a");
+    }
+
+    @Test
+    void sharedEntriesExpireAfterSpecTtl() {
+        Duration ttl = cacheProperties.specOf(EmissionCacheKeys.CATEGORY_WISE_CACHE).getExpireAfterWrite();
+        instanceA.getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE).put(KEY, "v1");
+
+        nanos.addAndGet(ttl.minusSeconds(1).toNanos());
+        assertThat(sharedCacheStore.get(EmissionCacheKeys.CATEGORY_WISE_CACHE, KEY)).isNotNull();
+
+        nanos.addAndGet(Duration.ofSeconds(2).toNanos());
+        assertThat(sharedCacheStore.get(EmissionCacheKeys.CATEGORY_WISE_CACHE, KEY)).isNull();
+        assertThat(newInstance().getCache(EmissionCacheKeys.CATEGORY_WISE_CACHE).get(KEY)).isNull();
+    }
+
+    @Test
+    void sharedStoreIsBounded() {
+        InMemorySharedCacheStore boundedStore = new InMemorySharedCacheStore(10, nanos::get);
+        for (int i = 0; i < 1_000; i++) {
+            boundedStore.put(EmissionCacheKeys.CATEGORY_WISE_CACHE, i, "v" + i, Duration.ofHours(1));
+        }
+
+        long retained = IntStream.range(0, 1_000)
+                .filter(i -> boundedStore.get(EmissionCacheKeys.CATEGORY_WISE_CACHE, i) != null)
+                .count();
+        assertThat(retained).isLessThanOrEqualTo(10);
+    }
+
+    @Test
+    void nullResultsAreSharedAcrossInstances() {
+        AtomicInteger loads = new AtomicInteger();
+        Cache cacheA = instanceA.getCache(EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE);
+        Cache cacheB = instanceB.getCache(EmissionCacheKeys.SCOPE3_CATEGORIES_CACHE);
+
+        cacheA.get(KEY, () -> {
+            loads.incrementAndGet();
+            return null;
+        });
+        Object fromB = cacheB.get(KEY, () -> {
+            loads.incrementAndGet();
+            return "recomputed";
+        });
+
+        assertThat(fromB).isNull();
+        assertThat(loads).hasValue(1);
+    }
+
+    private TwoTierCacheManager newInstance() {
+        return new TwoTierCacheManager(CacheConfig.localCacheManager(cacheProperties), sharedCacheStore, broadcaster,
+                cacheName -> cacheProperties.specOf(cacheName).getExpireAfterWrite());
+    }
+}